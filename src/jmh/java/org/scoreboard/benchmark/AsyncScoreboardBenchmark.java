@@ -0,0 +1,105 @@
+package org.scoreboard.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.scoreboard.AsyncScoreboard;
+import org.scoreboard.internal.EventLoopScoreboardImpl;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of {@link AsyncScoreboard} serving {@value #CLIENTS} concurrent clients, each of them started
+ * as a task of the {@code clientThreads} executor and waiting for its score update to be applied.
+ * {@code VIRTUAL} starts a virtual thread per client (and per task of the {@code CONCURRENT} core),
+ * so it requires running the benchmarks on Java 21 or later, {@code PLATFORM} uses a fixed pool of platform threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@OperationsPerInvocation(AsyncScoreboardBenchmark.CLIENTS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class AsyncScoreboardBenchmark {
+
+    static final int CLIENTS = 100_000;
+
+    @Param({"1000"})
+    int boardSize;
+
+    @Param({"CONCURRENT", "EVENT_LOOP"})
+    BoardImplementation implementation;
+
+    @Param({"VIRTUAL", "PLATFORM"})
+    String clientThreads;
+
+    private ExecutorService clientExecutor;
+    private ExecutorService scoreboardExecutor;
+    private AsyncScoreboard scoreboard;
+    private String[] homeTeams;
+    private String[] awayTeams;
+    private int goals;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        clientExecutor = newExecutor();
+        if (implementation == BoardImplementation.EVENT_LOOP) {
+            scoreboard = AsyncScoreboard.of((EventLoopScoreboardImpl) implementation.createWithMatches(boardSize));
+        } else {
+            scoreboardExecutor = newExecutor();
+            scoreboard = AsyncScoreboard.of(implementation.createWithMatches(boardSize), scoreboardExecutor);
+        }
+        homeTeams = new String[boardSize];
+        awayTeams = new String[boardSize];
+        for (int i = 0; i < boardSize; i++) {
+            homeTeams[i] = BoardImplementation.homeTeam(i);
+            awayTeams[i] = BoardImplementation.awayTeam(i);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        clientExecutor.shutdown();
+        if (scoreboardExecutor != null) scoreboardExecutor.shutdown();
+    }
+
+    @Benchmark
+    public void updateScore() throws InterruptedException {
+        CountDownLatch servedClients = new CountDownLatch(CLIENTS);
+        int homeScore = ++goals & 15;
+        for (int client = 0; client < CLIENTS; client++) {
+            int i = client % boardSize;
+            clientExecutor.execute(() -> {
+                scoreboard.updateScore(homeTeams[i], awayTeams[i], homeScore, i & 7).toCompletableFuture().join();
+                servedClients.countDown();
+            });
+        }
+        servedClients.await();
+    }
+
+    private ExecutorService newExecutor() {
+        if (clientThreads.equals("PLATFORM")) {
+            return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 4);
+        }
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Virtual threads require Java 21 or later", e);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package org.scoreboard.benchmark;
+
+import org.scoreboard.ScoreEvent;
+import org.scoreboard.Scoreboard;
+import org.scoreboard.internal.ConcurrentScoreboardImpl;
+import org.scoreboard.internal.EventLoopScoreboardImpl;
+import org.scoreboard.internal.InPlaceScoreboardImpl;
+import org.scoreboard.internal.MeteredScoreboardImpl;
+import org.scoreboard.internal.ScoreboardImpl;
+import org.scoreboard.internal.ShardedScoreboardImpl;
+import org.scoreboard.internal.SummaryMode;
+import org.scoreboard.internal.compare.DefaultComparatorSupplier;
+import org.scoreboard.internal.convert.MatchToMatchSummaryConverter;
+import org.scoreboard.internal.index.RankedMatchIndex;
+import org.scoreboard.internal.repository.IdKeyedMatchRepository;
+import org.scoreboard.internal.repository.InMemoryMatchRepository;
+import org.scoreboard.internal.repository.OffHeapMatchRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Scoreboard implementations compared by the benchmarks.
+ */
+public enum BoardImplementation {
+
+    DEFAULT(false) {
+        @Override
+        Scoreboard create() {
+            return new ScoreboardImpl();
+        }
+    },
+    METERED(false) {
+        @Override
+        Scoreboard create() {
+            return new MeteredScoreboardImpl(new ScoreboardImpl());
+        }
+    },
+    PUBLISHED_SNAPSHOT(false) {
+        @Override
+        Scoreboard create() {
+            return new ScoreboardImpl(new InMemoryMatchRepository(), new RankedMatchIndex(DefaultComparatorSupplier.get()),
+                    new MatchToMatchSummaryConverter(), SummaryMode.PUBLISHED_SNAPSHOT);
+        }
+    },
+    ID_KEYED(false) {
+        @Override
+        Scoreboard create() {
+            return new ScoreboardImpl(new IdKeyedMatchRepository(), DefaultComparatorSupplier.get(),
+                    new MatchToMatchSummaryConverter());
+        }
+    },
+    OFF_HEAP(false) {
+        @Override
+        Scoreboard create() {
+            return new ScoreboardImpl(new OffHeapMatchRepository(), DefaultComparatorSupplier.get(),
+                    new MatchToMatchSummaryConverter());
+        }
+    },
+    IN_PLACE(true) {
+        @Override
+        Scoreboard create() {
+            return new InPlaceScoreboardImpl();
+        }
+    },
+    CONCURRENT(true) {
+        @Override
+        Scoreboard create() {
+            return new ConcurrentScoreboardImpl();
+        }
+    },
+    CONCURRENT_SNAPSHOT(true) {
+        @Override
+        Scoreboard create() {
+            return new ConcurrentScoreboardImpl(SummaryMode.PUBLISHED_SNAPSHOT);
+        }
+    },
+    SHARDED(true) {
+        @Override
+        Scoreboard create() {
+            return new ShardedScoreboardImpl();
+        }
+    },
+    EVENT_LOOP(true) {
+        @Override
+        Scoreboard create() {
+            return new EventLoopScoreboardImpl();
+        }
+    };
+
+    private final boolean threadSafe;
+
+    BoardImplementation(boolean threadSafe) {
+        this.threadSafe = threadSafe;
+    }
+
+    abstract Scoreboard create();
+
+    /**
+     * Creates the scoreboard with specified number of matches in progress, started in one batch,
+     * the i-th of them between {@link #homeTeam(int)} and {@link #awayTeam(int)}.
+     */
+    Scoreboard createWithMatches(int boardSize) {
+        Scoreboard scoreboard = create();
+        List<ScoreEvent> events = new ArrayList<>(boardSize);
+        for (int i = 0; i < boardSize; i++) {
+            events.add(ScoreEvent.start(homeTeam(i), awayTeam(i)));
+        }
+        scoreboard.applyAll(events);
+        return scoreboard;
+    }
+
+    boolean isThreadSafe() {
+        return threadSafe;
+    }
+
+    static String homeTeam(int i) {
+        return "home" + i;
+    }
+
+    static String awayTeam(int i) {
+        return "away" + i;
+    }
+}
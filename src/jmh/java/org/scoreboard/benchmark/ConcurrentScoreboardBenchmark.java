@@ -0,0 +1,128 @@
+package org.scoreboard.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.scoreboard.MatchSummary;
+import org.scoreboard.Scoreboard;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Multithreaded benchmarks of thread safe scoreboard implementations.
+ * <p>
+ * {@code updateScore} (its throughput) and {@code updateScoreLatency} (percentiles of its latency) can be compared
+ * for different numbers of threads with the {@code -t} option,
+ * the groups mix readers and writers in fixed ratios: 7:1 ({@code readHeavy}), 4:4 ({@code balanced})
+ * and 1:7 ({@code writeHeavy}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ConcurrentScoreboardBenchmark {
+
+    @Param({"10", "1000", "100000", "1000000"})
+    int boardSize;
+
+    @Param({"CONCURRENT", "CONCURRENT_SNAPSHOT", "IN_PLACE", "SHARDED", "EVENT_LOOP"})
+    BoardImplementation implementation;
+
+    private Scoreboard scoreboard;
+    private String[] homeTeams;
+    private String[] awayTeams;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if (!implementation.isThreadSafe()) {
+            throw new IllegalArgumentException(implementation + " is not thread safe");
+        }
+        scoreboard = implementation.createWithMatches(boardSize);
+        homeTeams = new String[boardSize];
+        awayTeams = new String[boardSize];
+        for (int i = 0; i < boardSize; i++) {
+            homeTeams[i] = BoardImplementation.homeTeam(i);
+            awayTeams[i] = BoardImplementation.awayTeam(i);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Writer {
+        private final SplittableRandom random = new SplittableRandom();
+        private final int[] goals = new int[8];
+
+        void updateRandomMatch(ConcurrentScoreboardBenchmark board) {
+            int i = random.nextInt(board.boardSize);
+            board.scoreboard.updateScore(board.homeTeams[i], board.awayTeams[i], ++goals[i & 7] & 15, i & 7);
+        }
+    }
+
+    @Benchmark
+    public void updateScore(Writer writer) {
+        writer.updateRandomMatch(this);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public void updateScoreLatency(Writer writer) {
+        writer.updateRandomMatch(this);
+    }
+
+    @Benchmark
+    @Group("readHeavy")
+    @GroupThreads(7)
+    public List<MatchSummary> readHeavyRead() {
+        return scoreboard.getMatchesSummary();
+    }
+
+    @Benchmark
+    @Group("readHeavy")
+    @GroupThreads(1)
+    public void readHeavyWrite(Writer writer) {
+        writer.updateRandomMatch(this);
+    }
+
+    @Benchmark
+    @Group("balanced")
+    @GroupThreads(4)
+    public List<MatchSummary> balancedRead() {
+        return scoreboard.getMatchesSummary();
+    }
+
+    @Benchmark
+    @Group("balanced")
+    @GroupThreads(4)
+    public void balancedWrite(Writer writer) {
+        writer.updateRandomMatch(this);
+    }
+
+    @Benchmark
+    @Group("writeHeavy")
+    @GroupThreads(1)
+    public List<MatchSummary> writeHeavyRead() {
+        return scoreboard.getMatchesSummary();
+    }
+
+    @Benchmark
+    @Group("writeHeavy")
+    @GroupThreads(7)
+    public void writeHeavyWrite(Writer writer) {
+        writer.updateRandomMatch(this);
+    }
+}
@@ -0,0 +1,82 @@
+package org.scoreboard.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.scoreboard.Scoreboard;
+import org.scoreboard.internal.http.ScoreboardHttpServer;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load test of {@link ScoreboardHttpServer} running on localhost, polled by clients (one per JMH thread,
+ * see the {@code -t} option) either for the whole summary ({@code getSummary}) or with the ETag of the summary
+ * they already have ({@code getUnchangedSummary}), which the server answers with {@code 304 Not Modified}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class HttpServerBenchmark {
+
+    @Param({"10", "1000"})
+    int boardSize;
+
+    @Param({"application/json", ScoreboardHttpServer.BINARY_MEDIA_TYPE})
+    String accept;
+
+    private ScoreboardHttpServer server;
+    private HttpClient client;
+    private HttpRequest request;
+    private HttpRequest conditionalRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, InterruptedException {
+        ScoreboardHttpServer.enableTcpNoDelay();
+        Scoreboard scoreboard = BoardImplementation.CONCURRENT.createWithMatches(boardSize);
+        server = new ScoreboardHttpServer(scoreboard, new InetSocketAddress("localhost", 0));
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        request = HttpRequest.newBuilder(URI.create("http://localhost:" + server.port() + "/summary"))
+                .header("Accept", accept).build();
+        String etag;
+        do {
+            // the server serves the summary once its cache catches up with the scoreboard
+            Thread.sleep(10);
+            etag = client.send(request, HttpResponse.BodyHandlers.discarding()).headers().firstValue("ETag").orElseThrow();
+        } while (etag.startsWith("\"0-"));
+        conditionalRequest = HttpRequest.newBuilder(request.uri()).header("Accept", accept).header("If-None-Match", etag).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public byte[] getSummary() throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.ofByteArray()).body();
+    }
+
+    @Benchmark
+    public int getUnchangedSummary() throws IOException, InterruptedException {
+        return client.send(conditionalRequest, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
@@ -0,0 +1,95 @@
+package org.scoreboard.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.scoreboard.internal.journal.JournalDurability;
+import org.scoreboard.internal.journal.JournaledMatchRepository;
+import org.scoreboard.internal.model.Match;
+import org.scoreboard.internal.repository.ConcurrentMatchRepository;
+import org.scoreboard.internal.repository.MatchRepository;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Throughput cost of journaling score updates for every {@link JournalDurability}, compared to a repository
+ * without a journal ({@code NONE}). Group commit of {@code EVERY_OPERATION} can be observed with more threads
+ * ({@code -t} option). The journal (including its automatic snapshots) is created in the default temporary directory, unless the {@code journal.dir}
+ * system property points elsewhere (e.g. to the storage device of interest).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JournalBenchmark {
+
+    @Param({"NONE", "OS_BUFFERED", "INTERVAL", "EVERY_OPERATION"})
+    String durability;
+
+    private final AtomicInteger threadCount = new AtomicInteger();
+    private MatchRepository repository;
+    private Path journalDirectory;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        if (durability.equals("NONE")) {
+            repository = new ConcurrentMatchRepository();
+            return;
+        }
+        String directory = System.getProperty("journal.dir", System.getProperty("java.io.tmpdir"));
+        journalDirectory = Files.createTempDirectory(Path.of(directory), "scoreboard-journal");
+        repository = new JournaledMatchRepository(journalDirectory, new ConcurrentMatchRepository(),
+                JournalDurability.valueOf(durability));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (repository instanceof JournaledMatchRepository journaled) {
+            journaled.close();
+            try (Stream<Path> files = Files.list(journalDirectory)) {
+                for (Path file : files.toList()) {
+                    Files.delete(file);
+                }
+            }
+            Files.delete(journalDirectory);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Updater {
+        private Match match;
+
+        @Setup(Level.Trial)
+        public void setUp(JournalBenchmark benchmark) {
+            int thread = benchmark.threadCount.getAndIncrement();
+            match = new Match(BoardImplementation.homeTeam(thread), BoardImplementation.awayTeam(thread), 0, 0,
+                    thread, Instant.now());
+            benchmark.repository.save(match);
+        }
+    }
+
+    @Benchmark
+    public void updateScore(Updater updater) {
+        Match match = updater.match;
+        updater.match = match.withModifiedScore(match.homeScore() + 1, match.awayScore());
+        repository.save(updater.match);
+    }
+}
@@ -0,0 +1,73 @@
+package org.scoreboard.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.scoreboard.MatchHandle;
+import org.scoreboard.Scoreboard;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Updating scores by the team names and through {@link MatchHandle match handles} resolved up front, for the
+ * implementations whose handles skip validating and looking up the team names ({@code ID_KEYED} ones also skip
+ * resolving them to team ids), and for a decorator, whose handles call its methods by the names.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MatchHandleBenchmark {
+
+    @Param({"1000", "100000"})
+    int boardSize;
+
+    @Param({"DEFAULT", "ID_KEYED", "IN_PLACE", "CONCURRENT"})
+    BoardImplementation implementation;
+
+    private Scoreboard scoreboard;
+    private String[] homeTeams;
+    private String[] awayTeams;
+    private MatchHandle[] handles;
+    private int updates;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        scoreboard = implementation.createWithMatches(boardSize);
+        homeTeams = new String[boardSize];
+        awayTeams = new String[boardSize];
+        handles = new MatchHandle[boardSize];
+        for (int i = 0; i < boardSize; i++) {
+            homeTeams[i] = BoardImplementation.homeTeam(i);
+            awayTeams[i] = BoardImplementation.awayTeam(i);
+            handles[i] = scoreboard.getMatchHandle(homeTeams[i], awayTeams[i]);
+        }
+    }
+
+    @Benchmark
+    public void updateScoreByTeamNames() {
+        int i = updates++ % boardSize;
+        int goals = updates / boardSize;
+        scoreboard.updateScore(homeTeams[i], awayTeams[i], goals, i & 7);
+    }
+
+    @Benchmark
+    public void updateScoreWithHandle() {
+        int i = updates++ % boardSize;
+        int goals = updates / boardSize;
+        handles[i].updateScore(goals, i & 7);
+    }
+}
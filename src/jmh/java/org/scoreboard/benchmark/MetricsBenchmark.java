@@ -0,0 +1,62 @@
+package org.scoreboard.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.scoreboard.internal.MeteredScoreboardImpl;
+import org.scoreboard.internal.metrics.LatencyHistogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Overhead {@link MeteredScoreboardImpl} adds to every measured call: recording a latency in a {@link LatencyHistogram}
+ * and the two {@link System#nanoTime()} reads around the call. The {@code Contended} benchmarks record the same
+ * latency from 4 threads, like concurrent calls of a fast operation all falling into one bucket, into the histogram
+ * striping its buckets and into a single shared array of buckets for comparison; they need at least 4 processors
+ * to show the contention.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MetricsBenchmark {
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+    // the hot bucket of a histogram with a single array of buckets
+    private final AtomicLongArray sharedBuckets = new AtomicLongArray(64);
+    private long latency;
+
+    @Benchmark
+    public void record() {
+        // latencies vary, so they don't all hit one bucket
+        histogram.record(latency++ & 0xFFFF);
+    }
+
+    @Benchmark
+    public void measure() {
+        long start = System.nanoTime();
+        histogram.record(System.nanoTime() - start);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void recordContended() {
+        histogram.record(1_000);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void incrementSharedBucketContended() {
+        sharedBuckets.getAndIncrement(32);
+    }
+}
@@ -0,0 +1,79 @@
+package org.scoreboard.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.scoreboard.MatchSummary;
+import org.scoreboard.ScoreEvent;
+import org.scoreboard.Scoreboard;
+import org.scoreboard.internal.InPlaceScoreboardImpl;
+import org.scoreboard.internal.ScoreboardImpl;
+import org.scoreboard.internal.SummaryMode;
+import org.scoreboard.internal.audit.AuditLog;
+import org.scoreboard.internal.compare.DefaultComparatorSupplier;
+import org.scoreboard.internal.convert.MatchToMatchSummaryConverter;
+import org.scoreboard.internal.index.RankedMatchIndex;
+import org.scoreboard.internal.repository.InMemoryMatchRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building the summary sequentially and in parallel, by the scoreboard walking its ranked index ({@code DEFAULT})
+ * and by the one sorting the matches on every read ({@code IN_PLACE}), for board sizes around the default thresholds,
+ * to find the size from which the parallel summary is faster on a given machine. The parallel summary falls back
+ * to the sequential one on machines with a single processor, so run it with several cores
+ * (e.g. {@code -jvmArgsAppend -XX:ActiveProcessorCount=4} limits them).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ParallelSummaryBenchmark {
+
+    @Param({"1000", "10000", "50000", "100000", "1000000"})
+    int boardSize;
+
+    @Param({"DEFAULT", "IN_PLACE"})
+    String implementation;
+
+    @Param({"SEQUENTIAL", "PARALLEL"})
+    String summary;
+
+    private Scoreboard scoreboard;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        int threshold = summary.equals("PARALLEL") ? 0 : Integer.MAX_VALUE;
+        scoreboard = implementation.equals("IN_PLACE")
+                ? new InPlaceScoreboardImpl(DefaultComparatorSupplier.get(), new MatchToMatchSummaryConverter(),
+                        AuditLog.disabled(), threshold)
+                : new ScoreboardImpl(new InMemoryMatchRepository(), new RankedMatchIndex(DefaultComparatorSupplier.get()),
+                        new MatchToMatchSummaryConverter(), SummaryMode.ON_DEMAND, AuditLog.disabled(), threshold);
+        List<ScoreEvent> events = new ArrayList<>(2 * boardSize);
+        for (int i = 0; i < boardSize; i++) {
+            events.add(ScoreEvent.start(BoardImplementation.homeTeam(i), BoardImplementation.awayTeam(i)));
+            events.add(ScoreEvent.update(BoardImplementation.homeTeam(i), BoardImplementation.awayTeam(i), i % 7, i % 5));
+        }
+        scoreboard.applyAll(events);
+    }
+
+    @Benchmark
+    public List<MatchSummary> getMatchesSummary() {
+        return scoreboard.getMatchesSummary();
+    }
+}
@@ -0,0 +1,80 @@
+package org.scoreboard.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.scoreboard.MatchSummary;
+import org.scoreboard.Scoreboard;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single threaded benchmarks of every scoreboard operation for different board sizes and implementations.
+ * <p>
+ * {@code startMatch} and {@code finishMatch} are measured together, so the size of the board stays the same.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ScoreboardBenchmark {
+
+    @Param({"10", "1000", "100000", "1000000"})
+    int boardSize;
+
+    @Param({"DEFAULT", "METERED", "PUBLISHED_SNAPSHOT", "ID_KEYED", "OFF_HEAP", "IN_PLACE", "CONCURRENT", "CONCURRENT_SNAPSHOT", "SHARDED", "EVENT_LOOP"})
+    BoardImplementation implementation;
+
+    private Scoreboard scoreboard;
+    private String[] homeTeams;
+    private String[] awayTeams;
+    private int updates;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        scoreboard = implementation.createWithMatches(boardSize);
+        homeTeams = new String[boardSize];
+        awayTeams = new String[boardSize];
+        for (int i = 0; i < boardSize; i++) {
+            homeTeams[i] = BoardImplementation.homeTeam(i);
+            awayTeams[i] = BoardImplementation.awayTeam(i);
+        }
+    }
+
+    @Benchmark
+    public void updateScore() {
+        int i = updates++ % boardSize;
+        int goals = updates / boardSize;
+        scoreboard.updateScore(homeTeams[i], awayTeams[i], goals, i & 7);
+    }
+
+    @Benchmark
+    public void startAndFinishMatch() {
+        scoreboard.startMatch("benchmarkHome", "benchmarkAway");
+        scoreboard.finishMatch("benchmarkHome", "benchmarkAway");
+    }
+
+    @Benchmark
+    public List<MatchSummary> getMatchesSummary() {
+        return scoreboard.getMatchesSummary();
+    }
+
+    @Benchmark
+    public List<MatchSummary> getTopMatches() {
+        return scoreboard.getTopMatches(10);
+    }
+}
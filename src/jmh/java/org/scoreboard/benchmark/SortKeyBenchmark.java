@@ -0,0 +1,96 @@
+package org.scoreboard.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.scoreboard.internal.compare.DefaultSortKey;
+import org.scoreboard.internal.compare.KeyedMatch;
+import org.scoreboard.internal.compare.MatchSortKey;
+import org.scoreboard.internal.index.RankedMatchIndex;
+import org.scoreboard.internal.model.Match;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ordering matches with the comparator chain the default order used to be defined with, which computes the total
+ * scores and compares start times on every comparison, and with precomputed {@link DefaultSortKey sort keys}:
+ * sorting all matches (including computing their keys) and building the {@link RankedMatchIndex}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SortKeyBenchmark {
+
+    private static final Comparator<Match> COMPARATOR_CHAIN = Comparator.<Match>comparingInt(m -> m.homeScore() + m.awayScore())
+            .thenComparing(Match::startedAt)
+            .reversed()
+            .thenComparing(Match::homeTeam)
+            .thenComparing(Match::awayTeam);
+
+    @Param({"1000", "100000"})
+    int boardSize;
+
+    private final MatchSortKey sortKey = new DefaultSortKey();
+    private Match[] matches;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Instant start = Instant.parse("2026-06-11T19:00:00Z");
+        matches = new Match[boardSize];
+        for (int i = 0; i < boardSize; i++) {
+            matches[i] = new Match(BoardImplementation.homeTeam(i), BoardImplementation.awayTeam(i), i % 7, i % 3,
+                    i, start.plusMillis(i * 250L));
+        }
+    }
+
+    @Benchmark
+    public Match[] sortWithComparatorChain() {
+        Match[] sorted = matches.clone();
+        Arrays.sort(sorted, COMPARATOR_CHAIN);
+        return sorted;
+    }
+
+    @Benchmark
+    public KeyedMatch[] sortWithSortKeys() {
+        KeyedMatch[] sorted = new KeyedMatch[matches.length];
+        for (int i = 0; i < matches.length; i++) {
+            sorted[i] = KeyedMatch.of(sortKey, matches[i]);
+        }
+        Arrays.sort(sorted, KeyedMatch.comparator(sortKey));
+        return sorted;
+    }
+
+    @Benchmark
+    public TreeSet<Match> indexWithComparatorChain() {
+        TreeSet<Match> index = new TreeSet<>(COMPARATOR_CHAIN);
+        for (Match match : matches) {
+            index.add(match);
+        }
+        return index;
+    }
+
+    @Benchmark
+    public RankedMatchIndex indexWithSortKeys() {
+        RankedMatchIndex index = new RankedMatchIndex(sortKey.comparator());
+        for (Match match : matches) {
+            index.add(match);
+        }
+        return index;
+    }
+}
@@ -0,0 +1,111 @@
+package org.scoreboard.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.scoreboard.MatchSummary;
+import org.scoreboard.Scoreboard;
+import org.scoreboard.internal.wire.EncodedSummaryCache;
+import org.scoreboard.internal.wire.SummaryWireFormat;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of serializing the summary for a poll: as JSON (built with a {@link StringBuilder} and encoded to UTF-8,
+ * roughly what a JSON library does), with {@link SummaryWireFormat} into a reused heap buffer, and served
+ * from {@link EncodedSummaryCache}, which encodes it once per modification instead. Decoding is measured too.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class WireFormatBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    int boardSize;
+
+    private List<MatchSummary> summary;
+    private ByteBuffer buffer;
+    private ByteBuffer encodedSummary;
+    private EncodedSummaryCache cache;
+
+    @Setup(Level.Trial)
+    public void setUp() throws InterruptedException {
+        Scoreboard scoreboard = BoardImplementation.CONCURRENT.createWithMatches(boardSize);
+        for (int i = 0; i < boardSize; i++) {
+            scoreboard.updateScore(BoardImplementation.homeTeam(i), BoardImplementation.awayTeam(i), i % 7, i % 3);
+        }
+        summary = scoreboard.getMatchesSummary();
+        buffer = ByteBuffer.allocate(SummaryWireFormat.encodedSize(summary));
+        encodedSummary = ByteBuffer.allocate(SummaryWireFormat.encodedSize(summary));
+        SummaryWireFormat.encodeSummary(summary, encodedSummary);
+        encodedSummary.flip();
+        cache = new EncodedSummaryCache();
+        scoreboard.subscribe(cache);
+        while (!cache.summary().equals(summary)) {
+            Thread.sleep(1);
+        }
+    }
+
+    @Benchmark
+    public byte[] json() {
+        StringBuilder json = new StringBuilder(summary.size() * 80).append('[');
+        for (int i = 0; i < summary.size(); i++) {
+            MatchSummary match = summary.get(i);
+            if (i > 0) json.append(',');
+            json.append("{\"homeTeam\":");
+            appendJsonString(json, match.homeTeam());
+            json.append(",\"awayTeam\":");
+            appendJsonString(json, match.awayTeam());
+            json.append(",\"homeScore\":").append(match.homeScore())
+                    .append(",\"awayScore\":").append(match.awayScore()).append('}');
+        }
+        return json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public ByteBuffer binary() {
+        buffer.clear();
+        SummaryWireFormat.encodeSummary(summary, buffer);
+        return buffer.flip();
+    }
+
+    @Benchmark
+    public ByteBuffer cached() {
+        return cache.encodedSummary();
+    }
+
+    @Benchmark
+    public List<MatchSummary> decodeBinary() {
+        return SummaryWireFormat.decodeSummary(encodedSummary.duplicate());
+    }
+
+    private static void appendJsonString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\').append(c);
+            } else if (c < 0x20) {
+                json.append(String.format("\\u%04x", (int) c));
+            } else {
+                json.append(c);
+            }
+        }
+        json.append('"');
+    }
+}
@@ -0,0 +1,79 @@
+package org.scoreboard;
+
+import org.scoreboard.internal.AsyncScoreboardImpl;
+import org.scoreboard.internal.EventLoopScoreboardImpl;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+/**
+ * Asynchronous view of a {@link Scoreboard}, whose modifying operations return immediately and complete their stages
+ * once applied. A stage fails with the exception the respective method of the {@link Scoreboard} would throw
+ * (wrapped in {@link java.util.concurrent.CompletionException} where the {@link CompletionStage} API does so).
+ * <p>
+ * Implementations don't hold monitors while waiting, so they can be used by a large number of virtual threads
+ * without pinning their carrier threads.
+ */
+public interface AsyncScoreboard {
+
+    /**
+     * Asynchronous version of {@link Scoreboard#startMatch(String, String)}.
+     *
+     * @return stage completed once the match is started, or exceptionally if it can't be
+     */
+    CompletionStage<Void> startMatch(String homeTeam, String awayTeam);
+
+    /**
+     * Asynchronous version of {@link Scoreboard#updateScore(String, String, int, int)}.
+     *
+     * @return stage completed once the score is updated, or exceptionally if it can't be
+     */
+    CompletionStage<Void> updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore);
+
+    /**
+     * Asynchronous version of {@link Scoreboard#finishMatch(String, String)}.
+     *
+     * @return stage completed once the match is finished, or exceptionally if it can't be
+     */
+    CompletionStage<Void> finishMatch(String homeTeam, String awayTeam);
+
+    /**
+     * Asynchronous version of {@link Scoreboard#applyAll(List)}.
+     *
+     * @return stage completed with the result of the batch
+     */
+    CompletionStage<BatchResult> applyAll(List<ScoreEvent> events);
+
+    /**
+     * Asynchronous version of {@link Scoreboard#getMatchesSummary()}.
+     *
+     * @return stage completed with the summary
+     */
+    CompletionStage<List<MatchSummary>> getMatchesSummary();
+
+    /**
+     * Creates an asynchronous view of specified thread safe scoreboard, running its operations with specified executor.
+     * On Java 21 and later the executor can be {@code Executors.newVirtualThreadPerTaskExecutor()}.
+     *
+     * @param scoreboard thread safe scoreboard, e.g. {@link Scoreboard#getThreadSafeInstance()}; cannot be null
+     * @param executor   executor running the modifying operations; cannot be null
+     * @return asynchronous scoreboard
+     * @throws NullPointerException if either of the arguments is null
+     */
+    static AsyncScoreboard of(Scoreboard scoreboard, Executor executor) {
+        return new AsyncScoreboardImpl(scoreboard, executor);
+    }
+
+    /**
+     * Creates an asynchronous view of specified event loop scoreboard, whose operations are already asynchronous,
+     * so no executor is needed.
+     *
+     * @param scoreboard event loop scoreboard; cannot be null
+     * @return asynchronous scoreboard
+     * @throws NullPointerException if the scoreboard is null
+     */
+    static AsyncScoreboard of(EventLoopScoreboardImpl scoreboard) {
+        return scoreboard.async();
+    }
+}
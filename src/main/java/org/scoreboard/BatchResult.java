@@ -0,0 +1,40 @@
+package org.scoreboard;
+
+import java.util.List;
+
+/**
+ * Represents a result of applying a batch of {@link ScoreEvent events} to the scoreboard.
+ *
+ * @param eventCount number of events in the batch
+ * @param failures   failures of the events that couldn't be applied, in the order of the batch
+ */
+public record BatchResult(int eventCount, List<EventFailure> failures) {
+
+    public BatchResult {
+        failures = List.copyOf(failures);
+    }
+
+    /**
+     * @return number of successfully applied events
+     */
+    public int appliedCount() {
+        return eventCount - failures.size();
+    }
+
+    /**
+     * @return true if all events have been applied, false otherwise
+     */
+    public boolean isSuccessful() {
+        return failures.isEmpty();
+    }
+
+    /**
+     * Represents an event that couldn't be applied.
+     *
+     * @param index index of the event in the batch
+     * @param event the event itself
+     * @param cause exception that would have been thrown by the respective {@link Scoreboard} method
+     */
+    public record EventFailure(int index, ScoreEvent event, RuntimeException cause) {
+    }
+}
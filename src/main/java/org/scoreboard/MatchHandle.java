@@ -0,0 +1,42 @@
+package org.scoreboard;
+
+/**
+ * Handle of a match in progress, obtained once from {@link Scoreboard#startMatchWithHandle} or
+ * {@link Scoreboard#getMatchHandle}, so the match can be updated many times without passing (and validating,
+ * and looking up) its team names again. Implementations may keep a direct reference to the stored match.
+ * <p>
+ * The handle stays valid until the match is finished, either through the handle or by the team names.
+ * Then its methods fail as the respective methods of the {@link Scoreboard} would for a match that isn't present,
+ * unless the same teams start a new match, which handles identifying matches by the team names can't tell apart.
+ * Handles are as thread safe as their scoreboards.
+ */
+public interface MatchHandle {
+
+    /**
+     * @return name of the home team
+     */
+    String homeTeam();
+
+    /**
+     * @return name of the away team
+     */
+    String awayTeam();
+
+    /**
+     * Updates the score of the match with a specified pair of absolute scores,
+     * as {@link Scoreboard#updateScore(String, String, int, int)} does.
+     *
+     * @param homeScore score of the home team; cannot be a negative number
+     * @param awayScore score of the away team; cannot be a negative number
+     * @throws IllegalArgumentException if either of the team scores is negative
+     * @throws IllegalStateException    if the match is no longer present on the scoreboard
+     */
+    void updateScore(int homeScore, int awayScore);
+
+    /**
+     * Finishes the match, as {@link Scoreboard#finishMatch(String, String)} does.
+     *
+     * @throws IllegalStateException if the match is no longer present on the scoreboard
+     */
+    void finish();
+}
@@ -11,6 +11,6 @@ package org.scoreboard;
 public record MatchSummary(String homeTeam, String awayTeam, int homeScore, int awayScore) {
     @Override
     public String toString() {
-        return String.format("%s %o - %o %s", homeTeam, homeScore, awayScore, awayTeam);
+        return homeTeam + " " + homeScore + " - " + awayScore + " " + awayTeam;
     }
 }
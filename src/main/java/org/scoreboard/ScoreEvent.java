@@ -0,0 +1,102 @@
+package org.scoreboard;
+
+/**
+ * A single modification of the scoreboard, which can be applied as a part of a batch with {@link Scoreboard#applyAll}.
+ * Events are not validated on creation, their arguments are validated by the scoreboard applying them
+ * the same way as arguments of the respective {@link Scoreboard} methods.
+ */
+public sealed interface ScoreEvent permits ScoreEvent.StartMatch, ScoreEvent.UpdateScore, ScoreEvent.FinishMatch {
+
+    /**
+     * @return name of the home team
+     */
+    String homeTeam();
+
+    /**
+     * @return name of the away team
+     */
+    String awayTeam();
+
+    /**
+     * Applies this event to specified scoreboard by calling its respective method.
+     *
+     * @param scoreboard scoreboard to be modified
+     */
+    void applyTo(Scoreboard scoreboard);
+
+    /**
+     * Creates an event starting a new match, see {@link Scoreboard#startMatch(String, String)}.
+     *
+     * @param homeTeam name of the home team
+     * @param awayTeam name of the away team
+     * @return new event
+     */
+    static ScoreEvent start(String homeTeam, String awayTeam) {
+        return new StartMatch(homeTeam, awayTeam);
+    }
+
+    /**
+     * Creates an event updating the score of a match, see {@link Scoreboard#updateScore(String, String, int, int)}.
+     *
+     * @param homeTeam  name of the home team
+     * @param awayTeam  name of the away team
+     * @param homeScore score of the home team
+     * @param awayScore score of the away team
+     * @return new event
+     */
+    static ScoreEvent update(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        return new UpdateScore(homeTeam, awayTeam, homeScore, awayScore);
+    }
+
+    /**
+     * Creates an event finishing a match, see {@link Scoreboard#finishMatch(String, String)}.
+     *
+     * @param homeTeam name of the home team
+     * @param awayTeam name of the away team
+     * @return new event
+     */
+    static ScoreEvent finish(String homeTeam, String awayTeam) {
+        return new FinishMatch(homeTeam, awayTeam);
+    }
+
+    /**
+     * Starts a new match.
+     *
+     * @param homeTeam name of the home team
+     * @param awayTeam name of the away team
+     */
+    record StartMatch(String homeTeam, String awayTeam) implements ScoreEvent {
+        @Override
+        public void applyTo(Scoreboard scoreboard) {
+            scoreboard.startMatch(homeTeam, awayTeam);
+        }
+    }
+
+    /**
+     * Updates the score of a match with a pair of absolute scores.
+     *
+     * @param homeTeam  name of the home team
+     * @param awayTeam  name of the away team
+     * @param homeScore score of the home team
+     * @param awayScore score of the away team
+     */
+    record UpdateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) implements ScoreEvent {
+        @Override
+        public void applyTo(Scoreboard scoreboard) {
+            scoreboard.updateScore(homeTeam, awayTeam, homeScore, awayScore);
+        }
+    }
+
+    /**
+     * Finishes a match.
+     *
+     * @param homeTeam name of the home team
+     * @param awayTeam name of the away team
+     */
+    record FinishMatch(String homeTeam, String awayTeam) implements ScoreEvent {
+        @Override
+        public void applyTo(Scoreboard scoreboard) {
+            scoreboard.finishMatch(homeTeam, awayTeam);
+        }
+    }
+}
@@ -1,8 +1,14 @@
 package org.scoreboard;
 
+import org.scoreboard.internal.ConcurrentScoreboardImpl;
 import org.scoreboard.internal.ScoreboardImpl;
+import org.scoreboard.internal.TeamPairMatchHandle;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.stream.Stream;
 
 /**
  * Scoreboard for live football games.
@@ -44,6 +50,49 @@ public interface Scoreboard {
      */
     void finishMatch(String homeTeam, String awayTeam);
 
+    /**
+     * Starts a new match, as {@link #startMatch(String, String)} does, and returns its handle, so the match can be
+     * updated and finished without passing its team names again.
+     * <p>
+     * This default implementation returns a handle calling the respective methods of this scoreboard,
+     * implementations may return handles referring to their matches directly.
+     *
+     * @param homeTeam name of the home team; cannot be null or empty
+     * @param awayTeam name of the away team; cannot be null or empty
+     * @return handle of the started match
+     * @throws NullPointerException     if either of the team names is null
+     * @throws IllegalArgumentException if either of the team names is empty, or both of them are equal
+     * @throws IllegalStateException    if any of the teams already plays a match
+     */
+    default MatchHandle startMatchWithHandle(String homeTeam, String awayTeam) {
+        startMatch(homeTeam, awayTeam);
+        return new TeamPairMatchHandle(this, homeTeam, awayTeam);
+    }
+
+    /**
+     * Resolves the handle of a match currently in progress, so it can be updated and finished many times without
+     * passing its team names again, e.g. by a feed adapter that didn't start the match.
+     * <p>
+     * This default implementation looks for the match in the summary and returns a handle calling the respective
+     * methods of this scoreboard, implementations may find the match directly and return a handle referring to it.
+     *
+     * @param homeTeam name of the home team; cannot be null or empty
+     * @param awayTeam name of the away team; cannot be null or empty
+     * @return handle of the match
+     * @throws NullPointerException     if either of the team names is null
+     * @throws IllegalArgumentException if either of the team names is empty, or both of them are equal
+     * @throws IllegalStateException    if a match between exactly the same home and away teams is not present on the scoreboard
+     */
+    default MatchHandle getMatchHandle(String homeTeam, String awayTeam) {
+        MatchHandle handle = new TeamPairMatchHandle(this, homeTeam, awayTeam);
+        boolean present;
+        try (Stream<MatchSummary> summary = streamMatchesSummary()) {
+            present = summary.anyMatch(match -> match.homeTeam().equals(homeTeam) && match.awayTeam().equals(awayTeam));
+        }
+        if (!present) throw new IllegalStateException(String.format("There is no match %s - %s ", homeTeam, awayTeam));
+        return handle;
+    }
+
     /**
      * Gets a summary of matches in progress ordered by their total score.
      * The matches with the same total score will be returned ordered by the most recently started match in the scoreboard.
@@ -52,10 +101,98 @@ public interface Scoreboard {
      */
     List<MatchSummary> getMatchesSummary();
 
+    /**
+     * Gets a summary of at most {@code n} first matches in the order of {@link #getMatchesSummary()}.
+     *
+     * @param n maximum number of returned matches; cannot be negative
+     * @return a list of instances of the {@link MatchSummary} class
+     * @throws IllegalArgumentException if {@code n} is negative
+     */
+    default List<MatchSummary> getTopMatches(int n) {
+        return getMatchesSummaryPage(0, n);
+    }
+
+    /**
+     * Gets a page of the summary in the order of {@link #getMatchesSummary()}: at most {@code limit} matches
+     * following the first {@code offset} ones. Offsets of the following pages are valid as long as the summary
+     * doesn't change in the meantime.
+     *
+     * @param offset number of skipped matches; cannot be negative
+     * @param limit  maximum number of returned matches; cannot be negative
+     * @return a list of instances of the {@link MatchSummary} class, empty if the offset exceeds the number of matches
+     * @throws IllegalArgumentException if either the offset or the limit is negative
+     */
+    default List<MatchSummary> getMatchesSummaryPage(int offset, int limit) {
+        return streamMatchesSummary().skip(offset).limit(limit).toList();
+    }
+
+    /**
+     * Gets a lazy stream of the summary in the order of {@link #getMatchesSummary()}. Implementations may yield
+     * the matches without building the whole summary first, so stopping early (e.g. with {@link Stream#limit(long)})
+     * costs less. The stream reflects the scoreboard at the time it's consumed, so a stream of a scoreboard
+     * that isn't thread safe shouldn't be consumed after its modification.
+     * <p>
+     * This default implementation streams the list returned by {@link #getMatchesSummary()}.
+     *
+     * @return a sequential stream of instances of the {@link MatchSummary} class
+     */
+    default Stream<MatchSummary> streamMatchesSummary() {
+        return getMatchesSummary().stream();
+    }
+
+    /**
+     * Subscribes specified subscriber to {@link SummaryUpdate updates} of the summary, so it doesn't have to poll
+     * {@link #getMatchesSummary()} to find out what changed. Updates are delivered asynchronously, only after
+     * the subscriber requests them, and modifications made in the meantime are coalesced into a single update.
+     * The first update contains all matches currently present in the summary.
+     * <p>
+     * This default implementation doesn't support subscriptions.
+     *
+     * @param subscriber subscriber to receive the updates; cannot be null
+     * @throws NullPointerException          if provided subscriber is null
+     * @throws UnsupportedOperationException if the implementation doesn't support subscriptions
+     */
+    default void subscribe(Flow.Subscriber<? super SummaryUpdate> subscriber) {
+        throw new UnsupportedOperationException("This scoreboard doesn't support subscriptions");
+    }
+
+    /**
+     * Applies specified events in their order, as if the respective methods were called one by one.
+     * An event that can't be applied doesn't abort the batch, it's reported in the result with the exception
+     * that would have been thrown by its respective method, and the following events are still applied.
+     * <p>
+     * This default implementation simply calls the respective methods, implementations may apply
+     * the whole batch more efficiently and atomically.
+     *
+     * @param events events to be applied; cannot be null
+     * @return result of the batch with failures of the events that couldn't be applied
+     * @throws NullPointerException if the list of events is null
+     */
+    default BatchResult applyAll(List<ScoreEvent> events) {
+        Objects.requireNonNull(events, "Events cannot be null");
+        List<BatchResult.EventFailure> failures = new ArrayList<>();
+        for (int i = 0; i < events.size(); i++) {
+            ScoreEvent event = events.get(i);
+            try {
+                Objects.requireNonNull(event, "Event cannot be null").applyTo(this);
+            } catch (NullPointerException | IllegalArgumentException | IllegalStateException e) {
+                failures.add(new BatchResult.EventFailure(i, event, e));
+            }
+        }
+        return new BatchResult(events.size(), failures);
+    }
+
     /**
      * @return default scoreboard implementation
      */
     static Scoreboard getDefaultInstance() {
         return new ScoreboardImpl();
     }
+
+    /**
+     * @return thread safe scoreboard implementation, whose methods can be called concurrently by multiple threads
+     */
+    static Scoreboard getThreadSafeInstance() {
+        return new ConcurrentScoreboardImpl();
+    }
 }
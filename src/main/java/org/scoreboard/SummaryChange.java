@@ -0,0 +1,77 @@
+package org.scoreboard;
+
+/**
+ * A single change of the summary between two consecutive {@link SummaryUpdate updates}.
+ * Ranks are zero-based positions of matches in the summary returned by {@link Scoreboard#getMatchesSummary()}.
+ */
+public sealed interface SummaryChange
+        permits SummaryChange.MatchStarted, SummaryChange.ScoreChanged, SummaryChange.RankMoved, SummaryChange.MatchFinished {
+
+    /**
+     * @return name of the home team
+     */
+    String homeTeam();
+
+    /**
+     * @return name of the away team
+     */
+    String awayTeam();
+
+    /**
+     * A new match appeared in the summary.
+     *
+     * @param match summary of the match
+     * @param rank  rank of the match in the current summary
+     */
+    record MatchStarted(MatchSummary match, int rank) implements SummaryChange {
+        @Override
+        public String homeTeam() {
+            return match.homeTeam();
+        }
+
+        @Override
+        public String awayTeam() {
+            return match.awayTeam();
+        }
+    }
+
+    /**
+     * The score of a match has changed.
+     *
+     * @param match summary of the match with its current score
+     * @param rank  rank of the match in the current summary
+     */
+    record ScoreChanged(MatchSummary match, int rank) implements SummaryChange {
+        @Override
+        public String homeTeam() {
+            return match.homeTeam();
+        }
+
+        @Override
+        public String awayTeam() {
+            return match.awayTeam();
+        }
+    }
+
+    /**
+     * A match has been moved relatively to other matches. Matches that only shifted because other matches
+     * started, finished or moved are not reported.
+     *
+     * @param homeTeam     name of the home team
+     * @param awayTeam     name of the away team
+     * @param previousRank rank of the match in the previous summary
+     * @param rank         rank of the match in the current summary
+     */
+    record RankMoved(String homeTeam, String awayTeam, int previousRank, int rank) implements SummaryChange {
+    }
+
+    /**
+     * A match disappeared from the summary.
+     *
+     * @param homeTeam     name of the home team
+     * @param awayTeam     name of the away team
+     * @param previousRank rank of the match in the previous summary
+     */
+    record MatchFinished(String homeTeam, String awayTeam, int previousRank) implements SummaryChange {
+    }
+}
@@ -0,0 +1,44 @@
+package org.scoreboard;
+
+import java.util.List;
+
+/**
+ * Represents the matches changed since a version of a scoreboard, see
+ * {@link org.scoreboard.internal.ScoreboardImpl#getMatchesSummarySince(long)}. A client polling the scoreboard
+ * keeps the matches it got by their team names, puts the changed matches in place of the previous ones and drops
+ * the removed ones. The delta doesn't convey the order of the summary, clients need it sorted by the scoreboard
+ * should get the whole summary or {@link Scoreboard#subscribe subscribe} to its updates instead.
+ * <p>
+ * When the client is too far behind (or its version is unknown to the scoreboard), the delta is a full snapshot:
+ * the changed matches are all matches in progress in the order of the summary, which replace everything the client has.
+ *
+ * @param version        version of the scoreboard the delta brings the client to, to be passed to the next query
+ * @param fullSnapshot   true if the changed matches are the whole summary, false if they're only the changes
+ * @param changedMatches matches started or updated since the queried version, in the order of their latest changes,
+ *                       or all matches in progress for a full snapshot
+ * @param removedMatches matches finished since the queried version, always empty for a full snapshot
+ */
+public record SummaryDelta(long version, boolean fullSnapshot, List<MatchSummary> changedMatches,
+                           List<RemovedMatch> removedMatches) {
+
+    public SummaryDelta {
+        changedMatches = List.copyOf(changedMatches);
+        removedMatches = List.copyOf(removedMatches);
+    }
+
+    /**
+     * @return true if nothing has changed since the queried version, false otherwise
+     */
+    public boolean isEmpty() {
+        return !fullSnapshot && changedMatches.isEmpty() && removedMatches.isEmpty();
+    }
+
+    /**
+     * Represents a match finished since the queried version.
+     *
+     * @param homeTeam name of the home team
+     * @param awayTeam name of the away team
+     */
+    public record RemovedMatch(String homeTeam, String awayTeam) {
+    }
+}
@@ -0,0 +1,70 @@
+package org.scoreboard;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Represents the difference between the summary previously delivered to a subscriber and the current one,
+ * see {@link Scoreboard#subscribe}. Multiple modifications of the scoreboard made before the update is delivered
+ * are coalesced into a single update.
+ * <p>
+ * The current summary can be rebuilt from the previous one by removing the finished matches, putting the started
+ * and moved matches at their ranks, filling the remaining ranks with the other matches in their previous order
+ * and applying the changed scores, which is what {@link #applyTo(List)} does.
+ *
+ * @param changes changes of the summary: finished matches first, then the others in the order of their current ranks
+ */
+public record SummaryUpdate(List<SummaryChange> changes) {
+
+    public SummaryUpdate {
+        changes = List.copyOf(changes);
+    }
+
+    /**
+     * Rebuilds the current summary from the previous one.
+     *
+     * @param previous summary this update was computed against (empty for the first update); cannot be null
+     * @return the current summary
+     * @throws NullPointerException      if the previous summary is null
+     * @throws IndexOutOfBoundsException if the update wasn't computed against the previous summary
+     */
+    public List<MatchSummary> applyTo(List<MatchSummary> previous) {
+        Set<Teams> removedFromOrder = new HashSet<>();
+        Map<Integer, MatchSummary> placed = new HashMap<>();
+        Map<Teams, MatchSummary> scores = new HashMap<>();
+        for (SummaryChange change : changes) {
+            Teams teams = new Teams(change.homeTeam(), change.awayTeam());
+            if (change instanceof SummaryChange.MatchFinished) {
+                removedFromOrder.add(teams);
+            } else if (change instanceof SummaryChange.MatchStarted started) {
+                placed.put(started.rank(), started.match());
+            } else if (change instanceof SummaryChange.RankMoved moved) {
+                removedFromOrder.add(teams);
+                placed.put(moved.rank(), previous.get(moved.previousRank()));
+            } else if (change instanceof SummaryChange.ScoreChanged changed) {
+                scores.put(teams, changed.match());
+            }
+        }
+
+        List<MatchSummary> remaining = previous.stream()
+                .filter(match -> !removedFromOrder.contains(Teams.of(match)))
+                .toList();
+        List<MatchSummary> current = new ArrayList<>(remaining.size() + placed.size());
+        int next = 0;
+        for (int rank = 0; rank < remaining.size() + placed.size(); rank++) {
+            MatchSummary match = placed.containsKey(rank) ? placed.get(rank) : remaining.get(next++);
+            current.add(scores.getOrDefault(Teams.of(match), match));
+        }
+        return List.copyOf(current);
+    }
+
+    private record Teams(String homeTeam, String awayTeam) {
+        static Teams of(MatchSummary match) {
+            return new Teams(match.homeTeam(), match.awayTeam());
+        }
+    }
+}
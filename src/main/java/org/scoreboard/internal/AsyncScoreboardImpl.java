@@ -0,0 +1,63 @@
+package org.scoreboard.internal;
+
+import org.scoreboard.AsyncScoreboard;
+import org.scoreboard.BatchResult;
+import org.scoreboard.MatchSummary;
+import org.scoreboard.ScoreEvent;
+import org.scoreboard.Scoreboard;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+/**
+ * Implementation of the {@link AsyncScoreboard} running the modifying operations of a thread safe {@link Scoreboard}
+ * as tasks of an {@link Executor}, typically one starting a virtual thread per task. The summary is read by the caller,
+ * as reading a thread safe scoreboard doesn't block.
+ * <p>
+ * The thread safe scoreboards of this library guard their modifications with {@link java.util.concurrent.locks.Lock}s
+ * rather than monitors, so tasks blocked by each other unmount their virtual threads instead of pinning carriers.
+ */
+public class AsyncScoreboardImpl implements AsyncScoreboard {
+
+    private final Scoreboard scoreboard;
+    private final Executor executor;
+
+    /**
+     * Creates this {@link AsyncScoreboard} implementation.
+     *
+     * @param scoreboard thread safe scoreboard whose operations are run
+     * @param executor   executor running the modifying operations
+     */
+    public AsyncScoreboardImpl(Scoreboard scoreboard, Executor executor) {
+        this.scoreboard = Objects.requireNonNull(scoreboard, "Scoreboard cannot be null");
+        this.executor = Objects.requireNonNull(executor, "Executor cannot be null");
+    }
+
+    @Override
+    public CompletionStage<Void> startMatch(String homeTeam, String awayTeam) {
+        return CompletableFuture.runAsync(() -> scoreboard.startMatch(homeTeam, awayTeam), executor);
+    }
+
+    @Override
+    public CompletionStage<Void> updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        return CompletableFuture.runAsync(() -> scoreboard.updateScore(homeTeam, awayTeam, homeScore, awayScore), executor);
+    }
+
+    @Override
+    public CompletionStage<Void> finishMatch(String homeTeam, String awayTeam) {
+        return CompletableFuture.runAsync(() -> scoreboard.finishMatch(homeTeam, awayTeam), executor);
+    }
+
+    @Override
+    public CompletionStage<BatchResult> applyAll(List<ScoreEvent> events) {
+        return CompletableFuture.supplyAsync(() -> scoreboard.applyAll(events), executor);
+    }
+
+    @Override
+    public CompletionStage<List<MatchSummary>> getMatchesSummary() {
+        return CompletableFuture.completedFuture(scoreboard.getMatchesSummary());
+    }
+}
@@ -0,0 +1,137 @@
+package org.scoreboard.internal;
+
+import org.scoreboard.BatchResult;
+import org.scoreboard.MatchHandle;
+import org.scoreboard.MatchSummary;
+import org.scoreboard.ScoreEvent;
+import org.scoreboard.Scoreboard;
+import org.scoreboard.SummaryUpdate;
+import org.scoreboard.internal.compare.DefaultComparatorSupplier;
+import org.scoreboard.internal.concurrent.TeamLockStripes;
+import org.scoreboard.internal.convert.MatchToMatchSummaryConverter;
+import org.scoreboard.internal.index.RankedMatchIndex;
+import org.scoreboard.internal.repository.ConcurrentMatchRepository;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.stream.Stream;
+
+/**
+ * Thread safe implementation of the {@link Scoreboard}. It decorates another scoreboard, running each of its
+ * modifying operations while holding the {@link TeamLockStripes} of both teams involved. This makes check-then-act
+ * sequences of the decorated scoreboard (e.g. checking whether any of the teams already plays before starting a match)
+ * atomic, while operations on matches of unrelated teams don't contend.
+ * <p>
+ * The decorated scoreboard has to be safe for concurrent calls involving different teams, which is the case for
+ * {@link ScoreboardImpl} using {@link ConcurrentMatchRepository} and a {@link RankedMatchIndex#concurrent concurrent}
+ * index. The summary is read without locking and, unless {@link SummaryMode#PUBLISHED_SNAPSHOT} is used,
+ * is weakly consistent. Such a {@link ScoreboardImpl} in the {@link SummaryMode#ON_DEMAND} mode counts its versions,
+ * but keeps no change log, as its changes aren't recorded under any common lock.
+ */
+public class ConcurrentScoreboardImpl implements Scoreboard {
+
+    private final Scoreboard delegate;
+    private final TeamLockStripes lockStripes;
+
+    /**
+     * Creates this {@link Scoreboard} implementation decorating specified scoreboard.
+     *
+     * @param delegate    scoreboard whose operations are guarded by the locks
+     * @param lockStripes lock stripes guarding the teams
+     */
+    public ConcurrentScoreboardImpl(Scoreboard delegate, TeamLockStripes lockStripes) {
+        this.delegate = Objects.requireNonNull(delegate, "Delegate scoreboard cannot be null");
+        this.lockStripes = Objects.requireNonNull(lockStripes, "Lock stripes cannot be null");
+    }
+
+    /**
+     * Creates this {@link Scoreboard} implementation decorating {@link ScoreboardImpl} with {@link ConcurrentMatchRepository},
+     * both sharing the same lock stripes.
+     */
+    public ConcurrentScoreboardImpl() {
+        this(SummaryMode.ON_DEMAND);
+    }
+
+    /**
+     * Creates this {@link Scoreboard} implementation decorating {@link ScoreboardImpl} with {@link ConcurrentMatchRepository}
+     * and specified {@link SummaryMode}. With {@link SummaryMode#PUBLISHED_SNAPSHOT} the summary is no longer weakly
+     * consistent, as readers always get a snapshot with fully applied modifications.
+     *
+     * @param summaryMode defines how the summary is provided
+     */
+    public ConcurrentScoreboardImpl(SummaryMode summaryMode) {
+        this(new TeamLockStripes(), summaryMode);
+    }
+
+    private ConcurrentScoreboardImpl(TeamLockStripes lockStripes, SummaryMode summaryMode) {
+        this(new ScoreboardImpl(new ConcurrentMatchRepository(lockStripes),
+                        RankedMatchIndex.concurrent(DefaultComparatorSupplier.get()), new MatchToMatchSummaryConverter(),
+                        summaryMode),
+                lockStripes);
+    }
+
+    @Override
+    public void startMatch(String homeTeam, String awayTeam) {
+        lockStripes.runLocked(homeTeam, awayTeam, () -> delegate.startMatch(homeTeam, awayTeam));
+    }
+
+    @Override
+    public void updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        lockStripes.runLocked(homeTeam, awayTeam, () -> delegate.updateScore(homeTeam, awayTeam, homeScore, awayScore));
+    }
+
+    @Override
+    public void finishMatch(String homeTeam, String awayTeam) {
+        lockStripes.runLocked(homeTeam, awayTeam, () -> delegate.finishMatch(homeTeam, awayTeam));
+    }
+
+    /**
+     * Applies specified events holding the locks of all teams involved in the batch, so the whole batch is atomic
+     * with respect to other modifications of these teams.
+     */
+    @Override
+    public BatchResult applyAll(List<ScoreEvent> events) {
+        Objects.requireNonNull(events, "Events cannot be null");
+        var teams = events.stream()
+                .filter(Objects::nonNull)
+                .flatMap(e -> Stream.of(e.homeTeam(), e.awayTeam()))
+                .toList();
+        return lockStripes.callLockedAll(teams, () -> delegate.applyAll(events));
+    }
+
+    @Override
+    public List<MatchSummary> getMatchesSummary() {
+        return delegate.getMatchesSummary();
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super SummaryUpdate> subscriber) {
+        delegate.subscribe(subscriber);
+    }
+
+    @Override
+    public List<MatchSummary> getTopMatches(int n) {
+        return delegate.getTopMatches(n);
+    }
+
+    @Override
+    public List<MatchSummary> getMatchesSummaryPage(int offset, int limit) {
+        return delegate.getMatchesSummaryPage(offset, limit);
+    }
+
+    @Override
+    public Stream<MatchSummary> streamMatchesSummary() {
+        return delegate.streamMatchesSummary();
+    }
+
+    /**
+     * Checks the match is in progress on the decorated scoreboard, but returns a handle operating through this
+     * decorator, not a handle of the decorated scoreboard bypassing it.
+     */
+    @Override
+    public MatchHandle getMatchHandle(String homeTeam, String awayTeam) {
+        delegate.getMatchHandle(homeTeam, awayTeam);
+        return new TeamPairMatchHandle(this, homeTeam, awayTeam);
+    }
+}
@@ -0,0 +1,397 @@
+package org.scoreboard.internal;
+
+import org.scoreboard.AsyncScoreboard;
+import org.scoreboard.BatchResult;
+import org.scoreboard.MatchSummary;
+import org.scoreboard.ScoreEvent;
+import org.scoreboard.Scoreboard;
+import org.scoreboard.SummaryUpdate;
+import org.scoreboard.internal.audit.AuditLog;
+import org.scoreboard.internal.compare.DefaultComparatorSupplier;
+import org.scoreboard.internal.concurrent.MpscRingBuffer;
+import org.scoreboard.internal.convert.MatchToMatchSummaryConverter;
+import org.scoreboard.internal.index.RankedMatchIndex;
+import org.scoreboard.internal.model.Match;
+import org.scoreboard.internal.repository.InMemoryMatchRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Thread safe {@link Scoreboard} implementation where a single thread applies all modifications, so no locks
+ * are needed. Modifications are enqueued as commands to a bounded {@link MpscRingBuffer}, and the event loop thread
+ * drains them in batches and applies every batch with {@link ScoreboardImpl#applyAll} of a non-thread-safe
+ * {@link ScoreboardImpl} (using {@link InMemoryMatchRepository}), so the index is modified and the summary
+ * is published once per batch. The busier the scoreboard is, the larger the batches are.
+ * <p>
+ * The asynchronous methods return futures completed by the event loop thread, exceptionally with the exception
+ * the respective synchronous method would throw. The synchronous methods wait for them. When the ring buffer is full,
+ * callers wait until there's space for their command. The summary is read from the published snapshot.
+ * <p>
+ * Futures are completed on the event loop thread, so non-async dependent stages (e.g. {@code thenRun}) run on it.
+ * They may call the asynchronous methods and read the summary, but the synchronous modifying methods and
+ * {@link #close()} would wait for the event loop thread itself, so they throw {@link IllegalStateException} there
+ * instead, and so do the asynchronous ones if the queue is full. Use the {@code *Async} variants of the dependent
+ * stages to run them on another thread.
+ */
+public class EventLoopScoreboardImpl implements Scoreboard, AutoCloseable {
+
+    /**
+     * Capacity of the command queue used by the constructor without capacity.
+     */
+    public static final int DEFAULT_CAPACITY = 8192;
+
+    private static final int MAX_BATCH_SIZE = 1024;
+    private static final long FULL_QUEUE_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(10);
+    // bounds the delay of a command if a wakeup were ever missed, the fences alone should prevent it
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final Logger log = LoggerFactory.getLogger(EventLoopScoreboardImpl.class);
+
+    private final ScoreboardImpl scoreboard;
+    private final AuditLog auditLog;
+    private final MpscRingBuffer<Command> commands;
+    private final Thread eventLoop;
+    // used only by the event loop thread
+    private final List<Command> batch = new ArrayList<>();
+    private final List<ScoreEvent> batchEvents = new ArrayList<>();
+    private final ReentrantLock rejectLock = new ReentrantLock();
+    private volatile boolean parked;
+    private volatile boolean closed;
+
+    /**
+     * Creates this {@link Scoreboard} implementation and starts its event loop thread.
+     *
+     * @param capacity           minimum capacity of the command queue (rounded up to a power of two); must be positive
+     * @param matchComparator    comparator defining the order of the summary
+     * @param toSummaryConverter converter of stored matches to their summaries
+     * @param auditLog           records every requested modification, when it's enqueued
+     */
+    public EventLoopScoreboardImpl(int capacity, Comparator<Match> matchComparator,
+                                   Function<Match, MatchSummary> toSummaryConverter, AuditLog auditLog) {
+        this.commands = new MpscRingBuffer<>(capacity);
+        this.auditLog = Objects.requireNonNull(auditLog, "Audit log cannot be null");
+        this.scoreboard = new ScoreboardImpl(new InMemoryMatchRepository(), new RankedMatchIndex(matchComparator),
+                toSummaryConverter, SummaryMode.PUBLISHED_SNAPSHOT, AuditLog.disabled());
+        this.eventLoop = new Thread(this::runEventLoop, "scoreboard-event-loop");
+        eventLoop.setDaemon(true);
+        eventLoop.start();
+    }
+
+    /**
+     * Creates this {@link Scoreboard} implementation with the {@link #DEFAULT_CAPACITY default} capacity,
+     * the default comparator and converter, logging every modification at INFO level.
+     */
+    public EventLoopScoreboardImpl() {
+        this(DEFAULT_CAPACITY, DefaultComparatorSupplier.get(), new MatchToMatchSummaryConverter(), AuditLog.logging(log));
+    }
+
+    /**
+     * Asynchronous version of {@link #startMatch(String, String)}.
+     *
+     * @return future completed once the match is started, or exceptionally if it can't be
+     */
+    public CompletableFuture<Void> startMatchAsync(String homeTeam, String awayTeam) {
+        auditLog.matchStarted(homeTeam, awayTeam);
+        return submit(Command.of(ScoreEvent.start(homeTeam, awayTeam))).eventResult;
+    }
+
+    /**
+     * Asynchronous version of {@link #updateScore(String, String, int, int)}.
+     *
+     * @return future completed once the score is updated, or exceptionally if it can't be
+     */
+    public CompletableFuture<Void> updateScoreAsync(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        auditLog.scoreUpdated(homeTeam, awayTeam, homeScore, awayScore);
+        return submit(Command.of(ScoreEvent.update(homeTeam, awayTeam, homeScore, awayScore))).eventResult;
+    }
+
+    /**
+     * Asynchronous version of {@link #finishMatch(String, String)}.
+     *
+     * @return future completed once the match is finished, or exceptionally if it can't be
+     */
+    public CompletableFuture<Void> finishMatchAsync(String homeTeam, String awayTeam) {
+        auditLog.matchFinished(homeTeam, awayTeam);
+        return submit(Command.of(ScoreEvent.finish(homeTeam, awayTeam))).eventResult;
+    }
+
+    /**
+     * Asynchronous version of {@link #applyAll(List)}, the events are applied together as a part of one batch.
+     *
+     * @return future completed with the result of the batch
+     * @throws NullPointerException if the list of events is null
+     */
+    public CompletableFuture<BatchResult> applyAllAsync(List<ScoreEvent> events) {
+        Objects.requireNonNull(events, "Events cannot be null");
+        return submit(Command.ofAll(events)).batchResult;
+    }
+
+    /**
+     * Gets a view of this scoreboard with only asynchronous methods. Its callers never block, unless the ring buffer
+     * is full, and then they park rather than hold a monitor, so the view is well suited to virtual threads.
+     *
+     * @return asynchronous view of this scoreboard
+     */
+    public AsyncScoreboard async() {
+        return new AsyncScoreboard() {
+            @Override
+            public CompletionStage<Void> startMatch(String homeTeam, String awayTeam) {
+                return startMatchAsync(homeTeam, awayTeam);
+            }
+
+            @Override
+            public CompletionStage<Void> updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+                return updateScoreAsync(homeTeam, awayTeam, homeScore, awayScore);
+            }
+
+            @Override
+            public CompletionStage<Void> finishMatch(String homeTeam, String awayTeam) {
+                return finishMatchAsync(homeTeam, awayTeam);
+            }
+
+            @Override
+            public CompletionStage<BatchResult> applyAll(List<ScoreEvent> events) {
+                return applyAllAsync(events);
+            }
+
+            @Override
+            public CompletionStage<List<MatchSummary>> getMatchesSummary() {
+                return CompletableFuture.completedFuture(EventLoopScoreboardImpl.this.getMatchesSummary());
+            }
+        };
+    }
+
+    @Override
+    public void startMatch(String homeTeam, String awayTeam) {
+        checkNotOnEventLoop();
+        await(startMatchAsync(homeTeam, awayTeam));
+    }
+
+    @Override
+    public void updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        checkNotOnEventLoop();
+        await(updateScoreAsync(homeTeam, awayTeam, homeScore, awayScore));
+    }
+
+    @Override
+    public void finishMatch(String homeTeam, String awayTeam) {
+        checkNotOnEventLoop();
+        await(finishMatchAsync(homeTeam, awayTeam));
+    }
+
+    @Override
+    public BatchResult applyAll(List<ScoreEvent> events) {
+        checkNotOnEventLoop();
+        return await(applyAllAsync(events));
+    }
+
+    @Override
+    public List<MatchSummary> getMatchesSummary() {
+        return scoreboard.getMatchesSummary();
+    }
+
+    @Override
+    public List<MatchSummary> getMatchesSummaryPage(int offset, int limit) {
+        return scoreboard.getMatchesSummaryPage(offset, limit);
+    }
+
+    @Override
+    public Stream<MatchSummary> streamMatchesSummary() {
+        return scoreboard.streamMatchesSummary();
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super SummaryUpdate> subscriber) {
+        scoreboard.subscribe(subscriber);
+    }
+
+    /**
+     * Stops the event loop thread after applying all commands enqueued so far. Commands enqueued after closing
+     * are completed exceptionally with {@link IllegalStateException}.
+     *
+     * @throws IllegalStateException if called on the event loop thread, e.g. by a dependent stage of a future
+     */
+    @Override
+    public void close() {
+        checkNotOnEventLoop();
+        if (closed) return;
+        closed = true;
+        LockSupport.unpark(eventLoop);
+        awaitEventLoop();
+    }
+
+    private Command submit(Command command) {
+        boolean onEventLoop = Thread.currentThread() == eventLoop;
+        boolean enqueued = false;
+        while (!closed && !(enqueued = commands.offer(command))) {
+            if (onEventLoop) {
+                // only the event loop thread itself could make space in the queue
+                command.reject(new IllegalStateException("The command queue is full and the event loop cannot wait for it"));
+                return command;
+            }
+            LockSupport.parkNanos(this, FULL_QUEUE_PARK_NANOS);
+        }
+        if (!enqueued) {
+            command.reject(closedException());
+            return command;
+        }
+        if (onEventLoop) {
+            // the event loop applies the command itself, also when closed, as it drains the queue before it stops
+            return command;
+        }
+        if (closed) {
+            // the event loop may have stopped before the command was enqueued, so it would be never applied
+            rejectRemainingCommands();
+        }
+        // the event loop sets the flag before checking the queue for the last time, and both sides fence
+        // between their store (the flag, the published command) and their load (the queue, the flag),
+        // so either the event loop sees the command or this thread sees the flag
+        VarHandle.fullFence();
+        if (parked) {
+            LockSupport.unpark(eventLoop);
+        }
+        return command;
+    }
+
+    private void rejectRemainingCommands() {
+        awaitEventLoop();
+        // once the event loop has stopped, the lock makes the rejecting thread the only consumer of the queue
+        rejectLock.lock();
+        try {
+            commands.drain(command -> command.reject(closedException()), Integer.MAX_VALUE);
+        } finally {
+            rejectLock.unlock();
+        }
+    }
+
+    private void awaitEventLoop() {
+        try {
+            eventLoop.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void checkNotOnEventLoop() {
+        if (Thread.currentThread() == eventLoop) {
+            throw new IllegalStateException("The event loop cannot wait for itself, use an async dependent stage");
+        }
+    }
+
+    private static IllegalStateException closedException() {
+        return new IllegalStateException("The scoreboard is closed");
+    }
+
+    private void runEventLoop() {
+        while (!closed) {
+            if (applyBatch() > 0) continue;
+            parked = true;
+            VarHandle.fullFence();
+            if (commands.isEmpty() && !closed) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+            parked = false;
+        }
+        while (applyBatch() > 0) {
+            // applies commands enqueued before closing
+        }
+    }
+
+    private int applyBatch() {
+        int drained = commands.drain(batch::add, MAX_BATCH_SIZE);
+        if (drained == 0) return 0;
+
+        batchEvents.clear();
+        batch.forEach(command -> batchEvents.addAll(command.events));
+        try {
+            completeAll(scoreboard.applyAll(batchEvents).failures());
+        } catch (RuntimeException e) {
+            log.error("Cannot apply a batch of {} commands", drained, e);
+            batch.forEach(command -> command.reject(e));
+        }
+        batch.clear();
+        return drained;
+    }
+
+    /**
+     * Completes the commands of the batch with their failures, whose indexes are relative to the whole batch.
+     */
+    private void completeAll(List<BatchResult.EventFailure> failures) {
+        int failureIndex = 0;
+        int offset = 0;
+        for (Command command : batch) {
+            List<BatchResult.EventFailure> commandFailures = new ArrayList<>();
+            while (failureIndex < failures.size() && failures.get(failureIndex).index() < offset + command.events.size()) {
+                BatchResult.EventFailure failure = failures.get(failureIndex++);
+                commandFailures.add(new BatchResult.EventFailure(failure.index() - offset, failure.event(), failure.cause()));
+            }
+            command.complete(commandFailures);
+            offset += command.events.size();
+        }
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    /**
+     * Events enqueued together with the future of either a single event or a whole batch.
+     */
+    private static final class Command {
+
+        private final List<ScoreEvent> events;
+        private final CompletableFuture<Void> eventResult;
+        private final CompletableFuture<BatchResult> batchResult;
+
+        private Command(List<ScoreEvent> events, CompletableFuture<Void> eventResult,
+                        CompletableFuture<BatchResult> batchResult) {
+            this.events = events;
+            this.eventResult = eventResult;
+            this.batchResult = batchResult;
+        }
+
+        static Command of(ScoreEvent event) {
+            return new Command(List.of(event), new CompletableFuture<>(), null);
+        }
+
+        static Command ofAll(List<ScoreEvent> events) {
+            // the copy keeps null events, which are reported as failures
+            return new Command(Collections.unmodifiableList(new ArrayList<>(events)), null, new CompletableFuture<>());
+        }
+
+        void complete(List<BatchResult.EventFailure> failures) {
+            if (batchResult != null) {
+                batchResult.complete(new BatchResult(events.size(), failures));
+            } else if (failures.isEmpty()) {
+                eventResult.complete(null);
+            } else {
+                eventResult.completeExceptionally(failures.get(0).cause());
+            }
+        }
+
+        void reject(RuntimeException cause) {
+            if (batchResult != null) batchResult.completeExceptionally(cause);
+            else eventResult.completeExceptionally(cause);
+        }
+    }
+}
@@ -0,0 +1,305 @@
+package org.scoreboard.internal;
+
+import org.scoreboard.MatchHandle;
+import org.scoreboard.MatchSummary;
+import org.scoreboard.Scoreboard;
+import org.scoreboard.SummaryUpdate;
+import org.scoreboard.internal.audit.AuditLog;
+import org.scoreboard.internal.compare.DefaultComparatorSupplier;
+import org.scoreboard.internal.compare.KeyedMatch;
+import org.scoreboard.internal.compare.MatchSortKey;
+import org.scoreboard.internal.concurrent.TeamLockStripes;
+import org.scoreboard.internal.convert.MatchToMatchSummaryConverter;
+import org.scoreboard.internal.feed.SummaryChangeFeed;
+import org.scoreboard.internal.model.LiveMatch;
+import org.scoreboard.internal.model.Match;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static org.scoreboard.internal.ScoreboardValidation.checkNotPlaying;
+import static org.scoreboard.internal.ScoreboardValidation.noSuchMatch;
+import static org.scoreboard.internal.ScoreboardValidation.validatePage;
+import static org.scoreboard.internal.ScoreboardValidation.validateParallelSummaryThreshold;
+import static org.scoreboard.internal.ScoreboardValidation.validateScores;
+import static org.scoreboard.internal.ScoreboardValidation.validateTeams;
+
+/**
+ * Thread safe {@link Scoreboard} implementation optimized for score updates. Matches are stored as {@link LiveMatch}
+ * instances whose score is modified in place, so {@link #updateScore} takes no locks and doesn't allocate
+ * (as long as the {@link AuditLog} doesn't, e.g. {@link org.scoreboard.internal.audit.AsyncAuditLog}).
+ * <p>
+ * As scores change without notifying any ordering structure, the summary is sorted on every read,
+ * from consistent snapshots of the scores. Starting and finishing matches hold the {@link TeamLockStripes}
+ * of both teams, so a team can't be in more than one match.
+ * <p>
+ * Summaries of boards with at least {@link #DEFAULT_PARALLEL_SUMMARY_THRESHOLD} matches (or another threshold passed
+ * to the constructor) are sorted and converted in parallel, by the common {@link java.util.concurrent.ForkJoinPool}
+ * (a parallel merge sort of the snapshots), unless the machine has a single processor.
+ */
+public class InPlaceScoreboardImpl implements Scoreboard {
+
+    /**
+     * Number of matches from which summaries are built in parallel, used by the constructors without the threshold.
+     */
+    public static final int DEFAULT_PARALLEL_SUMMARY_THRESHOLD = 50_000;
+
+    private static final Logger log = LoggerFactory.getLogger(InPlaceScoreboardImpl.class);
+
+    // every match is stored under the names of both of its teams
+    private final Map<String, LiveMatch> matchesByTeam = new ConcurrentHashMap<>();
+    private final TeamLockStripes lockStripes = new TeamLockStripes();
+    // matches the comparator considers equal are ordered by their teams, so pages and the summary agree
+    private final MatchSortKey sortKey;
+    private final Comparator<KeyedMatch> matchComparator;
+    private final Function<Match, MatchSummary> toSummaryConverter;
+    private final AuditLog auditLog;
+    private final int parallelSummaryThreshold;
+    private final SummaryChangeFeed changeFeed = new SummaryChangeFeed(this::getMatchesSummary);
+
+    /**
+     * Creates this {@link Scoreboard} implementation with specified comparator, converter and {@link AuditLog}.
+     *
+     * @param matchComparator    comparator defining the order of the summary
+     * @param toSummaryConverter converter of stored matches to their summaries
+     * @param auditLog           records every requested modification
+     */
+    public InPlaceScoreboardImpl(Comparator<Match> matchComparator, Function<Match, MatchSummary> toSummaryConverter,
+                                 AuditLog auditLog) {
+        this(matchComparator, toSummaryConverter, auditLog, DEFAULT_PARALLEL_SUMMARY_THRESHOLD);
+    }
+
+    /**
+     * Creates this {@link Scoreboard} implementation with specified comparator, converter, {@link AuditLog}
+     * and threshold of parallel summaries.
+     *
+     * @param matchComparator          comparator defining the order of the summary
+     * @param toSummaryConverter       converter of stored matches to their summaries
+     * @param auditLog                 records every requested modification
+     * @param parallelSummaryThreshold number of matches from which the summary is built in parallel,
+     *                                 {@link Integer#MAX_VALUE} builds it always sequentially; cannot be negative
+     * @throws IllegalArgumentException if the threshold is negative
+     */
+    public InPlaceScoreboardImpl(Comparator<Match> matchComparator, Function<Match, MatchSummary> toSummaryConverter,
+                                 AuditLog auditLog, int parallelSummaryThreshold) {
+        validateParallelSummaryThreshold(parallelSummaryThreshold);
+        this.parallelSummaryThreshold = parallelSummaryThreshold;
+        this.sortKey = MatchSortKey.of(matchComparator);
+        this.matchComparator = KeyedMatch.comparator(sortKey);
+        this.toSummaryConverter = toSummaryConverter;
+        this.auditLog = Objects.requireNonNull(auditLog, "Audit log cannot be null");
+    }
+
+    /**
+     * Creates this {@link Scoreboard} implementation with the default comparator and converter,
+     * logging every modification at INFO level.
+     */
+    public InPlaceScoreboardImpl() {
+        this(DefaultComparatorSupplier.get(), new MatchToMatchSummaryConverter(), AuditLog.logging(log));
+    }
+
+    @Override
+    public void startMatch(String homeTeam, String awayTeam) {
+        start(homeTeam, awayTeam);
+    }
+
+    /**
+     * Returns a handle referring to the stored {@link LiveMatch}, so updating the score through it neither validates
+     * nor looks up the team names.
+     */
+    @Override
+    public MatchHandle startMatchWithHandle(String homeTeam, String awayTeam) {
+        return new LiveMatchHandle(start(homeTeam, awayTeam));
+    }
+
+    /**
+     * Returns a handle referring to the stored {@link LiveMatch}, so updating the score through it neither validates
+     * nor looks up the team names.
+     */
+    @Override
+    public MatchHandle getMatchHandle(String homeTeam, String awayTeam) {
+        validateTeams(homeTeam, awayTeam);
+        LiveMatch match = matchesByTeam.get(homeTeam);
+        if (match == null || !match.isBetween(homeTeam, awayTeam)) {
+            throw noSuchMatch(homeTeam, awayTeam);
+        }
+        return new LiveMatchHandle(match);
+    }
+
+    @Override
+    public void updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        auditLog.scoreUpdated(homeTeam, awayTeam, homeScore, awayScore);
+        validateTeams(homeTeam, awayTeam);
+        validateScores(homeScore, awayScore);
+
+        LiveMatch match = matchesByTeam.get(homeTeam);
+        if (match == null || !match.isBetween(homeTeam, awayTeam)) {
+            throw noSuchMatch(homeTeam, awayTeam);
+        }
+        match.updateScore(homeScore, awayScore);
+        changeFeed.summaryChanged();
+    }
+
+    @Override
+    public void finishMatch(String homeTeam, String awayTeam) {
+        auditLog.matchFinished(homeTeam, awayTeam);
+        validateTeams(homeTeam, awayTeam);
+
+        lockStripes.runLocked(homeTeam, awayTeam, () -> {
+            LiveMatch match = matchesByTeam.get(homeTeam);
+            if (match == null || !match.isBetween(homeTeam, awayTeam)) {
+                throw noSuchMatch(homeTeam, awayTeam);
+            }
+            remove(match);
+        });
+        changeFeed.summaryChanged();
+    }
+
+    private LiveMatch start(String homeTeam, String awayTeam) {
+        auditLog.matchStarted(homeTeam, awayTeam);
+        validateTeams(homeTeam, awayTeam);
+
+        LiveMatch match = lockStripes.callLocked(homeTeam, awayTeam, () -> {
+            checkNotPlaying(homeTeam, matchesByTeam::containsKey);
+            checkNotPlaying(awayTeam, matchesByTeam::containsKey);
+
+            LiveMatch started = new LiveMatch(homeTeam, awayTeam);
+            matchesByTeam.put(homeTeam, started);
+            matchesByTeam.put(awayTeam, started);
+            return started;
+        });
+        changeFeed.summaryChanged();
+        return match;
+    }
+
+    private void remove(LiveMatch match) {
+        matchesByTeam.remove(match.homeTeam());
+        matchesByTeam.remove(match.awayTeam());
+        match.markFinished();
+    }
+
+    /**
+     * The summary is sorted by the delivering thread only when a subscriber requests an update,
+     * so updates of the scores stay lock-free and, without subscribers, allocation-free.
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super SummaryUpdate> subscriber) {
+        changeFeed.subscribe(subscriber);
+    }
+
+    @Override
+    public List<MatchSummary> getMatchesSummary() {
+        // every match is stored under two keys
+        if (matchesByTeam.size() / 2 >= parallelSummaryThreshold && Runtime.getRuntime().availableProcessors() > 1) {
+            return streamMatchesSummary().parallel().toList();
+        }
+        return streamMatchesSummary().toList();
+    }
+
+    /**
+     * Selects the matches up to the end of the page with a bounded heap, so it takes O(m log(offset + limit))
+     * for m matches on the board, instead of sorting all of them.
+     */
+    @Override
+    public List<MatchSummary> getMatchesSummaryPage(int offset, int limit) {
+        validatePage(offset, limit);
+        int pageEnd = (int) Math.min((long) offset + limit, Integer.MAX_VALUE);
+        if (pageEnd == 0) return List.of();
+
+        // the head of the heap is the last of the best matches selected so far
+        PriorityQueue<KeyedMatch> bestMatches = new PriorityQueue<>(Math.min(pageEnd, 1024), matchComparator.reversed());
+        matches().forEach(match -> {
+            if (bestMatches.size() < pageEnd) {
+                bestMatches.add(match);
+            } else if (matchComparator.compare(match, bestMatches.peek()) < 0) {
+                bestMatches.poll();
+                bestMatches.add(match);
+            }
+        });
+        return bestMatches.stream()
+                .sorted(matchComparator)
+                .skip(offset)
+                .map(KeyedMatch::match)
+                .map(toSummaryConverter)
+                .toList();
+    }
+
+    /**
+     * Sorts the snapshots of all matches once the stream is consumed, every snapshot is keyed
+     * with the {@link MatchSortKey} of the comparator once, before sorting.
+     */
+    @Override
+    public Stream<MatchSummary> streamMatchesSummary() {
+        return matches()
+                .sorted(matchComparator)
+                .map(KeyedMatch::match)
+                .map(toSummaryConverter);
+    }
+
+    private Stream<KeyedMatch> matches() {
+        return matchesByTeam.entrySet().stream()
+                .filter(e -> e.getKey().equals(e.getValue().homeTeam()))
+                .map(e -> KeyedMatch.of(sortKey, e.getValue().toMatch()));
+    }
+
+    /**
+     * Handle referring directly to the stored match, a finished match is recognized by its flag.
+     */
+    private final class LiveMatchHandle implements MatchHandle {
+
+        private final LiveMatch match;
+
+        private LiveMatchHandle(LiveMatch match) {
+            this.match = match;
+        }
+
+        @Override
+        public String homeTeam() {
+            return match.homeTeam();
+        }
+
+        @Override
+        public String awayTeam() {
+            return match.awayTeam();
+        }
+
+        @Override
+        public void updateScore(int homeScore, int awayScore) {
+            auditLog.scoreUpdated(match.homeTeam(), match.awayTeam(), homeScore, awayScore);
+            validateScores(homeScore, awayScore);
+
+            if (match.isFinished()) {
+                throw noSuchMatch(match.homeTeam(), match.awayTeam());
+            }
+            match.updateScore(homeScore, awayScore);
+            changeFeed.summaryChanged();
+        }
+
+        @Override
+        public void finish() {
+            auditLog.matchFinished(match.homeTeam(), match.awayTeam());
+
+            lockStripes.runLocked(match.homeTeam(), match.awayTeam(), () -> {
+                if (match.isFinished()) {
+                    throw noSuchMatch(match.homeTeam(), match.awayTeam());
+                }
+                remove(match);
+            });
+            changeFeed.summaryChanged();
+        }
+
+        @Override
+        public String toString() {
+            return "MatchHandle[" + match.homeTeam() + " - " + match.awayTeam() + "]";
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package org.scoreboard.internal;
+
+import org.scoreboard.internal.feed.MatchChangeLog;
+import org.scoreboard.internal.index.RankedMatchIndex;
+import org.scoreboard.internal.model.Match;
+import org.scoreboard.internal.repository.MatchRepository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Collects changes of a batch on top of a {@link MatchRepository} without modifying it, so the changes can be checked
+ * against the state including the previous changes of the batch, and then applied to the repository and the
+ * {@link RankedMatchIndex} (and recorded in the {@link MatchChangeLog}) once, with only the net change of every match.
+ */
+class MatchBatch {
+
+    private final MatchRepository matchRepository;
+    // current match of every team changed by the batch, null if the team doesn't play anymore
+    private final Map<String, Match> matchesByTeam = new HashMap<>();
+    // matches as stored in the repository before the batch, null if the match wasn't present there
+    private final Map<MatchKey, Match> originalMatches = new LinkedHashMap<>();
+    // matches after the batch, null if the match has been removed
+    private final Map<MatchKey, Match> currentMatches = new HashMap<>();
+
+    MatchBatch(MatchRepository matchRepository) {
+        this.matchRepository = matchRepository;
+    }
+
+    boolean containsMatchForTeam(String teamName) {
+        if (matchesByTeam.containsKey(teamName)) {
+            return matchesByTeam.get(teamName) != null;
+        }
+        return matchRepository.containsMatchForTeam(teamName);
+    }
+
+    Optional<Match> get(String homeTeam, String awayTeam) {
+        // every change of a match is recorded for both of its teams, so checking the home team is enough
+        if (matchesByTeam.containsKey(homeTeam)) {
+            return Optional.ofNullable(matchesByTeam.get(homeTeam))
+                    .filter(m -> m.homeTeam().equals(homeTeam) && m.awayTeam().equals(awayTeam));
+        }
+        return matchRepository.get(homeTeam, awayTeam);
+    }
+
+    void save(Match previous, Match current) {
+        record(MatchKey.of(current), previous, current);
+        matchesByTeam.put(current.homeTeam(), current);
+        matchesByTeam.put(current.awayTeam(), current);
+    }
+
+    void remove(Match match) {
+        record(MatchKey.of(match), match, null);
+        matchesByTeam.put(match.homeTeam(), null);
+        matchesByTeam.put(match.awayTeam(), null);
+    }
+
+    boolean isEmpty() {
+        return originalMatches.isEmpty();
+    }
+
+    void applyTo(MatchRepository repository) {
+        List<Match> matchesToRemove = new ArrayList<>();
+        List<Match> matchesToSave = new ArrayList<>();
+        originalMatches.forEach((key, original) -> {
+            Match current = currentMatches.get(key);
+            if (current != null) {
+                matchesToSave.add(current);
+            } else if (original != null) {
+                matchesToRemove.add(original);
+            }
+        });
+        repository.applyAll(matchesToRemove, matchesToSave);
+    }
+
+    void applyTo(RankedMatchIndex index) {
+        originalMatches.forEach((key, original) -> {
+            Match current = currentMatches.get(key);
+            if (original != null) index.remove(original);
+            if (current != null) index.add(current);
+        });
+    }
+
+    void applyTo(MatchChangeLog changeLog) {
+        originalMatches.forEach((key, original) -> {
+            Match current = currentMatches.get(key);
+            if (current != null) {
+                changeLog.matchChanged(current);
+            } else if (original != null) {
+                changeLog.matchRemoved(original);
+            }
+        });
+    }
+
+    private void record(MatchKey key, Match previous, Match current) {
+        if (!originalMatches.containsKey(key)) {
+            originalMatches.put(key, previous);
+        }
+        currentMatches.put(key, current);
+    }
+
+    private record MatchKey(String homeTeam, String awayTeam) {
+        static MatchKey of(Match match) {
+            return new MatchKey(match.homeTeam(), match.awayTeam());
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package org.scoreboard.internal;
+
+import org.scoreboard.BatchResult;
+import org.scoreboard.MatchHandle;
+import org.scoreboard.MatchSummary;
+import org.scoreboard.ScoreEvent;
+import org.scoreboard.Scoreboard;
+import org.scoreboard.SummaryUpdate;
+import org.scoreboard.internal.metrics.BoardMetricsMXBean;
+import org.scoreboard.internal.metrics.LatencyHistogram;
+import org.scoreboard.internal.metrics.OperationMeter;
+import org.scoreboard.internal.metrics.OperationMetrics;
+import org.scoreboard.internal.metrics.OperationMetricsMXBean;
+import org.scoreboard.internal.metrics.ScoreboardMetrics;
+import org.scoreboard.internal.metrics.ScoreboardOperation;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * {@link Scoreboard} decorator measuring the operations of another scoreboard: latencies of {@code startMatch},
+ * {@code updateScore}, {@code finishMatch} and {@code getMatchesSummary} (in {@link LatencyHistogram}s), their calls
+ * rejected with exceptions by the exception type, and the number of matches on the board. Measuring a call takes
+ * two {@link System#nanoTime()} reads and a few atomic increments, of counters striped per thread, so that concurrent
+ * calls don't contend on them, and doesn't allocate (except for the first call of a thread using a new stripe).
+ * <p>
+ * Metrics are pulled with {@link #metrics()}, or through JMX once {@link #registerMBeans(String) registered}.
+ * The decorator is as thread safe as the decorated scoreboard. Batches applied with {@link #applyAll(List)}
+ * are delegated without measuring, only the board size follows them.
+ */
+public class MeteredScoreboardImpl implements Scoreboard {
+
+    /**
+     * Domain of the MBeans registered by {@link #registerMBeans(String)}.
+     */
+    public static final String MBEAN_DOMAIN = "org.scoreboard";
+
+    private final Scoreboard delegate;
+    private final Map<ScoreboardOperation, OperationMeter> meters = new EnumMap<>(ScoreboardOperation.class);
+    private final OperationMeter startMatch;
+    private final OperationMeter updateScore;
+    private final OperationMeter finishMatch;
+    private final OperationMeter getMatchesSummary;
+    private final AtomicInteger boardSize;
+    private final List<ObjectName> registeredMBeans = new ArrayList<>();
+
+    /**
+     * Creates this {@link Scoreboard} implementation measuring specified scoreboard, the board size starts
+     * from the number of matches it already has.
+     *
+     * @param delegate scoreboard to be measured; cannot be null
+     */
+    public MeteredScoreboardImpl(Scoreboard delegate) {
+        this.delegate = Objects.requireNonNull(delegate, "Delegate scoreboard cannot be null");
+        for (ScoreboardOperation operation : ScoreboardOperation.values()) {
+            meters.put(operation, new OperationMeter());
+        }
+        this.startMatch = meters.get(ScoreboardOperation.START_MATCH);
+        this.updateScore = meters.get(ScoreboardOperation.UPDATE_SCORE);
+        this.finishMatch = meters.get(ScoreboardOperation.FINISH_MATCH);
+        this.getMatchesSummary = meters.get(ScoreboardOperation.GET_MATCHES_SUMMARY);
+        this.boardSize = new AtomicInteger(delegate.getMatchesSummary().size());
+    }
+
+    @Override
+    public void startMatch(String homeTeam, String awayTeam) {
+        long start = System.nanoTime();
+        try {
+            delegate.startMatch(homeTeam, awayTeam);
+        } catch (RuntimeException e) {
+            startMatch.rejected(e);
+            throw e;
+        } finally {
+            startMatch.record(System.nanoTime() - start);
+        }
+        boardSize.incrementAndGet();
+    }
+
+    @Override
+    public void updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        long start = System.nanoTime();
+        try {
+            delegate.updateScore(homeTeam, awayTeam, homeScore, awayScore);
+        } catch (RuntimeException e) {
+            updateScore.rejected(e);
+            throw e;
+        } finally {
+            updateScore.record(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void finishMatch(String homeTeam, String awayTeam) {
+        long start = System.nanoTime();
+        try {
+            delegate.finishMatch(homeTeam, awayTeam);
+        } catch (RuntimeException e) {
+            finishMatch.rejected(e);
+            throw e;
+        } finally {
+            finishMatch.record(System.nanoTime() - start);
+        }
+        boardSize.decrementAndGet();
+    }
+
+    @Override
+    public List<MatchSummary> getMatchesSummary() {
+        long start = System.nanoTime();
+        try {
+            return delegate.getMatchesSummary();
+        } catch (RuntimeException e) {
+            getMatchesSummary.rejected(e);
+            throw e;
+        } finally {
+            getMatchesSummary.record(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public BatchResult applyAll(List<ScoreEvent> events) {
+        BatchResult result = delegate.applyAll(events);
+        BitSet failed = new BitSet(events.size());
+        result.failures().forEach(failure -> failed.set(failure.index()));
+        int sizeChange = 0;
+        for (int i = failed.nextClearBit(0); i < events.size(); i = failed.nextClearBit(i + 1)) {
+            ScoreEvent event = events.get(i);
+            if (event instanceof ScoreEvent.StartMatch) {
+                sizeChange++;
+            } else if (event instanceof ScoreEvent.FinishMatch) {
+                sizeChange--;
+            }
+        }
+        boardSize.addAndGet(sizeChange);
+        return result;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super SummaryUpdate> subscriber) {
+        delegate.subscribe(subscriber);
+    }
+
+    @Override
+    public List<MatchSummary> getTopMatches(int n) {
+        return delegate.getTopMatches(n);
+    }
+
+    @Override
+    public List<MatchSummary> getMatchesSummaryPage(int offset, int limit) {
+        return delegate.getMatchesSummaryPage(offset, limit);
+    }
+
+    @Override
+    public Stream<MatchSummary> streamMatchesSummary() {
+        return delegate.streamMatchesSummary();
+    }
+
+    /**
+     * Checks the match is in progress on the decorated scoreboard, but returns a handle operating through this
+     * decorator, not a handle of the decorated scoreboard bypassing it.
+     */
+    @Override
+    public MatchHandle getMatchHandle(String homeTeam, String awayTeam) {
+        delegate.getMatchHandle(homeTeam, awayTeam);
+        return new TeamPairMatchHandle(this, homeTeam, awayTeam);
+    }
+
+    /**
+     * @return snapshot of the metrics measured so far
+     */
+    public ScoreboardMetrics metrics() {
+        Map<ScoreboardOperation, OperationMetrics> operations = new EnumMap<>(ScoreboardOperation.class);
+        meters.forEach((operation, meter) -> operations.put(operation, meter.snapshot()));
+        return new ScoreboardMetrics(boardSize.get(), operations);
+    }
+
+    /**
+     * Registers the metrics in the platform MBean server: the board size as
+     * {@code org.scoreboard:type=Scoreboard,name=<name>} and every operation as
+     * {@code org.scoreboard:type=Scoreboard,name=<name>,operation=<method name>}.
+     *
+     * @param name name of the scoreboard, distinguishing its MBeans from MBeans of other scoreboards; cannot be null
+     * @throws IllegalStateException if the MBeans can't be registered, e.g. the name is already used
+     */
+    public synchronized void registerMBeans(String name) {
+        Objects.requireNonNull(name, "Name cannot be null");
+        if (!registeredMBeans.isEmpty()) throw new IllegalStateException("The MBeans are already registered");
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        String prefix = MBEAN_DOMAIN + ":type=Scoreboard,name=" + ObjectName.quote(name);
+        try {
+            BoardMetricsMXBean board = boardSize::get;
+            register(server, new ObjectName(prefix), new StandardMBean(board, BoardMetricsMXBean.class, true));
+            for (Map.Entry<ScoreboardOperation, OperationMeter> meter : meters.entrySet()) {
+                register(server, new ObjectName(prefix + ",operation=" + meter.getKey().methodName()),
+                        new StandardMBean(meter.getValue(), OperationMetricsMXBean.class, true));
+            }
+        } catch (JMException e) {
+            unregisterMBeans();
+            throw new IllegalStateException("Cannot register the MBeans of scoreboard " + name, e);
+        }
+    }
+
+    /**
+     * Unregisters the MBeans registered by {@link #registerMBeans(String)}, if any.
+     */
+    public synchronized void unregisterMBeans() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        for (ObjectName name : registeredMBeans) {
+            try {
+                server.unregisterMBean(name);
+            } catch (JMException e) {
+                // already unregistered by someone else
+            }
+        }
+        registeredMBeans.clear();
+    }
+
+    private void register(MBeanServer server, ObjectName name, StandardMBean mbean) throws JMException {
+        server.registerMBean(mbean, name);
+        registeredMBeans.add(name);
+    }
+}
@@ -1,41 +1,202 @@
 package org.scoreboard.internal;
 
+import org.scoreboard.BatchResult;
+import org.scoreboard.MatchHandle;
 import org.scoreboard.MatchSummary;
+import org.scoreboard.ScoreEvent;
 import org.scoreboard.Scoreboard;
+import org.scoreboard.SummaryDelta;
+import org.scoreboard.SummaryUpdate;
+import org.scoreboard.internal.audit.AuditLog;
 import org.scoreboard.internal.compare.DefaultComparatorSupplier;
 import org.scoreboard.internal.convert.MatchToMatchSummaryConverter;
+import org.scoreboard.internal.feed.MatchChangeLog;
+import org.scoreboard.internal.feed.SummaryChangeFeed;
+import org.scoreboard.internal.index.RankedMatchIndex;
 import org.scoreboard.internal.model.Match;
+import org.scoreboard.internal.repository.IdKeyedMatchRepository;
 import org.scoreboard.internal.repository.InMemoryMatchRepository;
 import org.scoreboard.internal.repository.MatchRepository;
+import org.scoreboard.internal.team.TeamRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Flow;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static org.scoreboard.internal.ScoreboardValidation.checkNotPlaying;
+import static org.scoreboard.internal.ScoreboardValidation.noSuchMatch;
+import static org.scoreboard.internal.ScoreboardValidation.validatePage;
+import static org.scoreboard.internal.ScoreboardValidation.validateParallelSummaryThreshold;
+import static org.scoreboard.internal.ScoreboardValidation.validateScores;
+import static org.scoreboard.internal.ScoreboardValidation.validateTeams;
 
 /**
  * Default implementation of the {@link Scoreboard}.
+ * <p>
+ * Summaries of boards with at least {@link #DEFAULT_PARALLEL_SUMMARY_THRESHOLD} matches (or another threshold passed
+ * to the constructor) are built in parallel: ranges of the ranked index are walked and converted by the common
+ * {@link java.util.concurrent.ForkJoinPool} and joined in their order. Smaller boards, and machines with a single
+ * processor, build summaries sequentially, as splitting the work costs more than it saves.
+ * <p>
+ * Every modification increments the {@link #version() version} of the board and is recorded in a bounded
+ * {@link MatchChangeLog}, so clients polling the board can check cheaply whether anything has changed,
+ * and get only the matches changed since their version with {@link #getMatchesSummarySince(long)}.
  */
 public class ScoreboardImpl implements Scoreboard {
 
+    /**
+     * Number of matches from which summaries are built in parallel, used by the constructors without the threshold.
+     */
+    public static final int DEFAULT_PARALLEL_SUMMARY_THRESHOLD = 100_000;
+
+    /**
+     * Number of the latest changes kept for {@link #getMatchesSummarySince(long)}, used by the constructors without it,
+     * unless the scoreboard can be modified concurrently (see {@link #ScoreboardImpl(MatchRepository, RankedMatchIndex,
+     * Function, SummaryMode, AuditLog, int, int)}), then no changes are kept.
+     */
+    public static final int DEFAULT_CHANGE_LOG_CAPACITY = 1024;
+
     private static final Logger log = LoggerFactory.getLogger(ScoreboardImpl.class);
 
     private final MatchRepository matchRepository;
-    private final Comparator<Match> matchComparator;
+    // the repository, if it's keyed by team ids, so that match handles can keep the ids of their teams
+    private final IdKeyedMatchRepository idKeyedRepository;
+    private final RankedMatchIndex rankedIndex;
     private final Function<Match, MatchSummary> toSummaryConverter;
+    private final SummaryMode summaryMode;
+    private final AuditLog auditLog;
+    private final int parallelSummaryThreshold;
+    private final MatchChangeLog changeLog;
+    private final ReentrantLock publishLock = new ReentrantLock();
+    private volatile List<MatchSummary> publishedSummary = List.of();
+    private final SummaryChangeFeed changeFeed = new SummaryChangeFeed(this::feedSummary);
+    // summary read by the change feed when the index can't be read concurrently, kept only while there are subscribers
+    private volatile List<MatchSummary> feedSummary = List.of();
 
     /**
      * Creates this {@link Scoreboard} implementation with specified {@link MatchRepository}.
      *
-     * @param matchRepository match repository to be used by the scoreboard
+     * @param matchRepository    match repository to be used by the scoreboard
+     * @param matchComparator    comparator defining the order of the summary
+     * @param toSummaryConverter converter of stored matches to their summaries
      */
     public ScoreboardImpl(MatchRepository matchRepository, Comparator<Match> matchComparator,
                           Function<Match, MatchSummary> toSummaryConverter) {
+        this(matchRepository, new RankedMatchIndex(matchComparator), toSummaryConverter);
+    }
+
+    /**
+     * Creates this {@link Scoreboard} implementation with specified {@link MatchRepository} and {@link RankedMatchIndex}.
+     * Matches already stored in the repository are added to the index.
+     *
+     * @param matchRepository    match repository to be used by the scoreboard
+     * @param rankedIndex        index keeping matches in the order of the summary
+     * @param toSummaryConverter converter of stored matches to their summaries
+     */
+    public ScoreboardImpl(MatchRepository matchRepository, RankedMatchIndex rankedIndex,
+                          Function<Match, MatchSummary> toSummaryConverter) {
+        this(matchRepository, rankedIndex, toSummaryConverter, SummaryMode.ON_DEMAND);
+    }
+
+    /**
+     * Creates this {@link Scoreboard} implementation with specified {@link MatchRepository}, {@link RankedMatchIndex}
+     * and {@link SummaryMode}. Matches already stored in the repository are added to the index.
+     *
+     * @param matchRepository    match repository to be used by the scoreboard
+     * @param rankedIndex        index keeping matches in the order of the summary
+     * @param toSummaryConverter converter of stored matches to their summaries
+     * @param summaryMode        defines how the summary is provided
+     */
+    public ScoreboardImpl(MatchRepository matchRepository, RankedMatchIndex rankedIndex,
+                          Function<Match, MatchSummary> toSummaryConverter, SummaryMode summaryMode) {
+        this(matchRepository, rankedIndex, toSummaryConverter, summaryMode, AuditLog.logging(log));
+    }
+
+    /**
+     * Creates this {@link Scoreboard} implementation with specified {@link MatchRepository}, {@link RankedMatchIndex},
+     * {@link SummaryMode} and {@link AuditLog}. Matches already stored in the repository are added to the index.
+     *
+     * @param matchRepository    match repository to be used by the scoreboard
+     * @param rankedIndex        index keeping matches in the order of the summary
+     * @param toSummaryConverter converter of stored matches to their summaries
+     * @param summaryMode        defines how the summary is provided
+     * @param auditLog           records every requested modification, by default they're logged at INFO level
+     */
+    public ScoreboardImpl(MatchRepository matchRepository, RankedMatchIndex rankedIndex,
+                          Function<Match, MatchSummary> toSummaryConverter, SummaryMode summaryMode, AuditLog auditLog) {
+        this(matchRepository, rankedIndex, toSummaryConverter, summaryMode, auditLog, DEFAULT_PARALLEL_SUMMARY_THRESHOLD);
+    }
+
+    /**
+     * Creates this {@link Scoreboard} implementation with specified {@link MatchRepository}, {@link RankedMatchIndex},
+     * {@link SummaryMode}, {@link AuditLog} and threshold of parallel summaries. Matches already stored in the repository
+     * are added to the index.
+     *
+     * @param matchRepository          match repository to be used by the scoreboard
+     * @param rankedIndex              index keeping matches in the order of the summary
+     * @param toSummaryConverter       converter of stored matches to their summaries
+     * @param summaryMode              defines how the summary is provided
+     * @param auditLog                 records every requested modification, by default they're logged at INFO level
+     * @param parallelSummaryThreshold number of matches from which the summary is built in parallel,
+     *                                 {@link Integer#MAX_VALUE} builds it always sequentially; cannot be negative
+     * @throws IllegalArgumentException if the threshold is negative
+     */
+    public ScoreboardImpl(MatchRepository matchRepository, RankedMatchIndex rankedIndex,
+                          Function<Match, MatchSummary> toSummaryConverter, SummaryMode summaryMode, AuditLog auditLog,
+                          int parallelSummaryThreshold) {
+        this(matchRepository, rankedIndex, toSummaryConverter, summaryMode, auditLog, parallelSummaryThreshold,
+                isModifiedConcurrently(rankedIndex, summaryMode) ? 0 : DEFAULT_CHANGE_LOG_CAPACITY);
+    }
+
+    /**
+     * Creates this {@link Scoreboard} implementation with specified {@link MatchRepository}, {@link RankedMatchIndex},
+     * {@link SummaryMode}, {@link AuditLog}, threshold of parallel summaries and capacity of the change log.
+     * Matches already stored in the repository are added to the index, they aren't changes of the board.
+     * <p>
+     * Changes are recorded under the lock publishing summaries in the {@link SummaryMode#PUBLISHED_SNAPSHOT} mode.
+     * In the {@link SummaryMode#ON_DEMAND} mode with a {@link RankedMatchIndex#isConcurrent() concurrent} index
+     * the scoreboard may be modified concurrently (e.g. by {@link ConcurrentScoreboardImpl}) without any common lock,
+     * so it can't keep changes and the capacity has to be 0, the version is still counted.
+     *
+     * @param matchRepository          match repository to be used by the scoreboard
+     * @param rankedIndex              index keeping matches in the order of the summary
+     * @param toSummaryConverter       converter of stored matches to their summaries
+     * @param summaryMode              defines how the summary is provided
+     * @param auditLog                 records every requested modification, by default they're logged at INFO level
+     * @param parallelSummaryThreshold number of matches from which the summary is built in parallel,
+     *                                 {@link Integer#MAX_VALUE} builds it always sequentially; cannot be negative
+     * @param changeLogCapacity        number of the latest changes kept for {@link #getMatchesSummarySince(long)};
+     *                                 cannot be negative, with 0 the version is still counted, but every query
+     *                                 gets a full snapshot
+     * @throws IllegalArgumentException if the threshold or the capacity is negative, or the capacity is positive
+     *                                  while the scoreboard can be modified concurrently
+     */
+    public ScoreboardImpl(MatchRepository matchRepository, RankedMatchIndex rankedIndex,
+                          Function<Match, MatchSummary> toSummaryConverter, SummaryMode summaryMode, AuditLog auditLog,
+                          int parallelSummaryThreshold, int changeLogCapacity) {
+        validateParallelSummaryThreshold(parallelSummaryThreshold);
+        if (changeLogCapacity > 0 && isModifiedConcurrently(rankedIndex, summaryMode)) {
+            throw new IllegalArgumentException("Changes cannot be kept by a scoreboard modified concurrently");
+        }
+        this.parallelSummaryThreshold = parallelSummaryThreshold;
+        this.changeLog = new MatchChangeLog(changeLogCapacity);
         this.matchRepository = matchRepository;
-        this.matchComparator = matchComparator;
+        this.idKeyedRepository = matchRepository instanceof IdKeyedMatchRepository repository ? repository : null;
+        this.rankedIndex = rankedIndex;
         this.toSummaryConverter = toSummaryConverter;
+        this.summaryMode = Objects.requireNonNull(summaryMode, "Summary mode cannot be null");
+        this.auditLog = Objects.requireNonNull(auditLog, "Audit log cannot be null");
+        modifyIndex(index -> index.addAll(matchRepository.listAllMatches()), log -> {
+        });
     }
 
     /**
@@ -47,62 +208,367 @@ public class ScoreboardImpl implements Scoreboard {
 
     @Override
     public void startMatch(String homeTeam, String awayTeam) {
-        log.info("Starting new match between {} and {}", homeTeam, awayTeam);
+        auditLog.matchStarted(homeTeam, awayTeam);
         validateTeams(homeTeam, awayTeam);
 
-        if (matchRepository.containsMatchForTeam(homeTeam)) {
-            throw new IllegalStateException(String.format("Team %s already plays a match", homeTeam));
-        }
-        if (matchRepository.containsMatchForTeam(awayTeam)) {
-            throw new IllegalStateException(String.format("Team %s already plays a match", awayTeam));
-        }
+        checkNotPlaying(homeTeam, matchRepository::containsMatchForTeam);
+        checkNotPlaying(awayTeam, matchRepository::containsMatchForTeam);
 
-        matchRepository.save(new Match(homeTeam, awayTeam));
+        Match match = new Match(homeTeam, awayTeam);
+        matchRepository.save(match);
+        modifyIndex(index -> index.add(match), log -> log.matchChanged(match));
     }
 
     @Override
     public void updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
-        log.info("Updating a score for a match between {} and {} to {} - {}", homeTeam, awayTeam, homeScore, awayScore);
+        auditLog.scoreUpdated(homeTeam, awayTeam, homeScore, awayScore);
         validateTeams(homeTeam, awayTeam);
         validateScores(homeScore, awayScore);
 
-        Match currentMatch = matchRepository.get(homeTeam, awayTeam)
-                .orElseThrow(() -> new IllegalStateException(String.format("There is no match %s - %s ", homeTeam, awayTeam)));
-
-        matchRepository.save(currentMatch.withModifiedScore(homeScore, awayScore));
+        modifyScore(homeTeam, awayTeam, homeScore, awayScore);
     }
 
     @Override
     public void finishMatch(String homeTeam, String awayTeam) {
-        log.info("Finishing the match between {} and {}", homeTeam, awayTeam);
+        auditLog.matchFinished(homeTeam, awayTeam);
         validateTeams(homeTeam, awayTeam);
 
-        matchRepository.get(homeTeam, awayTeam)
-                .orElseThrow(() -> new IllegalStateException(String.format("There is no match %s - %s ", homeTeam, awayTeam)));
+        finish(homeTeam, awayTeam);
+    }
 
-        matchRepository.remove(homeTeam, awayTeam);
+    /**
+     * Returns a handle whose operations skip validating the team names, which were validated once here.
+     * With an {@link IdKeyedMatchRepository} they also skip resolving the team names, the handle keeps their ids.
+     */
+    @Override
+    public MatchHandle startMatchWithHandle(String homeTeam, String awayTeam) {
+        startMatch(homeTeam, awayTeam);
+        return new ValidatedMatchHandle(homeTeam, awayTeam);
+    }
+
+    /**
+     * Returns a handle whose operations skip validating the team names, which were validated once here.
+     * With an {@link IdKeyedMatchRepository} they also skip resolving the team names, the handle keeps their ids.
+     */
+    @Override
+    public MatchHandle getMatchHandle(String homeTeam, String awayTeam) {
+        validateTeams(homeTeam, awayTeam);
+        if (matchRepository.get(homeTeam, awayTeam).isEmpty()) {
+            throw noSuchMatch(homeTeam, awayTeam);
+        }
+        return new ValidatedMatchHandle(homeTeam, awayTeam);
+    }
+
+    /**
+     * Applies specified events as one batch. All events are validated up front, and then checked and applied one by one
+     * against the state including the previous events of the batch. The repository is modified once with the net change
+     * of every match, and then the ranked index is modified once, so in the {@link SummaryMode#PUBLISHED_SNAPSHOT}
+     * mode the whole batch becomes visible at once.
+     */
+    @Override
+    public BatchResult applyAll(List<ScoreEvent> events) {
+        Objects.requireNonNull(events, "Events cannot be null");
+
+        RuntimeException[] errors = new RuntimeException[events.size()];
+        for (int i = 0; i < events.size(); i++) {
+            errors[i] = validationError(events.get(i));
+        }
+
+        MatchBatch batch = new MatchBatch(matchRepository);
+        for (int i = 0; i < events.size(); i++) {
+            if (errors[i] != null) continue;
+            try {
+                apply(events.get(i), batch);
+            } catch (IllegalStateException e) {
+                errors[i] = e;
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            batch.applyTo(matchRepository);
+            modifyIndex(batch::applyTo, batch::applyTo);
+        }
+
+        List<BatchResult.EventFailure> failures = new ArrayList<>();
+        for (int i = 0; i < events.size(); i++) {
+            if (errors[i] != null) failures.add(new BatchResult.EventFailure(i, events.get(i), errors[i]));
+        }
+        log.debug("Applied a batch of {} events, {} of them failed", events.size(), failures.size());
+        return new BatchResult(events.size(), failures);
+    }
+
+    /**
+     * Gets the version of the board, incremented by every modification (by every match changed by a batch),
+     * so comparing it with a previously read version tells whether anything has changed.
+     *
+     * @return current version of the board, 0 before the first modification
+     */
+    public long version() {
+        return changeLog.version();
+    }
+
+    /**
+     * Gets the matches changed since specified version, as recorded in the change log, instead of the whole summary.
+     * If the change log no longer keeps all changes made since that version (or the version is unknown), it gets
+     * a {@link SummaryDelta#fullSnapshot() full snapshot} of the summary. In the {@link SummaryMode#PUBLISHED_SNAPSHOT}
+     * mode it takes the lock modifications publish summaries with, so the delta and its version always agree.
+     *
+     * @param version version of the board previously got from {@link #version()} or from a delta, 0 for the first query
+     * @return the changes since the version, or the full summary, together with the current version of the board
+     */
+    public SummaryDelta getMatchesSummarySince(long version) {
+        if (summaryMode != SummaryMode.PUBLISHED_SNAPSHOT) {
+            return summarySince(version);
+        }
+        publishLock.lock();
+        try {
+            return summarySince(version);
+        } finally {
+            publishLock.unlock();
+        }
     }
 
     @Override
     public List<MatchSummary> getMatchesSummary() {
-        return matchRepository.listAllMatches().stream()
-                .sorted(matchComparator)
+        if (summaryMode == SummaryMode.PUBLISHED_SNAPSHOT) {
+            return publishedSummary;
+        }
+        return buildSummary();
+    }
+
+    /**
+     * Walks the ranked index up to the end of the page, so its cost depends on the offset and the limit,
+     * not on the number of matches. In the {@link SummaryMode#PUBLISHED_SNAPSHOT} mode the page is copied
+     * from the published summary.
+     */
+    @Override
+    public List<MatchSummary> getMatchesSummaryPage(int offset, int limit) {
+        validatePage(offset, limit);
+        if (summaryMode == SummaryMode.PUBLISHED_SNAPSHOT) {
+            List<MatchSummary> summary = publishedSummary;
+            int from = Math.min(offset, summary.size());
+            int to = (int) Math.min((long) from + limit, summary.size());
+            return List.copyOf(summary.subList(from, to));
+        }
+        return rankedIndex.stream()
+                .skip(offset)
+                .limit(limit)
                 .map(toSummaryConverter)
                 .toList();
     }
 
-    private static void validateTeams(String homeTeam, String awayTeam) {
-        Objects.requireNonNull(homeTeam, "Home team name cannot be null");
-        Objects.requireNonNull(awayTeam, "Away team name cannot be null");
-        if (homeTeam.isEmpty()) throw new IllegalArgumentException("Home team name cannot be empty");
-        if (awayTeam.isEmpty()) throw new IllegalArgumentException("Away team name cannot be empty");
-        if (homeTeam.equals(awayTeam))
-            throw new IllegalArgumentException("Home and away team names cannot be the same");
+    /**
+     * Converts matches lazily while walking the ranked index, in the {@link SummaryMode#PUBLISHED_SNAPSHOT} mode
+     * it streams the published summary.
+     */
+    @Override
+    public Stream<MatchSummary> streamMatchesSummary() {
+        if (summaryMode == SummaryMode.PUBLISHED_SNAPSHOT) {
+            return publishedSummary.stream();
+        }
+        return rankedIndex.stream().map(toSummaryConverter);
+    }
+
+    /**
+     * The change feed reads the published summary in the {@link SummaryMode#PUBLISHED_SNAPSHOT} mode, or walks
+     * the index if it's {@link RankedMatchIndex#isConcurrent() concurrent}. Otherwise, as long as there are
+     * subscribers, every modification builds the summary for the feed, which is as costly as publishing it.
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super SummaryUpdate> subscriber) {
+        if (!canFeedReadConcurrently()) {
+            feedSummary = buildSummary();
+        }
+        changeFeed.subscribe(subscriber);
+    }
+
+    private void modifyScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        Match currentMatch = matchRepository.get(homeTeam, awayTeam)
+                .orElseThrow(() -> noSuchMatch(homeTeam, awayTeam));
+
+        Match modifiedMatch = currentMatch.withModifiedScore(homeScore, awayScore);
+        matchRepository.save(modifiedMatch);
+        scoreModified(currentMatch, modifiedMatch);
+    }
+
+    private void scoreModified(Match currentMatch, Match modifiedMatch) {
+        modifyIndex(index -> index.replace(currentMatch, modifiedMatch), log -> log.matchChanged(modifiedMatch));
+    }
+
+    private void finish(String homeTeam, String awayTeam) {
+        Match currentMatch = matchRepository.get(homeTeam, awayTeam)
+                .orElseThrow(() -> noSuchMatch(homeTeam, awayTeam));
+
+        matchRepository.remove(homeTeam, awayTeam);
+        matchFinished(currentMatch);
     }
 
-    private static void validateScores(int homeScore, int awayScore) {
-        if (homeScore < 0) throw new IllegalArgumentException("Home score cannot be negative");
-        if (awayScore < 0) throw new IllegalArgumentException("Away score cannot be negative");
+    private void matchFinished(Match finishedMatch) {
+        modifyIndex(index -> index.remove(finishedMatch), log -> log.matchRemoved(finishedMatch));
     }
 
+    private SummaryDelta summarySince(long version) {
+        long currentVersion = changeLog.version();
+        Optional<List<MatchChangeLog.Change>> changes = changeLog.changesSince(version);
+        if (changes.isEmpty()) {
+            return new SummaryDelta(currentVersion, true, getMatchesSummary(), List.of());
+        }
+        List<MatchSummary> changedMatches = new ArrayList<>();
+        List<SummaryDelta.RemovedMatch> removedMatches = new ArrayList<>();
+        for (MatchChangeLog.Change change : changes.get()) {
+            Match match = change.match();
+            if (change.removed()) {
+                removedMatches.add(new SummaryDelta.RemovedMatch(match.homeTeam(), match.awayTeam()));
+            } else {
+                changedMatches.add(toSummaryConverter.apply(match));
+            }
+        }
+        return new SummaryDelta(currentVersion, false, changedMatches, removedMatches);
+    }
+
+    private List<MatchSummary> buildSummary() {
+        Stream<Match> matches = rankedIndex.size() >= parallelSummaryThreshold && hasMultipleProcessors()
+                ? rankedIndex.parallelStream()
+                : rankedIndex.stream();
+        return matches
+                .map(toSummaryConverter)
+                .toList();
+    }
+
+    private static boolean isModifiedConcurrently(RankedMatchIndex rankedIndex, SummaryMode summaryMode) {
+        return summaryMode == SummaryMode.ON_DEMAND && rankedIndex.isConcurrent();
+    }
+
+    private static boolean hasMultipleProcessors() {
+        return Runtime.getRuntime().availableProcessors() > 1;
+    }
+
+    private void modifyIndex(Consumer<RankedMatchIndex> modification, Consumer<MatchChangeLog> changes) {
+        if (summaryMode != SummaryMode.PUBLISHED_SNAPSHOT) {
+            modification.accept(rankedIndex);
+            changes.accept(changeLog);
+        } else {
+            // modifying the index and building the summary under one lock prevents concurrent modifications
+            // from publishing a summary with a half-applied change of another one
+            publishLock.lock();
+            try {
+                modification.accept(rankedIndex);
+                changes.accept(changeLog);
+                publishedSummary = buildSummary();
+            } finally {
+                publishLock.unlock();
+            }
+        }
+
+        if (changeFeed.hasSubscribers()) {
+            if (!canFeedReadConcurrently()) feedSummary = buildSummary();
+            changeFeed.summaryChanged();
+        }
+    }
+
+    private List<MatchSummary> feedSummary() {
+        if (summaryMode == SummaryMode.PUBLISHED_SNAPSHOT) return publishedSummary;
+        return canFeedReadConcurrently() ? buildSummary() : feedSummary;
+    }
+
+    private boolean canFeedReadConcurrently() {
+        return summaryMode == SummaryMode.PUBLISHED_SNAPSHOT || rankedIndex.isConcurrent();
+    }
+
+    private static void apply(ScoreEvent event, MatchBatch batch) {
+        String homeTeam = event.homeTeam();
+        String awayTeam = event.awayTeam();
+
+        if (event instanceof ScoreEvent.StartMatch) {
+            checkNotPlaying(homeTeam, batch::containsMatchForTeam);
+            checkNotPlaying(awayTeam, batch::containsMatchForTeam);
+            batch.save(null, new Match(homeTeam, awayTeam));
+            return;
+        }
+
+        Match currentMatch = batch.get(homeTeam, awayTeam)
+                .orElseThrow(() -> noSuchMatch(homeTeam, awayTeam));
+        if (event instanceof ScoreEvent.UpdateScore update) {
+            batch.save(currentMatch, currentMatch.withModifiedScore(update.homeScore(), update.awayScore()));
+        } else {
+            batch.remove(currentMatch);
+        }
+    }
+
+    private static RuntimeException validationError(ScoreEvent event) {
+        try {
+            Objects.requireNonNull(event, "Event cannot be null");
+            validateTeams(event.homeTeam(), event.awayTeam());
+            if (event instanceof ScoreEvent.UpdateScore update) {
+                validateScores(update.homeScore(), update.awayScore());
+            }
+            return null;
+        } catch (NullPointerException | IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Handle of a match whose team names are already validated, the match is still looked up in the repository.
+     */
+    private final class ValidatedMatchHandle implements MatchHandle {
+
+        private final String homeTeam;
+        private final String awayTeam;
+        private final int homeTeamId;
+        private final int awayTeamId;
+
+        private ValidatedMatchHandle(String homeTeam, String awayTeam) {
+            this.homeTeam = homeTeam;
+            this.awayTeam = awayTeam;
+            // the match is stored, so its teams are registered, and their ids never change
+            this.homeTeamId = idKeyedRepository != null ? idKeyedRepository.findTeamId(homeTeam) : TeamRegistry.UNKNOWN_TEAM;
+            this.awayTeamId = idKeyedRepository != null ? idKeyedRepository.findTeamId(awayTeam) : TeamRegistry.UNKNOWN_TEAM;
+        }
+
+        @Override
+        public String homeTeam() {
+            return homeTeam;
+        }
+
+        @Override
+        public String awayTeam() {
+            return awayTeam;
+        }
+
+        @Override
+        public void updateScore(int homeScore, int awayScore) {
+            auditLog.scoreUpdated(homeTeam, awayTeam, homeScore, awayScore);
+            validateScores(homeScore, awayScore);
+
+            if (idKeyedRepository == null) {
+                modifyScore(homeTeam, awayTeam, homeScore, awayScore);
+                return;
+            }
+            Match currentMatch = idKeyedRepository.get(homeTeamId, awayTeamId)
+                    .orElseThrow(() -> noSuchMatch(homeTeam, awayTeam));
+            Match modifiedMatch = currentMatch.withModifiedScore(homeScore, awayScore);
+            idKeyedRepository.save(homeTeamId, awayTeamId, modifiedMatch);
+            scoreModified(currentMatch, modifiedMatch);
+        }
+
+        @Override
+        public void finish() {
+            auditLog.matchFinished(homeTeam, awayTeam);
+
+            if (idKeyedRepository == null) {
+                ScoreboardImpl.this.finish(homeTeam, awayTeam);
+                return;
+            }
+            Match currentMatch = idKeyedRepository.get(homeTeamId, awayTeamId)
+                    .orElseThrow(() -> noSuchMatch(homeTeam, awayTeam));
+            idKeyedRepository.remove(homeTeamId, awayTeamId);
+            matchFinished(currentMatch);
+        }
+
+        @Override
+        public String toString() {
+            return "MatchHandle[" + homeTeam + " - " + awayTeam + "]";
+        }
+    }
 }
@@ -0,0 +1,50 @@
+package org.scoreboard.internal;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Validation of arguments and state checks shared by {@link org.scoreboard.Scoreboard} implementations.
+ */
+final class ScoreboardValidation {
+
+    private ScoreboardValidation() {
+    }
+
+    static void validateTeams(String homeTeam, String awayTeam) {
+        Objects.requireNonNull(homeTeam, "Home team name cannot be null");
+        Objects.requireNonNull(awayTeam, "Away team name cannot be null");
+        if (homeTeam.isEmpty()) throw new IllegalArgumentException("Home team name cannot be empty");
+        if (awayTeam.isEmpty()) throw new IllegalArgumentException("Away team name cannot be empty");
+        if (homeTeam.equals(awayTeam))
+            throw new IllegalArgumentException("Home and away team names cannot be the same");
+    }
+
+    static void validateScores(int homeScore, int awayScore) {
+        if (homeScore < 0) throw new IllegalArgumentException("Home score cannot be negative");
+        if (awayScore < 0) throw new IllegalArgumentException("Away score cannot be negative");
+    }
+
+    static void validatePage(int offset, int limit) {
+        if (offset < 0) throw new IllegalArgumentException("Offset cannot be negative");
+        if (limit < 0) throw new IllegalArgumentException("Limit cannot be negative");
+    }
+
+    static void validateParallelSummaryThreshold(int parallelSummaryThreshold) {
+        if (parallelSummaryThreshold < 0) throw new IllegalArgumentException("Parallel summary threshold cannot be negative");
+    }
+
+    static void checkNotPlaying(String teamName, Predicate<String> containsMatchForTeam) {
+        if (containsMatchForTeam.test(teamName)) {
+            throw alreadyPlays(teamName);
+        }
+    }
+
+    static IllegalStateException alreadyPlays(String teamName) {
+        return new IllegalStateException(String.format("Team %s already plays a match", teamName));
+    }
+
+    static IllegalStateException noSuchMatch(String homeTeam, String awayTeam) {
+        return new IllegalStateException(String.format("There is no match %s - %s ", homeTeam, awayTeam));
+    }
+}
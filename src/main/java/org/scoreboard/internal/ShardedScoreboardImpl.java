@@ -0,0 +1,237 @@
+package org.scoreboard.internal;
+
+import org.scoreboard.MatchSummary;
+import org.scoreboard.Scoreboard;
+import org.scoreboard.SummaryUpdate;
+import org.scoreboard.internal.audit.AuditLog;
+import org.scoreboard.internal.compare.DefaultComparatorSupplier;
+import org.scoreboard.internal.convert.MatchToMatchSummaryConverter;
+import org.scoreboard.internal.feed.SummaryChangeFeed;
+import org.scoreboard.internal.index.MergingIterator;
+import org.scoreboard.internal.index.RankedMatchIndex;
+import org.scoreboard.internal.model.Match;
+import org.scoreboard.internal.repository.InMemoryMatchRepository;
+import org.scoreboard.internal.repository.MatchRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Flow;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static org.scoreboard.internal.ScoreboardValidation.alreadyPlays;
+import static org.scoreboard.internal.ScoreboardValidation.noSuchMatch;
+import static org.scoreboard.internal.ScoreboardValidation.validatePage;
+import static org.scoreboard.internal.ScoreboardValidation.validateScores;
+import static org.scoreboard.internal.ScoreboardValidation.validateTeams;
+
+/**
+ * Thread safe {@link Scoreboard} implementation partitioning matches into shards by their home teams, e.g. by
+ * a hash of the team name or by the competition the team plays in. Every shard owns its {@link MatchRepository}
+ * and {@link RankedMatchIndex} guarded by its own lock, so modifications of matches in different shards
+ * don't contend.
+ * <p>
+ * A team can't be in more than one match across all shards, as every started match claims both of its teams
+ * in a set of playing teams shared by the shards, and finishing the match releases them.
+ * <p>
+ * The summary is a k-way merge of the ranked matches of the shards, so its first n matches cost O(n log k)
+ * for k shards. In the {@link SummaryMode#PUBLISHED_SNAPSHOT} mode every shard publishes its ranked matches
+ * on every modification, otherwise the shards are read through their concurrent indexes and the summary
+ * is weakly consistent. Batches are applied event by event.
+ */
+public class ShardedScoreboardImpl implements Scoreboard {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardedScoreboardImpl.class);
+
+    private final Shard[] shards;
+    private final ToIntFunction<String> partitioner;
+    private final Comparator<? super Match> rankingComparator;
+    private final Function<Match, MatchSummary> toSummaryConverter;
+    private final AuditLog auditLog;
+    private final Set<String> playingTeams = ConcurrentHashMap.newKeySet();
+    private final SummaryChangeFeed changeFeed = new SummaryChangeFeed(this::getMatchesSummary);
+
+    /**
+     * Creates this {@link Scoreboard} implementation with specified number of shards and their configuration.
+     *
+     * @param shardCount         number of shards; has to be positive
+     * @param partitioner        maps a home team name to its shard, the result is taken modulo the number of shards
+     * @param matchComparator    comparator defining the order of the summary
+     * @param toSummaryConverter converter of stored matches to their summaries
+     * @param summaryMode        defines how the shards provide their ranked matches
+     * @param auditLog           records every requested modification
+     */
+    public ShardedScoreboardImpl(int shardCount, ToIntFunction<String> partitioner, Comparator<Match> matchComparator,
+                                 Function<Match, MatchSummary> toSummaryConverter, SummaryMode summaryMode,
+                                 AuditLog auditLog) {
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("Number of shards has to be positive");
+        }
+        Objects.requireNonNull(summaryMode, "Summary mode cannot be null");
+        this.shards = new Shard[shardCount];
+        Arrays.setAll(shards, i -> new Shard(matchComparator, summaryMode));
+        this.partitioner = Objects.requireNonNull(partitioner, "Partitioner cannot be null");
+        this.rankingComparator = shards[0].index.comparator();
+        this.toSummaryConverter = toSummaryConverter;
+        this.auditLog = Objects.requireNonNull(auditLog, "Audit log cannot be null");
+    }
+
+    /**
+     * Creates this {@link Scoreboard} implementation with specified number of shards, partitioning matches
+     * by hashes of their home team names, with the default comparator and converter, logging every modification
+     * at INFO level.
+     *
+     * @param shardCount number of shards; has to be positive
+     */
+    public ShardedScoreboardImpl(int shardCount) {
+        this(shardCount, String::hashCode, DefaultComparatorSupplier.get(), new MatchToMatchSummaryConverter(),
+                SummaryMode.ON_DEMAND, AuditLog.logging(log));
+    }
+
+    /**
+     * Creates this {@link Scoreboard} implementation with a shard per available processor.
+     */
+    public ShardedScoreboardImpl() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    @Override
+    public void startMatch(String homeTeam, String awayTeam) {
+        auditLog.matchStarted(homeTeam, awayTeam);
+        validateTeams(homeTeam, awayTeam);
+
+        claim(homeTeam);
+        try {
+            claim(awayTeam);
+        } catch (IllegalStateException e) {
+            playingTeams.remove(homeTeam);
+            throw e;
+        }
+
+        Shard shard = shardOf(homeTeam);
+        Match match = new Match(homeTeam, awayTeam);
+        try {
+            shard.modify(() -> {
+                shard.repository.save(match);
+                shard.index.add(match);
+            });
+        } catch (RuntimeException e) {
+            playingTeams.remove(homeTeam);
+            playingTeams.remove(awayTeam);
+            throw e;
+        }
+        changeFeed.summaryChanged();
+    }
+
+    @Override
+    public void updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        auditLog.scoreUpdated(homeTeam, awayTeam, homeScore, awayScore);
+        validateTeams(homeTeam, awayTeam);
+        validateScores(homeScore, awayScore);
+
+        Shard shard = shardOf(homeTeam);
+        shard.modify(() -> {
+            Match currentMatch = shard.repository.get(homeTeam, awayTeam)
+                    .orElseThrow(() -> noSuchMatch(homeTeam, awayTeam));
+            Match modifiedMatch = currentMatch.withModifiedScore(homeScore, awayScore);
+            shard.repository.save(modifiedMatch);
+            shard.index.replace(currentMatch, modifiedMatch);
+        });
+        changeFeed.summaryChanged();
+    }
+
+    @Override
+    public void finishMatch(String homeTeam, String awayTeam) {
+        auditLog.matchFinished(homeTeam, awayTeam);
+        validateTeams(homeTeam, awayTeam);
+
+        Shard shard = shardOf(homeTeam);
+        shard.modify(() -> {
+            Match currentMatch = shard.repository.get(homeTeam, awayTeam)
+                    .orElseThrow(() -> noSuchMatch(homeTeam, awayTeam));
+            shard.repository.remove(homeTeam, awayTeam);
+            shard.index.remove(currentMatch);
+        });
+        playingTeams.remove(homeTeam);
+        playingTeams.remove(awayTeam);
+        changeFeed.summaryChanged();
+    }
+
+    @Override
+    public List<MatchSummary> getMatchesSummary() {
+        return streamMatchesSummary().toList();
+    }
+
+    @Override
+    public List<MatchSummary> getMatchesSummaryPage(int offset, int limit) {
+        validatePage(offset, limit);
+        return streamMatchesSummary().skip(offset).limit(limit).toList();
+    }
+
+    /**
+     * Merges the ranked matches of the shards lazily, as the stream is consumed.
+     */
+    @Override
+    public Stream<MatchSummary> streamMatchesSummary() {
+        List<Iterator<Match>> rankedShards = Arrays.stream(shards).map(Shard::rankedMatches).toList();
+        Iterator<Match> merged = new MergingIterator<>(rankedShards, rankingComparator);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(merged, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .map(toSummaryConverter);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super SummaryUpdate> subscriber) {
+        changeFeed.subscribe(subscriber);
+    }
+
+    private void claim(String team) {
+        if (!playingTeams.add(team)) {
+            throw alreadyPlays(team);
+        }
+    }
+
+    private Shard shardOf(String homeTeam) {
+        return shards[Math.floorMod(partitioner.applyAsInt(homeTeam), shards.length)];
+    }
+
+    private static final class Shard {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final MatchRepository repository = new InMemoryMatchRepository();
+        private final RankedMatchIndex index;
+        private final boolean publishing;
+        private volatile List<Match> publishedMatches = List.of();
+
+        private Shard(Comparator<Match> matchComparator, SummaryMode summaryMode) {
+            this.publishing = summaryMode == SummaryMode.PUBLISHED_SNAPSHOT;
+            // the index of a publishing shard is read only under its lock
+            this.index = publishing ? new RankedMatchIndex(matchComparator) : RankedMatchIndex.concurrent(matchComparator);
+        }
+
+        private void modify(Runnable modification) {
+            lock.lock();
+            try {
+                modification.run();
+                if (publishing) publishedMatches = index.stream().toList();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private Iterator<Match> rankedMatches() {
+            return publishing ? publishedMatches.iterator() : index.stream().iterator();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package org.scoreboard.internal;
+
+/**
+ * Defines how {@link ScoreboardImpl} provides its summary of matches.
+ */
+public enum SummaryMode {
+
+    /**
+     * The summary is built on every read by walking the ranked index of matches.
+     * Modifications are the cheapest, but every read allocates a new list.
+     */
+    ON_DEMAND,
+
+    /**
+     * Every modification builds a new immutable summary and publishes it through a volatile reference.
+     * Reads never block, don't allocate and always see a summary reflecting fully applied modifications,
+     * at the cost of O(n) work per modification. Suited for boards that are read far more often than modified.
+     */
+    PUBLISHED_SNAPSHOT
+}
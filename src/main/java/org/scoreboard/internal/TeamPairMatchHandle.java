@@ -0,0 +1,59 @@
+package org.scoreboard.internal;
+
+import org.scoreboard.MatchHandle;
+import org.scoreboard.Scoreboard;
+
+import java.util.Objects;
+
+import static org.scoreboard.internal.ScoreboardValidation.validateTeams;
+
+/**
+ * {@link MatchHandle} identifying its match by the pair of team names, so it simply calls the respective methods
+ * of its {@link Scoreboard}. It's the handle of scoreboards that can't refer to their matches directly,
+ * e.g. decorators which have to run every operation through their own methods.
+ */
+public final class TeamPairMatchHandle implements MatchHandle {
+
+    private final Scoreboard scoreboard;
+    private final String homeTeam;
+    private final String awayTeam;
+
+    /**
+     * @param scoreboard scoreboard of the match; cannot be null
+     * @param homeTeam   name of the home team; cannot be null or empty
+     * @param awayTeam   name of the away team; cannot be null or empty
+     * @throws NullPointerException     if either of the team names is null
+     * @throws IllegalArgumentException if either of the team names is empty, or both of them are equal
+     */
+    public TeamPairMatchHandle(Scoreboard scoreboard, String homeTeam, String awayTeam) {
+        validateTeams(homeTeam, awayTeam);
+        this.scoreboard = Objects.requireNonNull(scoreboard, "Scoreboard cannot be null");
+        this.homeTeam = homeTeam;
+        this.awayTeam = awayTeam;
+    }
+
+    @Override
+    public String homeTeam() {
+        return homeTeam;
+    }
+
+    @Override
+    public String awayTeam() {
+        return awayTeam;
+    }
+
+    @Override
+    public void updateScore(int homeScore, int awayScore) {
+        scoreboard.updateScore(homeTeam, awayTeam, homeScore, awayScore);
+    }
+
+    @Override
+    public void finish() {
+        scoreboard.finishMatch(homeTeam, awayTeam);
+    }
+
+    @Override
+    public String toString() {
+        return "MatchHandle[" + homeTeam + " - " + awayTeam + "]";
+    }
+}
@@ -0,0 +1,250 @@
+package org.scoreboard.internal.audit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * {@link AuditLog} that hands events over to a background thread through a bounded ring buffer, which writes them
+ * to an {@link AuditSink}. Recording an event never blocks and doesn't allocate: the ring buffer is preallocated,
+ * and when it's full the event is dropped and counted instead. Events the sink fails to write are counted too,
+ * and the failures are logged (the first one, and then at most one a minute).
+ * <p>
+ * The ring buffer is a bounded multi-producer queue where every slot has its own sequence number, which tells
+ * whether it's free to be written by a producer or ready to be read by the draining thread. The draining thread
+ * parks when there's nothing to write, and the first event recorded afterwards unparks it.
+ */
+public class AsyncAuditLog implements AuditLog, AutoCloseable {
+
+    /**
+     * Capacity used by the constructor without capacity, rounded to a power of two.
+     */
+    public static final int DEFAULT_CAPACITY = 8192;
+
+    // bounds the delay of an event if a wakeup were ever missed, the fences alone should prevent it
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long FAILURE_LOG_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final AuditEventType[] TYPES = AuditEventType.values();
+    private static final Logger log = LoggerFactory.getLogger(AsyncAuditLog.class);
+
+    private final AuditSink sink;
+    private final int mask;
+    private final AtomicLongArray sequences;
+    private final byte[] types;
+    private final long[] timestamps;
+    private final String[] homeTeams;
+    private final String[] awayTeams;
+    private final int[] homeScores;
+    private final int[] awayScores;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong droppedEvents = new AtomicLong();
+    private final AtomicLong sinkFailures = new AtomicLong();
+    private final Thread drainer;
+    // used only by the draining thread
+    private long head;
+    private long lastFailureLogged;
+    private boolean failureLogged;
+    private volatile boolean parked;
+    private volatile boolean closed;
+    // position up to which events were written when the draining thread stopped
+    private volatile long drainedUpTo = Long.MAX_VALUE;
+
+    /**
+     * Creates the audit log with the {@link #DEFAULT_CAPACITY default} capacity and starts its draining thread.
+     *
+     * @param sink destination of the events; cannot be null
+     */
+    public AsyncAuditLog(AuditSink sink) {
+        this(sink, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates the audit log and starts its draining thread.
+     *
+     * @param sink        destination of the events; cannot be null
+     * @param minCapacity minimum number of events waiting to be written (rounded up to a power of two); must be positive
+     * @throws IllegalArgumentException if the capacity is not positive
+     */
+    public AsyncAuditLog(AuditSink sink, int minCapacity) {
+        if (minCapacity <= 0) throw new IllegalArgumentException("Capacity must be positive");
+        this.sink = Objects.requireNonNull(sink, "Audit sink cannot be null");
+        int capacity = minCapacity == 1 ? 1 : Integer.highestOneBit(minCapacity - 1) << 1;
+        this.mask = capacity - 1;
+        this.sequences = new AtomicLongArray(capacity);
+        this.types = new byte[capacity];
+        this.timestamps = new long[capacity];
+        this.homeTeams = new String[capacity];
+        this.awayTeams = new String[capacity];
+        this.homeScores = new int[capacity];
+        this.awayScores = new int[capacity];
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+        this.drainer = new Thread(this::drainUntilClosed, "scoreboard-audit");
+        drainer.setDaemon(true);
+        drainer.start();
+    }
+
+    @Override
+    public void record(AuditEventType type, String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        long position = claimSlot();
+        if (position < 0) {
+            droppedEvents.incrementAndGet();
+            return;
+        }
+        int index = (int) (position & mask);
+        types[index] = (byte) type.ordinal();
+        timestamps[index] = System.currentTimeMillis();
+        homeTeams[index] = homeTeam;
+        awayTeams[index] = awayTeam;
+        homeScores[index] = homeScore;
+        awayScores[index] = awayScore;
+        sequences.setRelease(index, position + 1);
+
+        if (closed) {
+            // the slot was claimed concurrently with closing, the event is written only if it was claimed
+            // before the draining thread read the final position of the queue
+            awaitDrainer();
+            if (position >= drainedUpTo) droppedEvents.incrementAndGet();
+            return;
+        }
+        // the draining thread sets the flag before checking the queue for the last time, and both sides fence
+        // between their store and load, so either it sees the event or this thread sees the flag
+        VarHandle.fullFence();
+        if (parked) {
+            LockSupport.unpark(drainer);
+        }
+    }
+
+    /**
+     * @return number of events dropped because the ring buffer was full, or the audit log was closed
+     */
+    public long droppedEvents() {
+        return droppedEvents.get();
+    }
+
+    /**
+     * @return number of times the sink failed to write an event or to flush the written ones
+     */
+    public long sinkFailures() {
+        return sinkFailures.get();
+    }
+
+    /**
+     * Stops the draining thread after writing all events recorded so far, and closes the sink if it's {@link Closeable}.
+     * Events recorded concurrently with closing are written as long as they got into the queue before the draining
+     * thread stopped, the others are dropped (and counted) like events recorded after closing.
+     */
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+        LockSupport.unpark(drainer);
+        awaitDrainer();
+        if (sink instanceof Closeable closeable) {
+            try {
+                closeable.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private void awaitDrainer() {
+        try {
+            drainer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private long claimSlot() {
+        if (closed) return -1;
+        long position = tail.get();
+        while (true) {
+            long sequence = sequences.getAcquire((int) (position & mask));
+            long difference = sequence - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) return position;
+                position = tail.get();
+            } else if (difference < 0) {
+                return -1;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    private void drainUntilClosed() {
+        while (!closed) {
+            if (drain() > 0) continue;
+            parked = true;
+            VarHandle.fullFence();
+            if (isEmpty() && !closed) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+            parked = false;
+        }
+        // producers that claimed a slot before this read may still be writing their events, they're waited for,
+        // producers claiming a slot later see the audit log closed and count their events as dropped
+        long end = tail.get();
+        while (head < end) {
+            if (drain() == 0) Thread.onSpinWait();
+        }
+        // draining may have gone past the end, into the slots of those producers
+        drainedUpTo = head;
+    }
+
+    private boolean isEmpty() {
+        return sequences.getAcquire((int) (head & mask)) != head + 1;
+    }
+
+    private int drain() {
+        int drained = 0;
+        while (true) {
+            int index = (int) (head & mask);
+            if (sequences.getAcquire(index) != head + 1) break;
+
+            try {
+                sink.write(TYPES[types[index]], timestamps[index], homeTeams[index], awayTeams[index],
+                        homeScores[index], awayScores[index]);
+            } catch (RuntimeException e) {
+                // a failing sink must not stop the auditing, the event is lost
+                sinkFailed(e);
+            }
+            homeTeams[index] = null;
+            awayTeams[index] = null;
+            sequences.setRelease(index, head + mask + 1);
+            head++;
+            drained++;
+        }
+        if (drained > 0) {
+            try {
+                sink.flush();
+            } catch (RuntimeException e) {
+                // a failing sink must not stop the auditing
+                sinkFailed(e);
+            }
+        }
+        return drained;
+    }
+
+    private void sinkFailed(RuntimeException e) {
+        long failures = sinkFailures.incrementAndGet();
+        long now = System.nanoTime();
+        if (!failureLogged || now - lastFailureLogged >= FAILURE_LOG_INTERVAL_NANOS) {
+            failureLogged = true;
+            lastFailureLogged = now;
+            log.error("Audit sink failed, {} failures so far", failures, e);
+        }
+    }
+}
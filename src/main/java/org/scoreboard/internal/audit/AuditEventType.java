@@ -0,0 +1,10 @@
+package org.scoreboard.internal.audit;
+
+/**
+ * Types of scoreboard modifications recorded by an {@link AuditLog}.
+ */
+public enum AuditEventType {
+    MATCH_STARTED,
+    SCORE_UPDATED,
+    MATCH_FINISHED
+}
@@ -0,0 +1,48 @@
+package org.scoreboard.internal.audit;
+
+import org.slf4j.Logger;
+
+/**
+ * Records modifications requested from a scoreboard. Events are recorded as a set of primitive values and references
+ * to the team names, so implementations don't have to format them on the calling thread.
+ */
+public interface AuditLog {
+
+    /**
+     * Records a single modification.
+     *
+     * @param type      type of the modification
+     * @param homeTeam  name of the home team, may be null or invalid, as modifications are recorded before validation
+     * @param awayTeam  name of the away team, may be null or invalid, as modifications are recorded before validation
+     * @param homeScore score of the home team, 0 for events other than {@link AuditEventType#SCORE_UPDATED}
+     * @param awayScore score of the away team, 0 for events other than {@link AuditEventType#SCORE_UPDATED}
+     */
+    void record(AuditEventType type, String homeTeam, String awayTeam, int homeScore, int awayScore);
+
+    default void matchStarted(String homeTeam, String awayTeam) {
+        record(AuditEventType.MATCH_STARTED, homeTeam, awayTeam, 0, 0);
+    }
+
+    default void scoreUpdated(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        record(AuditEventType.SCORE_UPDATED, homeTeam, awayTeam, homeScore, awayScore);
+    }
+
+    default void matchFinished(String homeTeam, String awayTeam) {
+        record(AuditEventType.MATCH_FINISHED, homeTeam, awayTeam, 0, 0);
+    }
+
+    /**
+     * @return audit log that synchronously logs every modification at INFO level with the specified logger
+     */
+    static AuditLog logging(Logger logger) {
+        return new Slf4jAuditLog(logger);
+    }
+
+    /**
+     * @return audit log that doesn't record anything
+     */
+    static AuditLog disabled() {
+        return (type, homeTeam, awayTeam, homeScore, awayScore) -> {
+        };
+    }
+}
@@ -0,0 +1,25 @@
+package org.scoreboard.internal.audit;
+
+/**
+ * Destination of the events drained by {@link AsyncAuditLog}. It's always called by a single background thread.
+ */
+public interface AuditSink {
+
+    /**
+     * Writes a single event.
+     *
+     * @param type            type of the modification
+     * @param timestampMillis time when the event was recorded, in milliseconds since the epoch
+     * @param homeTeam        name of the home team, may be null
+     * @param awayTeam        name of the away team, may be null
+     * @param homeScore       score of the home team
+     * @param awayScore       score of the away team
+     */
+    void write(AuditEventType type, long timestampMillis, String homeTeam, String awayTeam, int homeScore, int awayScore);
+
+    /**
+     * Called after a batch of events has been written, when there are no more events waiting.
+     */
+    default void flush() {
+    }
+}
@@ -0,0 +1,111 @@
+package org.scoreboard.internal.audit;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * {@link AuditSink} writing events to a channel in a compact binary form. Every event is encoded as:
+ * <pre>
+ * type (1 byte) | timestamp millis (8 bytes) | home score (4 bytes) | away score (4 bytes)
+ * | home team length (2 bytes) | home team UTF-8 bytes | away team length (2 bytes) | away team UTF-8 bytes
+ * </pre>
+ * where the length of a null team name is -1. Events are buffered and written on every {@link #flush()}.
+ */
+public class BinaryAuditSink implements AuditSink, Closeable {
+
+    private static final int BUFFER_SIZE = 128 * 1024;
+    private static final short NULL_LENGTH = -1;
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+    /**
+     * @param channel channel the events are written to; cannot be null
+     */
+    public BinaryAuditSink(WritableByteChannel channel) {
+        this.channel = Objects.requireNonNull(channel, "Channel cannot be null");
+    }
+
+    @Override
+    public void write(AuditEventType type, long timestampMillis, String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        byte[] home = homeTeam != null ? homeTeam.getBytes(StandardCharsets.UTF_8) : null;
+        byte[] away = awayTeam != null ? awayTeam.getBytes(StandardCharsets.UTF_8) : null;
+        if (length(home) > Short.MAX_VALUE || length(away) > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Team name is too long to be encoded");
+        }
+        int size = 1 + 8 + 4 + 4 + 2 + length(home) + 2 + length(away);
+        if (buffer.remaining() < size) {
+            flush();
+        }
+        buffer.put((byte) type.ordinal())
+                .putLong(timestampMillis)
+                .putInt(homeScore)
+                .putInt(awayScore);
+        putName(home);
+        putName(away);
+    }
+
+    @Override
+    public void flush() {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            buffer.clear();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+        channel.close();
+    }
+
+    /**
+     * Decodes all events from specified buffer and writes them to specified sink.
+     *
+     * @param encoded buffer with the events encoded by this sink
+     * @param target  sink the decoded events are written to
+     */
+    public static void decode(ByteBuffer encoded, AuditSink target) {
+        AuditEventType[] types = AuditEventType.values();
+        while (encoded.hasRemaining()) {
+            AuditEventType type = types[encoded.get()];
+            long timestampMillis = encoded.getLong();
+            int homeScore = encoded.getInt();
+            int awayScore = encoded.getInt();
+            String homeTeam = getName(encoded);
+            String awayTeam = getName(encoded);
+            target.write(type, timestampMillis, homeTeam, awayTeam, homeScore, awayScore);
+        }
+    }
+
+    private void putName(byte[] name) {
+        if (name == null) {
+            buffer.putShort(NULL_LENGTH);
+        } else {
+            buffer.putShort((short) name.length).put(name);
+        }
+    }
+
+    private static String getName(ByteBuffer encoded) {
+        short length = encoded.getShort();
+        if (length == NULL_LENGTH) return null;
+        byte[] name = new byte[length];
+        encoded.get(name);
+        return new String(name, StandardCharsets.UTF_8);
+    }
+
+    private static int length(byte[] name) {
+        return name != null ? name.length : 0;
+    }
+}
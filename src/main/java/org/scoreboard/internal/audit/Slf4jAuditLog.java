@@ -0,0 +1,27 @@
+package org.scoreboard.internal.audit;
+
+import org.slf4j.Logger;
+
+/**
+ * {@link AuditLog} that synchronously logs every modification at INFO level.
+ */
+class Slf4jAuditLog implements AuditLog {
+
+    private final Logger log;
+
+    Slf4jAuditLog(Logger log) {
+        this.log = log;
+    }
+
+    @Override
+    public void record(AuditEventType type, String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        if (!log.isInfoEnabled()) return;
+
+        switch (type) {
+            case MATCH_STARTED -> log.info("Starting new match between {} and {}", homeTeam, awayTeam);
+            case SCORE_UPDATED -> log.info("Updating a score for a match between {} and {} to {} - {}",
+                    homeTeam, awayTeam, homeScore, awayScore);
+            case MATCH_FINISHED -> log.info("Finishing the match between {} and {}", homeTeam, awayTeam);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package org.scoreboard.internal.audit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link AuditSink} logging every event at INFO level as a single line of structured key-value pairs.
+ */
+public class Slf4jAuditSink implements AuditSink {
+
+    private static final Logger log = LoggerFactory.getLogger(Slf4jAuditSink.class);
+
+    @Override
+    public void write(AuditEventType type, long timestampMillis, String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        if (type == AuditEventType.SCORE_UPDATED) {
+            log.info("event={} ts={} home={} away={} homeScore={} awayScore={}",
+                    type, timestampMillis, homeTeam, awayTeam, homeScore, awayScore);
+        } else {
+            log.info("event={} ts={} home={} away={}", type, timestampMillis, homeTeam, awayTeam);
+        }
+    }
+}
@@ -7,6 +7,7 @@ import java.util.Comparator;
 /**
  * Supplies default comparator for {@link Match} instances.
  * The comparator should firstly order matches by their total score and then by the most recently started ones.
+ * It's the comparator of {@link DefaultSortKey}, so structures aware of sort keys compare precomputed keys instead.
  */
 public class DefaultComparatorSupplier {
 
@@ -14,8 +15,6 @@ public class DefaultComparatorSupplier {
     }
 
     public static Comparator<Match> get() {
-        return Comparator.<Match>comparingInt(m -> m.homeScore() + m.awayScore())
-                .thenComparing(Match::startedAt)
-                .reversed();
+        return new DefaultSortKey().comparator();
     }
 }
@@ -0,0 +1,24 @@
+package org.scoreboard.internal.compare;
+
+import org.scoreboard.internal.model.Match;
+
+/**
+ * Sort key of the default order: by the total score and then by the most recently started matches.
+ * The total score takes the upper 32 bits of the key (offset so the key stays a signed number) and the
+ * {@link org.scoreboard.internal.model.StartSequence start sequence} the lower ones. Only once the sequence exceeds
+ * an unsigned 32 bit number, it's clamped and ties of the keys are ordered by the complete start sequences.
+ */
+public final class DefaultSortKey implements MatchSortKey {
+
+    @Override
+    public long keyOf(Match match) {
+        long totalScore = (long) match.homeScore() + match.awayScore();
+        long startSequence = Math.min(Math.max(match.startSequence(), 0), 0xFFFFFFFFL);
+        return (totalScore + Integer.MIN_VALUE) << 32 | startSequence;
+    }
+
+    @Override
+    public int compareTies(Match match1, Match match2) {
+        return Long.compare(match2.startSequence(), match1.startSequence());
+    }
+}
@@ -0,0 +1,41 @@
+package org.scoreboard.internal.compare;
+
+import org.scoreboard.internal.model.Match;
+
+import java.util.Comparator;
+
+/**
+ * Match together with its precomputed {@link MatchSortKey sort key}, so ordering keyed matches compares the keys
+ * without computing them again.
+ *
+ * @param key   key of the match
+ * @param match the match
+ */
+public record KeyedMatch(long key, Match match) {
+
+    /**
+     * @param sortKey sort key to compute the key with; cannot be null
+     * @param match   the match; cannot be null
+     * @return the match together with its key
+     */
+    public static KeyedMatch of(MatchSortKey sortKey, Match match) {
+        return new KeyedMatch(sortKey.keyOf(match), match);
+    }
+
+    /**
+     * Creates a comparator of matches keyed with specified sort key. Matches the sort key considers equal
+     * are additionally ordered by their team names, which is enough to tell apart matches in progress.
+     *
+     * @param sortKey sort key the matches are keyed with; cannot be null
+     * @return comparator ordering keyed matches by their keys, ties of the sort key and then team names
+     */
+    public static Comparator<KeyedMatch> comparator(MatchSortKey sortKey) {
+        return (keyed1, keyed2) -> {
+            int result = Long.compare(keyed2.key, keyed1.key);
+            if (result == 0) result = sortKey.compareTies(keyed1.match, keyed2.match);
+            if (result == 0) result = keyed1.match.homeTeam().compareTo(keyed2.match.homeTeam());
+            if (result == 0) result = keyed1.match.awayTeam().compareTo(keyed2.match.awayTeam());
+            return result;
+        };
+    }
+}
@@ -0,0 +1,95 @@
+package org.scoreboard.internal.compare;
+
+import org.scoreboard.internal.model.Match;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * Defines the order of matches by a single {@code long} key computed from each match, so the order is established
+ * by comparing primitive keys instead of calling a chain of comparators and getters on every comparison.
+ * Matches with greater keys come first. Keys may be coarser than the order, matches with equal keys are then
+ * ordered by {@link #compareTies(Match, Match)}.
+ * <p>
+ * Structures aware of sort keys (e.g. {@link org.scoreboard.internal.index.RankedMatchIndex}) compute the key once,
+ * when a match is added or its new version replaces the previous one, and keep it next to the match. Everywhere
+ * else a sort key is used through its {@link #comparator()}, which those structures recognize, so a custom order
+ * is plugged in by passing the comparator of its sort key wherever a match comparator is expected.
+ */
+public interface MatchSortKey {
+
+    /**
+     * Computes the key of specified match. It has to depend only on the values of the match.
+     *
+     * @param match match to compute the key of; cannot be null
+     * @return the key, matches with greater keys come first
+     */
+    long keyOf(Match match);
+
+    /**
+     * Orders matches with equal keys, by default they're considered equal.
+     *
+     * @param match1 the first match
+     * @param match2 the second match
+     * @return a negative number if the first match comes first, a positive one if the second does, 0 otherwise
+     */
+    default int compareTies(Match match1, Match match2) {
+        return 0;
+    }
+
+    /**
+     * @return comparator ordering matches by their keys and then by {@link #compareTies(Match, Match)}
+     */
+    default Comparator<Match> comparator() {
+        return new SortKeyComparator(this);
+    }
+
+    /**
+     * Gives the sort key of specified comparator: the one it was created from by {@link #comparator()},
+     * or otherwise a sort key whose keys are all equal and whose ties are ordered by the comparator,
+     * so any comparator can be used where a sort key is expected.
+     *
+     * @param comparator comparator of matches; cannot be null
+     * @return sort key defining the same order as the comparator
+     */
+    static MatchSortKey of(Comparator<Match> comparator) {
+        Objects.requireNonNull(comparator, "Match comparator cannot be null");
+        if (comparator instanceof SortKeyComparator sortKeyComparator) {
+            return sortKeyComparator.sortKey;
+        }
+        return new MatchSortKey() {
+            @Override
+            public long keyOf(Match match) {
+                return 0;
+            }
+
+            @Override
+            public int compareTies(Match match1, Match match2) {
+                return comparator.compare(match1, match2);
+            }
+
+            @Override
+            public Comparator<Match> comparator() {
+                return comparator;
+            }
+        };
+    }
+
+    /**
+     * Comparator of a {@link MatchSortKey}, recognized by {@link MatchSortKey#of(Comparator)}.
+     */
+    final class SortKeyComparator implements Comparator<Match> {
+
+        private final MatchSortKey sortKey;
+
+        private SortKeyComparator(MatchSortKey sortKey) {
+            this.sortKey = sortKey;
+        }
+
+        @Override
+        public int compare(Match match1, Match match2) {
+            int result = Long.compare(sortKey.keyOf(match2), sortKey.keyOf(match1));
+            return result != 0 ? result : sortKey.compareTies(match1, match2);
+        }
+    }
+}
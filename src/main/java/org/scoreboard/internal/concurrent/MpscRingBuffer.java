@@ -0,0 +1,103 @@
+package org.scoreboard.internal.concurrent;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * Bounded multi-producer single-consumer queue backed by a preallocated ring buffer. Every slot has its own
+ * sequence number, which tells whether it's free to be written by a producer or ready to be read by the consumer,
+ * so producers only contend on claiming a position and never wait for each other.
+ * <p>
+ * {@link #offer} can be called by any thread, while {@link #drain} and {@link #isEmpty} have to be called
+ * by a single consumer thread.
+ *
+ * @param <E> type of the elements
+ */
+public final class MpscRingBuffer<E> {
+
+    private final int mask;
+    private final AtomicLongArray sequences;
+    private final Object[] elements;
+    private final AtomicLong tail = new AtomicLong();
+    private long head;
+
+    /**
+     * Creates an empty ring buffer.
+     *
+     * @param minCapacity minimum number of elements (rounded up to a power of two); must be positive
+     * @throws IllegalArgumentException if the capacity is not positive
+     */
+    public MpscRingBuffer(int minCapacity) {
+        if (minCapacity <= 0) throw new IllegalArgumentException("Capacity must be positive");
+        int capacity = minCapacity == 1 ? 1 : Integer.highestOneBit(minCapacity - 1) << 1;
+        this.mask = capacity - 1;
+        this.sequences = new AtomicLongArray(capacity);
+        this.elements = new Object[capacity];
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Adds specified element to the queue unless it's full.
+     *
+     * @param element element to be added; cannot be null
+     * @return true if the element has been added, false if the queue is full
+     */
+    public boolean offer(E element) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.getAcquire(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements[index] = element;
+                    sequences.setRelease(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Removes at most specified number of elements from the queue in their order and passes them to the consumer.
+     *
+     * @return number of removed elements
+     */
+    @SuppressWarnings("unchecked")
+    public int drain(Consumer<? super E> consumer, int limit) {
+        int drained = 0;
+        while (drained < limit) {
+            int index = (int) (head & mask);
+            if (sequences.getAcquire(index) != head + 1) break;
+
+            E element = (E) elements[index];
+            elements[index] = null;
+            sequences.setRelease(index, head + mask + 1);
+            head++;
+            drained++;
+            consumer.accept(element);
+        }
+        return drained;
+    }
+
+    /**
+     * @return true if there is no element ready to be drained, false otherwise
+     */
+    public boolean isEmpty() {
+        return sequences.getAcquire((int) (head & mask)) != head + 1;
+    }
+
+    /**
+     * @return maximum number of elements in the queue
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+}
@@ -0,0 +1,149 @@
+package org.scoreboard.internal.concurrent;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * A fixed set of locks shared by team names. Every team name is mapped to one of the stripes, so operations on matches
+ * of unrelated teams most likely don't contend, while operations involving the same team are always serialized.
+ * <p>
+ * Locks are reentrant, so the same stripes can be shared by a scoreboard and its repository.
+ * When two stripes are needed, they're always acquired in the same order, so it never deadlocks.
+ */
+public class TeamLockStripes {
+
+    /**
+     * Number of stripes used by the default constructor.
+     */
+    public static final int DEFAULT_STRIPES = 64;
+
+    private final ReentrantLock[] stripes;
+    private final int mask;
+
+    /**
+     * Creates lock stripes with the {@link #DEFAULT_STRIPES default} number of stripes.
+     */
+    public TeamLockStripes() {
+        this(DEFAULT_STRIPES);
+    }
+
+    /**
+     * Creates lock stripes with at least the specified number of stripes (rounded up to a power of two).
+     *
+     * @param minStripes minimum number of stripes; must be positive
+     * @throws IllegalArgumentException if the number of stripes is not positive
+     */
+    public TeamLockStripes(int minStripes) {
+        if (minStripes <= 0) throw new IllegalArgumentException("Number of stripes must be positive");
+        int size = minStripes == 1 ? 1 : Integer.highestOneBit(minStripes - 1) << 1;
+        this.stripes = new ReentrantLock[size];
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Runs specified action holding the locks for both of the teams.
+     * Null team names are accepted, so the action itself can validate them.
+     *
+     * @param team1  name of the first team
+     * @param team2  name of the second team
+     * @param action action to be run
+     */
+    public void runLocked(String team1, String team2, Runnable action) {
+        callLocked(team1, team2, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Calls specified action holding the locks for both of the teams.
+     * Null team names are accepted, so the action itself can validate them.
+     *
+     * @param team1  name of the first team
+     * @param team2  name of the second team
+     * @param action action to be called
+     * @param <T>    type of the action result
+     * @return result of the action
+     */
+    public <T> T callLocked(String team1, String team2, Supplier<T> action) {
+        int stripe1 = stripeIndex(team1);
+        int stripe2 = stripeIndex(team2);
+        ReentrantLock first = stripes[Math.min(stripe1, stripe2)];
+        ReentrantLock second = stripes[Math.max(stripe1, stripe2)];
+
+        first.lock();
+        try {
+            second.lock();
+            try {
+                return action.get();
+            } finally {
+                second.unlock();
+            }
+        } finally {
+            first.unlock();
+        }
+    }
+
+    /**
+     * Runs specified action holding the locks for all of the teams.
+     * Null team names are accepted, so the action itself can validate them.
+     *
+     * @param teams  names of the teams; cannot be null
+     * @param action action to be run
+     */
+    public void runLockedAll(Collection<String> teams, Runnable action) {
+        callLockedAll(teams, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Calls specified action holding the locks for all of the teams.
+     * Null team names are accepted, so the action itself can validate them.
+     *
+     * @param teams  names of the teams; cannot be null
+     * @param action action to be called
+     * @param <T>    type of the action result
+     * @return result of the action
+     */
+    public <T> T callLockedAll(Collection<String> teams, Supplier<T> action) {
+        BitSet stripeIndexes = new BitSet(stripes.length);
+        teams.forEach(team -> stripeIndexes.set(stripeIndex(team)));
+
+        int locked = 0;
+        try {
+            for (int i = stripeIndexes.nextSetBit(0); i >= 0; i = stripeIndexes.nextSetBit(i + 1)) {
+                stripes[i].lock();
+                locked = i + 1;
+            }
+            return action.get();
+        } finally {
+            for (int i = stripeIndexes.previousSetBit(locked - 1); i >= 0; i = stripeIndexes.previousSetBit(i - 1)) {
+                stripes[i].unlock();
+            }
+        }
+    }
+
+    /**
+     * @return number of the stripes
+     */
+    public int size() {
+        return stripes.length;
+    }
+
+    boolean isLocked(String teamName) {
+        return stripes[stripeIndex(teamName)].isLocked();
+    }
+
+    int stripeIndex(String teamName) {
+        int hash = Objects.hashCode(teamName);
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
@@ -0,0 +1,114 @@
+package org.scoreboard.internal.feed;
+
+import org.scoreboard.internal.model.Match;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded log of the latest changes of matches, numbered by a version incremented by every change, so the changes
+ * made since any of the last {@code capacity} versions can be found without comparing summaries. Changes are kept
+ * in a ring of preallocated arrays, so recording one just overwrites the oldest change and doesn't allocate.
+ * <p>
+ * The log isn't thread safe, its owner has to guard recording and reading changes. Only {@link #version()}
+ * can be read by any thread. A log with no capacity keeps no changes, it only counts versions, and then changes
+ * can be recorded concurrently.
+ */
+public class MatchChangeLog {
+
+    private final Match[] matches;
+    private final boolean[] removals;
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * Creates an empty log at version 0.
+     *
+     * @param capacity number of the latest changes kept; cannot be negative, with 0 only versions are counted
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public MatchChangeLog(int capacity) {
+        if (capacity < 0) throw new IllegalArgumentException("Capacity of the change log cannot be negative");
+        this.matches = new Match[capacity];
+        this.removals = new boolean[capacity];
+    }
+
+    /**
+     * @return version of the last recorded change, 0 if there are none
+     */
+    public long version() {
+        return version.get();
+    }
+
+    /**
+     * Records a started match or its new version, e.g. with a modified score.
+     *
+     * @param match the match after the change
+     */
+    public void matchChanged(Match match) {
+        append(match, false);
+    }
+
+    /**
+     * Records a finished match.
+     *
+     * @param match the match as it was before it was finished
+     */
+    public void matchRemoved(Match match) {
+        append(match, true);
+    }
+
+    /**
+     * Gets the latest change of every match changed after specified version, a match that was finished and started
+     * again is reported as changed.
+     *
+     * @param since version after which the changes were made
+     * @return changes in the order of their versions, or an empty optional if the log doesn't keep all changes made
+     * since that version, or it's a version the log hasn't reached
+     */
+    public Optional<List<Change>> changesSince(long since) {
+        long current = version.get();
+        if (matches.length == 0 || since < 0 || since > current || current - since > matches.length) {
+            return Optional.empty();
+        }
+        Map<Teams, Change> latestChanges = new LinkedHashMap<>();
+        for (long v = since + 1; v <= current; v++) {
+            int slot = slotOf(v);
+            Teams teams = new Teams(matches[slot].homeTeam(), matches[slot].awayTeam());
+            // re-inserted, so the match is ordered by its latest change
+            latestChanges.remove(teams);
+            latestChanges.put(teams, new Change(matches[slot], removals[slot]));
+        }
+        return Optional.of(List.copyOf(latestChanges.values()));
+    }
+
+    private void append(Match match, boolean removed) {
+        if (matches.length == 0) {
+            version.incrementAndGet();
+            return;
+        }
+        long next = version.get() + 1;
+        int slot = slotOf(next);
+        matches[slot] = match;
+        removals[slot] = removed;
+        version.set(next);
+    }
+
+    private int slotOf(long version) {
+        return (int) (version % matches.length);
+    }
+
+    /**
+     * Represents the latest change of a match.
+     *
+     * @param match   the match after the change, or before it was finished
+     * @param removed true if the match was finished, false if it was started or updated
+     */
+    public record Change(Match match, boolean removed) {
+    }
+
+    private record Teams(String homeTeam, String awayTeam) {
+    }
+}
@@ -0,0 +1,167 @@
+package org.scoreboard.internal.feed;
+
+import org.scoreboard.MatchSummary;
+import org.scoreboard.SummaryChange;
+import org.scoreboard.SummaryUpdate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Delivers {@link SummaryUpdate updates} of the summary to {@link Flow.Subscriber subscribers}. The scoreboard only
+ * notifies the feed that its summary has changed, which marks the subscriptions as changed, and the summary
+ * is read and compared to the one previously delivered to a subscriber asynchronously by the executor.
+ * <p>
+ * An update is delivered only once the subscriber has requested it, until then the modifications of the scoreboard
+ * are coalesced: the next update contains the net difference between the previously delivered summary
+ * and the summary at the time of its delivery, no matter how many modifications were made in the meantime.
+ * The first update of every subscription contains all matches present in the summary as started ones.
+ * <p>
+ * Subscriptions never complete. A subscriber throwing an exception from {@link Flow.Subscriber#onNext onNext}
+ * is cancelled and receives the exception with {@link Flow.Subscriber#onError onError}.
+ */
+public class SummaryChangeFeed {
+
+    private static final Logger log = LoggerFactory.getLogger(SummaryChangeFeed.class);
+
+    private final Supplier<List<MatchSummary>> summarySource;
+    private final Executor executor;
+    private final Set<FeedSubscription> subscriptions = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Creates the feed delivering updates with the {@link ForkJoinPool#commonPool() common pool}.
+     *
+     * @param summarySource source of the current summary, called by the executor threads
+     */
+    public SummaryChangeFeed(Supplier<List<MatchSummary>> summarySource) {
+        this(summarySource, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates the feed delivering updates with specified executor.
+     *
+     * @param summarySource source of the current summary, called by the executor threads
+     * @param executor      executor delivering the updates
+     */
+    public SummaryChangeFeed(Supplier<List<MatchSummary>> summarySource, Executor executor) {
+        this.summarySource = Objects.requireNonNull(summarySource, "Summary source cannot be null");
+        this.executor = Objects.requireNonNull(executor, "Executor cannot be null");
+    }
+
+    /**
+     * Subscribes specified subscriber to the feed, its {@link Flow.Subscriber#onSubscribe onSubscribe} method
+     * is called by the calling thread.
+     *
+     * @param subscriber subscriber to receive the updates; cannot be null
+     * @throws NullPointerException if provided subscriber is null
+     */
+    public void subscribe(Flow.Subscriber<? super SummaryUpdate> subscriber) {
+        var subscription = new FeedSubscription(Objects.requireNonNull(subscriber, "Subscriber cannot be null"));
+        subscriptions.add(subscription);
+        subscriber.onSubscribe(subscription);
+    }
+
+    /**
+     * @return true if there is any active subscription, false otherwise
+     */
+    public boolean hasSubscribers() {
+        return !subscriptions.isEmpty();
+    }
+
+    /**
+     * Notifies subscribers that the summary has changed. It's cheap when there are no subscribers.
+     */
+    public void summaryChanged() {
+        if (subscriptions.isEmpty()) return;
+        for (FeedSubscription subscription : subscriptions) {
+            subscription.summaryChanged();
+        }
+    }
+
+    private final class FeedSubscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super SummaryUpdate> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        // number of requested drains, only the thread incrementing it from 0 schedules the drain loop
+        private final AtomicInteger drains = new AtomicInteger();
+        private volatile boolean changed = true;
+        private volatile boolean cancelled;
+        private volatile IllegalArgumentException invalidRequest;
+        // accessed only by the drain loop
+        private List<MatchSummary> deliveredSummary = List.of();
+
+        private FeedSubscription(Flow.Subscriber<? super SummaryUpdate> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("Number of requested updates has to be positive");
+            } else {
+                demand.accumulateAndGet(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            subscriptions.remove(this);
+        }
+
+        private void summaryChanged() {
+            changed = true;
+            drain();
+        }
+
+        private void drain() {
+            if (drains.getAndIncrement() == 0) {
+                executor.execute(this::drainLoop);
+            }
+        }
+
+        private void drainLoop() {
+            int missed = 1;
+            do {
+                if (!cancelled) deliver();
+                missed = drains.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void deliver() {
+            if (invalidRequest != null) {
+                cancel();
+                subscriber.onError(invalidRequest);
+                return;
+            }
+            if (!changed || demand.get() == 0) return;
+
+            // cleared before reading, so a change made during the read is delivered with the next update
+            changed = false;
+            List<MatchSummary> summary = summarySource.get();
+            List<SummaryChange> changes = SummaryDiff.between(deliveredSummary, summary);
+            deliveredSummary = summary;
+            if (changes.isEmpty()) return;
+
+            if (demand.get() != Long.MAX_VALUE) demand.decrementAndGet();
+            try {
+                subscriber.onNext(new SummaryUpdate(changes));
+            } catch (RuntimeException e) {
+                log.warn("Subscriber {} failed to handle an update, cancelling its subscription", subscriber, e);
+                cancel();
+                subscriber.onError(e);
+            }
+        }
+    }
+}
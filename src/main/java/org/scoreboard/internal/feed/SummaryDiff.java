@@ -0,0 +1,101 @@
+package org.scoreboard.internal.feed;
+
+import org.scoreboard.MatchSummary;
+import org.scoreboard.SummaryChange;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Computes {@link SummaryChange changes} between two summaries. Matches present in both summaries keep
+ * the largest possible set of them in their previous relative order (the longest increasing subsequence
+ * of their previous ranks) and only the other ones are reported as moved, so a match overtaking many others
+ * is reported as a single move.
+ */
+final class SummaryDiff {
+
+    private SummaryDiff() {
+    }
+
+    static List<SummaryChange> between(List<MatchSummary> previous, List<MatchSummary> current) {
+        Map<MatchKey, Integer> previousRanks = ranks(previous);
+        Map<MatchKey, Integer> currentRanks = ranks(current);
+        List<SummaryChange> changes = new ArrayList<>();
+
+        for (int rank = 0; rank < previous.size(); rank++) {
+            MatchSummary match = previous.get(rank);
+            if (!currentRanks.containsKey(MatchKey.of(match))) {
+                changes.add(new SummaryChange.MatchFinished(match.homeTeam(), match.awayTeam(), rank));
+            }
+        }
+
+        int[] keptPreviousRanks = new int[current.size()];
+        int keptCount = 0;
+        for (MatchSummary match : current) {
+            Integer previousRank = previousRanks.get(MatchKey.of(match));
+            if (previousRank != null) keptPreviousRanks[keptCount++] = previousRank;
+        }
+        boolean[] inOrder = longestIncreasingSubsequence(keptPreviousRanks, keptCount);
+
+        int keptIndex = 0;
+        for (int rank = 0; rank < current.size(); rank++) {
+            MatchSummary match = current.get(rank);
+            Integer previousRank = previousRanks.get(MatchKey.of(match));
+            if (previousRank == null) {
+                changes.add(new SummaryChange.MatchStarted(match, rank));
+                continue;
+            }
+            if (!previous.get(previousRank).equals(match)) {
+                changes.add(new SummaryChange.ScoreChanged(match, rank));
+            }
+            if (!inOrder[keptIndex++]) {
+                changes.add(new SummaryChange.RankMoved(match.homeTeam(), match.awayTeam(), previousRank, rank));
+            }
+        }
+        return changes;
+    }
+
+    private static Map<MatchKey, Integer> ranks(List<MatchSummary> summary) {
+        Map<MatchKey, Integer> ranks = new HashMap<>(summary.size() * 2);
+        for (int rank = 0; rank < summary.size(); rank++) {
+            ranks.put(MatchKey.of(summary.get(rank)), rank);
+        }
+        return ranks;
+    }
+
+    /**
+     * @return flags marking the elements of one of the longest increasing subsequences of specified values
+     */
+    private static boolean[] longestIncreasingSubsequence(int[] values, int count) {
+        // tails[k] is the index of the smallest value ending an increasing subsequence of length k + 1
+        int[] tails = new int[count];
+        int[] predecessors = new int[count];
+        int length = 0;
+        for (int i = 0; i < count; i++) {
+            int low = 0;
+            int high = length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (values[tails[middle]] < values[i]) low = middle + 1;
+                else high = middle;
+            }
+            predecessors[i] = low > 0 ? tails[low - 1] : -1;
+            tails[low] = i;
+            if (low == length) length++;
+        }
+
+        boolean[] members = new boolean[count];
+        for (int i = length > 0 ? tails[length - 1] : -1; i >= 0; i = predecessors[i]) {
+            members[i] = true;
+        }
+        return members;
+    }
+
+    private record MatchKey(String homeTeam, String awayTeam) {
+        static MatchKey of(MatchSummary match) {
+            return new MatchKey(match.homeTeam(), match.awayTeam());
+        }
+    }
+}
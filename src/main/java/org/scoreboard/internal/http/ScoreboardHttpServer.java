@@ -0,0 +1,307 @@
+package org.scoreboard.internal.http;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.scoreboard.Scoreboard;
+import org.scoreboard.SummaryUpdate;
+import org.scoreboard.internal.wire.EncodedSummaryCache;
+import org.scoreboard.internal.wire.SummaryWireFormat;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * HTTP front end of a scoreboard, built on the JDK {@link HttpServer}, which accepts and reads requests
+ * with a NIO selector and runs their handlers with an executor. It serves:
+ * <ul>
+ *     <li>{@code GET /summary} - the summary as JSON (see {@link SummaryJson}), or encoded with {@link SummaryWireFormat}
+ *     if the request accepts {@value #BINARY_MEDIA_TYPE}. Responses are cached per version of the summary and carry
+ *     its ETag, so a request with a matching {@code If-None-Match} header gets {@code 304 Not Modified}
+ *     without any body;</li>
+ *     <li>{@code GET /summary/stream} - server-sent events with {@link SummaryUpdate summary updates} as JSON,
+ *     the first of them containing all matches of the summary, modifications made while an event is being sent
+ *     are coalesced into the next one.</li>
+ * </ul>
+ * The summary is taken from an {@link EncodedSummaryCache} subscribed to the scoreboard, so it may lag behind
+ * the scoreboard for a moment after its modification, and the scoreboard has to support {@link Scoreboard#subscribe
+ * subscriptions}. Every connected stream occupies a thread of the executor.
+ * <p>
+ * ETags start with an epoch chosen randomly for every server, as the versions of the summary start over when
+ * the server (or its JVM) is restarted.
+ * <p>
+ * The JDK server writes the headers and the body of a response separately, so with Nagle's algorithm enabled a small
+ * body waits for the acknowledgement of the headers, which clients delay (by 40ms on Linux). Low latency requires
+ * the JVM-wide {@code sun.net.httpserver.nodelay} system property set to {@code true}, either on the command line
+ * or by {@link #enableTcpNoDelay()} before the first server is created.
+ */
+public class ScoreboardHttpServer implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ScoreboardHttpServer.class);
+
+    /**
+     * Media type of the summary encoded with {@link SummaryWireFormat}.
+     */
+    public static final String BINARY_MEDIA_TYPE = "application/x-scoreboard-summary";
+    static final String JSON_MEDIA_TYPE = "application/json; charset=utf-8";
+    static final String EVENT_STREAM_MEDIA_TYPE = "text/event-stream; charset=utf-8";
+    static final long KEEP_ALIVE_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis(15);
+
+    private final String etagPrefix = "\"" + Long.toHexString(ThreadLocalRandom.current().nextLong()) + "-";
+    private final EncodedSummaryCache cache = new EncodedSummaryCache();
+    private final Scoreboard scoreboard;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Set<SummaryStream> streams = ConcurrentHashMap.newKeySet();
+    private volatile JsonSummary jsonSummary = new JsonSummary(-1, new byte[0]);
+
+    /**
+     * Creates and starts the server with a cached thread pool of daemon threads.
+     *
+     * @param scoreboard scoreboard to be served, it has to be thread safe and support subscriptions; cannot be null
+     * @param address    address to listen on, with port 0 an ephemeral port is chosen; cannot be null
+     * @throws UncheckedIOException if the server can't be bound to the address
+     */
+    public ScoreboardHttpServer(Scoreboard scoreboard, InetSocketAddress address) {
+        this(scoreboard, address, Executors.newCachedThreadPool(daemonThreads()));
+    }
+
+    /**
+     * Creates and starts the server. On Java 21 and later the executor can be
+     * {@code Executors.newVirtualThreadPerTaskExecutor()}, so that streams don't occupy platform threads.
+     *
+     * @param scoreboard scoreboard to be served, it has to be thread safe and support subscriptions; cannot be null
+     * @param address    address to listen on, with port 0 an ephemeral port is chosen; cannot be null
+     * @param executor   executor running the handlers, shut down when the server is closed; cannot be null
+     * @throws UncheckedIOException if the server can't be bound to the address
+     */
+    public ScoreboardHttpServer(Scoreboard scoreboard, InetSocketAddress address, ExecutorService executor) {
+        this.scoreboard = Objects.requireNonNull(scoreboard, "Scoreboard cannot be null");
+        this.executor = Objects.requireNonNull(executor, "Executor cannot be null");
+        try {
+            server = HttpServer.create(Objects.requireNonNull(address, "Address cannot be null"), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot bind the server to " + address, e);
+        }
+        scoreboard.subscribe(cache);
+        server.createContext("/summary", this::handleSummary);
+        server.createContext("/summary/stream", this::handleStream);
+        server.setExecutor(executor);
+        server.start();
+        log.info("Serving the scoreboard at {}", server.getAddress());
+    }
+
+    /**
+     * Sets the {@code sun.net.httpserver.nodelay} system property to {@code true}, unless it's already set, so that
+     * responses aren't delayed by Nagle's algorithm. It affects all JDK HTTP servers of the JVM, and only if it's
+     * called before the first of them is created, as the property is read once.
+     */
+    public static void enableTcpNoDelay() {
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    /**
+     * @return port the server listens on
+     */
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Stops the server, closing all streams.
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        streams.forEach(SummaryStream::close);
+        executor.shutdownNow();
+        cache.close();
+    }
+
+    private void handleSummary(HttpExchange exchange) throws IOException {
+        try {
+            if (!exchange.getRequestURI().getPath().equals("/summary")) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            String method = exchange.getRequestMethod();
+            if (!method.equals("GET") && !method.equals("HEAD")) {
+                exchange.getResponseHeaders().set("Allow", "GET, HEAD");
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+
+            EncodedSummaryCache.Snapshot snapshot = cache.snapshot();
+            boolean binary = accepts(exchange.getRequestHeaders(), BINARY_MEDIA_TYPE);
+            String etag = etagPrefix + snapshot.version() + (binary ? "-binary\"" : "-json\"");
+            Headers headers = exchange.getResponseHeaders();
+            headers.set("ETag", etag);
+            headers.set("Cache-Control", "no-cache");
+            headers.set("Vary", "Accept");
+            if (matchesAny(exchange.getRequestHeaders().get("If-None-Match"), etag)) {
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+
+            headers.set("Content-Type", binary ? BINARY_MEDIA_TYPE : JSON_MEDIA_TYPE);
+            if (method.equals("HEAD")) {
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            if (binary) {
+                exchange.sendResponseHeaders(200, snapshot.encodedSize());
+                snapshot.writeTo(exchange.getResponseBody());
+            } else {
+                byte[] body = jsonOf(snapshot);
+                exchange.sendResponseHeaders(200, body.length);
+                exchange.getResponseBody().write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void handleStream(HttpExchange exchange) throws IOException {
+        SummaryStream stream = new SummaryStream();
+        try {
+            if (!exchange.getRequestMethod().equals("GET")) {
+                exchange.getResponseHeaders().set("Allow", "GET");
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", EVENT_STREAM_MEDIA_TYPE);
+            exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+            exchange.sendResponseHeaders(200, 0);
+            streams.add(stream);
+            scoreboard.subscribe(stream);
+            stream.writeEvents(exchange.getResponseBody());
+        } catch (IOException e) {
+            log.debug("A client of the summary stream has disconnected", e);
+        } finally {
+            streams.remove(stream);
+            stream.cancel();
+            exchange.close();
+        }
+    }
+
+    private byte[] jsonOf(EncodedSummaryCache.Snapshot snapshot) {
+        JsonSummary json = jsonSummary;
+        if (json.version != snapshot.version()) {
+            // concurrent requests may encode the same version more than once, which is harmless
+            json = new JsonSummary(snapshot.version(), SummaryJson.summary(snapshot.summary()).getBytes(StandardCharsets.UTF_8));
+            jsonSummary = json;
+        }
+        return json.body;
+    }
+
+    private static boolean accepts(Headers requestHeaders, String mediaType) {
+        List<String> accept = requestHeaders.get("Accept");
+        return accept != null && accept.stream().anyMatch(value -> value.contains(mediaType));
+    }
+
+    private static boolean matchesAny(List<String> ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) return false;
+        for (String value : ifNoneMatch) {
+            for (String tag : value.split(",")) {
+                String trimmed = tag.trim();
+                if (trimmed.equals("*") || trimmed.equals(etag) || trimmed.equals("W/" + etag)) return true;
+            }
+        }
+        return false;
+    }
+
+    private static ThreadFactory daemonThreads() {
+        AtomicInteger count = new AtomicInteger();
+        return r -> {
+            Thread thread = new Thread(r, "scoreboard-http-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private record JsonSummary(long version, byte[] body) {
+    }
+
+    /**
+     * Subscriber writing the updates it receives to a stream of server-sent events. Updates are only requested
+     * after the previous one has been written, so a slow client gets fewer, coalesced updates.
+     */
+    private static class SummaryStream implements Flow.Subscriber<SummaryUpdate> {
+
+        private static final Object END = new Object();
+
+        private final BlockingQueue<Object> events = new LinkedBlockingQueue<>();
+        private volatile Flow.Subscription subscription;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(SummaryUpdate update) {
+            events.add(update);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            log.error("Summary updates have failed, closing the summary stream", throwable);
+            events.add(END);
+        }
+
+        @Override
+        public void onComplete() {
+            events.add(END);
+        }
+
+        void writeEvents(OutputStream out) throws IOException {
+            long id = 0;
+            try {
+                while (true) {
+                    Object event = events.poll(KEEP_ALIVE_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                    if (event == END) return;
+                    if (event == null) {
+                        // a comment, which lets the server find out that the client has disconnected
+                        out.write(": keep-alive\n\n".getBytes(StandardCharsets.UTF_8));
+                    } else {
+                        String json = SummaryJson.update((SummaryUpdate) event);
+                        out.write(("id: " + ++id + "\nevent: update\ndata: " + json + "\n\n").getBytes(StandardCharsets.UTF_8));
+                        subscription.request(1);
+                    }
+                    out.flush();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        void cancel() {
+            if (subscription != null) subscription.cancel();
+        }
+
+        void close() {
+            events.add(END);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package org.scoreboard.internal.http;
+
+import org.scoreboard.MatchSummary;
+import org.scoreboard.SummaryChange;
+import org.scoreboard.SummaryUpdate;
+
+import java.util.List;
+
+/**
+ * JSON representation of summaries and {@link SummaryUpdate summary updates} served by {@link ScoreboardHttpServer}.
+ * A summary is an array of matches, e.g. {@code [{"homeTeam":"Spain","awayTeam":"Brazil","homeScore":10,"awayScore":2}]},
+ * an update is an array of changes, each with its kind and the fields of the respective {@link SummaryChange},
+ * e.g. {@code [{"change":"rankMoved","homeTeam":"Spain","awayTeam":"Brazil","previousRank":1,"rank":0}]}.
+ */
+final class SummaryJson {
+
+    private SummaryJson() {
+    }
+
+    static String summary(List<MatchSummary> matches) {
+        StringBuilder json = new StringBuilder(matches.size() * 80 + 2).append('[');
+        for (int i = 0; i < matches.size(); i++) {
+            if (i > 0) json.append(',');
+            json.append('{');
+            appendMatch(json, matches.get(i));
+            json.append('}');
+        }
+        return json.append(']').toString();
+    }
+
+    static String update(SummaryUpdate update) {
+        StringBuilder json = new StringBuilder(update.changes().size() * 100 + 2).append('[');
+        for (int i = 0; i < update.changes().size(); i++) {
+            SummaryChange change = update.changes().get(i);
+            if (i > 0) json.append(',');
+            if (change instanceof SummaryChange.MatchStarted started) {
+                json.append("{\"change\":\"matchStarted\",\"rank\":").append(started.rank()).append(',');
+                appendMatch(json, started.match());
+            } else if (change instanceof SummaryChange.ScoreChanged changed) {
+                json.append("{\"change\":\"scoreChanged\",\"rank\":").append(changed.rank()).append(',');
+                appendMatch(json, changed.match());
+            } else if (change instanceof SummaryChange.RankMoved moved) {
+                json.append("{\"change\":\"rankMoved\",");
+                appendTeams(json, moved.homeTeam(), moved.awayTeam());
+                json.append(",\"previousRank\":").append(moved.previousRank()).append(",\"rank\":").append(moved.rank());
+            } else if (change instanceof SummaryChange.MatchFinished finished) {
+                json.append("{\"change\":\"matchFinished\",");
+                appendTeams(json, finished.homeTeam(), finished.awayTeam());
+                json.append(",\"previousRank\":").append(finished.previousRank());
+            }
+            json.append('}');
+        }
+        return json.append(']').toString();
+    }
+
+    private static void appendMatch(StringBuilder json, MatchSummary match) {
+        appendTeams(json, match.homeTeam(), match.awayTeam());
+        json.append(",\"homeScore\":").append(match.homeScore()).append(",\"awayScore\":").append(match.awayScore());
+    }
+
+    private static void appendTeams(StringBuilder json, String homeTeam, String awayTeam) {
+        json.append("\"homeTeam\":");
+        appendString(json, homeTeam);
+        json.append(",\"awayTeam\":");
+        appendString(json, awayTeam);
+    }
+
+    private static void appendString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append("\\u00").append(Character.forDigit(c >> 4, 16)).append(Character.forDigit(c & 0xF, 16));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+        json.append('"');
+    }
+}
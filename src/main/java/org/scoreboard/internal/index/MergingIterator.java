@@ -0,0 +1,61 @@
+package org.scoreboard.internal.index;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PriorityQueue;
+
+/**
+ * Iterator merging multiple iterators, each of them returning its elements ordered by the same comparator,
+ * into one iterator returning all elements in that order (k-way merge). Getting every element costs O(log k)
+ * for k merged iterators, so only the consumed part of the result is merged.
+ *
+ * @param <T> type of the merged elements
+ */
+public final class MergingIterator<T> implements Iterator<T> {
+
+    private final PriorityQueue<Head<T>> heads;
+
+    /**
+     * Creates an iterator merging specified iterators.
+     *
+     * @param iterators  iterators to be merged, each of them ordered by the comparator; cannot be null
+     * @param comparator comparator defining the order of all iterators; cannot be null
+     */
+    public MergingIterator(List<? extends Iterator<? extends T>> iterators, Comparator<? super T> comparator) {
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+        this.heads = new PriorityQueue<>(Math.max(iterators.size(), 1), (h1, h2) -> comparator.compare(h1.element, h2.element));
+        for (Iterator<? extends T> iterator : iterators) {
+            if (iterator.hasNext()) heads.add(new Head<>(iterator.next(), iterator));
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !heads.isEmpty();
+    }
+
+    @Override
+    public T next() {
+        Head<T> head = heads.poll();
+        if (head == null) throw new NoSuchElementException();
+        T element = head.element;
+        if (head.iterator.hasNext()) {
+            head.element = head.iterator.next();
+            heads.add(head);
+        }
+        return element;
+    }
+
+    private static final class Head<T> {
+        private T element;
+        private final Iterator<? extends T> iterator;
+
+        private Head(T element, Iterator<? extends T> iterator) {
+            this.element = element;
+            this.iterator = iterator;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package org.scoreboard.internal.index;
+
+import org.scoreboard.internal.compare.KeyedMatch;
+import org.scoreboard.internal.compare.MatchSortKey;
+import org.scoreboard.internal.model.Match;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Keeps {@link Match} instances ordered by a specified comparator, so they can be walked in that order without sorting.
+ * Every modification costs O(log n). Matches the comparator considers equal are additionally ordered by their team names,
+ * which is enough to tell apart matches in progress, as every team can play only one match at a time.
+ * <p>
+ * Matches are looked up by the comparator only, so the instance passed to {@link #replace(Match, Match)} or
+ * {@link #remove(Match)} has to be the one (or equal to the one) previously added to the index.
+ * <p>
+ * The comparator is turned into a {@link MatchSortKey} (see {@link MatchSortKey#of(Comparator)}) and every match
+ * is indexed together with its key, computed once when it's added. With the comparator of a sort key
+ * (like the default one) the index compares primitive keys and calls the comparator only for matches with equal keys.
+ */
+public class RankedMatchIndex {
+
+    private final MatchSortKey sortKey;
+    private final NavigableSet<KeyedMatch> matches;
+    // counted separately, as the size of a skip list is computed by walking all of its elements
+    private final LongAdder size = new LongAdder();
+
+    /**
+     * Creates an empty index ordered by specified comparator.
+     *
+     * @param matchComparator comparator defining the order of the index; cannot be null
+     */
+    public RankedMatchIndex(Comparator<Match> matchComparator) {
+        this(MatchSortKey.of(matchComparator), false);
+    }
+
+    private RankedMatchIndex(MatchSortKey sortKey, boolean concurrent) {
+        this.sortKey = sortKey;
+        Comparator<KeyedMatch> comparator = KeyedMatch.comparator(sortKey);
+        this.matches = concurrent ? new ConcurrentSkipListSet<>(comparator) : new TreeSet<>(comparator);
+    }
+
+    /**
+     * Creates an empty, thread safe index ordered by specified comparator. It's backed by a skip list, so modifications
+     * don't block each other and iteration is weakly consistent: a match replaced during the iteration may be
+     * returned twice (both versions) or not at all.
+     *
+     * @param matchComparator comparator defining the order of the index; cannot be null
+     * @return new thread safe index
+     */
+    public static RankedMatchIndex concurrent(Comparator<Match> matchComparator) {
+        return new RankedMatchIndex(MatchSortKey.of(matchComparator), true);
+    }
+
+    /**
+     * Adds specified match to the index.
+     *
+     * @param match match to be added; cannot be null
+     * @throws NullPointerException if provided match is null
+     */
+    public void add(Match match) {
+        if (matches.add(KeyedMatch.of(sortKey, Objects.requireNonNull(match, "Cannot index a null match")))) {
+            size.increment();
+        }
+    }
+
+    /**
+     * Adds all specified matches to the index.
+     *
+     * @param matchesToAdd matches to be added; cannot be null or contain null elements
+     * @throws NullPointerException if provided collection or any of its elements is null
+     */
+    public void addAll(Collection<Match> matchesToAdd) {
+        matchesToAdd.forEach(this::add);
+    }
+
+    /**
+     * Replaces previously indexed match with its new version, e.g. with a modified score.
+     *
+     * @param previous match currently present in the index; cannot be null
+     * @param current  match to be put in place of the previous one; cannot be null
+     * @throws NullPointerException if either of the matches is null
+     */
+    public void replace(Match previous, Match current) {
+        remove(previous);
+        add(current);
+    }
+
+    /**
+     * Removes specified match from the index if present.
+     *
+     * @param match match to be removed; cannot be null
+     * @throws NullPointerException if provided match is null
+     */
+    public void remove(Match match) {
+        if (matches.remove(KeyedMatch.of(sortKey, Objects.requireNonNull(match, "Cannot remove a null match from the index")))) {
+            size.decrement();
+        }
+    }
+
+    /**
+     * @return true if the index is thread safe (created with {@link #concurrent(Comparator)}), false otherwise
+     */
+    public boolean isConcurrent() {
+        return matches instanceof ConcurrentSkipListSet;
+    }
+
+    /**
+     * Gets the number of indexed matches in O(1), for a {@link #concurrent(Comparator) concurrent} index it may be off
+     * by the modifications in progress.
+     *
+     * @return number of indexed matches
+     */
+    public int size() {
+        return size.intValue();
+    }
+
+    /**
+     * @return comparator defining the order of the index, including the tie-break by team names
+     */
+    public Comparator<? super Match> comparator() {
+        return sortKey.comparator()
+                .thenComparing(Match::homeTeam)
+                .thenComparing(Match::awayTeam);
+    }
+
+    /**
+     * @return a sequential stream of indexed matches in the order of the index
+     */
+    public Stream<Match> stream() {
+        return matches.stream().map(KeyedMatch::match);
+    }
+
+    /**
+     * Gets a parallel stream of indexed matches, the walk is split into ranges of the index processed in the common
+     * {@link java.util.concurrent.ForkJoinPool}, and ordered operations (e.g. {@code toList()}) keep the order
+     * of the index. A non-concurrent index mustn't be modified until the stream is consumed.
+     *
+     * @return a parallel stream of indexed matches in the order of the index
+     */
+    public Stream<Match> parallelStream() {
+        return matches.parallelStream().map(KeyedMatch::match);
+    }
+}
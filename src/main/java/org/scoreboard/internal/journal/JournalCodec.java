@@ -0,0 +1,219 @@
+package org.scoreboard.internal.journal;
+
+import org.scoreboard.internal.model.Match;
+import org.scoreboard.internal.model.StartSequence;
+import org.scoreboard.internal.repository.MatchRepository;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+/**
+ * Binary format of the journal records. Every record is framed as:
+ * <pre>
+ * payload length (4 bytes) | CRC32C of the payload (4 bytes) | payload
+ * </pre>
+ * and its payload starts with a type byte followed by:
+ * <ul>
+ *     <li>save - the match: home team, away team, home score, away score, start sequence, start time seconds
+ *     and nanos (-1 if the start time isn't recorded);</li>
+ *     <li>remove - home team and away team;</li>
+ *     <li>batch - number of removed matches, their home and away teams, number of saved matches and the matches,
+ *     so a batch is replayed either completely or not at all.</li>
+ * </ul>
+ * Team names are encoded as a 2 bytes long length and UTF-8 bytes. Records of matches without the start sequence
+ * (types 1 and 3) are no longer supported. Replaying a match advances the {@link StartSequence} past its number.
+ */
+final class JournalCodec {
+
+    static final int HEADER_SIZE = 8;
+
+    private static final byte REMOVE = 2;
+    private static final byte SAVE = 4;
+    private static final byte BATCH = 5;
+    private static final int NO_START_TIME = -1;
+
+    private JournalCodec() {
+    }
+
+    static ByteBuffer encodeSave(Match match) {
+        EncodedMatch encoded = EncodedMatch.of(match);
+        ByteBuffer buffer = allocate(1 + encoded.size());
+        buffer.put(SAVE);
+        encoded.putTo(buffer);
+        return frame(buffer);
+    }
+
+    static ByteBuffer encodeRemove(String homeTeam, String awayTeam) {
+        byte[] home = encodeName(homeTeam);
+        byte[] away = encodeName(awayTeam);
+        ByteBuffer buffer = allocate(1 + 2 + home.length + 2 + away.length);
+        buffer.put(REMOVE);
+        putName(buffer, home);
+        putName(buffer, away);
+        return frame(buffer);
+    }
+
+    static ByteBuffer encodeBatch(Collection<Match> matchesToRemove, Collection<Match> matchesToSave) {
+        List<byte[]> removedNames = new ArrayList<>(matchesToRemove.size() * 2);
+        int size = 1 + 4 + 4;
+        for (Match match : matchesToRemove) {
+            byte[] home = encodeName(match.homeTeam());
+            byte[] away = encodeName(match.awayTeam());
+            removedNames.add(home);
+            removedNames.add(away);
+            size += 2 + home.length + 2 + away.length;
+        }
+        List<EncodedMatch> savedMatches = new ArrayList<>(matchesToSave.size());
+        for (Match match : matchesToSave) {
+            EncodedMatch encoded = EncodedMatch.of(match);
+            savedMatches.add(encoded);
+            size += encoded.size();
+        }
+
+        ByteBuffer buffer = allocate(size);
+        buffer.put(BATCH);
+        buffer.putInt(matchesToRemove.size());
+        removedNames.forEach(name -> putName(buffer, name));
+        buffer.putInt(savedMatches.size());
+        savedMatches.forEach(encoded -> encoded.putTo(buffer));
+        return frame(buffer);
+    }
+
+    /**
+     * Decodes records from specified buffer and applies them to specified repository.
+     * Decoding stops at the first incomplete or corrupted record, e.g. one partially written before a crash.
+     * Records are written before their modifications are applied, so the last record of the last segment may be
+     * one of a modification rejected by the repository, if the process died before discarding it; such a record
+     * is treated like an incomplete one.
+     *
+     * @param lastSegment whether the buffer holds the last segment of the journal
+     * @return position in the buffer right after the last valid record
+     * @throws IllegalStateException if the repository rejects any other record
+     */
+    static long replay(ByteBuffer journal, MatchRepository repository, boolean lastSegment) {
+        long validPosition = journal.position();
+        CRC32C crc = new CRC32C();
+        while (journal.remaining() >= HEADER_SIZE) {
+            int length = journal.getInt();
+            int checksum = journal.getInt();
+            if (length <= 0 || length > journal.remaining()) break;
+
+            ByteBuffer payload = journal.slice(journal.position(), length);
+            crc.reset();
+            crc.update(payload.duplicate());
+            if ((int) crc.getValue() != checksum) break;
+
+            try {
+                apply(payload, repository);
+            } catch (BufferUnderflowException e) {
+                break;
+            } catch (IllegalStateException e) {
+                if (!lastSegment || journal.position() + length != journal.limit()) throw e;
+                break;
+            }
+            journal.position(journal.position() + length);
+            validPosition = journal.position();
+        }
+        return validPosition;
+    }
+
+    private static void apply(ByteBuffer payload, MatchRepository repository) {
+        byte type = payload.get();
+        switch (type) {
+            case SAVE -> repository.save(getMatch(payload));
+            case REMOVE -> repository.remove(getName(payload), getName(payload));
+            case BATCH -> {
+                int removeCount = payload.getInt();
+                List<Match> matchesToRemove = new ArrayList<>(removeCount);
+                for (int i = 0; i < removeCount; i++) {
+                    matchesToRemove.add(new Match(getName(payload), getName(payload), 0, 0, 0, null));
+                }
+                int saveCount = payload.getInt();
+                List<Match> matchesToSave = new ArrayList<>(saveCount);
+                for (int i = 0; i < saveCount; i++) {
+                    matchesToSave.add(getMatch(payload));
+                }
+                repository.applyAll(matchesToRemove, matchesToSave);
+            }
+            default -> throw new IllegalStateException("Unknown journal record type " + type);
+        }
+    }
+
+    private static ByteBuffer allocate(int payloadSize) {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + payloadSize);
+        buffer.position(HEADER_SIZE);
+        return buffer;
+    }
+
+    private static ByteBuffer frame(ByteBuffer buffer) {
+        int length = buffer.position() - HEADER_SIZE;
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.array(), HEADER_SIZE, length);
+        buffer.putInt(0, length);
+        buffer.putInt(4, (int) crc.getValue());
+        return buffer.flip();
+    }
+
+
+    static Match getMatch(ByteBuffer payload) {
+        String homeTeam = getName(payload);
+        String awayTeam = getName(payload);
+        int homeScore = payload.getInt();
+        int awayScore = payload.getInt();
+        long startSequence = payload.getLong();
+        long startSeconds = payload.getLong();
+        int startNanos = payload.getInt();
+        Instant startedAt = startNanos == NO_START_TIME ? null : Instant.ofEpochSecond(startSeconds, startNanos);
+        StartSequence.advancePast(startSequence);
+        return new Match(homeTeam, awayTeam, homeScore, awayScore, startSequence, startedAt);
+    }
+
+    private static byte[] encodeName(String name) {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Team name is too long to be journaled");
+        }
+        return bytes;
+    }
+
+    private static void putName(ByteBuffer buffer, byte[] name) {
+        buffer.putShort((short) name.length).put(name);
+    }
+
+    private static String getName(ByteBuffer payload) {
+        byte[] name = new byte[payload.getShort()];
+        payload.get(name);
+        return new String(name, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Match with its team names already encoded, so its size is known before it's written.
+     */
+    record EncodedMatch(Match match, byte[] homeTeam, byte[] awayTeam) {
+
+        static EncodedMatch of(Match match) {
+            return new EncodedMatch(match, encodeName(match.homeTeam()), encodeName(match.awayTeam()));
+        }
+
+        int size() {
+            return 2 + homeTeam.length + 2 + awayTeam.length + 4 + 4 + 8 + 8 + 4;
+        }
+
+        void putTo(ByteBuffer buffer) {
+            putName(buffer, homeTeam);
+            putName(buffer, awayTeam);
+            buffer.putInt(match.homeScore());
+            buffer.putInt(match.awayScore());
+            buffer.putLong(match.startSequence());
+            Instant startedAt = match.startedAt();
+            buffer.putLong(startedAt == null ? 0 : startedAt.getEpochSecond());
+            buffer.putInt(startedAt == null ? NO_START_TIME : startedAt.getNano());
+        }
+    }
+}
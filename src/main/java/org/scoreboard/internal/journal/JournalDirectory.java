@@ -0,0 +1,90 @@
+package org.scoreboard.internal.journal;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.stream.Stream;
+
+/**
+ * Layout of the journal directory. The journal is split into segments numbered by increasing generations
+ * and a snapshot of a given generation contains the state after replaying all segments up to that generation:
+ * <pre>
+ * snapshot-0000000000000000002.bin
+ * journal-0000000000000000003.log
+ * </pre>
+ */
+final class JournalDirectory {
+
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".bin";
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+
+    private final Path directory;
+
+    JournalDirectory(Path directory) throws IOException {
+        this.directory = Files.createDirectories(directory);
+    }
+
+    Path segment(long generation) {
+        return directory.resolve(fileName(SEGMENT_PREFIX, generation, SEGMENT_SUFFIX));
+    }
+
+    Path snapshot(long generation) {
+        return directory.resolve(fileName(SNAPSHOT_PREFIX, generation, SNAPSHOT_SUFFIX));
+    }
+
+    Path temporarySnapshot(long generation) {
+        return directory.resolve(fileName(SNAPSHOT_PREFIX, generation, SNAPSHOT_SUFFIX + TEMPORARY_SUFFIX));
+    }
+
+    /**
+     * @return generations of all segments in ascending order
+     */
+    List<Long> segmentGenerations() throws IOException {
+        return generations(SEGMENT_PREFIX, SEGMENT_SUFFIX);
+    }
+
+    /**
+     * @return generation of the latest complete snapshot, if there is any
+     */
+    OptionalLong latestSnapshotGeneration() throws IOException {
+        List<Long> generations = generations(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX);
+        return generations.isEmpty() ? OptionalLong.empty() : OptionalLong.of(generations.get(generations.size() - 1));
+    }
+
+    /**
+     * Deletes segments covered by the snapshot of specified generation, older snapshots
+     * and snapshots left incomplete by a crash.
+     */
+    void deleteCoveredBy(long snapshotGeneration) throws IOException {
+        for (long generation : segmentGenerations()) {
+            if (generation <= snapshotGeneration) Files.deleteIfExists(segment(generation));
+        }
+        for (long generation : generations(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX)) {
+            if (generation < snapshotGeneration) Files.deleteIfExists(snapshot(generation));
+        }
+        for (long generation : generations(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX + TEMPORARY_SUFFIX)) {
+            if (generation <= snapshotGeneration) Files.deleteIfExists(temporarySnapshot(generation));
+        }
+    }
+
+    private List<Long> generations(String prefix, String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.startsWith(prefix) && name.endsWith(suffix))
+                    .map(name -> name.substring(prefix.length(), name.length() - suffix.length()))
+                    .filter(generation -> !generation.isEmpty() && generation.chars().allMatch(Character::isDigit))
+                    .map(Long::parseLong)
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static String fileName(String prefix, long generation, String suffix) {
+        return String.format("%s%019d%s", prefix, generation, suffix);
+    }
+}
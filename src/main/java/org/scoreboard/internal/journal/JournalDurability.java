@@ -0,0 +1,25 @@
+package org.scoreboard.internal.journal;
+
+/**
+ * Defines when records appended to the journal are forced to the storage device.
+ */
+public enum JournalDurability {
+
+    /**
+     * Every operation waits until its record is forced to the storage device before it's acknowledged.
+     * Concurrent operations share a single force (group commit), so its cost is amortized under load.
+     */
+    EVERY_OPERATION,
+
+    /**
+     * Records are forced periodically by a background thread, so a crash can lose operations acknowledged
+     * within the last interval.
+     */
+    INTERVAL,
+
+    /**
+     * Records are only written to the operating system, which decides when to flush them.
+     * It survives a crash of the JVM, but not of the operating system.
+     */
+    OS_BUFFERED
+}
@@ -0,0 +1,415 @@
+package org.scoreboard.internal.journal;
+
+import org.scoreboard.internal.model.Match;
+import org.scoreboard.internal.repository.InMemoryMatchRepository;
+import org.scoreboard.internal.repository.MatchRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link MatchRepository} decorator that appends every modification to a journal before acknowledging it,
+ * so the repository can be rebuilt after a crash. On creation the latest snapshot is loaded to the decorated
+ * repository and only the journal written after it is replayed. An incomplete or corrupted record at the end
+ * of the journal (e.g. one partially written during a crash) is discarded, and so is a final record the decorated
+ * repository rejects (one of an invalid modification, written just before a crash).
+ * <p>
+ * Every modification is written to the journal first and then applied to the decorated repository, in the same
+ * order for both, under a single lock, so a modification visible in the repository is always journaled. If the
+ * decorated repository rejects the modification, its record is truncated from the journal and the exception
+ * is rethrown. If writing the record fails, whatever was written of it is truncated, the modification isn't applied
+ * and an {@link UncheckedIOException} is thrown. When the record is forced to the storage device depends on
+ * the {@link JournalDurability}.
+ * <p>
+ * Once the journal written after the latest snapshot exceeds the snapshot threshold, a background thread takes
+ * a new snapshot (see {@link #snapshot()}) and deletes the journal covered by it, so the time of rebuilding
+ * the repository stays bounded no matter how many modifications were made.
+ * <p>
+ * Reads are delegated directly to the decorated repository. This class is thread safe as long as the decorated
+ * repository is safe for concurrent reads and modifications.
+ */
+public class JournaledMatchRepository implements MatchRepository, Closeable {
+
+    /**
+     * Interval of forcing the journal used for {@link JournalDurability#INTERVAL} by default.
+     */
+    public static final Duration DEFAULT_SYNC_INTERVAL = Duration.ofMillis(10);
+
+    /**
+     * Size of the journal written after the latest snapshot that triggers a new snapshot by default.
+     */
+    public static final long DEFAULT_SNAPSHOT_THRESHOLD = 64L * 1024 * 1024;
+
+    private static final Logger log = LoggerFactory.getLogger(JournaledMatchRepository.class);
+
+    private final MatchRepository delegate;
+    private final JournalDurability durability;
+    private final JournalDirectory directory;
+    private final long snapshotThreshold;
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private final ReentrantLock snapshotLock = new ReentrantLock();
+    private final AtomicBoolean snapshotScheduled = new AtomicBoolean();
+    private final ScheduledExecutorService syncScheduler;
+    private final ExecutorService snapshotExecutor;
+    private FileChannel channel;
+    private long generation;
+    private long segmentStart;
+    private volatile long writtenPosition;
+    private volatile long syncedPosition;
+    private volatile boolean closed;
+
+    /**
+     * Opens the journal with {@link #DEFAULT_SYNC_INTERVAL default} sync interval
+     * and {@link #DEFAULT_SNAPSHOT_THRESHOLD default} snapshot threshold and rebuilds specified repository from it.
+     *
+     * @param journalDirectory directory of the journal and its snapshots, created if it doesn't exist
+     * @param delegate         repository to be decorated, expected to be empty
+     * @param durability       defines when the journal is forced to the storage device
+     * @throws UncheckedIOException if the journal can't be opened or read
+     */
+    public JournaledMatchRepository(Path journalDirectory, MatchRepository delegate, JournalDurability durability) {
+        this(journalDirectory, delegate, durability, DEFAULT_SYNC_INTERVAL, DEFAULT_SNAPSHOT_THRESHOLD);
+    }
+
+    /**
+     * Opens the journal and rebuilds specified repository from it.
+     *
+     * @param journalDirectory  directory of the journal and its snapshots, created if it doesn't exist
+     * @param delegate          repository to be decorated, expected to be empty
+     * @param durability        defines when the journal is forced to the storage device
+     * @param syncInterval      interval of forcing the journal, used only for {@link JournalDurability#INTERVAL}
+     * @param snapshotThreshold size in bytes of the journal written after the latest snapshot
+     *                          that triggers a new snapshot, {@link Long#MAX_VALUE} disables automatic snapshots
+     * @throws UncheckedIOException if the journal can't be opened or read
+     */
+    public JournaledMatchRepository(Path journalDirectory, MatchRepository delegate, JournalDurability durability,
+                                    Duration syncInterval, long snapshotThreshold) {
+        this.delegate = Objects.requireNonNull(delegate, "Delegate repository cannot be null");
+        this.durability = Objects.requireNonNull(durability, "Durability cannot be null");
+        if (snapshotThreshold <= 0) {
+            throw new IllegalArgumentException("Snapshot threshold has to be positive");
+        }
+        this.snapshotThreshold = snapshotThreshold;
+        try {
+            this.directory = new JournalDirectory(journalDirectory);
+            recover();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open the journal " + journalDirectory, e);
+        }
+
+        snapshotExecutor = Executors.newSingleThreadExecutor(daemonThreads("scoreboard-journal-snapshot"));
+        if (durability == JournalDurability.INTERVAL) {
+            syncScheduler = Executors.newSingleThreadScheduledExecutor(daemonThreads("scoreboard-journal-sync"));
+            long intervalNanos = syncInterval.toNanos();
+            syncScheduler.scheduleWithFixedDelay(this::syncQuietly, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+        } else {
+            syncScheduler = null;
+        }
+        scheduleSnapshotIfNeeded(writtenPosition);
+    }
+
+    @Override
+    public void save(Match match) {
+        Objects.requireNonNull(match, "Cannot save a null match");
+        ByteBuffer record = JournalCodec.encodeSave(match);
+        awaitDurable(applyAndAppend(() -> delegate.save(match), record));
+    }
+
+    @Override
+    public boolean containsMatchForTeam(String teamName) {
+        return delegate.containsMatchForTeam(teamName);
+    }
+
+    @Override
+    public Optional<Match> get(String homeTeam, String awayTeam) {
+        return delegate.get(homeTeam, awayTeam);
+    }
+
+    @Override
+    public void remove(String homeTeam, String awayTeam) {
+        Objects.requireNonNull(homeTeam, "Team name cannot be null");
+        Objects.requireNonNull(awayTeam, "Team name cannot be null");
+        ByteBuffer record = JournalCodec.encodeRemove(homeTeam, awayTeam);
+        awaitDurable(applyAndAppend(() -> delegate.remove(homeTeam, awayTeam), record));
+    }
+
+    @Override
+    public void applyAll(Collection<Match> matchesToRemove, Collection<Match> matchesToSave) {
+        ByteBuffer record = JournalCodec.encodeBatch(matchesToRemove, matchesToSave);
+        awaitDurable(applyAndAppend(() -> delegate.applyAll(matchesToRemove, matchesToSave), record));
+    }
+
+    @Override
+    public List<Match> listAllMatches() {
+        return delegate.listAllMatches();
+    }
+
+    /**
+     * Forces all records appended so far to the storage device.
+     *
+     * @throws UncheckedIOException if forcing the journal fails
+     */
+    public void sync() {
+        syncUpTo(writtenPosition);
+    }
+
+    /**
+     * @return size in bytes of the journal written after the latest snapshot
+     */
+    public long size() {
+        appendLock.lock();
+        try {
+            return writtenPosition - segmentStart;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Takes a snapshot of the repository and deletes the journal covered by it. Modifications are blocked only
+     * while the journal is switched to a new segment, the snapshot itself is built from the previous snapshot
+     * and the journal written after it, not from the decorated repository.
+     *
+     * @throws UncheckedIOException if the snapshot can't be written
+     */
+    public void snapshot() {
+        snapshotLock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("The journal is closed");
+            }
+            long snapshotGeneration = startNewSegment();
+            var state = new InMemoryMatchRepository();
+            OptionalLong previousSnapshot = directory.latestSnapshotGeneration();
+            if (previousSnapshot.isPresent()) {
+                MatchSnapshot.read(directory.snapshot(previousSnapshot.getAsLong()), state);
+            }
+            for (long segment : directory.segmentGenerations()) {
+                if (segment > previousSnapshot.orElse(0) && segment <= snapshotGeneration) {
+                    replaySegment(segment, state, false);
+                }
+            }
+            List<Match> matches = state.listAllMatches();
+            MatchSnapshot.write(directory.snapshot(snapshotGeneration), directory.temporarySnapshot(snapshotGeneration), matches);
+            directory.deleteCoveredBy(snapshotGeneration);
+            log.debug("Snapshot {} of {} matches has been taken", snapshotGeneration, matches.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot take a snapshot", e);
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    /**
+     * Waits for a snapshot in progress, forces all appended records to the storage device and closes the journal.
+     */
+    @Override
+    public void close() throws IOException {
+        if (syncScheduler != null) {
+            syncScheduler.shutdownNow();
+        }
+        snapshotExecutor.shutdown();
+        snapshotLock.lock();
+        appendLock.lock();
+        try {
+            if (closed) return;
+            closed = true;
+            sync();
+            channel.close();
+        } finally {
+            appendLock.unlock();
+            snapshotLock.unlock();
+        }
+    }
+
+    private void recover() throws IOException {
+        OptionalLong snapshot = directory.latestSnapshotGeneration();
+        if (snapshot.isPresent()) {
+            MatchSnapshot.read(directory.snapshot(snapshot.getAsLong()), delegate);
+        }
+        long lastGeneration = snapshot.orElse(0);
+        long snapshotGeneration = lastGeneration;
+        List<Long> segments = directory.segmentGenerations().stream()
+                .filter(segment -> segment > snapshotGeneration)
+                .toList();
+        // only the last segment may end with a record of a rejected modification, written just before a crash
+        for (int i = 0; i < segments.size(); i++) {
+            replaySegment(segments.get(i), delegate, i == segments.size() - 1);
+            lastGeneration = segments.get(i);
+        }
+        if (snapshot.isPresent()) {
+            directory.deleteCoveredBy(snapshot.getAsLong());
+        }
+
+        // appending continues to the last segment, unless it's already covered by the snapshot
+        generation = lastGeneration > snapshot.orElse(0) ? lastGeneration : snapshot.orElse(0) + 1;
+        channel = openSegment(generation);
+        segmentStart = 0;
+        writtenPosition = channel.size();
+        syncedPosition = writtenPosition;
+    }
+
+    private void replaySegment(long segment, MatchRepository repository, boolean lastSegment) throws IOException {
+        try (FileChannel segmentChannel = FileChannel.open(directory.segment(segment),
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = segmentChannel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Journal segment " + segment + " is too large to be replayed");
+            }
+            ByteBuffer journal = ByteBuffer.allocate((int) size);
+            while (journal.hasRemaining()) {
+                if (segmentChannel.read(journal, journal.position()) < 0) break;
+            }
+            journal.flip();
+            long validSize = JournalCodec.replay(journal, repository, lastSegment);
+            if (validSize < size) {
+                log.warn("Discarding {} bytes of incomplete, corrupted or rejected records at the end of the journal",
+                        size - validSize);
+                segmentChannel.truncate(validSize);
+            }
+        }
+    }
+
+    private FileChannel openSegment(long segment) throws IOException {
+        FileChannel segmentChannel = FileChannel.open(directory.segment(segment),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        segmentChannel.position(segmentChannel.size());
+        return segmentChannel;
+    }
+
+    /**
+     * Forces and closes the current segment and continues appending to the next one.
+     *
+     * @return generation of the closed segment
+     */
+    private long startNewSegment() throws IOException {
+        appendLock.lock();
+        syncLock.lock();
+        try {
+            FileChannel nextChannel = openSegment(generation + 1);
+            channel.force(false);
+            channel.close();
+            channel = nextChannel;
+            syncedPosition = writtenPosition;
+            segmentStart = writtenPosition;
+            return generation++;
+        } finally {
+            syncLock.unlock();
+            appendLock.unlock();
+        }
+    }
+
+    private long applyAndAppend(Runnable modification, ByteBuffer record) {
+        long position;
+        long appendedSinceSnapshot;
+        appendLock.lock();
+        try {
+            // the record is written before the modification is applied, so a modification visible in the repository
+            // is always in the journal, and a record is discarded if it can't be written whole or applied
+            long recordStart = channel.position();
+            try {
+                while (record.hasRemaining()) {
+                    channel.write(record);
+                }
+            } catch (IOException e) {
+                discardRecord(recordStart, e);
+                throw new UncheckedIOException("Cannot append to the journal", e);
+            }
+            try {
+                modification.run();
+            } catch (RuntimeException e) {
+                discardRecord(recordStart, e);
+                throw e;
+            }
+            position = writtenPosition + record.limit();
+            writtenPosition = position;
+            appendedSinceSnapshot = position - segmentStart;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot append to the journal", e);
+        } finally {
+            appendLock.unlock();
+        }
+        scheduleSnapshotIfNeeded(appendedSinceSnapshot);
+        return position;
+    }
+
+    private void discardRecord(long recordStart, Exception cause) {
+        try {
+            channel.truncate(recordStart);
+        } catch (IOException e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    private void scheduleSnapshotIfNeeded(long appendedSinceSnapshot) {
+        if (appendedSinceSnapshot < snapshotThreshold || !snapshotScheduled.compareAndSet(false, true)) return;
+        snapshotExecutor.execute(() -> {
+            try {
+                if (!closed) snapshot();
+            } catch (RuntimeException e) {
+                log.error("Cannot take a snapshot", e);
+            } finally {
+                snapshotScheduled.set(false);
+            }
+        });
+    }
+
+    private void awaitDurable(long position) {
+        if (durability == JournalDurability.EVERY_OPERATION) {
+            syncUpTo(position);
+        }
+    }
+
+    private void syncUpTo(long position) {
+        if (syncedPosition >= position) return;
+        syncLock.lock();
+        try {
+            // operations waiting for the lock are usually covered by the force of the previous holder
+            if (syncedPosition >= position) return;
+            long target = writtenPosition;
+            channel.force(false);
+            syncedPosition = target;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot force the journal", e);
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private void syncQuietly() {
+        try {
+            sync();
+        } catch (RuntimeException e) {
+            log.error("Cannot force the journal", e);
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        return r -> {
+            Thread thread = new Thread(r, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,106 @@
+package org.scoreboard.internal.journal;
+
+import org.scoreboard.internal.model.Match;
+import org.scoreboard.internal.repository.MatchRepository;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+/**
+ * Compact binary snapshot of all matches in a repository:
+ * <pre>
+ * magic (4 bytes) | version (4 bytes) | number of matches (4 bytes) | matches | CRC32C of everything before (4 bytes)
+ * </pre>
+ * Matches are encoded the same way as in the journal records.
+ */
+final class MatchSnapshot {
+
+    private static final int MAGIC = 0x5343534e;
+    private static final int VERSION = 2;
+    private static final int HEADER_SIZE = 12;
+    private static final int BUFFER_SIZE = 128 * 1024;
+
+    private MatchSnapshot() {
+    }
+
+    /**
+     * Writes specified matches to a temporary file, forces it to the storage device and then atomically moves it
+     * to specified file, so the file is either complete or doesn't exist at all.
+     */
+    static void write(Path file, Path temporaryFile, Collection<Match> matches) throws IOException {
+        CRC32C crc = new CRC32C();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            buffer.putInt(MAGIC).putInt(VERSION).putInt(matches.size());
+            for (Match match : matches) {
+                JournalCodec.EncodedMatch encoded = JournalCodec.EncodedMatch.of(match);
+                if (buffer.remaining() < encoded.size()) {
+                    flush(buffer, channel, crc);
+                }
+                encoded.putTo(buffer);
+            }
+            flush(buffer, channel, crc);
+            buffer.putInt((int) crc.getValue()).flip();
+            writeFully(buffer, channel);
+            channel.force(true);
+        }
+        Files.move(temporaryFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Reads all matches from specified snapshot file and saves them to specified repository.
+     *
+     * @throws IllegalStateException if the snapshot is corrupted
+     */
+    static void read(Path file, MatchRepository repository) throws IOException {
+        ByteBuffer snapshot = ByteBuffer.wrap(Files.readAllBytes(file));
+        if (snapshot.remaining() < HEADER_SIZE + 4) {
+            throw new IllegalStateException("Snapshot " + file + " is corrupted");
+        }
+        int checksumPosition = snapshot.limit() - 4;
+        CRC32C crc = new CRC32C();
+        crc.update(snapshot.slice(0, checksumPosition));
+        if ((int) crc.getValue() != snapshot.getInt(checksumPosition) || snapshot.getInt() != MAGIC) {
+            throw new IllegalStateException("Snapshot " + file + " is corrupted");
+        }
+        int version = snapshot.getInt();
+        if (version != VERSION) {
+            throw new IllegalStateException("Unsupported snapshot version " + version);
+        }
+
+        int count = snapshot.getInt();
+        List<Match> matches = new ArrayList<>(count);
+        try {
+            for (int i = 0; i < count; i++) {
+                matches.add(JournalCodec.getMatch(snapshot));
+            }
+        } catch (BufferUnderflowException e) {
+            throw new IllegalStateException("Snapshot " + file + " is corrupted", e);
+        }
+        repository.applyAll(List.of(), matches);
+    }
+
+    private static void flush(ByteBuffer buffer, FileChannel channel, CRC32C crc) throws IOException {
+        buffer.flip();
+        crc.update(buffer.duplicate());
+        writeFully(buffer, channel);
+        buffer.clear();
+    }
+
+    private static void writeFully(ByteBuffer buffer, FileChannel channel) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package org.scoreboard.internal.metrics;
+
+/**
+ * Management interface exposing the size of a scoreboard through JMX.
+ */
+public interface BoardMetricsMXBean {
+
+    int getBoardSize();
+}
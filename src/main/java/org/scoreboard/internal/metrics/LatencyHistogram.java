@@ -0,0 +1,123 @@
+package org.scoreboard.internal.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread safe histogram of latencies in nanoseconds, with log-linear buckets like the HDR histogram: every power
+ * of two range is split into {@value #SUB_BUCKETS} equal buckets, so a recorded value is reported with a relative
+ * error of at most about 3%, and values below {@value #SUB_BUCKETS} ns exactly. The buckets cover all non-negative
+ * {@code long} values, so nothing is ever out of range.
+ * <p>
+ * Recording a value increments its bucket, adds it to the total and updates the maximum if it's exceeded, with no
+ * locks. Latencies of an operation mostly fall into a few buckets, so like {@link LongAdder} the buckets are striped:
+ * threads record into one of up to {@value #MAX_STRIPES} copies of the buckets (as many as there are processors),
+ * picked by the thread id, and {@link #snapshot()} merges them. A copy is allocated when it's first recorded into,
+ * later recording doesn't allocate. {@link #snapshot()} reads the buckets without stopping the recording,
+ * so a snapshot taken concurrently with recording may be off by the values being recorded.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // values up to 2^SUB_BUCKET_BITS take the first two groups of buckets, every higher power of two takes one more
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+    static final int MAX_STRIPES = 16;
+
+    private final AtomicReferenceArray<AtomicLongArray> stripes;
+    private final LongAdder total = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    public LatencyHistogram() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param stripes number of copies of the buckets, rounded up to a power of two and limited to {@value #MAX_STRIPES}
+     */
+    LatencyHistogram(int stripes) {
+        int count = Math.min(Math.max(stripes, 1), MAX_STRIPES);
+        this.stripes = new AtomicReferenceArray<>(Integer.highestOneBit(2 * count - 1));
+    }
+
+    /**
+     * Records specified latency.
+     *
+     * @param nanos the latency in nanoseconds, negative values (e.g. caused by a clock adjustment) are recorded as 0
+     */
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0);
+        stripe().getAndIncrement(bucketOf(value));
+        total.add(value);
+        if (value > max.get()) max.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * @return number of values recorded so far and the distribution of their latencies
+     */
+    public LatencySnapshot snapshot() {
+        long[] counts = new long[BUCKETS];
+        long count = 0;
+        for (int s = 0; s < stripes.length(); s++) {
+            AtomicLongArray stripe = stripes.get(s);
+            if (stripe == null) continue;
+            for (int i = 0; i < BUCKETS; i++) {
+                long bucketCount = stripe.get(i);
+                counts[i] += bucketCount;
+                count += bucketCount;
+            }
+        }
+        if (count == 0) return LatencySnapshot.EMPTY;
+        long maxValue = max.get();
+        return new LatencySnapshot(count, total.sum() / count,
+                valueAt(counts, count, 0.5, maxValue),
+                valueAt(counts, count, 0.9, maxValue),
+                valueAt(counts, count, 0.99, maxValue),
+                valueAt(counts, count, 0.999, maxValue),
+                maxValue);
+    }
+
+    private AtomicLongArray stripe() {
+        // thread ids are sequential, so threads of a pool get distinct stripes as long as there are enough of them
+        int index = (int) Thread.currentThread().getId() & (stripes.length() - 1);
+        AtomicLongArray stripe = stripes.get(index);
+        if (stripe == null) {
+            AtomicLongArray created = new AtomicLongArray(BUCKETS);
+            stripe = stripes.compareAndExchange(index, null, created);
+            if (stripe == null) stripe = created;
+        }
+        return stripe;
+    }
+
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) return (int) value;
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        // the top SUB_BUCKET_BITS + 1 bits of the value, the highest of them always set
+        int mantissa = (int) (value >>> shift);
+        return (shift + 1) * SUB_BUCKETS + mantissa - SUB_BUCKETS;
+    }
+
+    /**
+     * @return the highest value belonging to specified bucket
+     */
+    static long highestValueOf(int bucket) {
+        int group = bucket / SUB_BUCKETS;
+        if (group == 0) return bucket;
+        int shift = group - 1;
+        long lowestValue = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+        return lowestValue + (1L << shift) - 1;
+    }
+
+    private static long valueAt(long[] counts, long count, double quantile, long maxValue) {
+        long rank = Math.max((long) Math.ceil(quantile * count), 1);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) return Math.min(highestValueOf(i), maxValue);
+        }
+        return maxValue;
+    }
+}
@@ -0,0 +1,20 @@
+package org.scoreboard.internal.metrics;
+
+/**
+ * Distribution of latencies recorded by a {@link LatencyHistogram}, all of them in nanoseconds.
+ * Percentiles are the highest values of the buckets they fall into, so they may exceed the recorded values
+ * by about 3%, but never the maximum.
+ *
+ * @param count      number of recorded latencies
+ * @param meanNanos  mean of the latencies
+ * @param p50Nanos   median
+ * @param p90Nanos   90th percentile
+ * @param p99Nanos   99th percentile
+ * @param p999Nanos  99.9th percentile
+ * @param maxNanos   the highest recorded latency
+ */
+public record LatencySnapshot(long count, long meanNanos, long p50Nanos, long p90Nanos, long p99Nanos, long p999Nanos,
+                              long maxNanos) {
+
+    static final LatencySnapshot EMPTY = new LatencySnapshot(0, 0, 0, 0, 0, 0, 0);
+}
@@ -0,0 +1,87 @@
+package org.scoreboard.internal.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures one operation: records the latency of every call and counts calls rejected with an exception by its type.
+ * Recording doesn't allocate, except for counting the first rejection with a new type of exception.
+ * It's thread safe, and it's also the MBean of the operation, every attribute read takes a new snapshot.
+ */
+public class OperationMeter implements OperationMetricsMXBean {
+
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final Map<Class<?>, LongAdder> rejections = new ConcurrentHashMap<>();
+
+    /**
+     * Records a call of the operation, whether it was rejected or not.
+     *
+     * @param nanos latency of the call in nanoseconds
+     */
+    public void record(long nanos) {
+        latency.record(nanos);
+    }
+
+    /**
+     * Counts a call rejected with specified exception, the call has to be {@link #record recorded} too.
+     *
+     * @param exception exception the call was rejected with; cannot be null
+     */
+    public void rejected(Throwable exception) {
+        LongAdder counter = rejections.get(exception.getClass());
+        if (counter == null) counter = rejections.computeIfAbsent(exception.getClass(), type -> new LongAdder());
+        counter.increment();
+    }
+
+    /**
+     * @return metrics of the calls recorded so far
+     */
+    public OperationMetrics snapshot() {
+        Map<String, Long> rejectionCounts = new TreeMap<>();
+        rejections.forEach((type, counter) -> rejectionCounts.put(type.getName(), counter.sum()));
+        LatencySnapshot latencySnapshot = latency.snapshot();
+        return new OperationMetrics(latencySnapshot.count(), rejectionCounts, latencySnapshot);
+    }
+
+    @Override
+    public long getCalls() {
+        return latency.snapshot().count();
+    }
+
+    @Override
+    public Map<String, Long> getRejections() {
+        return snapshot().rejections();
+    }
+
+    @Override
+    public long getMeanNanos() {
+        return latency.snapshot().meanNanos();
+    }
+
+    @Override
+    public long getP50Nanos() {
+        return latency.snapshot().p50Nanos();
+    }
+
+    @Override
+    public long getP90Nanos() {
+        return latency.snapshot().p90Nanos();
+    }
+
+    @Override
+    public long getP99Nanos() {
+        return latency.snapshot().p99Nanos();
+    }
+
+    @Override
+    public long getP999Nanos() {
+        return latency.snapshot().p999Nanos();
+    }
+
+    @Override
+    public long getMaxNanos() {
+        return latency.snapshot().maxNanos();
+    }
+}
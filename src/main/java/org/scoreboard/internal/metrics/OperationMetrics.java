@@ -0,0 +1,24 @@
+package org.scoreboard.internal.metrics;
+
+import java.util.Map;
+
+/**
+ * Metrics of one operation of a scoreboard.
+ *
+ * @param calls      number of calls, including the rejected ones
+ * @param rejections number of calls rejected with an exception, by the name of its class
+ * @param latency    latencies of all calls
+ */
+public record OperationMetrics(long calls, Map<String, Long> rejections, LatencySnapshot latency) {
+
+    public OperationMetrics {
+        rejections = Map.copyOf(rejections);
+    }
+
+    /**
+     * @return number of calls rejected with any exception
+     */
+    public long rejectedCalls() {
+        return rejections.values().stream().mapToLong(Long::longValue).sum();
+    }
+}
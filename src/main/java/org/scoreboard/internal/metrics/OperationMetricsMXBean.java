@@ -0,0 +1,25 @@
+package org.scoreboard.internal.metrics;
+
+import java.util.Map;
+
+/**
+ * Management interface exposing the {@link OperationMetrics} of one operation through JMX.
+ */
+public interface OperationMetricsMXBean {
+
+    long getCalls();
+
+    Map<String, Long> getRejections();
+
+    long getMeanNanos();
+
+    long getP50Nanos();
+
+    long getP90Nanos();
+
+    long getP99Nanos();
+
+    long getP999Nanos();
+
+    long getMaxNanos();
+}
@@ -0,0 +1,24 @@
+package org.scoreboard.internal.metrics;
+
+import java.util.Map;
+
+/**
+ * Snapshot of the metrics of a scoreboard.
+ *
+ * @param boardSize  number of matches in progress
+ * @param operations metrics of every measured operation
+ */
+public record ScoreboardMetrics(int boardSize, Map<ScoreboardOperation, OperationMetrics> operations) {
+
+    public ScoreboardMetrics {
+        operations = Map.copyOf(operations);
+    }
+
+    /**
+     * @param operation the operation; cannot be null
+     * @return metrics of the operation
+     */
+    public OperationMetrics of(ScoreboardOperation operation) {
+        return operations.get(operation);
+    }
+}
@@ -0,0 +1,24 @@
+package org.scoreboard.internal.metrics;
+
+/**
+ * Operations of a {@link org.scoreboard.Scoreboard} whose latencies are measured.
+ */
+public enum ScoreboardOperation {
+    START_MATCH("startMatch"),
+    UPDATE_SCORE("updateScore"),
+    FINISH_MATCH("finishMatch"),
+    GET_MATCHES_SUMMARY("getMatchesSummary");
+
+    private final String methodName;
+
+    ScoreboardOperation(String methodName) {
+        this.methodName = methodName;
+    }
+
+    /**
+     * @return name of the {@link org.scoreboard.Scoreboard} method, used to name the operation's MBean
+     */
+    public String methodName() {
+        return methodName;
+    }
+}
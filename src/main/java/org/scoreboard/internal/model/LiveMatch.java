@@ -0,0 +1,112 @@
+package org.scoreboard.internal.model;
+
+import java.util.Objects;
+
+/**
+ * Represents a match in progress whose score is modified in place. Both scores are packed into a single volatile
+ * {@code long}, so updating the score doesn't allocate and readers always see a consistent pair of scores.
+ * Team names and the start sequence never change.
+ */
+public final class LiveMatch {
+
+    private final String homeTeam;
+    private final String awayTeam;
+    private final long startSequence;
+    private volatile long packedScore;
+    private volatile boolean finished;
+
+    /**
+     * Creates a match with specified team names, 0 - 0 score and the next number of the {@link StartSequence}.
+     *
+     * @param homeTeam name of the home team; cannot be null
+     * @param awayTeam name of the away team; cannot be null
+     */
+    public LiveMatch(String homeTeam, String awayTeam) {
+        this.homeTeam = Objects.requireNonNull(homeTeam, "Home team name cannot be null");
+        this.awayTeam = Objects.requireNonNull(awayTeam, "Away team name cannot be null");
+        this.startSequence = StartSequence.next();
+    }
+
+    public String homeTeam() {
+        return homeTeam;
+    }
+
+    public String awayTeam() {
+        return awayTeam;
+    }
+
+    public long startSequence() {
+        return startSequence;
+    }
+
+    /**
+     * Checks whether this is a match between specified teams.
+     *
+     * @param homeTeam name of the home team
+     * @param awayTeam name of the away team
+     * @return true if both of the team names match, false otherwise
+     */
+    public boolean isBetween(String homeTeam, String awayTeam) {
+        return this.homeTeam.equals(homeTeam) && this.awayTeam.equals(awayTeam);
+    }
+
+    /**
+     * Sets the score of this match.
+     *
+     * @param homeScore score of the home team; cannot be a negative number
+     * @param awayScore score of the away team; cannot be a negative number
+     */
+    public void updateScore(int homeScore, int awayScore) {
+        packedScore = pack(homeScore, awayScore);
+    }
+
+    /**
+     * @return both scores of this match packed into a single value, see {@link #homeScore(long)} and {@link #awayScore(long)}
+     */
+    public long packedScore() {
+        return packedScore;
+    }
+
+    /**
+     * Marks this match as finished, so holders of a direct reference to it can tell it's no longer in progress.
+     */
+    public void markFinished() {
+        finished = true;
+    }
+
+    /**
+     * @return true if the match was {@link #markFinished() finished}, false otherwise
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Creates an immutable {@link Match} snapshot of this match.
+     *
+     * @return the snapshot with a consistent pair of scores
+     */
+    public Match toMatch() {
+        long score = packedScore;
+        return new Match(homeTeam, awayTeam, homeScore(score), awayScore(score), startSequence, null);
+    }
+
+    public static long pack(int homeScore, int awayScore) {
+        return ((long) homeScore << 32) | (awayScore & 0xFFFFFFFFL);
+    }
+
+    public static int homeScore(long packedScore) {
+        return (int) (packedScore >>> 32);
+    }
+
+    public static int awayScore(long packedScore) {
+        return (int) packedScore;
+    }
+
+    @Override
+    public String toString() {
+        long score = packedScore;
+        return "LiveMatch[homeTeam=" + homeTeam + ", awayTeam=" + awayTeam + ", homeScore=" + homeScore(score)
+                + ", awayScore=" + awayScore(score) + ", startSequence=" + startSequence + "]";
+    }
+}
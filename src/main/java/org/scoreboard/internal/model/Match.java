@@ -7,22 +7,25 @@ import java.time.Instant;
 /**
  * Represents a particular match stored by {@link MatchRepository} implementations.
  *
- * @param homeTeam  name of the home team; cannot be null or empty
- * @param awayTeam  name of the away team; cannot be null or empty
- * @param homeScore score of the home team; cannot be a negative number
- * @param awayScore score of the away team; cannot be a negative number
- * @param startedAt timestamp when the match started
+ * @param homeTeam      name of the home team; cannot be null or empty
+ * @param awayTeam      name of the away team; cannot be null or empty
+ * @param homeScore     score of the home team; cannot be a negative number
+ * @param awayScore     score of the away team; cannot be a negative number
+ * @param startSequence number of the match in the {@link StartSequence}, the more recently started matches
+ *                      have greater numbers
+ * @param startedAt     timestamp when the match started, an optional metadata; may be null
  */
-public record Match(String homeTeam, String awayTeam, int homeScore, int awayScore, Instant startedAt) {
+public record Match(String homeTeam, String awayTeam, int homeScore, int awayScore, long startSequence, Instant startedAt) {
 
     /**
-     * Creates the match instance with specified team names. Score will be set to 0 - 0, and the started time to the current one.
+     * Creates the match instance with specified team names. Score will be set to 0 - 0, the start sequence
+     * to the next number of the {@link StartSequence} and the start time won't be recorded.
      *
      * @param homeTeam name of the home team
      * @param awayTeam name of the away team
      */
     public Match(String homeTeam, String awayTeam) {
-        this(homeTeam, awayTeam, 0, 0, Instant.now());
+        this(homeTeam, awayTeam, 0, 0, StartSequence.next(), null);
     }
 
     /**
@@ -33,6 +36,6 @@ public record Match(String homeTeam, String awayTeam, int homeScore, int awaySco
      * @return A copy of a match with modified scores.
      */
     public Match withModifiedScore(int homeScore, int awayScore) {
-        return new Match(homeTeam, awayTeam, homeScore, awayScore, startedAt);
+        return new Match(homeTeam, awayTeam, homeScore, awayScore, startSequence, startedAt);
     }
 }
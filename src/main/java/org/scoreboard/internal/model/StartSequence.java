@@ -0,0 +1,33 @@
+package org.scoreboard.internal.model;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Global, monotonic sequence of match starts, defining which of the matches started more recently.
+ * Unlike wall-clock time, it's never the same for two matches and doesn't go back, so the order of matches
+ * is deterministic, and taking the next number neither calls the system clock nor allocates.
+ */
+public final class StartSequence {
+
+    private static final AtomicLong last = new AtomicLong();
+
+    private StartSequence() {
+    }
+
+    /**
+     * @return number of the next match start, greater than all the numbers taken or {@link #advancePast observed} before
+     */
+    public static long next() {
+        return last.incrementAndGet();
+    }
+
+    /**
+     * Makes sure that the numbers taken afterwards are greater than specified one, e.g. a number of a match restored
+     * from the storage, so matches started after the restored ones are more recent than them.
+     *
+     * @param sequence number of a start taken before, e.g. by a previous run of the application
+     */
+    public static void advancePast(long sequence) {
+        if (last.get() < sequence) last.accumulateAndGet(sequence, Math::max);
+    }
+}
@@ -0,0 +1,68 @@
+package org.scoreboard.internal.repository;
+
+import org.scoreboard.internal.concurrent.TeamLockStripes;
+import org.scoreboard.internal.model.Match;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Thread safe variant of the {@link InMemoryMatchRepository}. Matches are kept in concurrent hash maps, and every
+ * operation holds the {@link TeamLockStripes} of the teams it involves, so operations on unrelated matches don't contend.
+ * <p>
+ * The same stripes can be shared with the caller to make a sequence of repository calls for the same teams atomic.
+ * {@link #listAllMatches()} doesn't lock anything and is weakly consistent.
+ */
+public class ConcurrentMatchRepository extends InMemoryMatchRepository {
+
+    private final TeamLockStripes lockStripes;
+
+    /**
+     * Creates an empty repository with its own lock stripes.
+     */
+    public ConcurrentMatchRepository() {
+        this(new TeamLockStripes());
+    }
+
+    /**
+     * Creates an empty repository using specified lock stripes.
+     *
+     * @param lockStripes lock stripes guarding the teams; cannot be null
+     */
+    public ConcurrentMatchRepository(TeamLockStripes lockStripes) {
+        super(new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+        this.lockStripes = Objects.requireNonNull(lockStripes, "Lock stripes cannot be null");
+    }
+
+    @Override
+    public void save(Match match) {
+        Objects.requireNonNull(match, "Cannot save a null match");
+        lockStripes.runLocked(match.homeTeam(), match.awayTeam(), () -> super.save(match));
+    }
+
+    @Override
+    public boolean containsMatchForTeam(String teamName) {
+        return lockStripes.callLocked(teamName, teamName, () -> super.containsMatchForTeam(teamName));
+    }
+
+    @Override
+    public Optional<Match> get(String homeTeam, String awayTeam) {
+        return lockStripes.callLocked(homeTeam, awayTeam, () -> super.get(homeTeam, awayTeam));
+    }
+
+    @Override
+    public void remove(String homeTeam, String awayTeam) {
+        lockStripes.runLocked(homeTeam, awayTeam, () -> super.remove(homeTeam, awayTeam));
+    }
+
+    @Override
+    public void applyAll(Collection<Match> matchesToRemove, Collection<Match> matchesToSave) {
+        var teams = Stream.concat(matchesToRemove.stream(), matchesToSave.stream())
+                .flatMap(m -> Stream.of(m.homeTeam(), m.awayTeam()))
+                .toList();
+        lockStripes.runLockedAll(teams, () -> super.applyAll(matchesToRemove, matchesToSave));
+    }
+}
@@ -0,0 +1,222 @@
+package org.scoreboard.internal.repository;
+
+import org.scoreboard.internal.model.Match;
+import org.scoreboard.internal.team.TeamRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Implementation of the {@link MatchRepository} interface keyed by team ids assigned by a {@link TeamRegistry}.
+ * As the ids are dense, plain arrays indexed by them serve as primitive int-to-int and int-to-object maps,
+ * so after resolving the team names once, lookups and conflict checks only compare ints and don't allocate.
+ * The methods taking team names resolve them on every call, the int-keyed overloads let callers holding the ids
+ * (e.g. the match handles of {@link org.scoreboard.internal.ScoreboardImpl}) skip it.
+ * <p>
+ * For every team it stores the ids of both teams of its current match, and the match itself under its home team id.
+ * It's not thread safe.
+ */
+public class IdKeyedMatchRepository implements MatchRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(IdKeyedMatchRepository.class);
+    private static final int NO_TEAM = -1;
+
+    private final TeamRegistry teamRegistry;
+    private int[] homeTeamIds = new int[0];
+    private int[] awayTeamIds = new int[0];
+    private Match[] matchesByHomeTeamId = new Match[0];
+    private int matchCount;
+
+    /**
+     * Creates an empty repository with its own {@link TeamRegistry}.
+     */
+    public IdKeyedMatchRepository() {
+        this(new TeamRegistry());
+    }
+
+    /**
+     * Creates an empty repository using specified {@link TeamRegistry}.
+     *
+     * @param teamRegistry registry assigning ids to team names; cannot be null
+     */
+    public IdKeyedMatchRepository(TeamRegistry teamRegistry) {
+        this.teamRegistry = Objects.requireNonNull(teamRegistry, "Team registry cannot be null");
+    }
+
+    @Override
+    public void save(Match match) {
+        log.debug("Saving a match - {}", match);
+        doSave(match);
+    }
+
+    /**
+     * Saves a match whose team ids were resolved before, without resolving its team names.
+     *
+     * @param homeTeamId id of the home team of the match, got from {@link #findTeamId(String)} or the registry
+     * @param awayTeamId id of the away team of the match
+     * @param match      match to be saved; cannot be null
+     * @throws IllegalArgumentException if any of the ids is negative
+     * @throws IllegalStateException    if any of the teams already plays in another match
+     */
+    public void save(int homeTeamId, int awayTeamId, Match match) {
+        log.debug("Saving a match - {}", match);
+        Objects.requireNonNull(match, "Cannot save a null match");
+        if (homeTeamId < 0 || awayTeamId < 0) {
+            throw new IllegalArgumentException("Team ids cannot be negative");
+        }
+        doSave(homeTeamId, awayTeamId, match);
+    }
+
+    private void doSave(Match match) {
+        Objects.requireNonNull(match, "Cannot save a null match");
+        doSave(teamRegistry.register(match.homeTeam()), teamRegistry.register(match.awayTeam()), match);
+    }
+
+    private void doSave(int homeId, int awayId, Match match) {
+        ensureCapacity(Math.max(homeId, awayId));
+
+        checkNoOtherMatch(homeId, homeId, awayId, match);
+        checkNoOtherMatch(awayId, homeId, awayId, match);
+
+        if (matchesByHomeTeamId[homeId] == null) matchCount++;
+        homeTeamIds[homeId] = homeId;
+        awayTeamIds[homeId] = awayId;
+        homeTeamIds[awayId] = homeId;
+        awayTeamIds[awayId] = awayId;
+        matchesByHomeTeamId[homeId] = match;
+    }
+
+    /**
+     * Gets the id of specified team without registering it, so that it can be passed to the int-keyed methods.
+     *
+     * @param teamName name of the team; cannot be null
+     * @return id of the team or {@link TeamRegistry#UNKNOWN_TEAM} if it's not registered
+     */
+    public int findTeamId(String teamName) {
+        return teamRegistry.findId(teamName);
+    }
+
+    @Override
+    public boolean containsMatchForTeam(String teamName) {
+        return containsMatchForTeam(teamRegistry.findId(teamName));
+    }
+
+    /**
+     * Checks whether the repository contains any match for specified team id (either home or away).
+     *
+     * @param teamId id of the team
+     * @return true if such match is present, false otherwise
+     */
+    public boolean containsMatchForTeam(int teamId) {
+        return teamId >= 0 && teamId < homeTeamIds.length && homeTeamIds[teamId] != NO_TEAM;
+    }
+
+    @Override
+    public Optional<Match> get(String homeTeam, String awayTeam) {
+        return get(teamRegistry.findId(homeTeam), teamRegistry.findId(awayTeam));
+    }
+
+    /**
+     * Gets a match for specified team ids from the repository.
+     *
+     * @param homeTeamId id of the home team
+     * @param awayTeamId id of the away team
+     * @return optional with the requested match if present, empty optional otherwise
+     */
+    public Optional<Match> get(int homeTeamId, int awayTeamId) {
+        if (isStored(homeTeamId, awayTeamId)) {
+            return Optional.of(matchesByHomeTeamId[homeTeamId]);
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public void remove(String homeTeam, String awayTeam) {
+        log.debug("Removing the match between {} and {}", homeTeam, awayTeam);
+        doRemove(homeTeam, awayTeam);
+    }
+
+    /**
+     * Removes a match for specified team ids from the repository.
+     *
+     * @param homeTeamId id of the home team
+     * @param awayTeamId id of the away team
+     * @throws IllegalStateException if there is no such match
+     */
+    public void remove(int homeTeamId, int awayTeamId) {
+        log.debug("Removing the match of teams {} and {}", homeTeamId, awayTeamId);
+        if (!isStored(homeTeamId, awayTeamId)) {
+            throw new IllegalStateException(String.format("There is no match of teams %d - %d in the repository",
+                    homeTeamId, awayTeamId));
+        }
+        doRemove(homeTeamId, awayTeamId);
+    }
+
+    private void doRemove(String homeTeam, String awayTeam) {
+        int homeId = teamRegistry.findId(homeTeam);
+        int awayId = teamRegistry.findId(awayTeam);
+
+        if (!isStored(homeId, awayId)) {
+            throw new IllegalStateException(String.format("There is no %s - %s match in the repository", homeTeam, awayTeam));
+        }
+        doRemove(homeId, awayId);
+    }
+
+    private void doRemove(int homeId, int awayId) {
+        homeTeamIds[homeId] = NO_TEAM;
+        awayTeamIds[homeId] = NO_TEAM;
+        homeTeamIds[awayId] = NO_TEAM;
+        awayTeamIds[awayId] = NO_TEAM;
+        matchesByHomeTeamId[homeId] = null;
+        matchCount--;
+    }
+
+    @Override
+    public void applyAll(Collection<Match> matchesToRemove, Collection<Match> matchesToSave) {
+        log.debug("Applying a batch of changes - removing {} and saving {} matches", matchesToRemove.size(), matchesToSave.size());
+        matchesToRemove.forEach(m -> doRemove(m.homeTeam(), m.awayTeam()));
+        matchesToSave.forEach(this::doSave);
+    }
+
+    @Override
+    public List<Match> listAllMatches() {
+        List<Match> matches = new ArrayList<>(matchCount);
+        for (Match match : matchesByHomeTeamId) {
+            if (match != null) matches.add(match);
+        }
+        return List.copyOf(matches);
+    }
+
+    private boolean isStored(int homeId, int awayId) {
+        return homeId >= 0 && homeId < homeTeamIds.length
+                && homeTeamIds[homeId] == homeId && awayTeamIds[homeId] == awayId;
+    }
+
+    private void checkNoOtherMatch(int teamId, int homeId, int awayId, Match match) {
+        int storedHomeId = homeTeamIds[teamId];
+        if (storedHomeId != NO_TEAM && (storedHomeId != homeId || awayTeamIds[teamId] != awayId)) {
+            throw new IllegalStateException(String.format(
+                    "Cannot save the %s - %s match, because there is already a match %s - %s",
+                    match.homeTeam(), match.awayTeam(),
+                    teamRegistry.nameOf(storedHomeId), teamRegistry.nameOf(awayTeamIds[teamId])));
+        }
+    }
+
+    private void ensureCapacity(int maxTeamId) {
+        if (maxTeamId < homeTeamIds.length) return;
+
+        int oldLength = homeTeamIds.length;
+        int newLength = Math.max(16, Math.max(maxTeamId + 1, oldLength * 2));
+        homeTeamIds = Arrays.copyOf(homeTeamIds, newLength);
+        awayTeamIds = Arrays.copyOf(awayTeamIds, newLength);
+        matchesByHomeTeamId = Arrays.copyOf(matchesByHomeTeamId, newLength);
+        Arrays.fill(homeTeamIds, oldLength, newLength, NO_TEAM);
+        Arrays.fill(awayTeamIds, oldLength, newLength, NO_TEAM);
+    }
+}
@@ -4,6 +4,7 @@ import org.scoreboard.internal.model.Match;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -18,12 +19,34 @@ public class InMemoryMatchRepository implements MatchRepository {
 
     private static final Logger log = LoggerFactory.getLogger(InMemoryMatchRepository.class);
 
-    private final Map<String, Match> homeMap = new HashMap<>();
-    private final Map<String, Match> awayMap = new HashMap<>();
+    private final Map<String, Match> homeMap;
+    private final Map<String, Match> awayMap;
+
+    /**
+     * Creates an empty repository backed by hash maps.
+     */
+    public InMemoryMatchRepository() {
+        this(new HashMap<>(), new HashMap<>());
+    }
+
+    /**
+     * Creates a repository backed by specified maps of matches by home and away team names respectively.
+     *
+     * @param homeMap map of matches by the home team name
+     * @param awayMap map of matches by the away team name
+     */
+    protected InMemoryMatchRepository(Map<String, Match> homeMap, Map<String, Match> awayMap) {
+        this.homeMap = homeMap;
+        this.awayMap = awayMap;
+    }
 
     @Override
     public void save(Match match) {
-        log.info("Saving a match - {}", match);
+        log.debug("Saving a match - {}", match);
+        doSave(match);
+    }
+
+    private void doSave(Match match) {
         Objects.requireNonNull(match, "Cannot save a null match");
 
         matchesForTeams(match.homeTeam(), match.awayTeam())
@@ -60,7 +83,11 @@ public class InMemoryMatchRepository implements MatchRepository {
 
     @Override
     public void remove(String homeTeam, String awayTeam) {
-        log.info("Removing the match between {} and {}", homeTeam, awayTeam);
+        log.debug("Removing the match between {} and {}", homeTeam, awayTeam);
+        doRemove(homeTeam, awayTeam);
+    }
+
+    private void doRemove(String homeTeam, String awayTeam) {
         validateTeamName(homeTeam);
         validateTeamName(awayTeam);
 
@@ -75,6 +102,13 @@ public class InMemoryMatchRepository implements MatchRepository {
         }
     }
 
+    @Override
+    public void applyAll(Collection<Match> matchesToRemove, Collection<Match> matchesToSave) {
+        log.debug("Applying a batch of changes - removing {} and saving {} matches", matchesToRemove.size(), matchesToSave.size());
+        matchesToRemove.forEach(m -> doRemove(m.homeTeam(), m.awayTeam()));
+        matchesToSave.forEach(this::doSave);
+    }
+
     @Override
     public List<Match> listAllMatches() {
         return homeMap.values().stream()
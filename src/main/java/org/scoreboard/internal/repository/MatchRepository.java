@@ -2,6 +2,7 @@ package org.scoreboard.internal.repository;
 
 import org.scoreboard.internal.model.Match;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -51,6 +52,22 @@ public interface MatchRepository {
      */
     void remove(String homeTeam, String awayTeam);
 
+    /**
+     * Applies a batch of changes to the repository: firstly removes all specified matches and then stores the other ones.
+     * It's equivalent to calling {@link #remove(String, String)} and {@link #save(Match)} for each of the matches respectively,
+     * but implementations may do it more efficiently.
+     *
+     * @param matchesToRemove matches to be removed, identified by their team names; cannot be null
+     * @param matchesToSave   matches to be stored; cannot be null
+     * @throws NullPointerException  if either of the collections or any of their elements is null
+     * @throws IllegalStateException if any of the matches to remove is not present in the repository,
+     *                               or any of the matches to save conflicts with a different stored match
+     */
+    default void applyAll(Collection<Match> matchesToRemove, Collection<Match> matchesToSave) {
+        matchesToRemove.forEach(m -> remove(m.homeTeam(), m.awayTeam()));
+        matchesToSave.forEach(this::save);
+    }
+
     /**
      * @return a list of matches stored in the repository
      */
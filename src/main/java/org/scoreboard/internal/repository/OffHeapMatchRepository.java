@@ -0,0 +1,301 @@
+package org.scoreboard.internal.repository;
+
+import org.scoreboard.internal.model.Match;
+import org.scoreboard.internal.team.TeamRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Implementation of the {@link MatchRepository} interface storing matches off-heap, meant for boards with millions
+ * of matches, where {@link Match} records and hash map entries would fill the heap and prolong GC pauses.
+ * <p>
+ * Every match is a fixed-width row of a direct {@link ByteBuffer} holding the ids of its teams (assigned by
+ * a {@link TeamRegistry}), their scores, the start sequence and time. Rows of finished matches are chained into a free list
+ * and reused by the next started matches. Rows are found by an open-addressing (linear probing) hash table,
+ * also stored in a direct buffer, mapping the id of each of the two teams to the row of its match.
+ * The matches are materialized as {@link Match} instances only when they're read, a new one by every
+ * {@link #get(String, String)}, so every score update through a scoreboard allocates one.
+ * <p>
+ * Only the storage of the repository is off-heap, the heap of a scoreboard using it isn't flat: {@link
+ * org.scoreboard.internal.ScoreboardImpl} (the only scoreboard taking a repository) keeps every match in progress
+ * in its {@link org.scoreboard.internal.index.RankedMatchIndex} on the heap, to order the summary, so the heap still
+ * grows with the number of matches in progress, though without the hash map entries of the repository. The {@link
+ * TeamRegistry} also keeps every team name it ever registered (ids are never reused, as the registry may be shared),
+ * so the heap grows with the number of distinct team names that have ever played, and a board with ever new team
+ * names (e.g. generated ones) needs a new repository and registry from time to time.
+ * <p>
+ * Both buffers grow by doubling, up to the 2GB limit of a {@link ByteBuffer} (about 53 million matches).
+ * It's not thread safe.
+ */
+public class OffHeapMatchRepository implements MatchRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(OffHeapMatchRepository.class);
+
+    /**
+     * Number of matches the repository has room for before growing its buffers, unless specified otherwise.
+     */
+    public static final int DEFAULT_INITIAL_CAPACITY = 1024;
+
+    private static final int HOME_TEAM_OFFSET = 0;
+    private static final int AWAY_TEAM_OFFSET = 4;
+    private static final int HOME_SCORE_OFFSET = 8;
+    private static final int AWAY_SCORE_OFFSET = 12;
+    private static final int START_SEQUENCE_OFFSET = 16;
+    private static final int STARTED_SECONDS_OFFSET = 24;
+    private static final int STARTED_NANOS_OFFSET = 32;
+    private static final int ROW_SIZE = 40;
+    private static final int NO_START_TIME = -1;
+    // a free row has no home team, and reuses the away team field to point to the next free row
+    private static final int NEXT_FREE_OFFSET = AWAY_TEAM_OFFSET;
+    private static final int FREE = -1;
+    private static final int NO_ROW = -1;
+
+    // a slot of the index holds the team id in its high and the row in its low 32 bits
+    private static final int SLOT_SIZE = Long.BYTES;
+    private static final long EMPTY_SLOT = -1L;
+
+    private final TeamRegistry teamRegistry;
+    private ByteBuffer rows;
+    private int usedRows;
+    private int freeRow = NO_ROW;
+    private int matchCount;
+    private ByteBuffer index;
+    private int indexMask;
+
+    /**
+     * Creates an empty repository with its own {@link TeamRegistry} and {@link #DEFAULT_INITIAL_CAPACITY}.
+     */
+    public OffHeapMatchRepository() {
+        this(new TeamRegistry(), DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * Creates an empty repository.
+     *
+     * @param teamRegistry    registry assigning ids to team names; cannot be null
+     * @param initialCapacity number of matches to allocate the buffers for; has to be positive
+     * @throws IllegalArgumentException if the initial capacity isn't positive
+     */
+    public OffHeapMatchRepository(TeamRegistry teamRegistry, int initialCapacity) {
+        this.teamRegistry = Objects.requireNonNull(teamRegistry, "Team registry cannot be null");
+        if (initialCapacity <= 0) throw new IllegalArgumentException("Initial capacity has to be positive");
+        rows = allocate((long) initialCapacity * ROW_SIZE);
+        // two teams per match and at most half of the slots used
+        allocateIndex(Integer.highestOneBit(Math.max(initialCapacity * 4 - 1, 1)) << 1);
+    }
+
+    @Override
+    public void save(Match match) {
+        log.debug("Saving a match - {}", match);
+        doSave(match);
+    }
+
+    private void doSave(Match match) {
+        Objects.requireNonNull(match, "Cannot save a null match");
+        int homeId = teamRegistry.register(match.homeTeam());
+        int awayId = teamRegistry.register(match.awayTeam());
+
+        int homeRow = findRow(homeId);
+        int awayRow = findRow(awayId);
+        checkNoOtherMatch(homeRow, homeId, awayId, match);
+        checkNoOtherMatch(awayRow, homeId, awayId, match);
+
+        int row = homeRow;
+        if (row == NO_ROW) {
+            row = allocateRow();
+            ensureIndexCapacity();
+            insert(homeId, row);
+            insert(awayId, row);
+            matchCount++;
+        }
+        int offset = row * ROW_SIZE;
+        rows.putInt(offset + HOME_TEAM_OFFSET, homeId);
+        rows.putInt(offset + AWAY_TEAM_OFFSET, awayId);
+        rows.putInt(offset + HOME_SCORE_OFFSET, match.homeScore());
+        rows.putInt(offset + AWAY_SCORE_OFFSET, match.awayScore());
+        rows.putLong(offset + START_SEQUENCE_OFFSET, match.startSequence());
+        Instant startedAt = match.startedAt();
+        rows.putLong(offset + STARTED_SECONDS_OFFSET, startedAt == null ? 0 : startedAt.getEpochSecond());
+        rows.putInt(offset + STARTED_NANOS_OFFSET, startedAt == null ? NO_START_TIME : startedAt.getNano());
+    }
+
+    @Override
+    public boolean containsMatchForTeam(String teamName) {
+        return findRow(teamRegistry.findId(teamName)) != NO_ROW;
+    }
+
+    @Override
+    public Optional<Match> get(String homeTeam, String awayTeam) {
+        int homeId = teamRegistry.findId(homeTeam);
+        int awayId = teamRegistry.findId(awayTeam);
+        int row = findRow(homeId);
+        if (isRowOf(row, homeId, awayId)) {
+            return Optional.of(readMatch(row * ROW_SIZE));
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public void remove(String homeTeam, String awayTeam) {
+        log.debug("Removing the match between {} and {}", homeTeam, awayTeam);
+        doRemove(homeTeam, awayTeam);
+    }
+
+    private void doRemove(String homeTeam, String awayTeam) {
+        int homeId = teamRegistry.findId(homeTeam);
+        int awayId = teamRegistry.findId(awayTeam);
+        int row = findRow(homeId);
+
+        if (!isRowOf(row, homeId, awayId)) {
+            throw new IllegalStateException(String.format("There is no %s - %s match in the repository", homeTeam, awayTeam));
+        }
+        delete(homeId);
+        delete(awayId);
+        int offset = row * ROW_SIZE;
+        rows.putInt(offset + HOME_TEAM_OFFSET, FREE);
+        rows.putInt(offset + NEXT_FREE_OFFSET, freeRow);
+        freeRow = row;
+        matchCount--;
+    }
+
+    @Override
+    public void applyAll(Collection<Match> matchesToRemove, Collection<Match> matchesToSave) {
+        log.debug("Applying a batch of changes - removing {} and saving {} matches", matchesToRemove.size(), matchesToSave.size());
+        matchesToRemove.forEach(m -> doRemove(m.homeTeam(), m.awayTeam()));
+        matchesToSave.forEach(this::doSave);
+    }
+
+    @Override
+    public List<Match> listAllMatches() {
+        List<Match> matches = new ArrayList<>(matchCount);
+        for (int row = 0; row < usedRows; row++) {
+            int offset = row * ROW_SIZE;
+            if (rows.getInt(offset + HOME_TEAM_OFFSET) != FREE) matches.add(readMatch(offset));
+        }
+        return List.copyOf(matches);
+    }
+
+    /**
+     * @return number of matches stored in the repository
+     */
+    public int size() {
+        return matchCount;
+    }
+
+    private Match readMatch(int offset) {
+        int startNanos = rows.getInt(offset + STARTED_NANOS_OFFSET);
+        return new Match(
+                teamRegistry.nameOf(rows.getInt(offset + HOME_TEAM_OFFSET)),
+                teamRegistry.nameOf(rows.getInt(offset + AWAY_TEAM_OFFSET)),
+                rows.getInt(offset + HOME_SCORE_OFFSET),
+                rows.getInt(offset + AWAY_SCORE_OFFSET),
+                rows.getLong(offset + START_SEQUENCE_OFFSET),
+                startNanos == NO_START_TIME ? null : Instant.ofEpochSecond(rows.getLong(offset + STARTED_SECONDS_OFFSET), startNanos));
+    }
+
+    private boolean isRowOf(int row, int homeId, int awayId) {
+        return row != NO_ROW
+                && rows.getInt(row * ROW_SIZE + HOME_TEAM_OFFSET) == homeId
+                && rows.getInt(row * ROW_SIZE + AWAY_TEAM_OFFSET) == awayId;
+    }
+
+    private void checkNoOtherMatch(int row, int homeId, int awayId, Match match) {
+        if (row != NO_ROW && !isRowOf(row, homeId, awayId)) {
+            throw new IllegalStateException(String.format(
+                    "Cannot save the %s - %s match, because there is already a match %s - %s",
+                    match.homeTeam(), match.awayTeam(),
+                    teamRegistry.nameOf(rows.getInt(row * ROW_SIZE + HOME_TEAM_OFFSET)),
+                    teamRegistry.nameOf(rows.getInt(row * ROW_SIZE + AWAY_TEAM_OFFSET))));
+        }
+    }
+
+    private int allocateRow() {
+        if (freeRow != NO_ROW) {
+            int row = freeRow;
+            freeRow = rows.getInt(row * ROW_SIZE + NEXT_FREE_OFFSET);
+            return row;
+        }
+        if ((long) (usedRows + 1) * ROW_SIZE > rows.capacity()) {
+            ByteBuffer grown = allocate(Math.min((long) rows.capacity() * 2, Integer.MAX_VALUE / ROW_SIZE * ROW_SIZE));
+            if (grown.capacity() <= rows.capacity()) throw new IllegalStateException("The repository is full");
+            grown.put(rows.clear());
+            rows = grown;
+        }
+        return usedRows++;
+    }
+
+    private int findRow(int teamId) {
+        if (teamId < 0) return NO_ROW;
+        for (int slot = slotOf(teamId); ; slot = (slot + 1) & indexMask) {
+            long entry = index.getLong(slot * SLOT_SIZE);
+            if (entry == EMPTY_SLOT) return NO_ROW;
+            if ((int) (entry >>> 32) == teamId) return (int) entry;
+        }
+    }
+
+    private void insert(int teamId, int row) {
+        int slot = slotOf(teamId);
+        while (index.getLong(slot * SLOT_SIZE) != EMPTY_SLOT) {
+            slot = (slot + 1) & indexMask;
+        }
+        index.putLong(slot * SLOT_SIZE, ((long) teamId << 32) | (row & 0xFFFFFFFFL));
+    }
+
+    private void delete(int teamId) {
+        int slot = slotOf(teamId);
+        while ((int) (index.getLong(slot * SLOT_SIZE) >>> 32) != teamId) {
+            slot = (slot + 1) & indexMask;
+        }
+        // shifts the following entries of the probe sequence back, so that lookups don't need tombstones
+        for (int next = (slot + 1) & indexMask; ; next = (next + 1) & indexMask) {
+            long entry = index.getLong(next * SLOT_SIZE);
+            if (entry == EMPTY_SLOT) break;
+            int home = slotOf((int) (entry >>> 32));
+            boolean reachableFromSlot = slot <= next ? (home <= slot || home > next) : (home <= slot && home > next);
+            if (reachableFromSlot) {
+                index.putLong(slot * SLOT_SIZE, entry);
+                slot = next;
+            }
+        }
+        index.putLong(slot * SLOT_SIZE, EMPTY_SLOT);
+    }
+
+    private void ensureIndexCapacity() {
+        int slots = indexMask + 1;
+        if ((long) (matchCount + 1) * 4 <= slots) return;
+
+        ByteBuffer oldIndex = index;
+        allocateIndex(slots * 2);
+        for (int slot = 0; slot < slots; slot++) {
+            long entry = oldIndex.getLong(slot * SLOT_SIZE);
+            if (entry != EMPTY_SLOT) insert((int) (entry >>> 32), (int) entry);
+        }
+    }
+
+    private void allocateIndex(int slots) {
+        if ((long) slots * SLOT_SIZE > Integer.MAX_VALUE) throw new IllegalStateException("The repository is full");
+        index = allocate((long) slots * SLOT_SIZE);
+        indexMask = slots - 1;
+        for (int slot = 0; slot < slots; slot++) {
+            index.putLong(slot * SLOT_SIZE, EMPTY_SLOT);
+        }
+    }
+
+    private int slotOf(int teamId) {
+        // Fibonacci hashing spreads consecutive ids, which the team registry assigns, across the table
+        return (int) ((teamId * 0x9E3779B97F4A7C15L) >>> 32) & indexMask;
+    }
+
+    private static ByteBuffer allocate(long capacity) {
+        return ByteBuffer.allocateDirect((int) capacity).order(ByteOrder.nativeOrder());
+    }
+}
@@ -0,0 +1,43 @@
+package org.scoreboard.internal.shared;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * Binary layout of the memory-mapped region shared by {@link SharedSummaryWriter} and {@link SharedSummaryReader}.
+ * All values use the native byte order, as the region is only shared by processes of one host.
+ * <pre>
+ * header (64 bytes): magic (int), format version (int), sequence (long), match count (int), reserved
+ * offsets:           offset of every match (int), in the order of the summary
+ * matches:           home score (int), away score (int), home team length (int), away team length (int),
+ *                    home team (UTF-8), away team (UTF-8)
+ * </pre>
+ * The sequence is the seqlock guarding the rest of the region: it's odd while the writer modifies the region
+ * and incremented again once the modification is complete, so readers retry reads that overlapped a modification.
+ */
+final class SharedSummaryLayout {
+
+    static final int MAGIC = 0x53435348;
+    static final int FORMAT_VERSION = 1;
+
+    static final int MAGIC_OFFSET = 0;
+    static final int FORMAT_VERSION_OFFSET = 4;
+    static final int SEQUENCE_OFFSET = 8;
+    static final int COUNT_OFFSET = 16;
+    static final int HEADER_SIZE = 64;
+
+    static final int HOME_SCORE_OFFSET = 0;
+    static final int AWAY_SCORE_OFFSET = 4;
+    static final int HOME_LENGTH_OFFSET = 8;
+    static final int AWAY_LENGTH_OFFSET = 12;
+    static final int TEAMS_OFFSET = 16;
+
+    /**
+     * Gives the sequence acquire/release semantics, plain {@link java.nio.ByteBuffer} accesses have none.
+     */
+    static final VarHandle SEQUENCE = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    private SharedSummaryLayout() {
+    }
+}
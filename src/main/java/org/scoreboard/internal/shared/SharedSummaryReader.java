@@ -0,0 +1,227 @@
+package org.scoreboard.internal.shared;
+
+import org.scoreboard.MatchSummary;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+import static org.scoreboard.internal.shared.SharedSummaryLayout.*;
+
+/**
+ * Reads the summary published by a {@link SharedSummaryWriter} (typically of another process) directly
+ * from the memory-mapped file, without any calls to the writer. Reads are lock-free: a read overlapping
+ * a modification of the file is detected by the seqlock and retried, so readers always get a consistent summary
+ * and never slow down the writer. A writer that stops in the middle of publishing (e.g. its process dies) would
+ * leave the summary inconsistent for good, so readers wait for it for a limited time only.
+ * <p>
+ * {@link #read(Function)} lets the caller read the matches in place through a {@link SummaryView}, without copying
+ * the summary, {@link #readSummary()} copies it to a list. The reader is thread safe.
+ */
+public class SharedSummaryReader {
+
+    /**
+     * Time a reader waits for the writer to finish publishing a summary by default.
+     */
+    public static final Duration DEFAULT_STALL_TIMEOUT = Duration.ofSeconds(1);
+
+    private static final int SPINS_BETWEEN_CLOCK_READS = 1024;
+
+    private final ByteBuffer region;
+    private final long stallTimeoutNanos;
+
+    /**
+     * Maps the shared file for reading, with {@link #DEFAULT_STALL_TIMEOUT default} stall timeout.
+     *
+     * @param file path of the shared file, created by a {@link SharedSummaryWriter}; cannot be null
+     * @throws IllegalStateException if the file isn't a shared summary file
+     * @throws UncheckedIOException  if the file can't be mapped
+     */
+    public SharedSummaryReader(Path file) {
+        this(file, DEFAULT_STALL_TIMEOUT);
+    }
+
+    /**
+     * Maps the shared file for reading.
+     *
+     * @param file         path of the shared file, created by a {@link SharedSummaryWriter}; cannot be null
+     * @param stallTimeout time to wait for the writer to finish publishing a summary before giving up
+     *                     on reading it; cannot be null or negative
+     * @throws IllegalStateException    if the file isn't a shared summary file
+     * @throws IllegalArgumentException if the stall timeout is negative
+     * @throws UncheckedIOException     if the file can't be mapped
+     */
+    public SharedSummaryReader(Path file, Duration stallTimeout) {
+        Objects.requireNonNull(file, "File cannot be null");
+        Objects.requireNonNull(stallTimeout, "Stall timeout cannot be null");
+        if (stallTimeout.isNegative()) {
+            throw new IllegalArgumentException("Stall timeout cannot be negative");
+        }
+        stallTimeoutNanos = stallTimeout.toNanos();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            region = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).order(ByteOrder.nativeOrder());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot map the shared summary file " + file, e);
+        }
+        if (region.capacity() < HEADER_SIZE || region.getInt(MAGIC_OFFSET) != MAGIC) {
+            throw new IllegalStateException(file + " is not a shared summary file");
+        }
+        if (region.getInt(FORMAT_VERSION_OFFSET) != FORMAT_VERSION) {
+            throw new IllegalStateException("Unsupported format version " + region.getInt(FORMAT_VERSION_OFFSET) + " of " + file);
+        }
+    }
+
+    /**
+     * @return number of summaries published so far, it changes whenever the summary does
+     * @throws IllegalStateException if the writer didn't finish publishing a summary within the stall timeout
+     */
+    public long version() {
+        return stableSequence() / 2;
+    }
+
+    /**
+     * Reads a consistent summary in place. The function may be called multiple times, if the summary is modified
+     * while it's being read, so it shouldn't have side effects, and the view mustn't be used after it returns.
+     *
+     * @param function function reading the summary through the view; cannot be null
+     * @param <T>      type of the result
+     * @return result of the function for a consistent summary
+     * @throws IllegalStateException if the writer didn't finish publishing a summary within the stall timeout
+     */
+    public <T> T read(Function<? super SummaryView, ? extends T> function) {
+        Objects.requireNonNull(function, "Function cannot be null");
+        while (true) {
+            long sequence = stableSequence();
+            SummaryView view = new SummaryView(sequence / 2);
+            T result;
+            try {
+                result = function.apply(view);
+            } catch (RuntimeException e) {
+                // a torn read may find nonsensical offsets, the exception only counts if the summary was consistent
+                if (isUnchanged(sequence)) throw e;
+                continue;
+            }
+            if (isUnchanged(sequence)) return result;
+        }
+    }
+
+    /**
+     * @return copy of a consistent summary
+     * @throws IllegalStateException if the writer didn't finish publishing a summary within the stall timeout
+     */
+    public List<MatchSummary> readSummary() {
+        return read(view -> {
+            List<MatchSummary> matches = new ArrayList<>(view.size());
+            for (int rank = 0; rank < view.size(); rank++) {
+                matches.add(view.match(rank));
+            }
+            return matches;
+        });
+    }
+
+    private long stableSequence() {
+        long sequence = (long) SEQUENCE.getAcquire(region, SEQUENCE_OFFSET);
+        if ((sequence & 1) == 0) return sequence;
+
+        // the clock is read only once the writer didn't finish right away, publishing takes microseconds
+        long start = System.nanoTime();
+        int spins = 0;
+        while (((sequence = (long) SEQUENCE.getAcquire(region, SEQUENCE_OFFSET)) & 1) != 0) {
+            if (++spins % SPINS_BETWEEN_CLOCK_READS == 0) {
+                if (System.nanoTime() - start > stallTimeoutNanos) {
+                    throw new IllegalStateException("Writer stalled publishing summary " + (sequence / 2 + 1));
+                }
+                Thread.yield();
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+        return sequence;
+    }
+
+    private boolean isUnchanged(long sequence) {
+        VarHandle.loadLoadFence();
+        return (long) SEQUENCE.getOpaque(region, SEQUENCE_OFFSET) == sequence;
+    }
+
+    /**
+     * View of the summary read in place from the shared file, valid only within {@link #read(Function)}.
+     * Matches are identified by their zero-based ranks.
+     */
+    public final class SummaryView {
+
+        private final long version;
+
+        private SummaryView(long version) {
+            this.version = version;
+        }
+
+        /**
+         * @return {@link SharedSummaryReader#version() version} of the summary being read
+         */
+        public long version() {
+            return version;
+        }
+
+        /**
+         * @return number of matches in the summary
+         */
+        public int size() {
+            int count = region.getInt(COUNT_OFFSET);
+            // a torn read may find any count, so it's checked before anything is allocated for the matches
+            if (count < 0 || count > (region.capacity() - HEADER_SIZE) / Integer.BYTES) {
+                throw new IllegalStateException("Invalid number of matches " + count);
+            }
+            return count;
+        }
+
+        public int homeScore(int rank) {
+            return region.getInt(offsetOf(rank) + HOME_SCORE_OFFSET);
+        }
+
+        public int awayScore(int rank) {
+            return region.getInt(offsetOf(rank) + AWAY_SCORE_OFFSET);
+        }
+
+        public String homeTeam(int rank) {
+            int offset = offsetOf(rank);
+            return decode(offset + TEAMS_OFFSET, region.getInt(offset + HOME_LENGTH_OFFSET));
+        }
+
+        public String awayTeam(int rank) {
+            int offset = offsetOf(rank);
+            return decode(offset + TEAMS_OFFSET + region.getInt(offset + HOME_LENGTH_OFFSET),
+                    region.getInt(offset + AWAY_LENGTH_OFFSET));
+        }
+
+        /**
+         * @return summary of the match with specified rank
+         */
+        public MatchSummary match(int rank) {
+            return new MatchSummary(homeTeam(rank), awayTeam(rank), homeScore(rank), awayScore(rank));
+        }
+
+        private int offsetOf(int rank) {
+            Objects.checkIndex(rank, size());
+            return region.getInt(HEADER_SIZE + rank * Integer.BYTES);
+        }
+
+        private String decode(int offset, int length) {
+            Objects.checkFromIndexSize(offset, length, region.capacity());
+            byte[] bytes = new byte[length];
+            region.get(offset, bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+}
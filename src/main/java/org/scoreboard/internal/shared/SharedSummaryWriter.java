@@ -0,0 +1,179 @@
+package org.scoreboard.internal.shared;
+
+import org.scoreboard.MatchSummary;
+import org.scoreboard.Scoreboard;
+import org.scoreboard.SummaryUpdate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Flow;
+
+import static org.scoreboard.internal.shared.SharedSummaryLayout.*;
+
+/**
+ * Publishes the summary to a memory-mapped file, so other processes can read it with {@link SharedSummaryReader}
+ * without calling into this JVM. See {@link SharedSummaryLayout} for the layout of the file.
+ * <p>
+ * Summaries can be published directly with {@link #publish(List)}, or the writer can be {@link Scoreboard#subscribe
+ * subscribed} to a scoreboard. Then it rebuilds the summary from the received updates and publishes it after each
+ * of them, requesting the next update only once it's published, so modifications made in the meantime are coalesced.
+ * A summary that doesn't fit into the file isn't published, it's logged as a warning instead.
+ * <p>
+ * There can be only one writer of a file. Its methods are not thread safe, but the subscriber methods are called
+ * sequentially by the scoreboard.
+ */
+public class SharedSummaryWriter implements Flow.Subscriber<SummaryUpdate>, Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(SharedSummaryWriter.class);
+
+    /**
+     * Size of the file, unless specified otherwise.
+     */
+    public static final int DEFAULT_FILE_SIZE = 16 * 1024 * 1024;
+
+    private final MappedByteBuffer region;
+    private long sequence;
+    private List<MatchSummary> summary = List.of();
+    private Flow.Subscription subscription;
+    private boolean closed;
+
+    /**
+     * Creates the file with {@link #DEFAULT_FILE_SIZE} (or reuses it) and publishes an empty summary to it.
+     *
+     * @param file path of the shared file; cannot be null
+     * @throws UncheckedIOException if the file can't be created or mapped
+     */
+    public SharedSummaryWriter(Path file) {
+        this(file, DEFAULT_FILE_SIZE);
+    }
+
+    /**
+     * Creates the file with specified size (or reuses it) and publishes an empty summary to it. A reused file
+     * isn't truncated, as readers may still have it mapped, and its version keeps growing.
+     *
+     * @param file     path of the shared file; cannot be null
+     * @param fileSize size of the file, which limits the size of published summaries; at least 64 bytes
+     * @throws IllegalArgumentException if the file size is smaller than the header of the file
+     * @throws UncheckedIOException     if the file can't be created or mapped
+     */
+    public SharedSummaryWriter(Path file, int fileSize) {
+        Objects.requireNonNull(file, "File cannot be null");
+        if (fileSize < HEADER_SIZE) throw new IllegalArgumentException("File size has to be at least " + HEADER_SIZE + " bytes");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            region = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot map the shared summary file " + file, e);
+        }
+        region.order(ByteOrder.nativeOrder());
+        if (region.getInt(MAGIC_OFFSET) == MAGIC && region.getInt(FORMAT_VERSION_OFFSET) == FORMAT_VERSION) {
+            // rounded up to an even number, in case the previous writer stopped in the middle of publishing
+            sequence = ((long) SEQUENCE.getAcquire(region, SEQUENCE_OFFSET) + 1) & ~1L;
+        } else {
+            region.putInt(FORMAT_VERSION_OFFSET, FORMAT_VERSION);
+            region.putInt(COUNT_OFFSET, 0);
+            SEQUENCE.setRelease(region, SEQUENCE_OFFSET, 0L);
+            // written last, so readers don't accept a file whose header isn't complete yet
+            region.putInt(MAGIC_OFFSET, MAGIC);
+        }
+        publish(List.of());
+    }
+
+    /**
+     * Publishes specified summary, replacing the previous one.
+     *
+     * @param matches the summary to publish; cannot be null
+     * @throws NullPointerException  if the summary is null
+     * @throws IllegalStateException if the summary doesn't fit into the file or the writer is closed
+     */
+    public void publish(List<MatchSummary> matches) {
+        Objects.requireNonNull(matches, "Summary cannot be null");
+        if (closed) throw new IllegalStateException("The writer is closed");
+        byte[][] teams = new byte[matches.size() * 2][];
+        long size = HEADER_SIZE + (long) matches.size() * Integer.BYTES;
+        for (int i = 0; i < matches.size(); i++) {
+            teams[2 * i] = matches.get(i).homeTeam().getBytes(StandardCharsets.UTF_8);
+            teams[2 * i + 1] = matches.get(i).awayTeam().getBytes(StandardCharsets.UTF_8);
+            size += TEAMS_OFFSET + teams[2 * i].length + teams[2 * i + 1].length;
+        }
+        if (size > region.capacity()) {
+            throw new IllegalStateException(String.format("The summary of %d matches takes %d bytes, the file has only %d",
+                    matches.size(), size, region.capacity()));
+        }
+
+        SEQUENCE.setOpaque(region, SEQUENCE_OFFSET, ++sequence);
+        VarHandle.storeStoreFence();
+        region.putInt(COUNT_OFFSET, matches.size());
+        int offset = HEADER_SIZE + matches.size() * Integer.BYTES;
+        for (int i = 0; i < matches.size(); i++) {
+            MatchSummary match = matches.get(i);
+            byte[] homeTeam = teams[2 * i];
+            byte[] awayTeam = teams[2 * i + 1];
+            region.putInt(HEADER_SIZE + i * Integer.BYTES, offset);
+            region.putInt(offset + HOME_SCORE_OFFSET, match.homeScore());
+            region.putInt(offset + AWAY_SCORE_OFFSET, match.awayScore());
+            region.putInt(offset + HOME_LENGTH_OFFSET, homeTeam.length);
+            region.putInt(offset + AWAY_LENGTH_OFFSET, awayTeam.length);
+            region.put(offset + TEAMS_OFFSET, homeTeam);
+            region.put(offset + TEAMS_OFFSET + homeTeam.length, awayTeam);
+            offset += TEAMS_OFFSET + homeTeam.length + awayTeam.length;
+        }
+        SEQUENCE.setRelease(region, SEQUENCE_OFFSET, ++sequence);
+    }
+
+    /**
+     * @return number of summaries published so far, the same as {@link SharedSummaryReader#version()} once readers
+     * see the latest of them
+     */
+    public long version() {
+        return sequence / 2;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        subscription.request(1);
+    }
+
+    @Override
+    public void onNext(SummaryUpdate update) {
+        summary = update.applyTo(summary);
+        if (closed) return;
+        try {
+            publish(summary);
+        } catch (IllegalStateException e) {
+            log.warn("Cannot publish the summary to the shared file", e);
+        }
+        subscription.request(1);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        log.error("Summary updates have failed, the shared summary is no longer updated", throwable);
+    }
+
+    @Override
+    public void onComplete() {
+    }
+
+    /**
+     * Stops publishing, cancelling the subscription if subscribed. The file keeps the last published summary.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        if (subscription != null) subscription.cancel();
+    }
+}
@@ -0,0 +1,96 @@
+package org.scoreboard.internal.team;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Assigns every team name a dense int id (0, 1, 2, ...) on its first registration. Ids never change and are never
+ * reused, so they can be used as indexes of plain arrays instead of hashing and comparing team names on every lookup.
+ * <p>
+ * The registry is thread safe, so it can be shared by multiple repositories.
+ */
+public class TeamRegistry {
+
+    /**
+     * Id returned by {@link #findId(String)} for names that haven't been registered.
+     */
+    public static final int UNKNOWN_TEAM = -1;
+
+    private final Map<String, Integer> idsByName = new ConcurrentHashMap<>();
+    private volatile String[] namesById = new String[16];
+    private volatile int size;
+    // a lock rather than a monitor (or computeIfAbsent, which holds one), so registering doesn't pin virtual threads
+    private final ReentrantLock registrationLock = new ReentrantLock();
+
+    /**
+     * Gets the id of specified team, registering the team if it's not registered yet.
+     *
+     * @param teamName name of the team; cannot be null
+     * @return id of the team
+     * @throws NullPointerException if the team name is null
+     */
+    public int register(String teamName) {
+        Objects.requireNonNull(teamName, "Team name cannot be null");
+        Integer id = idsByName.get(teamName);
+        if (id != null) {
+            return id;
+        }
+        registrationLock.lock();
+        try {
+            id = idsByName.get(teamName);
+            return id != null ? id : assignId(teamName);
+        } finally {
+            registrationLock.unlock();
+        }
+    }
+
+    /**
+     * Gets the id of specified team without registering it.
+     *
+     * @param teamName name of the team; cannot be null
+     * @return id of the team or {@link #UNKNOWN_TEAM} if it's not registered
+     * @throws NullPointerException if the team name is null
+     */
+    public int findId(String teamName) {
+        Objects.requireNonNull(teamName, "Team name cannot be null");
+        Integer id = idsByName.get(teamName);
+        return id != null ? id : UNKNOWN_TEAM;
+    }
+
+    /**
+     * Gets the name of a registered team.
+     *
+     * @param teamId id of the team
+     * @return name of the team
+     * @throws IllegalArgumentException if there is no team with such id
+     */
+    public String nameOf(int teamId) {
+        String[] names = namesById;
+        String name = teamId >= 0 && teamId < names.length ? names[teamId] : null;
+        if (name == null) throw new IllegalArgumentException("There is no team with id " + teamId);
+        return name;
+    }
+
+    /**
+     * @return number of registered teams, which is also the upper bound (exclusive) of their ids
+     */
+    public int size() {
+        return size;
+    }
+
+    private int assignId(String teamName) {
+        int id = size;
+        String[] names = namesById;
+        if (id == names.length) {
+            names = Arrays.copyOf(names, names.length * 2);
+        }
+        names[id] = teamName;
+        namesById = names;
+        size = id + 1;
+        idsByName.put(teamName, id);
+        return id;
+    }
+}
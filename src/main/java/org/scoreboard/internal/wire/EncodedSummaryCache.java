@@ -0,0 +1,151 @@
+package org.scoreboard.internal.wire;
+
+import org.scoreboard.MatchSummary;
+import org.scoreboard.Scoreboard;
+import org.scoreboard.SummaryUpdate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+/**
+ * Keeps the summary of a scoreboard encoded with {@link SummaryWireFormat}, so it's encoded once per modification
+ * rather than once per reader. It has to be {@link Scoreboard#subscribe subscribed} to the scoreboard: it rebuilds
+ * the summary from every received update, encodes it and only then requests the next update, so modifications made
+ * in the meantime are coalesced.
+ * <p>
+ * Readers get the cached encoding without locking and without copying it. As updates are delivered asynchronously,
+ * the encoding may lag behind the scoreboard for a moment after its modification.
+ */
+public class EncodedSummaryCache implements Flow.Subscriber<SummaryUpdate>, Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(EncodedSummaryCache.class);
+
+    private volatile Snapshot snapshot = Snapshot.of(List.of(), 0);
+    private volatile Flow.Subscription subscription;
+
+    /**
+     * @return read-only buffer with the encoded summary between its position and limit, independent of buffers
+     * returned to other readers
+     */
+    public ByteBuffer encodedSummary() {
+        return snapshot.encodedSummary();
+    }
+
+    /**
+     * @return the cached summary
+     */
+    public List<MatchSummary> summary() {
+        return snapshot.summary;
+    }
+
+    /**
+     * @return number of updates the cached summary reflects, it changes whenever the summary does
+     */
+    public long version() {
+        return snapshot.version;
+    }
+
+    /**
+     * @return the cached summary together with its encoding and version, consistent with each other
+     */
+    public Snapshot snapshot() {
+        return snapshot;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        subscription.request(1);
+    }
+
+    @Override
+    public void onNext(SummaryUpdate update) {
+        Snapshot previous = snapshot;
+        snapshot = Snapshot.of(update.applyTo(previous.summary), previous.version + 1);
+        subscription.request(1);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        log.error("Summary updates have failed, the encoded summary is no longer updated", throwable);
+    }
+
+    @Override
+    public void onComplete() {
+    }
+
+    /**
+     * Stops updating the cache, cancelling the subscription if subscribed. The cache keeps the last summary.
+     */
+    @Override
+    public void close() {
+        if (subscription != null) subscription.cancel();
+    }
+
+    /**
+     * The cached summary together with its encoding and version.
+     */
+    public static final class Snapshot {
+
+        private final List<MatchSummary> summary;
+        private final byte[] encodedSummary;
+        private final long version;
+
+        private Snapshot(List<MatchSummary> summary, byte[] encodedSummary, long version) {
+            this.summary = summary;
+            this.encodedSummary = encodedSummary;
+            this.version = version;
+        }
+
+        static Snapshot of(List<MatchSummary> summary, long version) {
+            ByteBuffer bytes = ByteBuffer.allocate(SummaryWireFormat.encodedSize(summary));
+            SummaryWireFormat.encodeSummary(summary, bytes);
+            return new Snapshot(summary, bytes.array(), version);
+        }
+
+        /**
+         * @return the summary
+         */
+        public List<MatchSummary> summary() {
+            return summary;
+        }
+
+        /**
+         * @return number of updates the summary reflects
+         */
+        public long version() {
+            return version;
+        }
+
+        /**
+         * @return read-only buffer with the encoded summary between its position and limit, independent of buffers
+         * returned to other readers
+         */
+        public ByteBuffer encodedSummary() {
+            return ByteBuffer.wrap(encodedSummary).asReadOnlyBuffer();
+        }
+
+        /**
+         * @return length of the encoded summary in bytes
+         */
+        public int encodedSize() {
+            return encodedSummary.length;
+        }
+
+        /**
+         * Writes the encoded summary to specified stream at once, without copying it first.
+         *
+         * @param out stream to write to; cannot be null
+         * @throws IOException if writing to the stream fails
+         */
+        public void writeTo(OutputStream out) throws IOException {
+            out.write(encodedSummary);
+        }
+    }
+}
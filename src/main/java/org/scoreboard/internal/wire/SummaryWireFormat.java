@@ -0,0 +1,321 @@
+package org.scoreboard.internal.wire;
+
+import org.scoreboard.MatchSummary;
+import org.scoreboard.SummaryChange;
+import org.scoreboard.SummaryUpdate;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Compact binary encoding of summaries and {@link SummaryUpdate summary updates}, sent to clients instead of
+ * a textual format. Encoding writes directly into a buffer supplied by the caller, without creating any
+ * intermediate objects (not even byte arrays of team names). Heap buffers are written faster than direct ones,
+ * as ASCII team names are copied straight to their arrays.
+ * <p>
+ * Every message starts with its type (a byte), all the other numbers are unsigned variable-length integers
+ * (7 bits per byte, least significant group first) and team names are UTF-8 bytes preceded by their length:
+ * <pre>
+ * summary: 1, match count, matches: home team, away team, home score, away score
+ * update:  2, change count, changes: kind (a byte) and its fields
+ *          1 (match started):  rank, home team, away team, home score, away score
+ *          2 (score changed):  rank, home team, away team, home score, away score
+ *          3 (rank moved):     home team, away team, previous rank, rank
+ *          4 (match finished): home team, away team, previous rank
+ * </pre>
+ */
+public final class SummaryWireFormat {
+
+    static final byte SUMMARY = 1;
+    static final byte UPDATE = 2;
+    static final byte MATCH_STARTED = 1;
+    static final byte SCORE_CHANGED = 2;
+    static final byte RANK_MOVED = 3;
+    static final byte MATCH_FINISHED = 4;
+
+    private SummaryWireFormat() {
+    }
+
+    /**
+     * @param matches summary to be encoded; cannot be null
+     * @return number of bytes {@link #encodeSummary} writes for the summary
+     */
+    public static int encodedSize(List<MatchSummary> matches) {
+        int size = 1 + varIntSize(matches.size());
+        for (MatchSummary match : matches) {
+            size += matchSize(match);
+        }
+        return size;
+    }
+
+    /**
+     * Writes specified summary to the buffer, starting at its position and advancing it.
+     *
+     * @param matches summary to be encoded; cannot be null
+     * @param target  buffer to write to; cannot be null
+     * @throws BufferOverflowException if the buffer doesn't have enough space, see {@link #encodedSize(List)}
+     */
+    public static void encodeSummary(List<MatchSummary> matches, ByteBuffer target) {
+        target.put(SUMMARY);
+        putVarInt(target, matches.size());
+        for (MatchSummary match : matches) {
+            putMatch(target, match);
+        }
+    }
+
+    /**
+     * Reads a summary written by {@link #encodeSummary}, starting at the position of the buffer and advancing it.
+     *
+     * @param source buffer to read from; cannot be null
+     * @return the decoded summary
+     * @throws IllegalArgumentException if the buffer doesn't contain an encoded summary
+     * @throws BufferUnderflowException if the encoded summary is truncated
+     */
+    public static List<MatchSummary> decodeSummary(ByteBuffer source) {
+        checkType(source, SUMMARY);
+        int count = getCount(source);
+        List<MatchSummary> matches = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            matches.add(getMatch(source));
+        }
+        return matches;
+    }
+
+    /**
+     * @param update update to be encoded; cannot be null
+     * @return number of bytes {@link #encodeUpdate} writes for the update
+     */
+    public static int encodedSize(SummaryUpdate update) {
+        int size = 1 + varIntSize(update.changes().size());
+        for (SummaryChange change : update.changes()) {
+            size += 1;
+            if (change instanceof SummaryChange.MatchStarted started) {
+                size += varIntSize(started.rank()) + matchSize(started.match());
+            } else if (change instanceof SummaryChange.ScoreChanged changed) {
+                size += varIntSize(changed.rank()) + matchSize(changed.match());
+            } else if (change instanceof SummaryChange.RankMoved moved) {
+                size += stringSize(moved.homeTeam()) + stringSize(moved.awayTeam())
+                        + varIntSize(moved.previousRank()) + varIntSize(moved.rank());
+            } else if (change instanceof SummaryChange.MatchFinished finished) {
+                size += stringSize(finished.homeTeam()) + stringSize(finished.awayTeam()) + varIntSize(finished.previousRank());
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Writes specified update to the buffer, starting at its position and advancing it.
+     *
+     * @param update update to be encoded; cannot be null
+     * @param target buffer to write to; cannot be null
+     * @throws BufferOverflowException if the buffer doesn't have enough space, see {@link #encodedSize(SummaryUpdate)}
+     */
+    public static void encodeUpdate(SummaryUpdate update, ByteBuffer target) {
+        target.put(UPDATE);
+        putVarInt(target, update.changes().size());
+        for (SummaryChange change : update.changes()) {
+            if (change instanceof SummaryChange.MatchStarted started) {
+                target.put(MATCH_STARTED);
+                putVarInt(target, started.rank());
+                putMatch(target, started.match());
+            } else if (change instanceof SummaryChange.ScoreChanged changed) {
+                target.put(SCORE_CHANGED);
+                putVarInt(target, changed.rank());
+                putMatch(target, changed.match());
+            } else if (change instanceof SummaryChange.RankMoved moved) {
+                target.put(RANK_MOVED);
+                putString(target, moved.homeTeam());
+                putString(target, moved.awayTeam());
+                putVarInt(target, moved.previousRank());
+                putVarInt(target, moved.rank());
+            } else if (change instanceof SummaryChange.MatchFinished finished) {
+                target.put(MATCH_FINISHED);
+                putString(target, finished.homeTeam());
+                putString(target, finished.awayTeam());
+                putVarInt(target, finished.previousRank());
+            }
+        }
+    }
+
+    /**
+     * Reads an update written by {@link #encodeUpdate}, starting at the position of the buffer and advancing it.
+     *
+     * @param source buffer to read from; cannot be null
+     * @return the decoded update
+     * @throws IllegalArgumentException if the buffer doesn't contain an encoded update
+     * @throws BufferUnderflowException if the encoded update is truncated
+     */
+    public static SummaryUpdate decodeUpdate(ByteBuffer source) {
+        checkType(source, UPDATE);
+        int count = getCount(source);
+        List<SummaryChange> changes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            byte kind = source.get();
+            changes.add(switch (kind) {
+                case MATCH_STARTED -> {
+                    int rank = getVarInt(source);
+                    yield new SummaryChange.MatchStarted(getMatch(source), rank);
+                }
+                case SCORE_CHANGED -> {
+                    int rank = getVarInt(source);
+                    yield new SummaryChange.ScoreChanged(getMatch(source), rank);
+                }
+                case RANK_MOVED -> new SummaryChange.RankMoved(getString(source), getString(source),
+                        getVarInt(source), getVarInt(source));
+                case MATCH_FINISHED -> new SummaryChange.MatchFinished(getString(source), getString(source),
+                        getVarInt(source));
+                default -> throw new IllegalArgumentException("Unknown kind of change " + kind);
+            });
+        }
+        return new SummaryUpdate(changes);
+    }
+
+    private static int matchSize(MatchSummary match) {
+        return stringSize(match.homeTeam()) + stringSize(match.awayTeam())
+                + varIntSize(match.homeScore()) + varIntSize(match.awayScore());
+    }
+
+    private static void putMatch(ByteBuffer target, MatchSummary match) {
+        putString(target, match.homeTeam());
+        putString(target, match.awayTeam());
+        putVarInt(target, match.homeScore());
+        putVarInt(target, match.awayScore());
+    }
+
+    private static MatchSummary getMatch(ByteBuffer source) {
+        return new MatchSummary(getString(source), getString(source), getVarInt(source), getVarInt(source));
+    }
+
+    private static void checkType(ByteBuffer source, byte type) {
+        byte actualType = source.get();
+        if (actualType != type) {
+            throw new IllegalArgumentException(String.format("Expected a message of type %d, but got %d", type, actualType));
+        }
+    }
+
+    private static int getCount(ByteBuffer source) {
+        int count = getVarInt(source);
+        // every element takes at least one byte, so a larger count can't be valid
+        if (count > source.remaining()) throw new IllegalArgumentException("Invalid number of elements " + count);
+        return count;
+    }
+
+    static int varIntSize(int value) {
+        int size = 1;
+        while ((value & ~0x7F) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+
+    static void putVarInt(ByteBuffer target, int value) {
+        if ((value & ~0x7F) == 0) {
+            target.put((byte) value);
+            return;
+        }
+        while ((value & ~0x7F) != 0) {
+            target.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        target.put((byte) value);
+    }
+
+    static int getVarInt(ByteBuffer source) {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte b = source.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) return value;
+        }
+        throw new IllegalArgumentException("Malformed variable-length integer");
+    }
+
+    static int stringSize(String value) {
+        int length = utf8Length(value);
+        return varIntSize(length) + length;
+    }
+
+    /**
+     * Writes the UTF-8 bytes of the string one by one, equivalent to {@code value.getBytes(UTF_8)} (including
+     * replacing unpaired surrogates with '?'), but without allocating the array.
+     */
+    static void putString(ByteBuffer target, String value) {
+        int length = utf8Length(value);
+        putVarInt(target, length);
+        if (length == value.length() && target.hasArray()) {
+            // one byte per character: ASCII characters or unpaired surrogates (replaced with '?'),
+            // written directly to the array backing the buffer
+            if (target.remaining() < length) throw new BufferOverflowException();
+            byte[] array = target.array();
+            int offset = target.arrayOffset() + target.position();
+            for (int i = 0; i < length; i++) {
+                char c = value.charAt(i);
+                array[offset + i] = c < 0x80 ? (byte) c : (byte) '?';
+            }
+            target.position(target.position() + length);
+            return;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                target.put((byte) c);
+            } else if (c < 0x800) {
+                target.put((byte) (0xC0 | c >> 6));
+                target.put((byte) (0x80 | c & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                    target.put((byte) (0xF0 | codePoint >> 18));
+                    target.put((byte) (0x80 | codePoint >> 12 & 0x3F));
+                    target.put((byte) (0x80 | codePoint >> 6 & 0x3F));
+                    target.put((byte) (0x80 | codePoint & 0x3F));
+                } else {
+                    target.put((byte) '?');
+                }
+            } else {
+                target.put((byte) (0xE0 | c >> 12));
+                target.put((byte) (0x80 | c >> 6 & 0x3F));
+                target.put((byte) (0x80 | c & 0x3F));
+            }
+        }
+    }
+
+    static String getString(ByteBuffer source) {
+        int length = getVarInt(source);
+        if (length > source.remaining()) throw new BufferUnderflowException();
+        if (source.hasArray()) {
+            String value = new String(source.array(), source.arrayOffset() + source.position(), length, StandardCharsets.UTF_8);
+            source.position(source.position() + length);
+            return value;
+        }
+        byte[] bytes = new byte[length];
+        source.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int utf8Length(String value) {
+        Objects.requireNonNull(value, "Team name cannot be null");
+        int length = value.length();
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= 0x800 && Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    // two chars, four bytes
+                    length += 2;
+                    i++;
+                }
+            } else if (c >= 0x800) {
+                length += 2;
+            } else if (c >= 0x80) {
+                length += 1;
+            }
+        }
+        return length;
+    }
+}
@@ -0,0 +1,13 @@
+package org.scoreboard;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MatchSummaryTest {
+
+    @Test
+    public void toStringShouldPrintDecimalScores() {
+        assertThat(new MatchSummary("Spain", "Brazil", 10, 2)).hasToString("Spain 10 - 2 Brazil");
+    }
+}
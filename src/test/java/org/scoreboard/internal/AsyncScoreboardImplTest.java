@@ -0,0 +1,90 @@
+package org.scoreboard.internal;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.scoreboard.AsyncScoreboard;
+import org.scoreboard.MatchSummary;
+import org.scoreboard.ScoreEvent;
+import org.scoreboard.Scoreboard;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AsyncScoreboardImplTest {
+
+    private ExecutorService executor;
+    private Scoreboard scoreboard;
+    private AsyncScoreboard asyncScoreboard;
+
+    @BeforeEach
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(8);
+        scoreboard = Scoreboard.getThreadSafeInstance();
+        asyncScoreboard = AsyncScoreboard.of(scoreboard, executor);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void operationsShouldBeAppliedToTheScoreboard() {
+        //when
+        asyncScoreboard.startMatch("Mexico", "Canada")
+                .thenCompose(ignored -> asyncScoreboard.updateScore("Mexico", "Canada", 0, 5))
+                .toCompletableFuture().join();
+        List<MatchSummary> summary = asyncScoreboard.getMatchesSummary().toCompletableFuture().join();
+
+        //then
+        assertThat(summary).containsExactly(new MatchSummary("Mexico", "Canada", 0, 5));
+        assertThat(scoreboard.getMatchesSummary()).isEqualTo(summary);
+    }
+
+    @Test
+    public void failedOperationShouldCompleteItsStageExceptionally() {
+        //when
+        var stage = asyncScoreboard.finishMatch("Mexico", "Canada");
+
+        //then
+        var exception = assertThrows(CompletionException.class, () -> stage.toCompletableFuture().join());
+        assertThat(exception).hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void batchShouldReportItsFailures() {
+        //when
+        var result = asyncScoreboard.applyAll(List.of(
+                ScoreEvent.start("Mexico", "Canada"),
+                ScoreEvent.finish("Spain", "Brazil"))).toCompletableFuture().join();
+
+        //then
+        assertThat(result.appliedCount()).isEqualTo(1);
+        assertThat(result.failures()).hasSize(1);
+    }
+
+    @Test
+    public void manyConcurrentClientsShouldAllBeServed() {
+        //given
+        int clients = 10_000;
+
+        //when
+        CompletableFuture<?>[] stages = IntStream.range(0, clients)
+                .mapToObj(i -> asyncScoreboard.startMatch("home" + i, "away" + i)
+                        .thenCompose(ignored -> asyncScoreboard.updateScore("home" + i, "away" + i, 1, 0))
+                        .toCompletableFuture())
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(stages).join();
+
+        //then
+        assertThat(scoreboard.getMatchesSummary()).hasSize(clients).allMatch(match -> match.homeScore() == 1);
+    }
+}
@@ -0,0 +1,180 @@
+package org.scoreboard.internal;
+
+import org.junit.jupiter.api.Test;
+import org.scoreboard.MatchSummary;
+import org.scoreboard.Scoreboard;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ConcurrentScoreboardImplTest extends ScoreboardImplTest {
+
+    private static final int THREADS = 8;
+
+    @Override
+    Scoreboard createScoreboard() {
+        return new ConcurrentScoreboardImpl();
+    }
+
+    @Test
+    public void concurrentStartsOfMatchesSharingATeamShouldLetOnlyOneOfThemStart() throws Exception {
+        for (int round = 0; round < 20; round++) {
+            //given
+            var started = new AtomicInteger();
+            var startSignal = new CountDownLatch(1);
+
+            //when
+            runConcurrently(IntStream.range(0, THREADS)
+                    .mapToObj(i -> (Callable<Void>) () -> {
+                        startSignal.await();
+                        try {
+                            scoreboard.startMatch(i % 2 == 0 ? "sharedTeam" : "team" + i, i % 2 == 0 ? "team" + i : "sharedTeam");
+                            started.incrementAndGet();
+                        } catch (IllegalStateException e) {
+                            // the shared team already plays
+                        }
+                        return null;
+                    })
+                    .toList(), startSignal);
+
+            //then
+            assertThat(started).hasValue(1);
+            var summary = scoreboard.getMatchesSummary();
+            assertThat(summary).hasSize(1);
+            scoreboard.finishMatch(summary.get(0).homeTeam(), summary.get(0).awayTeam());
+        }
+    }
+
+    @Test
+    public void concurrentFinishesOfTheSameMatchShouldLetOnlyOneOfThemSucceed() throws Exception {
+        //given
+        startFirstMatch();
+        var finished = new AtomicInteger();
+        var startSignal = new CountDownLatch(1);
+
+        //when
+        runConcurrently(IntStream.range(0, THREADS)
+                .mapToObj(i -> (Callable<Void>) () -> {
+                    startSignal.await();
+                    try {
+                        finishFirstMatch();
+                        finished.incrementAndGet();
+                    } catch (IllegalStateException e) {
+                        // already finished by another thread
+                    }
+                    return null;
+                })
+                .toList(), startSignal);
+
+        //then
+        assertThat(finished).hasValue(1);
+        assertThat(scoreboard.getMatchesSummary()).isEmpty();
+    }
+
+    @Test
+    public void concurrentUpdatesOfUnrelatedMatchesShouldAllBeApplied() throws Exception {
+        //given
+        int matchesPerThread = 50;
+        int updatesPerMatch = 10;
+
+        //when
+        runConcurrently(IntStream.range(0, THREADS)
+                .mapToObj(t -> (Callable<Void>) () -> {
+                    for (int m = 0; m < matchesPerThread; m++) {
+                        String home = "home" + t + "_" + m;
+                        String away = "away" + t + "_" + m;
+                        scoreboard.startMatch(home, away);
+                        for (int goal = 1; goal <= updatesPerMatch; goal++) {
+                            scoreboard.updateScore(home, away, goal, m);
+                        }
+                        if (m % 2 == 0) scoreboard.finishMatch(home, away);
+                    }
+                    return null;
+                })
+                .toList(), null);
+
+        //then
+        var summary = scoreboard.getMatchesSummary();
+        assertThat(summary)
+                .hasSize(THREADS * matchesPerThread / 2)
+                .allSatisfy(s -> {
+                    int m = Integer.parseInt(s.homeTeam().substring(s.homeTeam().indexOf('_') + 1));
+                    assertThat(m % 2).isEqualTo(1);
+                    assertThat(s.homeScore()).isEqualTo(updatesPerMatch);
+                    assertThat(s.awayScore()).isEqualTo(m);
+                });
+        assertThat(summary).isSortedAccordingTo(
+                (s1, s2) -> Integer.compare(s2.homeScore() + s2.awayScore(), s1.homeScore() + s1.awayScore()));
+    }
+
+    @Test
+    public void randomConcurrentOperationsShouldKeepEveryTeamInAtMostOneMatch() throws Exception {
+        //given
+        var teams = IntStream.range(0, 16).mapToObj(i -> "team" + i).toList();
+
+        //when
+        runConcurrently(IntStream.range(0, THREADS)
+                .mapToObj(t -> (Callable<Void>) () -> {
+                    var random = ThreadLocalRandom.current();
+                    for (int i = 0; i < 2_000; i++) {
+                        String home = teams.get(random.nextInt(teams.size()));
+                        String away = teams.get(random.nextInt(teams.size()));
+                        if (home.equals(away)) continue;
+                        try {
+                            switch (random.nextInt(3)) {
+                                case 0 -> scoreboard.startMatch(home, away);
+                                case 1 -> scoreboard.updateScore(home, away, random.nextInt(10), random.nextInt(10));
+                                default -> scoreboard.finishMatch(home, away);
+                            }
+                        } catch (IllegalStateException e) {
+                            // expected when the operation doesn't fit the current state of the board
+                        }
+                    }
+                    return null;
+                })
+                .toList(), null);
+
+        //then
+        var summary = scoreboard.getMatchesSummary();
+        var playingTeams = summary.stream()
+                .flatMap(s -> Stream.of(s.homeTeam(), s.awayTeam()))
+                .toList();
+        assertThat(playingTeams).doesNotHaveDuplicates();
+        for (MatchSummary s : summary) {
+            assertThrows(IllegalStateException.class, () -> scoreboard.startMatch(s.homeTeam(), "otherTeam"));
+            assertThrows(IllegalStateException.class, () -> scoreboard.startMatch("otherTeam", s.awayTeam()));
+            scoreboard.updateScore(s.homeTeam(), s.awayTeam(), 1, 1);
+        }
+        var notPlayingTeams = new ArrayList<>(teams);
+        notPlayingTeams.removeAll(playingTeams);
+        for (int i = 0; i + 1 < notPlayingTeams.size(); i += 2) {
+            scoreboard.startMatch(notPlayingTeams.get(i), notPlayingTeams.get(i + 1));
+        }
+        assertThat(scoreboard.getMatchesSummary()).hasSize(summary.size() + notPlayingTeams.size() / 2);
+    }
+
+    private static void runConcurrently(List<Callable<Void>> tasks, CountDownLatch startSignal) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(tasks.size());
+        try {
+            List<Future<Void>> futures = tasks.stream().map(executor::submit).toList();
+            if (startSignal != null) startSignal.countDown();
+            for (Future<Void> future : futures) future.get();
+        } finally {
+            executor.shutdown();
+            assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+}
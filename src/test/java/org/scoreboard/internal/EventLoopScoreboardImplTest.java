@@ -0,0 +1,181 @@
+package org.scoreboard.internal;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.scoreboard.BatchResult;
+import org.scoreboard.ScoreEvent;
+import org.scoreboard.Scoreboard;
+import org.scoreboard.internal.audit.AuditLog;
+import org.scoreboard.internal.compare.DefaultComparatorSupplier;
+import org.scoreboard.internal.convert.MatchToMatchSummaryConverter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EventLoopScoreboardImplTest extends ConcurrentScoreboardImplTest {
+
+    @Override
+    Scoreboard createScoreboard() {
+        return new EventLoopScoreboardImpl();
+    }
+
+    @AfterEach
+    public void closeScoreboard() {
+        ((EventLoopScoreboardImpl) scoreboard).close();
+    }
+
+    @Test
+    public void failedCommandShouldCompleteItsFutureExceptionally() {
+        //given
+        var eventLoopScoreboard = (EventLoopScoreboardImpl) scoreboard;
+
+        //when
+        var future = eventLoopScoreboard.updateScoreAsync(HOME_TEAM1, AWAY_TEAM1, 1, 0);
+
+        //then
+        var exception = assertThrows(CompletionException.class, future::join);
+        assertThat(exception).hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void commandsOfOneProducerShouldBeAppliedInTheirOrder() {
+        //given
+        var eventLoopScoreboard = (EventLoopScoreboardImpl) scoreboard;
+
+        //when
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        futures.add(eventLoopScoreboard.startMatchAsync(HOME_TEAM1, AWAY_TEAM1));
+        for (int goals = 1; goals <= 1_000; goals++) {
+            futures.add(eventLoopScoreboard.updateScoreAsync(HOME_TEAM1, AWAY_TEAM1, goals, 0));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        //then
+        assertThat(scoreboard.getMatchesSummary()).containsExactly(firstMatchSummary(1_000, 0));
+    }
+
+    @Test
+    public void asyncViewShouldApplyOperationsThroughTheEventLoop() {
+        //given
+        var asyncScoreboard = ((EventLoopScoreboardImpl) scoreboard).async();
+
+        //when
+        asyncScoreboard.startMatch(HOME_TEAM1, AWAY_TEAM1)
+                .thenCompose(ignored -> asyncScoreboard.updateScore(HOME_TEAM1, AWAY_TEAM1, 2, 1))
+                .toCompletableFuture().join();
+        var failure = asyncScoreboard.finishMatch(HOME_TEAM2, AWAY_TEAM2).toCompletableFuture();
+
+        //then
+        assertThat(asyncScoreboard.getMatchesSummary().toCompletableFuture().join())
+                .containsExactly(firstMatchSummary(2, 1));
+        var exception = assertThrows(CompletionException.class, failure::join);
+        assertThat(exception).hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void batchOfEventsShouldReportFailuresRelativeToItself() {
+        //given
+        var eventLoopScoreboard = (EventLoopScoreboardImpl) scoreboard;
+        startFirstMatch();
+
+        //when
+        var otherCommand = eventLoopScoreboard.startMatchAsync(HOME_TEAM2, AWAY_TEAM2);
+        var result = eventLoopScoreboard.applyAllAsync(List.of(
+                ScoreEvent.update(HOME_TEAM1, AWAY_TEAM1, 1, 0),
+                ScoreEvent.finish(HOME_TEAM3, AWAY_TEAM3))).join();
+
+        //then
+        otherCommand.join();
+        assertThat(result.appliedCount()).isEqualTo(1);
+        assertThat(result.failures()).singleElement().extracting(BatchResult.EventFailure::index).isEqualTo(1);
+    }
+
+    @Test
+    public void commandsOfManyProducersShouldAllBeApplied() throws Exception {
+        //given
+        var eventLoopScoreboard = new EventLoopScoreboardImpl(16, DefaultComparatorSupplier.get(),
+                new MatchToMatchSummaryConverter(), AuditLog.disabled());
+        int producers = 8;
+        int updatesPerProducer = 2_000;
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+
+        //when
+        List<Future<?>> results = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            String homeTeam = "home" + p;
+            String awayTeam = "away" + p;
+            results.add(executor.submit(() -> {
+                eventLoopScoreboard.startMatch(homeTeam, awayTeam);
+                for (int goals = 1; goals <= updatesPerProducer; goals++) {
+                    eventLoopScoreboard.updateScoreAsync(homeTeam, awayTeam, goals, 0);
+                }
+                eventLoopScoreboard.updateScore(homeTeam, awayTeam, updatesPerProducer, 1);
+            }));
+        }
+        for (Future<?> result : results) result.get();
+        executor.shutdown();
+        eventLoopScoreboard.close();
+
+        //then
+        assertThat(eventLoopScoreboard.getMatchesSummary()).hasSize(producers)
+                .allMatch(match -> match.homeScore() == updatesPerProducer && match.awayScore() == 1);
+    }
+
+    @Test
+    public void commandsAfterClosingShouldBeRejected() {
+        //given
+        var eventLoopScoreboard = (EventLoopScoreboardImpl) scoreboard;
+        startFirstMatch();
+
+        //when
+        eventLoopScoreboard.close();
+
+        //then
+        assertThrows(IllegalStateException.class, this::startSecondMatch);
+        assertThrows(CompletionException.class, () -> eventLoopScoreboard.finishMatchAsync(HOME_TEAM1, AWAY_TEAM1).join());
+        assertThat(scoreboard.getMatchesSummary()).containsExactly(firstMatchSummary(0, 0));
+    }
+
+    @Test
+    public void dependentStagesOnTheEventLoopShouldFailFastInsteadOfWaitingForIt() {
+        //given
+        var eventLoopScoreboard = (EventLoopScoreboardImpl) scoreboard;
+        startFirstMatch();
+
+        //when
+        var syncUpdate = runOnEventLoop(() -> eventLoopScoreboard.updateScore(HOME_TEAM1, AWAY_TEAM1, 1, 0));
+        var closing = runOnEventLoop(eventLoopScoreboard::close);
+        var asyncUpdate = new CompletableFuture<CompletableFuture<Void>>();
+        runOnEventLoop(() -> asyncUpdate.complete(eventLoopScoreboard.updateScoreAsync(HOME_TEAM1, AWAY_TEAM1, 2, 0))).join();
+
+        //then
+        assertThat(assertThrows(CompletionException.class, syncUpdate::join)).hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(assertThrows(CompletionException.class, closing::join)).hasCauseInstanceOf(IllegalStateException.class);
+        asyncUpdate.join().join();
+        assertThat(scoreboard.getMatchesSummary()).containsExactly(firstMatchSummary(2, 0));
+    }
+
+    /**
+     * Runs the action in a dependent stage of a command, retrying until the command isn't completed yet when
+     * the stage is attached, so that the stage runs on the event loop thread.
+     */
+    private CompletableFuture<Void> runOnEventLoop(Runnable action) {
+        var eventLoopScoreboard = (EventLoopScoreboardImpl) scoreboard;
+        while (true) {
+            var stage = eventLoopScoreboard.applyAllAsync(List.of()).thenApply(ignored -> {
+                if (!Thread.currentThread().getName().equals("scoreboard-event-loop")) return false;
+                action.run();
+                return true;
+            });
+            if (stage.exceptionally(e -> true).join()) return stage.thenAccept(ignored -> { });
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package org.scoreboard.internal;
+
+import org.junit.jupiter.api.Test;
+import org.scoreboard.Scoreboard;
+import org.scoreboard.internal.compare.DefaultComparatorSupplier;
+import org.scoreboard.internal.convert.MatchToMatchSummaryConverter;
+import org.scoreboard.internal.repository.IdKeyedMatchRepository;
+import org.scoreboard.internal.team.TeamRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdKeyedScoreboardImplTest extends ScoreboardImplTest {
+
+    static class CountingTeamRegistry extends TeamRegistry {
+        int lookups;
+
+        @Override
+        public int register(String teamName) {
+            lookups++;
+            return super.register(teamName);
+        }
+
+        @Override
+        public int findId(String teamName) {
+            lookups++;
+            return super.findId(teamName);
+        }
+    }
+
+    private final CountingTeamRegistry teamRegistry = new CountingTeamRegistry();
+
+    @Override
+    Scoreboard createScoreboard() {
+        return new ScoreboardImpl(new IdKeyedMatchRepository(teamRegistry), DefaultComparatorSupplier.get(),
+                new MatchToMatchSummaryConverter());
+    }
+
+    @Test
+    public void matchHandleShouldNotResolveTheTeamNamesAgain() {
+        //given
+        startSecondMatch();
+        var handle = scoreboard.startMatchWithHandle(HOME_TEAM1, AWAY_TEAM1);
+        int lookups = teamRegistry.lookups;
+
+        //when
+        handle.updateScore(1, 0);
+        handle.updateScore(2, 0);
+        var summary = scoreboard.getMatchesSummary();
+        handle.finish();
+
+        //then
+        assertThat(teamRegistry.lookups).isEqualTo(lookups);
+        assertThat(summary).containsExactly(firstMatchSummary(2, 0), secondMatchSummary(0, 0));
+        assertThat(scoreboard.getMatchesSummary()).containsExactly(secondMatchSummary(0, 0));
+    }
+}
@@ -0,0 +1,117 @@
+package org.scoreboard.internal;
+
+import org.junit.jupiter.api.Test;
+import org.scoreboard.MatchSummary;
+import org.scoreboard.Scoreboard;
+import org.scoreboard.internal.audit.AuditLog;
+import org.scoreboard.internal.compare.DefaultComparatorSupplier;
+import org.scoreboard.internal.convert.MatchToMatchSummaryConverter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class InPlaceScoreboardImplTest extends ScoreboardImplTest {
+
+    @Override
+    Scoreboard createScoreboard() {
+        return new InPlaceScoreboardImpl();
+    }
+
+    @Test
+    public void previouslyReturnedSummaryShouldNotBeAffectedByLaterUpdates() {
+        //given
+        startFirstMatch();
+        updateFirstMatch(1, 0);
+        var initialSummary = scoreboard.getMatchesSummary();
+
+        //when
+        updateFirstMatch(2, 0);
+
+        //then
+        assertThat(initialSummary).containsExactly(firstMatchSummary(1, 0));
+        assertThat(scoreboard.getMatchesSummary()).containsExactly(firstMatchSummary(2, 0));
+    }
+
+    @Test
+    public void concurrentUpdatesAndReadsShouldAlwaysSeeConsistentPairsOfScores() throws Exception {
+        //given
+        startFirstMatch();
+        startSecondMatch();
+        var writing = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<?>> futures = new ArrayList<>();
+
+        //when
+        try {
+            futures.add(executor.submit(() -> {
+                for (int goals = 1; goals <= 20_000; goals++) updateFirstMatch(goals, goals);
+            }));
+            futures.add(executor.submit(() -> {
+                for (int goals = 1; goals <= 20_000; goals++) updateSecondMatch(goals, goals);
+            }));
+            for (int r = 0; r < 2; r++) {
+                futures.add(executor.submit(() -> {
+                    while (writing.get()) {
+                        List<MatchSummary> summary = scoreboard.getMatchesSummary();
+                        assertThat(summary).hasSize(2).allMatch(s -> s.homeScore() == s.awayScore());
+                    }
+                }));
+            }
+            futures.get(0).get();
+            futures.get(1).get();
+            writing.set(false);
+            for (Future<?> reader : futures.subList(2, 4)) reader.get();
+        } finally {
+            writing.set(false);
+            executor.shutdown();
+            assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        }
+
+        //then
+        assertThat(scoreboard.getMatchesSummary())
+                .containsExactlyInAnyOrder(firstMatchSummary(20_000, 20_000), secondMatchSummary(20_000, 20_000));
+    }
+
+    @Test
+    public void handleOfFinishedMatchShouldNotUpdateANewMatchOfTheSameTeams() {
+        //given
+        var handle = scoreboard.startMatchWithHandle(HOME_TEAM1, AWAY_TEAM1);
+        finishFirstMatch();
+        var newHandle = scoreboard.startMatchWithHandle(HOME_TEAM1, AWAY_TEAM1);
+
+        //when
+        newHandle.updateScore(1, 1);
+
+        //then
+        assertThrows(IllegalStateException.class, () -> handle.updateScore(2, 0));
+        assertThrows(IllegalStateException.class, handle::finish);
+        assertThat(scoreboard.getMatchesSummary()).containsExactly(firstMatchSummary(1, 1));
+    }
+
+    @Test
+    public void parallelSummaryShouldBeEqualToTheSequentialOne() {
+        //given
+        var parallelScoreboard = new InPlaceScoreboardImpl(DefaultComparatorSupplier.get(),
+                new MatchToMatchSummaryConverter(), AuditLog.disabled(), 0);
+        for (int i = 0; i < 10_000; i++) {
+            for (Scoreboard board : List.of(scoreboard, parallelScoreboard)) {
+                board.startMatch("home" + i, "away" + i);
+                board.updateScore("home" + i, "away" + i, i % 7, i % 5);
+            }
+        }
+
+        //when
+        var summary = parallelScoreboard.getMatchesSummary();
+
+        //then
+        assertThat(summary).hasSize(10_000).isEqualTo(scoreboard.getMatchesSummary());
+    }
+}
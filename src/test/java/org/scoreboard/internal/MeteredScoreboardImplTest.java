@@ -0,0 +1,129 @@
+package org.scoreboard.internal;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.scoreboard.ScoreEvent;
+import org.scoreboard.Scoreboard;
+import org.scoreboard.internal.metrics.ScoreboardOperation;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MeteredScoreboardImplTest {
+
+    private final MeteredScoreboardImpl scoreboard = new MeteredScoreboardImpl(Scoreboard.getDefaultInstance());
+
+    @AfterEach
+    public void unregister() {
+        scoreboard.unregisterMBeans();
+    }
+
+    @Test
+    public void callsOfEveryOperationShouldBeCounted() {
+        //when
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.updateScore("Spain", "Brazil", 1, 0);
+        scoreboard.finishMatch("Mexico", "Canada");
+        scoreboard.getMatchesSummary();
+
+        //then
+        var metrics = scoreboard.metrics();
+        assertThat(metrics.of(ScoreboardOperation.START_MATCH).calls()).isEqualTo(2);
+        assertThat(metrics.of(ScoreboardOperation.UPDATE_SCORE).calls()).isEqualTo(1);
+        assertThat(metrics.of(ScoreboardOperation.FINISH_MATCH).calls()).isEqualTo(1);
+        assertThat(metrics.of(ScoreboardOperation.GET_MATCHES_SUMMARY).calls()).isEqualTo(1);
+        assertThat(metrics.of(ScoreboardOperation.START_MATCH).latency().maxNanos()).isPositive();
+        assertThat(metrics.boardSize()).isEqualTo(1);
+    }
+
+    @Test
+    public void rejectedCallsShouldBeCountedByTheExceptionType() {
+        //given
+        scoreboard.startMatch("Mexico", "Canada");
+
+        //when
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.updateScore("Mexico", "Canada", -1, 0));
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.updateScore("Mexico", "", 1, 0));
+        assertThrows(IllegalStateException.class, () -> scoreboard.updateScore("Spain", "Brazil", 1, 0));
+        assertThrows(IllegalStateException.class, () -> scoreboard.startMatch("Mexico", "Brazil"));
+
+        //then
+        var metrics = scoreboard.metrics();
+        var updateScore = metrics.of(ScoreboardOperation.UPDATE_SCORE);
+        assertThat(updateScore.calls()).isEqualTo(3);
+        assertThat(updateScore.rejections()).containsExactlyInAnyOrderEntriesOf(Map.of(
+                IllegalArgumentException.class.getName(), 2L,
+                IllegalStateException.class.getName(), 1L));
+        assertThat(metrics.of(ScoreboardOperation.START_MATCH).rejectedCalls()).isEqualTo(1);
+        assertThat(metrics.boardSize()).isEqualTo(1);
+    }
+
+    @Test
+    public void boardSizeShouldFollowAppliedBatchesAndStartFromTheDecoratedBoard() {
+        //given
+        var decorated = Scoreboard.getDefaultInstance();
+        decorated.startMatch("Mexico", "Canada");
+        var metered = new MeteredScoreboardImpl(decorated);
+
+        //when
+        metered.applyAll(List.of(
+                new ScoreEvent.StartMatch("Spain", "Brazil"),
+                new ScoreEvent.StartMatch("Spain", "Germany"),
+                new ScoreEvent.FinishMatch("Mexico", "Canada"),
+                new ScoreEvent.FinishMatch("France", "Italy")));
+
+        //then
+        assertThat(metered.metrics().boardSize()).isEqualTo(1);
+    }
+
+    @Test
+    public void metricsShouldBeReadableThroughJmx() throws Exception {
+        //given
+        var server = ManagementFactory.getPlatformMBeanServer();
+        scoreboard.registerMBeans("test");
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.updateScore("Mexico", "Canada", 1, 0);
+        scoreboard.updateScore("Mexico", "Canada", 2, 0);
+
+        //when
+        var boardSize = server.getAttribute(new ObjectName("org.scoreboard:type=Scoreboard,name=\"test\""), "BoardSize");
+        var updateScore = new ObjectName("org.scoreboard:type=Scoreboard,name=\"test\",operation=updateScore");
+        var calls = server.getAttribute(updateScore, "Calls");
+        var maxNanos = (Long) server.getAttribute(updateScore, "MaxNanos");
+
+        //then
+        assertThat(boardSize).isEqualTo(1);
+        assertThat(calls).isEqualTo(2L);
+        assertThat(maxNanos).isPositive();
+    }
+
+    @Test
+    public void unregisteredMBeansShouldBeRemovedFromTheServer() throws Exception {
+        //given
+        var server = ManagementFactory.getPlatformMBeanServer();
+        scoreboard.registerMBeans("removed");
+
+        //when
+        scoreboard.unregisterMBeans();
+
+        //then
+        assertThat(server.queryNames(new ObjectName("org.scoreboard:type=Scoreboard,name=\"removed\",*"), null)).isEmpty();
+    }
+
+    @Test
+    public void mbeansShouldNotBeRegisteredTwiceUnderTheSameName() {
+        //given
+        scoreboard.registerMBeans("duplicate");
+        var other = new MeteredScoreboardImpl(Scoreboard.getDefaultInstance());
+
+        //then
+        assertThrows(IllegalStateException.class, () -> other.registerMBeans("duplicate"));
+        assertThat(other.metrics().boardSize()).isZero();
+    }
+}
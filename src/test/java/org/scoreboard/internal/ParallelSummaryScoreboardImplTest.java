@@ -0,0 +1,55 @@
+package org.scoreboard.internal;
+
+import org.junit.jupiter.api.Test;
+import org.scoreboard.ScoreEvent;
+import org.scoreboard.Scoreboard;
+import org.scoreboard.internal.audit.AuditLog;
+import org.scoreboard.internal.compare.DefaultComparatorSupplier;
+import org.scoreboard.internal.convert.MatchToMatchSummaryConverter;
+import org.scoreboard.internal.index.RankedMatchIndex;
+import org.scoreboard.internal.repository.InMemoryMatchRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ParallelSummaryScoreboardImplTest extends ScoreboardImplTest {
+
+    @Override
+    Scoreboard createScoreboard() {
+        return createScoreboard(0);
+    }
+
+    @Test
+    public void parallelSummaryShouldBeEqualToTheSequentialOne() {
+        //given
+        var sequentialScoreboard = createScoreboard(Integer.MAX_VALUE);
+        List<ScoreEvent> events = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            events.add(ScoreEvent.start("home" + i, "away" + i));
+            events.add(ScoreEvent.update("home" + i, "away" + i, i % 7, i % 5));
+        }
+        scoreboard.applyAll(events);
+        sequentialScoreboard.applyAll(events);
+
+        //when
+        var summary = scoreboard.getMatchesSummary();
+
+        //then
+        assertThat(summary).hasSize(10_000).isEqualTo(sequentialScoreboard.getMatchesSummary());
+    }
+
+    @Test
+    public void negativeParallelSummaryThresholdShouldBeRejected() {
+        assertThrows(IllegalArgumentException.class, () -> createScoreboard(-1));
+        assertThrows(IllegalArgumentException.class, () -> new InPlaceScoreboardImpl(DefaultComparatorSupplier.get(),
+                new MatchToMatchSummaryConverter(), AuditLog.disabled(), -1));
+    }
+
+    private static Scoreboard createScoreboard(int parallelSummaryThreshold) {
+        return new ScoreboardImpl(new InMemoryMatchRepository(), new RankedMatchIndex(DefaultComparatorSupplier.get()),
+                new MatchToMatchSummaryConverter(), SummaryMode.ON_DEMAND, AuditLog.disabled(), parallelSummaryThreshold);
+    }
+}
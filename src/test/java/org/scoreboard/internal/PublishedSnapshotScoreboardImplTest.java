@@ -0,0 +1,134 @@
+package org.scoreboard.internal;
+
+import org.junit.jupiter.api.Test;
+import org.scoreboard.MatchSummary;
+import org.scoreboard.Scoreboard;
+import org.scoreboard.internal.compare.DefaultComparatorSupplier;
+import org.scoreboard.internal.convert.MatchToMatchSummaryConverter;
+import org.scoreboard.internal.index.RankedMatchIndex;
+import org.scoreboard.internal.model.Match;
+import org.scoreboard.internal.repository.InMemoryMatchRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PublishedSnapshotScoreboardImplTest extends ScoreboardImplTest {
+
+    @Override
+    Scoreboard createScoreboard() {
+        return new ScoreboardImpl(new InMemoryMatchRepository(), new RankedMatchIndex(DefaultComparatorSupplier.get()),
+                new MatchToMatchSummaryConverter(), SummaryMode.PUBLISHED_SNAPSHOT);
+    }
+
+    @Test
+    public void repeatedReadsWithoutModificationsShouldReturnTheSameSummaryInstance() {
+        //given
+        startFirstMatch();
+        updateFirstMatch(1, 0);
+
+        //when
+        var firstRead = scoreboard.getMatchesSummary();
+        var secondRead = scoreboard.getMatchesSummary();
+
+        //then
+        assertThat(secondRead).isSameAs(firstRead);
+    }
+
+    @Test
+    public void publishedSummaryShouldBeImmutable() {
+        //given
+        startFirstMatch();
+
+        //when
+        var summary = scoreboard.getMatchesSummary();
+
+        //then
+        assertThrows(UnsupportedOperationException.class, () -> summary.add(secondMatchSummary(0, 0)));
+        assertThrows(UnsupportedOperationException.class, () -> summary.remove(0));
+    }
+
+    @Test
+    public void previouslyReturnedSummaryShouldNotBeAffectedByLaterModifications() {
+        //given
+        startFirstMatch();
+        var initialSummary = scoreboard.getMatchesSummary();
+
+        //when
+        updateFirstMatch(2, 1);
+        startSecondMatch();
+        var lastSummary = scoreboard.getMatchesSummary();
+
+        //then
+        assertThat(initialSummary).containsExactly(firstMatchSummary(0, 0));
+        assertThat(lastSummary).containsExactly(firstMatchSummary(2, 1), secondMatchSummary(0, 0));
+    }
+
+    @Test
+    public void matchesAlreadyPresentInTheRepositoryShouldBePublishedOnCreation() {
+        //given
+        var repository = new InMemoryMatchRepository();
+        repository.save(new Match(HOME_TEAM1, AWAY_TEAM1));
+
+        //when
+        var summary = new ScoreboardImpl(repository, new RankedMatchIndex(DefaultComparatorSupplier.get()),
+                new MatchToMatchSummaryConverter(), SummaryMode.PUBLISHED_SNAPSHOT).getMatchesSummary();
+
+        //then
+        assertThat(summary).containsExactly(firstMatchSummary(0, 0));
+    }
+
+    @Test
+    public void concurrentReadersShouldNeverSeeHalfAppliedUpdates() throws Exception {
+        //given
+        var concurrentScoreboard = new ConcurrentScoreboardImpl(SummaryMode.PUBLISHED_SNAPSHOT);
+        int matches = 20;
+        for (int m = 0; m < matches; m++) concurrentScoreboard.startMatch("home" + m, "away" + m);
+        var writing = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+
+        //when
+        try {
+            for (int w = 0; w < 4; w++) {
+                int writer = w;
+                futures.add(executor.submit(() -> {
+                    for (int goal = 1; goal <= 200; goal++) {
+                        for (int m = writer; m < matches; m += 4) {
+                            concurrentScoreboard.updateScore("home" + m, "away" + m, goal, goal);
+                        }
+                    }
+                }));
+            }
+            for (int r = 0; r < 4; r++) {
+                futures.add(executor.submit(() -> {
+                    while (writing.get()) {
+                        List<MatchSummary> summary = concurrentScoreboard.getMatchesSummary();
+                        assertThat(summary).hasSize(matches);
+                        assertThat(summary.stream().map(MatchSummary::homeTeam)).doesNotHaveDuplicates();
+                        assertThat(summary).allMatch(s -> s.homeScore() == s.awayScore());
+                    }
+                }));
+            }
+            for (Future<?> writer : futures.subList(0, 4)) writer.get();
+            writing.set(false);
+            for (Future<?> reader : futures.subList(4, 8)) reader.get();
+        } finally {
+            writing.set(false);
+            executor.shutdown();
+            assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        }
+
+        //then
+        assertThat(concurrentScoreboard.getMatchesSummary())
+                .hasSize(matches)
+                .allMatch(s -> s.homeScore() == 200 && s.awayScore() == 200);
+    }
+}
@@ -2,10 +2,17 @@ package org.scoreboard.internal;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.scoreboard.BatchResult;
 import org.scoreboard.MatchSummary;
+import org.scoreboard.ScoreEvent;
 import org.scoreboard.Scoreboard;
+import org.scoreboard.internal.feed.ReplicatingSubscriber;
 
-import java.util.function.BiConsumer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -20,11 +27,15 @@ class ScoreboardImplTest {
     static final String AWAY_TEAM2 = "awayTeam2";
     static final String AWAY_TEAM3 = "awayTeam3";
 
-    private Scoreboard scoreboard;
+    Scoreboard scoreboard;
 
     @BeforeEach
     public void init() {
-        scoreboard = new ScoreboardImpl();
+        scoreboard = createScoreboard();
+    }
+
+    Scoreboard createScoreboard() {
+        return new ScoreboardImpl();
     }
 
     @Test
@@ -298,6 +309,280 @@ class ScoreboardImplTest {
                         firstMatchSummary(3, 3));
     }
 
+    @Test
+    public void getTopMatchesShouldReturnTheFirstMatchesOfTheSummary() {
+        //given
+        startFirstMatch();
+        startSecondMatch();
+        startThirdMatch();
+        updateFirstMatch(1, 5);
+        updateSecondMatch(4, 3);
+        updateThirdMatch(5, 0);
+
+        //then
+        assertThat(scoreboard.getTopMatches(2)).containsExactly(secondMatchSummary(4, 3), firstMatchSummary(1, 5));
+        assertThat(scoreboard.getTopMatches(5)).isEqualTo(scoreboard.getMatchesSummary());
+        assertThat(scoreboard.getTopMatches(0)).isEmpty();
+    }
+
+    @Test
+    public void pagesOfTheSummaryShouldTogetherContainTheWholeSummary() {
+        //given
+        for (int i = 0; i < 25; i++) {
+            scoreboard.startMatch("home" + i, "away" + i);
+            scoreboard.updateScore("home" + i, "away" + i, i % 7, i % 3);
+        }
+        var summary = scoreboard.getMatchesSummary();
+
+        //when
+        var pages = new ArrayList<MatchSummary>();
+        for (int offset = 0; offset < 30; offset += 10) {
+            pages.addAll(scoreboard.getMatchesSummaryPage(offset, 10));
+        }
+
+        //then
+        assertThat(pages).isEqualTo(summary);
+        assertThat(scoreboard.getMatchesSummaryPage(20, 10)).hasSize(5);
+        assertThat(scoreboard.getMatchesSummaryPage(30, 10)).isEmpty();
+        assertThat(scoreboard.getMatchesSummaryPage(5, Integer.MAX_VALUE)).isEqualTo(summary.subList(5, 25));
+    }
+
+    @Test
+    public void summaryPagesForNegativeArgumentsShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.getTopMatches(-1));
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.getMatchesSummaryPage(-1, 10));
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.getMatchesSummaryPage(0, -1));
+    }
+
+    @Test
+    public void streamOfTheSummaryShouldYieldMatchesInTheOrderOfTheSummary() {
+        //given
+        startFirstMatch();
+        startSecondMatch();
+        startThirdMatch();
+
+        //when
+        updateFirstMatch(3, 3);
+        updateSecondMatch(5, 1);
+        updateThirdMatch(2, 4);
+
+        //then
+        assertThat(scoreboard.streamMatchesSummary()).containsExactlyElementsOf(scoreboard.getMatchesSummary());
+        assertThat(scoreboard.streamMatchesSummary().limit(1)).containsExactly(thirdMatchSummary(2, 4));
+    }
+
+    @Test
+    public void subscriberShouldReceiveUpdatesRebuildingTheSummary() throws InterruptedException {
+        //given
+        startFirstMatch();
+        var subscriber = new ReplicatingSubscriber(Long.MAX_VALUE);
+        scoreboard.subscribe(subscriber);
+
+        //when
+        startSecondMatch();
+        startThirdMatch();
+        updateThirdMatch(2, 0);
+        updateSecondMatch(1, 0);
+        finishFirstMatch();
+        scoreboard.applyAll(List.of(ScoreEvent.start(HOME_TEAM1, AWAY_TEAM1), ScoreEvent.update(HOME_TEAM1, AWAY_TEAM1, 5, 5)));
+
+        //then
+        var summary = scoreboard.getMatchesSummary();
+        awaitUntil(() -> subscriber.summary().equals(summary));
+        assertThat(subscriber.summary()).containsExactly(
+                firstMatchSummary(5, 5),
+                thirdMatchSummary(2, 0),
+                secondMatchSummary(1, 0));
+        assertThat(subscriber.error()).isNull();
+    }
+
+    @Test
+    public void subscribeForNullSubscriberShouldThrowException() {
+        assertThrows(NullPointerException.class, () -> scoreboard.subscribe(null));
+    }
+
+    @Test
+    public void applyAllForNullListShouldThrowException() {
+        assertThrows(NullPointerException.class, () -> scoreboard.applyAll(null));
+    }
+
+    @Test
+    public void applyAllShouldApplyAllEventsInTheirOrder() {
+        //when
+        var result = scoreboard.applyAll(List.of(
+                ScoreEvent.start(HOME_TEAM1, AWAY_TEAM1),
+                ScoreEvent.start(HOME_TEAM2, AWAY_TEAM2),
+                ScoreEvent.update(HOME_TEAM1, AWAY_TEAM1, 1, 0),
+                ScoreEvent.update(HOME_TEAM2, AWAY_TEAM2, 2, 2),
+                ScoreEvent.update(HOME_TEAM1, AWAY_TEAM1, 2, 0),
+                ScoreEvent.finish(HOME_TEAM2, AWAY_TEAM2),
+                ScoreEvent.start(HOME_TEAM3, AWAY_TEAM3)));
+        var summary = scoreboard.getMatchesSummary();
+
+        //then
+        assertThat(result.isSuccessful()).isTrue();
+        assertThat(result.appliedCount()).isEqualTo(7);
+        assertThat(summary).containsExactly(firstMatchSummary(2, 0), thirdMatchSummary(0, 0));
+    }
+
+    @Test
+    public void applyAllShouldReportFailedEventsWithoutAbortingTheBatch() {
+        //given
+        startFirstMatch();
+
+        //when
+        var result = scoreboard.applyAll(Arrays.asList(
+                ScoreEvent.start(HOME_TEAM2, ""),
+                ScoreEvent.update(HOME_TEAM2, AWAY_TEAM2, 1, 0),
+                null,
+                ScoreEvent.update(HOME_TEAM1, AWAY_TEAM1, -1, 0),
+                ScoreEvent.start(AWAY_TEAM1, HOME_TEAM2),
+                ScoreEvent.update(HOME_TEAM1, AWAY_TEAM1, 2, 1)));
+        var summary = scoreboard.getMatchesSummary();
+
+        //then
+        assertThat(result.eventCount()).isEqualTo(6);
+        assertThat(result.appliedCount()).isEqualTo(1);
+        assertThat(result.failures())
+                .extracting(BatchResult.EventFailure::index)
+                .containsExactly(0, 1, 2, 3, 4);
+        assertThat(result.failures())
+                .extracting(f -> (Object) f.cause().getClass())
+                .containsExactly(IllegalArgumentException.class, IllegalStateException.class, NullPointerException.class,
+                        IllegalArgumentException.class, IllegalStateException.class);
+        assertThat(summary).containsExactly(firstMatchSummary(2, 1));
+    }
+
+    @Test
+    public void applyAllShouldCheckEventsAgainstThePreviousEventsOfTheBatch() {
+        //given
+        startFirstMatch();
+
+        //when
+        var result = scoreboard.applyAll(List.of(
+                ScoreEvent.start(AWAY_TEAM1, HOME_TEAM2),
+                ScoreEvent.finish(HOME_TEAM1, AWAY_TEAM1),
+                ScoreEvent.finish(HOME_TEAM1, AWAY_TEAM1),
+                ScoreEvent.start(AWAY_TEAM1, HOME_TEAM2),
+                ScoreEvent.update(AWAY_TEAM1, HOME_TEAM2, 0, 3)));
+        var summary = scoreboard.getMatchesSummary();
+
+        //then
+        assertThat(result.failures())
+                .extracting(BatchResult.EventFailure::index)
+                .containsExactly(0, 2);
+        assertThat(summary).containsExactly(new MatchSummary(AWAY_TEAM1, HOME_TEAM2, 0, 3));
+    }
+
+    @Test
+    public void matchStartedAndFinishedWithinTheSameBatchShouldNotBePresentInTheSummary() {
+        //given
+        startFirstMatch();
+
+        //when
+        var result = scoreboard.applyAll(List.of(
+                ScoreEvent.start(HOME_TEAM2, AWAY_TEAM2),
+                ScoreEvent.update(HOME_TEAM2, AWAY_TEAM2, 3, 0),
+                ScoreEvent.finish(HOME_TEAM2, AWAY_TEAM2)));
+        var summary = scoreboard.getMatchesSummary();
+
+        //then
+        assertThat(result.isSuccessful()).isTrue();
+        assertThat(summary).containsExactly(firstMatchSummary(0, 0));
+    }
+
+    @Test
+    public void applyAllWithOnlyFailingEventsShouldNotCauseAnyChangesInTheSummary() {
+        //given
+        startFirstMatch();
+        startSecondMatch();
+        var initialSummary = scoreboard.getMatchesSummary();
+
+        //when
+        var result = scoreboard.applyAll(List.of(
+                ScoreEvent.finish(HOME_TEAM3, AWAY_TEAM3),
+                ScoreEvent.update(HOME_TEAM1, AWAY_TEAM1, 0, -1)));
+        var lastSummary = scoreboard.getMatchesSummary();
+
+        //then
+        assertThat(result.appliedCount()).isZero();
+        assertThat(initialSummary).hasSameElementsAs(lastSummary);
+    }
+
+    static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    @Test
+    public void matchHandleShouldUpdateAndFinishTheStartedMatch() {
+        //given
+        var handle = scoreboard.startMatchWithHandle(HOME_TEAM1, AWAY_TEAM1);
+        startSecondMatch();
+
+        //when
+        handle.updateScore(2, 1);
+        var summary = scoreboard.getMatchesSummary();
+        handle.finish();
+
+        //then
+        assertThat(handle.homeTeam()).isEqualTo(HOME_TEAM1);
+        assertThat(handle.awayTeam()).isEqualTo(AWAY_TEAM1);
+        assertThat(summary).containsExactly(firstMatchSummary(2, 1), secondMatchSummary(0, 0));
+        assertThat(scoreboard.getMatchesSummary()).containsExactly(secondMatchSummary(0, 0));
+    }
+
+    @Test
+    public void resolvedMatchHandleShouldUpdateTheMatchInProgress() {
+        //given
+        startFirstMatch();
+        startSecondMatch();
+        var handle = scoreboard.getMatchHandle(HOME_TEAM1, AWAY_TEAM1);
+
+        //when
+        handle.updateScore(1, 0);
+        handle.updateScore(3, 0);
+
+        //then
+        assertThat(scoreboard.getMatchesSummary()).containsExactly(firstMatchSummary(3, 0), secondMatchSummary(0, 0));
+    }
+
+    @Test
+    public void getMatchHandleForNotStartedMatchShouldThrowException() {
+        //given
+        startFirstMatch();
+
+        //then
+        assertThrows(IllegalStateException.class, () -> scoreboard.getMatchHandle(HOME_TEAM2, AWAY_TEAM2));
+        assertThrows(IllegalStateException.class, () -> scoreboard.getMatchHandle(AWAY_TEAM1, HOME_TEAM1));
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.getMatchHandle(HOME_TEAM1, ""));
+        assertThrows(NullPointerException.class, () -> scoreboard.getMatchHandle(null, AWAY_TEAM1));
+    }
+
+    @Test
+    public void matchHandleShouldRejectNegativeScores() {
+        //given
+        var handle = scoreboard.startMatchWithHandle(HOME_TEAM1, AWAY_TEAM1);
+
+        //then
+        assertThrows(IllegalArgumentException.class, () -> handle.updateScore(-1, 0));
+        assertThrows(IllegalArgumentException.class, () -> handle.updateScore(0, -1));
+        assertThat(scoreboard.getMatchesSummary()).containsExactly(firstMatchSummary(0, 0));
+    }
+
+    @Test
+    public void matchHandleOfFinishedMatchShouldThrowException() {
+        //given
+        var handle = scoreboard.startMatchWithHandle(HOME_TEAM1, AWAY_TEAM1);
+        finishFirstMatch();
+
+        //then
+        assertThrows(IllegalStateException.class, () -> handle.updateScore(1, 0));
+        assertThrows(IllegalStateException.class, handle::finish);
+    }
+
     void startFirstMatch() {
         scoreboard.startMatch(HOME_TEAM1, AWAY_TEAM1);
     }
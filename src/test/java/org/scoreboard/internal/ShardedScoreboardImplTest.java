@@ -0,0 +1,71 @@
+package org.scoreboard.internal;
+
+import org.junit.jupiter.api.Test;
+import org.scoreboard.MatchSummary;
+import org.scoreboard.Scoreboard;
+import org.scoreboard.internal.audit.AuditLog;
+import org.scoreboard.internal.compare.DefaultComparatorSupplier;
+import org.scoreboard.internal.convert.MatchToMatchSummaryConverter;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ShardedScoreboardImplTest extends ConcurrentScoreboardImplTest {
+
+    @Override
+    Scoreboard createScoreboard() {
+        return new ShardedScoreboardImpl(4);
+    }
+
+    @Test
+    public void teamShouldNotPlayInMatchesOfDifferentShards() {
+        //given
+        var competitions = Map.of("Spain", 0, "Brazil", 0, "Mexico", 1, "Canada", 1);
+        scoreboard = new ShardedScoreboardImpl(2, competitions::get, DefaultComparatorSupplier.get(),
+                new MatchToMatchSummaryConverter(), SummaryMode.ON_DEMAND, AuditLog.disabled());
+        scoreboard.startMatch("Spain", "Brazil");
+
+        //then
+        assertThrows(IllegalStateException.class, () -> scoreboard.startMatch("Mexico", "Spain"));
+        assertThrows(IllegalStateException.class, () -> scoreboard.startMatch("Mexico", "Brazil"));
+        scoreboard.startMatch("Mexico", "Canada");
+        assertThat(scoreboard.getMatchesSummary()).hasSize(2);
+    }
+
+    @Test
+    public void teamsOfFinishedMatchShouldBeAbleToPlayInAnotherShard() {
+        //given
+        var competitions = Map.of("Spain", 0, "Brazil", 1);
+        scoreboard = new ShardedScoreboardImpl(2, competitions::get, DefaultComparatorSupplier.get(),
+                new MatchToMatchSummaryConverter(), SummaryMode.PUBLISHED_SNAPSHOT, AuditLog.disabled());
+        scoreboard.startMatch("Spain", "Brazil");
+
+        //when
+        scoreboard.finishMatch("Spain", "Brazil");
+        scoreboard.startMatch("Brazil", "Spain");
+
+        //then
+        assertThat(scoreboard.getMatchesSummary()).containsExactly(new MatchSummary("Brazil", "Spain", 0, 0));
+    }
+
+    @Test
+    public void summaryShouldMergeMatchesOfAllShardsInTheOrderOfTheComparator() {
+        //given
+        for (int i = 0; i < 100; i++) {
+            scoreboard.startMatch("home" + i, "away" + i);
+            scoreboard.updateScore("home" + i, "away" + i, i % 10, i % 3);
+        }
+
+        //then
+        assertThat(scoreboard.getMatchesSummary()).hasSize(100).extracting(m -> m.homeScore() + m.awayScore())
+                .isSortedAccordingTo((t1, t2) -> Integer.compare(t2, t1));
+        assertThat(scoreboard.getTopMatches(10)).isEqualTo(scoreboard.getMatchesSummary().subList(0, 10));
+    }
+
+    @Test
+    public void nonPositiveNumberOfShardsShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> new ShardedScoreboardImpl(0));
+    }
+}
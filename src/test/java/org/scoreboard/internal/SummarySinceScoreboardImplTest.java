@@ -0,0 +1,182 @@
+package org.scoreboard.internal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.scoreboard.MatchSummary;
+import org.scoreboard.ScoreEvent;
+import org.scoreboard.SummaryDelta;
+import org.scoreboard.internal.audit.AuditLog;
+import org.scoreboard.internal.compare.DefaultComparatorSupplier;
+import org.scoreboard.internal.concurrent.TeamLockStripes;
+import org.scoreboard.internal.convert.MatchToMatchSummaryConverter;
+import org.scoreboard.internal.index.RankedMatchIndex;
+import org.scoreboard.internal.repository.ConcurrentMatchRepository;
+import org.scoreboard.internal.repository.InMemoryMatchRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SummarySinceScoreboardImplTest {
+
+    @ParameterizedTest
+    @EnumSource(SummaryMode.class)
+    public void everyModificationShouldIncrementTheVersion(SummaryMode summaryMode) {
+        //given
+        var scoreboard = createScoreboard(summaryMode, 16);
+
+        //when
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.updateScore("Mexico", "Canada", 0, 1);
+        scoreboard.finishMatch("Mexico", "Canada");
+
+        //then
+        assertThat(scoreboard.version()).isEqualTo(3);
+    }
+
+    @ParameterizedTest
+    @EnumSource(SummaryMode.class)
+    public void summarySinceShouldReturnOnlyMatchesChangedOrRemovedSinceTheVersion(SummaryMode summaryMode) {
+        //given
+        var scoreboard = createScoreboard(summaryMode, 16);
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.startMatch("Germany", "France");
+        long version = scoreboard.version();
+
+        //when
+        scoreboard.updateScore("Spain", "Brazil", 1, 0);
+        scoreboard.updateScore("Spain", "Brazil", 2, 0);
+        scoreboard.finishMatch("Mexico", "Canada");
+        scoreboard.startMatch("Uruguay", "Italy");
+        var delta = scoreboard.getMatchesSummarySince(version);
+
+        //then
+        assertThat(delta.version()).isEqualTo(scoreboard.version()).isEqualTo(version + 4);
+        assertThat(delta.fullSnapshot()).isFalse();
+        assertThat(delta.changedMatches()).containsExactly(
+                new MatchSummary("Spain", "Brazil", 2, 0), new MatchSummary("Uruguay", "Italy", 0, 0));
+        assertThat(delta.removedMatches()).containsExactly(new SummaryDelta.RemovedMatch("Mexico", "Canada"));
+    }
+
+    @ParameterizedTest
+    @EnumSource(SummaryMode.class)
+    public void summarySinceTheCurrentVersionShouldBeEmpty(SummaryMode summaryMode) {
+        //given
+        var scoreboard = createScoreboard(summaryMode, 16);
+        scoreboard.startMatch("Mexico", "Canada");
+
+        //when
+        var delta = scoreboard.getMatchesSummarySince(scoreboard.version());
+
+        //then
+        assertThat(delta.isEmpty()).isTrue();
+        assertThat(delta.version()).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @EnumSource(SummaryMode.class)
+    public void summarySinceVersionNoLongerInTheChangeLogShouldBeAFullSnapshot(SummaryMode summaryMode) {
+        //given
+        var scoreboard = createScoreboard(summaryMode, 2);
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.updateScore("Mexico", "Canada", 0, 5);
+        scoreboard.updateScore("Spain", "Brazil", 10, 2);
+
+        //when
+        var delta = scoreboard.getMatchesSummarySince(1);
+
+        //then
+        assertThat(delta.fullSnapshot()).isTrue();
+        assertThat(delta.version()).isEqualTo(4);
+        assertThat(delta.changedMatches()).isEqualTo(scoreboard.getMatchesSummary());
+        assertThat(delta.removedMatches()).isEmpty();
+    }
+
+    @ParameterizedTest
+    @EnumSource(SummaryMode.class)
+    public void batchShouldRecordTheNetChangeOfEveryMatch(SummaryMode summaryMode) {
+        //given
+        var scoreboard = createScoreboard(summaryMode, 16);
+        scoreboard.startMatch("Mexico", "Canada");
+
+        //when
+        scoreboard.applyAll(List.of(
+                ScoreEvent.update("Mexico", "Canada", 1, 0),
+                ScoreEvent.update("Mexico", "Canada", 2, 0),
+                ScoreEvent.start("Spain", "Brazil"),
+                ScoreEvent.finish("Spain", "Brazil"),
+                ScoreEvent.start("Germany", "France")));
+        var delta = scoreboard.getMatchesSummarySince(1);
+
+        //then
+        assertThat(delta.version()).isEqualTo(3);
+        assertThat(delta.changedMatches()).containsExactly(
+                new MatchSummary("Mexico", "Canada", 2, 0), new MatchSummary("Germany", "France", 0, 0));
+        assertThat(delta.removedMatches()).isEmpty();
+    }
+
+    @ParameterizedTest
+    @EnumSource(SummaryMode.class)
+    public void scoreboardWithoutChangeLogShouldCountVersionsButReturnFullSnapshots(SummaryMode summaryMode) {
+        //given
+        var scoreboard = createScoreboard(summaryMode, 0);
+        scoreboard.startMatch("Mexico", "Canada");
+
+        //when
+        var delta = scoreboard.getMatchesSummarySince(scoreboard.version());
+
+        //then
+        assertThat(scoreboard.version()).isEqualTo(1);
+        assertThat(delta.version()).isEqualTo(1);
+        assertThat(delta.fullSnapshot()).isTrue();
+        assertThat(delta.changedMatches()).containsExactly(new MatchSummary("Mexico", "Canada", 0, 0));
+    }
+
+    @Test
+    public void scoreboardModifiedConcurrentlyShouldKeepNoChangesButCountVersions() throws Exception {
+        //given
+        var scoreboard = new ScoreboardImpl(new ConcurrentMatchRepository(),
+                RankedMatchIndex.concurrent(DefaultComparatorSupplier.get()), new MatchToMatchSummaryConverter(),
+                SummaryMode.ON_DEMAND, AuditLog.disabled());
+        var concurrentScoreboard = new ConcurrentScoreboardImpl(scoreboard, new TeamLockStripes());
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        //when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    concurrentScoreboard.startMatch("home" + thread + "-" + i, "away" + thread + "-" + i);
+                }
+            }));
+        }
+        for (Future<?> future : futures) future.get();
+        executor.shutdown();
+
+        //then
+        assertThat(scoreboard.version()).isEqualTo(4000);
+        assertThat(scoreboard.getMatchesSummarySince(3999).fullSnapshot()).isTrue();
+    }
+
+    @Test
+    public void changeLogOfScoreboardModifiedConcurrentlyShouldBeRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new ScoreboardImpl(new ConcurrentMatchRepository(),
+                RankedMatchIndex.concurrent(DefaultComparatorSupplier.get()), new MatchToMatchSummaryConverter(),
+                SummaryMode.ON_DEMAND, AuditLog.disabled(), ScoreboardImpl.DEFAULT_PARALLEL_SUMMARY_THRESHOLD, 16));
+    }
+
+    private static ScoreboardImpl createScoreboard(SummaryMode summaryMode, int changeLogCapacity) {
+        return new ScoreboardImpl(new InMemoryMatchRepository(), new RankedMatchIndex(DefaultComparatorSupplier.get()),
+                new MatchToMatchSummaryConverter(), summaryMode, AuditLog.disabled(),
+                ScoreboardImpl.DEFAULT_PARALLEL_SUMMARY_THRESHOLD, changeLogCapacity);
+    }
+}
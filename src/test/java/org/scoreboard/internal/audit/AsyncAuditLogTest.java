@@ -0,0 +1,232 @@
+package org.scoreboard.internal.audit;
+
+import org.junit.jupiter.api.Test;
+import org.scoreboard.internal.ScoreboardImpl;
+import org.scoreboard.internal.SummaryMode;
+import org.scoreboard.internal.compare.DefaultComparatorSupplier;
+import org.scoreboard.internal.convert.MatchToMatchSummaryConverter;
+import org.scoreboard.internal.index.RankedMatchIndex;
+import org.scoreboard.internal.repository.InMemoryMatchRepository;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AsyncAuditLogTest {
+
+    record Event(AuditEventType type, String homeTeam, String awayTeam, int homeScore, int awayScore) {
+    }
+
+    static class CollectingSink implements AuditSink, Closeable {
+        final List<Event> events = new ArrayList<>();
+        volatile boolean closed;
+
+        @Override
+        public void write(AuditEventType type, long timestampMillis, String homeTeam, String awayTeam, int homeScore, int awayScore) {
+            events.add(new Event(type, homeTeam, awayTeam, homeScore, awayScore));
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    @Test
+    public void nonPositiveCapacityShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> new AsyncAuditLog(new CollectingSink(), 0));
+    }
+
+    @Test
+    public void closeShouldWriteAllRecordedEventsAndCloseTheSink() {
+        //given
+        var sink = new CollectingSink();
+        var auditLog = new AsyncAuditLog(sink);
+
+        //when
+        auditLog.matchStarted("homeTeam", "awayTeam");
+        auditLog.scoreUpdated("homeTeam", "awayTeam", 1, 0);
+        auditLog.matchFinished("homeTeam", "awayTeam");
+        auditLog.close();
+
+        //then
+        assertThat(sink.closed).isTrue();
+        assertThat(sink.events).containsExactly(
+                new Event(AuditEventType.MATCH_STARTED, "homeTeam", "awayTeam", 0, 0),
+                new Event(AuditEventType.SCORE_UPDATED, "homeTeam", "awayTeam", 1, 0),
+                new Event(AuditEventType.MATCH_FINISHED, "homeTeam", "awayTeam", 0, 0));
+        assertThat(auditLog.droppedEvents()).isZero();
+    }
+
+    @Test
+    public void eventsRecordedByMultipleThreadsShouldAllBeWrittenInTheOrderOfEveryThread() throws Exception {
+        //given
+        var sink = new CollectingSink();
+        var auditLog = new AsyncAuditLog(sink, 1 << 16);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        //when
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                String team = "team" + t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) auditLog.scoreUpdated(team, "other", i, 0);
+                }));
+            }
+            for (Future<?> future : futures) future.get();
+        } finally {
+            executor.shutdown();
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        }
+        auditLog.close();
+
+        //then
+        assertThat(auditLog.droppedEvents()).isZero();
+        assertThat(sink.events).hasSize(40_000);
+        for (int t = 0; t < 4; t++) {
+            String team = "team" + t;
+            assertThat(sink.events.stream().filter(e -> e.homeTeam().equals(team)).map(Event::homeScore))
+                    .isSorted()
+                    .hasSize(10_000);
+        }
+    }
+
+    @Test
+    public void eventsRecordedWhenTheBufferIsFullShouldBeDroppedWithoutBlocking() throws Exception {
+        //given
+        var sinkEntered = new CountDownLatch(1);
+        var sinkReleased = new CountDownLatch(1);
+        var sink = new CollectingSink() {
+            @Override
+            public void write(AuditEventType type, long timestampMillis, String homeTeam, String awayTeam, int homeScore, int awayScore) {
+                sinkEntered.countDown();
+                try {
+                    sinkReleased.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.write(type, timestampMillis, homeTeam, awayTeam, homeScore, awayScore);
+            }
+        };
+        var auditLog = new AsyncAuditLog(sink, 4);
+        auditLog.matchStarted("blocking", "event");
+        assertThat(sinkEntered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        //when
+        for (int i = 0; i < 10; i++) auditLog.scoreUpdated("homeTeam", "awayTeam", i, 0);
+        sinkReleased.countDown();
+        auditLog.close();
+
+        //then the slot of the event being written is not released yet, so only 3 more events fit
+        assertThat(auditLog.droppedEvents()).isEqualTo(7);
+        assertThat(sink.events).hasSize(4);
+    }
+
+    @Test
+    public void sinkFailuresShouldBeCountedWithoutStoppingTheAuditing() {
+        //given
+        var sink = new CollectingSink() {
+            @Override
+            public void write(AuditEventType type, long timestampMillis, String homeTeam, String awayTeam, int homeScore, int awayScore) {
+                if (homeScore % 2 == 1) throw new IllegalStateException("write failed");
+                super.write(type, timestampMillis, homeTeam, awayTeam, homeScore, awayScore);
+            }
+        };
+        var auditLog = new AsyncAuditLog(sink);
+
+        //when
+        for (int i = 0; i < 10; i++) auditLog.scoreUpdated("homeTeam", "awayTeam", i, 0);
+        auditLog.close();
+
+        //then
+        assertThat(auditLog.sinkFailures()).isEqualTo(5);
+        assertThat(auditLog.droppedEvents()).isZero();
+        assertThat(sink.events).extracting(Event::homeScore).containsExactly(0, 2, 4, 6, 8);
+    }
+
+    @Test
+    public void eventRecordedWhenTheDrainerIsIdleShouldWakeItUp() throws Exception {
+        //given
+        var written = new CountDownLatch(1);
+        var sink = new CollectingSink() {
+            @Override
+            public void write(AuditEventType type, long timestampMillis, String homeTeam, String awayTeam, int homeScore, int awayScore) {
+                super.write(type, timestampMillis, homeTeam, awayTeam, homeScore, awayScore);
+                written.countDown();
+            }
+        };
+        var auditLog = new AsyncAuditLog(sink);
+        Thread.sleep(50);
+
+        //when
+        auditLog.matchStarted("homeTeam", "awayTeam");
+
+        //then
+        try {
+            assertThat(written.await(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            auditLog.close();
+        }
+    }
+
+    @Test
+    public void eventsRecordedConcurrentlyWithCloseShouldBeWrittenOrCountedAsDropped() throws Exception {
+        //given
+        var sink = new CollectingSink();
+        var auditLog = new AsyncAuditLog(sink, 1 << 20);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        var started = new CountDownLatch(4);
+
+        //when
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    started.countDown();
+                    for (int i = 0; i < 100_000; i++) auditLog.scoreUpdated("homeTeam", "awayTeam", i, 0);
+                }));
+            }
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            auditLog.close();
+            for (Future<?> future : futures) future.get();
+        } finally {
+            executor.shutdown();
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        }
+
+        //then
+        assertThat(sink.events.size() + auditLog.droppedEvents()).isEqualTo(400_000);
+    }
+
+    @Test
+    public void scoreboardShouldRecordEveryRequestedModification() {
+        //given
+        var sink = new CollectingSink();
+        var auditLog = new AsyncAuditLog(sink);
+        var scoreboard = new ScoreboardImpl(new InMemoryMatchRepository(), new RankedMatchIndex(DefaultComparatorSupplier.get()),
+                new MatchToMatchSummaryConverter(), SummaryMode.ON_DEMAND, auditLog);
+
+        //when
+        scoreboard.startMatch("homeTeam", "awayTeam");
+        scoreboard.updateScore("homeTeam", "awayTeam", 2, 1);
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.finishMatch("homeTeam", ""));
+        scoreboard.finishMatch("homeTeam", "awayTeam");
+        auditLog.close();
+
+        //then
+        assertThat(sink.events).containsExactly(
+                new Event(AuditEventType.MATCH_STARTED, "homeTeam", "awayTeam", 0, 0),
+                new Event(AuditEventType.SCORE_UPDATED, "homeTeam", "awayTeam", 2, 1),
+                new Event(AuditEventType.MATCH_FINISHED, "homeTeam", "", 0, 0),
+                new Event(AuditEventType.MATCH_FINISHED, "homeTeam", "awayTeam", 0, 0));
+    }
+}
@@ -0,0 +1,57 @@
+package org.scoreboard.internal.audit;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BinaryAuditSinkTest {
+
+    @Test
+    public void decodedEventsShouldBeEqualToTheWrittenOnes() throws Exception {
+        //given
+        var output = new ByteArrayOutputStream();
+        var sink = new BinaryAuditSink(Channels.newChannel(output));
+
+        //when
+        sink.write(AuditEventType.MATCH_STARTED, 1L, "Côte d'Ivoire", "Curaçao", 0, 0);
+        sink.write(AuditEventType.SCORE_UPDATED, 2L, "Côte d'Ivoire", "Curaçao", 3, 1);
+        sink.write(AuditEventType.MATCH_FINISHED, 3L, null, "", 0, 0);
+        sink.close();
+        var decoded = new AsyncAuditLogTest.CollectingSink();
+        BinaryAuditSink.decode(ByteBuffer.wrap(output.toByteArray()), decoded);
+
+        //then
+        assertThat(decoded.events).containsExactly(
+                new AsyncAuditLogTest.Event(AuditEventType.MATCH_STARTED, "Côte d'Ivoire", "Curaçao", 0, 0),
+                new AsyncAuditLogTest.Event(AuditEventType.SCORE_UPDATED, "Côte d'Ivoire", "Curaçao", 3, 1),
+                new AsyncAuditLogTest.Event(AuditEventType.MATCH_FINISHED, null, "", 0, 0));
+    }
+
+    @Test
+    public void nothingShouldBeWrittenBeforeFlush() {
+        //given
+        var output = new ByteArrayOutputStream();
+        var sink = new BinaryAuditSink(Channels.newChannel(output));
+
+        //when
+        sink.write(AuditEventType.MATCH_STARTED, 1L, "homeTeam", "awayTeam", 0, 0);
+
+        //then
+        assertThat(output.size()).isZero();
+        sink.flush();
+        assertThat(output.size()).isEqualTo(1 + 8 + 4 + 4 + 2 + 8 + 2 + 8);
+    }
+
+    @Test
+    public void tooLongTeamNameShouldThrowException() {
+        var sink = new BinaryAuditSink(Channels.newChannel(new ByteArrayOutputStream()));
+
+        assertThrows(IllegalArgumentException.class, () -> sink.write(AuditEventType.MATCH_STARTED, 1L,
+                "x".repeat(Short.MAX_VALUE + 1), "awayTeam", 0, 0));
+    }
+}
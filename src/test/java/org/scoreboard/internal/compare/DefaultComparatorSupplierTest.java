@@ -13,10 +13,10 @@ class DefaultComparatorSupplierTest {
 
     private static final Comparator<Match> comparator = DefaultComparatorSupplier.get();
 
-    static final Match FIRST_MATCH = new Match("homeTeam1", "awayTeam1", 0, 0, Instant.now());
-    static final Match SECOND_MATCH = new Match("homeTeam2", "awayTeam2", 3, 4, Instant.now());
-    static final Match THIRD_MATCH = new Match("homeTeam3", "awayTeam3", 2, 2, Instant.now());
-    static final Match FOURTH_MATCH = new Match("homeTeam4", "awayTeam4", 4, 3, Instant.now());
+    static final Match FIRST_MATCH = new Match("homeTeam1", "awayTeam1", 0, 0, 1, Instant.now());
+    static final Match SECOND_MATCH = new Match("homeTeam2", "awayTeam2", 3, 4, 2, Instant.now());
+    static final Match THIRD_MATCH = new Match("homeTeam3", "awayTeam3", 2, 2, 3, Instant.now());
+    static final Match FOURTH_MATCH = new Match("homeTeam4", "awayTeam4", 4, 3, 4, Instant.now());
 
     @Test
     public void sortingWitDefaultComparatorShouldEndUpWithListOrderedByTotalScore() {
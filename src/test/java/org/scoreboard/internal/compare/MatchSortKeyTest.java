@@ -0,0 +1,114 @@
+package org.scoreboard.internal.compare;
+
+import org.junit.jupiter.api.Test;
+import org.scoreboard.internal.model.Match;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MatchSortKeyTest {
+
+    private static final Instant NOW = Instant.parse("2026-06-11T19:00:00Z");
+    private final MatchSortKey sortKey = new DefaultSortKey();
+
+    @Test
+    public void defaultKeyShouldBeGreaterForHigherTotalScores() {
+        //given
+        var lowScore = new Match("homeTeam1", "awayTeam1", 1, 1, 2, NOW);
+        var highScore = new Match("homeTeam2", "awayTeam2", 3, 0, 1, NOW);
+
+        //then
+        assertThat(sortKey.keyOf(highScore)).isGreaterThan(sortKey.keyOf(lowScore));
+    }
+
+    @Test
+    public void defaultKeyShouldBeGreaterForMoreRecentlyStartedMatchesWithTheSameTotalScore() {
+        //given
+        var earlier = new Match("homeTeam1", "awayTeam1", 2, 1, 1, NOW);
+        var later = new Match("homeTeam2", "awayTeam2", 1, 2, 2, NOW);
+
+        //then
+        assertThat(sortKey.keyOf(later)).isGreaterThan(sortKey.keyOf(earlier));
+    }
+
+    @Test
+    public void defaultKeyShouldNotOverflowForTheHighestScores() {
+        //given
+        var noScore = new Match("homeTeam1", "awayTeam1", 0, 0, 1, NOW);
+        var highestScore = new Match("homeTeam2", "awayTeam2", Integer.MAX_VALUE, Integer.MAX_VALUE, 2, NOW);
+        var lowerScore = new Match("homeTeam3", "awayTeam3", Integer.MAX_VALUE, Integer.MAX_VALUE - 1, 3, NOW);
+
+        //then
+        assertThat(sortKey.keyOf(highestScore)).isGreaterThan(sortKey.keyOf(lowerScore))
+                .isGreaterThan(sortKey.keyOf(noScore));
+    }
+
+    @Test
+    public void defaultKeyShouldNotDependOnTheStartTime() {
+        //given
+        var earlier = new Match("homeTeam1", "awayTeam1", 1, 1, 1, NOW.plusSeconds(60));
+        var later = new Match("homeTeam2", "awayTeam2", 1, 1, 2, null);
+
+        //then
+        assertThat(sortKey.keyOf(later)).isGreaterThan(sortKey.keyOf(earlier));
+    }
+
+    @Test
+    public void matchesWithStartSequencesBeyondTheKeyShouldBeOrderedByTheirTiesComparison() {
+        //given
+        var earlier = new Match("homeTeam1", "awayTeam1", 1, 1, (1L << 32) + 1, null);
+        var later = new Match("homeTeam2", "awayTeam2", 1, 1, (1L << 32) + 5, null);
+
+        //when
+        var sortedMatches = List.of(earlier, later).stream().sorted(sortKey.comparator()).toList();
+
+        //then
+        assertThat(sortKey.keyOf(later)).isEqualTo(sortKey.keyOf(earlier));
+        assertThat(sortedMatches).containsExactly(later, earlier);
+    }
+
+    @Test
+    public void sortKeyShouldBeRecoveredFromItsComparator() {
+        //then
+        assertThat(MatchSortKey.of(sortKey.comparator())).isSameAs(sortKey);
+        assertThat(MatchSortKey.of(DefaultComparatorSupplier.get())).isInstanceOf(DefaultSortKey.class);
+    }
+
+    @Test
+    public void sortKeyOfOtherComparatorShouldOrderMatchesByTheComparator() {
+        //given
+        Comparator<Match> byHomeTeam = Comparator.comparing(Match::homeTeam);
+        var first = new Match("A", "awayTeam1", 0, 0, 1, NOW);
+        var second = new Match("B", "awayTeam2", 5, 5, 2, NOW);
+
+        //when
+        MatchSortKey comparatorKey = MatchSortKey.of(byHomeTeam);
+
+        //then
+        assertThat(comparatorKey.keyOf(first)).isEqualTo(comparatorKey.keyOf(second));
+        assertThat(comparatorKey.compareTies(first, second)).isNegative();
+        assertThat(comparatorKey.comparator()).isSameAs(byHomeTeam);
+    }
+
+    @Test
+    public void keyedMatchesShouldBeOrderedLikeTheComparatorAndThenByTeams() {
+        // the second and the third match have the same start sequence only to show the tie-break
+        //given
+        var first = new Match("homeTeam1", "awayTeam1", 3, 3, 1, NOW);
+        var second = new Match("homeTeam2", "awayTeam2", 1, 1, 2, NOW);
+        var third = new Match("homeTeam3", "awayTeam3", 1, 1, 2, NOW);
+
+        //when
+        var sortedMatches = List.of(third, second, first).stream()
+                .map(match -> KeyedMatch.of(sortKey, match))
+                .sorted(KeyedMatch.comparator(sortKey))
+                .map(KeyedMatch::match)
+                .toList();
+
+        //then
+        assertThat(sortedMatches).containsExactly(first, second, third);
+    }
+}
@@ -0,0 +1,77 @@
+package org.scoreboard.internal.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MpscRingBufferTest {
+
+    @Test
+    public void capacityShouldBeRoundedUpToPowerOfTwo() {
+        assertThat(new MpscRingBuffer<>(1).capacity()).isEqualTo(1);
+        assertThat(new MpscRingBuffer<>(5).capacity()).isEqualTo(8);
+        assertThat(new MpscRingBuffer<>(8).capacity()).isEqualTo(8);
+        assertThrows(IllegalArgumentException.class, () -> new MpscRingBuffer<>(0));
+    }
+
+    @Test
+    public void offerToFullBufferShouldFailUntilItsDrained() {
+        //given
+        var buffer = new MpscRingBuffer<Integer>(2);
+        buffer.offer(1);
+        buffer.offer(2);
+
+        //then
+        assertThat(buffer.offer(3)).isFalse();
+        List<Integer> drained = new ArrayList<>();
+        assertThat(buffer.drain(drained::add, 1)).isEqualTo(1);
+        assertThat(buffer.offer(3)).isTrue();
+        assertThat(buffer.drain(drained::add, 10)).isEqualTo(2);
+        assertThat(drained).containsExactly(1, 2, 3);
+        assertThat(buffer.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void elementsOfConcurrentProducersShouldAllBeDrainedInTheirOrder() throws Exception {
+        //given
+        var buffer = new MpscRingBuffer<int[]>(64);
+        int producers = 4;
+        int elementsPerProducer = 50_000;
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+
+        //when
+        List<Future<?>> results = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            results.add(executor.submit(() -> {
+                for (int i = 0; i < elementsPerProducer; i++) {
+                    while (!buffer.offer(new int[]{producer, i})) {
+                        Thread.onSpinWait();
+                    }
+                }
+            }));
+        }
+        int[] lastElements = {-1, -1, -1, -1};
+        boolean[] ordered = {true};
+        int drained = 0;
+        while (drained < producers * elementsPerProducer) {
+            drained += buffer.drain(element -> {
+                ordered[0] &= element[1] == lastElements[element[0]] + 1;
+                lastElements[element[0]] = element[1];
+            }, 100);
+        }
+        for (Future<?> result : results) result.get();
+        executor.shutdown();
+
+        //then
+        assertThat(ordered[0]).isTrue();
+        assertThat(lastElements).containsOnly(elementsPerProducer - 1);
+    }
+}
@@ -0,0 +1,97 @@
+package org.scoreboard.internal.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TeamLockStripesTest {
+
+    @Test
+    public void nonPositiveNumberOfStripesShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> new TeamLockStripes(0));
+        assertThrows(IllegalArgumentException.class, () -> new TeamLockStripes(-1));
+    }
+
+    @Test
+    public void numberOfStripesShouldBeRoundedUpToPowerOfTwo() {
+        assertThat(new TeamLockStripes(1).size()).isEqualTo(1);
+        assertThat(new TeamLockStripes(2).size()).isEqualTo(2);
+        assertThat(new TeamLockStripes(3).size()).isEqualTo(4);
+        assertThat(new TeamLockStripes(64).size()).isEqualTo(64);
+        assertThat(new TeamLockStripes().size()).isEqualTo(TeamLockStripes.DEFAULT_STRIPES);
+    }
+
+    @Test
+    public void stripeIndexShouldBeWithinRangeForAnyTeamNameIncludingNull() {
+        var stripes = new TeamLockStripes(8);
+
+        assertThat(stripes.stripeIndex(null)).isBetween(0, 7);
+        IntStream.range(0, 1_000).forEach(i -> assertThat(stripes.stripeIndex("team" + i)).isBetween(0, 7));
+    }
+
+    @Test
+    public void locksShouldBeReentrant() {
+        var stripes = new TeamLockStripes();
+
+        var result = stripes.callLocked("team1", "team2",
+                () -> stripes.callLocked("team2", "team1", () -> "done"));
+
+        assertThat(result).isEqualTo("done");
+    }
+
+    @Test
+    public void callLockedAllShouldHoldAllTheLocksAndReleaseThemAfterwards() {
+        //given
+        var stripes = new TeamLockStripes();
+        var teams = Arrays.asList("team1", "team2", "team3", null, "team1");
+
+        //when
+        var lockedDuringAction = stripes.callLockedAll(teams, () -> teams.stream().allMatch(stripes::isLocked));
+
+        //then
+        assertThat(lockedDuringAction).isTrue();
+        assertThat(teams).noneMatch(stripes::isLocked);
+    }
+
+    @Test
+    public void callLockedAllShouldReleaseTheLocksWhenActionThrows() {
+        var stripes = new TeamLockStripes();
+        var teams = List.of("team1", "team2");
+
+        assertThrows(IllegalStateException.class, () -> stripes.runLockedAll(teams, () -> {
+            throw new IllegalStateException();
+        }));
+        assertThat(teams).noneMatch(stripes::isLocked);
+    }
+
+    @Test
+    public void actionsInvolvingTheSameTeamShouldBeSerialized() throws Exception {
+        //given
+        var stripes = new TeamLockStripes();
+        var counter = new int[1];
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        //when
+        try {
+            var futures = IntStream.range(0, 10_000)
+                    .mapToObj(i -> executor.submit(() -> stripes.runLocked("sharedTeam", "team" + i, () -> counter[0]++)))
+                    .toList();
+            for (Future<?> future : futures) future.get();
+        } finally {
+            executor.shutdown();
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        }
+
+        //then
+        assertThat(counter[0]).isEqualTo(10_000);
+    }
+}
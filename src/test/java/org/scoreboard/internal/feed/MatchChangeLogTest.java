@@ -0,0 +1,84 @@
+package org.scoreboard.internal.feed;
+
+import org.junit.jupiter.api.Test;
+import org.scoreboard.internal.model.Match;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MatchChangeLogTest {
+
+    private static final Match FIRST_MATCH = new Match("Mexico", "Canada");
+    private static final Match SECOND_MATCH = new Match("Spain", "Brazil");
+
+    @Test
+    public void everyChangeShouldIncrementTheVersion() {
+        //given
+        var changeLog = new MatchChangeLog(16);
+
+        //when
+        changeLog.matchChanged(FIRST_MATCH);
+        changeLog.matchChanged(SECOND_MATCH);
+        changeLog.matchRemoved(FIRST_MATCH);
+
+        //then
+        assertThat(changeLog.version()).isEqualTo(3);
+    }
+
+    @Test
+    public void changesSinceShouldReturnTheLatestChangeOfEveryMatchInTheOrderOfTheChanges() {
+        //given
+        var changeLog = new MatchChangeLog(16);
+        var updatedFirstMatch = FIRST_MATCH.withModifiedScore(1, 0);
+        changeLog.matchChanged(FIRST_MATCH);
+        changeLog.matchChanged(SECOND_MATCH);
+        changeLog.matchChanged(updatedFirstMatch);
+        changeLog.matchRemoved(SECOND_MATCH);
+
+        //when
+        var allChanges = changeLog.changesSince(0);
+        var lastChanges = changeLog.changesSince(3);
+        var noChanges = changeLog.changesSince(4);
+
+        //then
+        assertThat(allChanges).hasValueSatisfying(changes -> assertThat(changes).containsExactly(
+                new MatchChangeLog.Change(updatedFirstMatch, false), new MatchChangeLog.Change(SECOND_MATCH, true)));
+        assertThat(lastChanges).hasValueSatisfying(changes -> assertThat(changes).containsExactly(
+                new MatchChangeLog.Change(SECOND_MATCH, true)));
+        assertThat(noChanges).hasValueSatisfying(changes -> assertThat(changes).isEmpty());
+    }
+
+    @Test
+    public void changesSinceAnOverwrittenOrUnknownVersionShouldNotBeFound() {
+        //given
+        var changeLog = new MatchChangeLog(2);
+        changeLog.matchChanged(FIRST_MATCH);
+        changeLog.matchChanged(SECOND_MATCH);
+        changeLog.matchChanged(FIRST_MATCH.withModifiedScore(1, 0));
+
+        //then
+        assertThat(changeLog.changesSince(1)).isPresent();
+        assertThat(changeLog.changesSince(0)).isEmpty();
+        assertThat(changeLog.changesSince(4)).isEmpty();
+        assertThat(changeLog.changesSince(-1)).isEmpty();
+    }
+
+    @Test
+    public void logWithoutCapacityShouldOnlyCountVersions() {
+        //given
+        var changeLog = new MatchChangeLog(0);
+
+        //when
+        changeLog.matchChanged(FIRST_MATCH);
+        changeLog.matchRemoved(FIRST_MATCH);
+
+        //then
+        assertThat(changeLog.version()).isEqualTo(2);
+        assertThat(changeLog.changesSince(0)).isEmpty();
+    }
+
+    @Test
+    public void negativeCapacityShouldBeRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new MatchChangeLog(-1));
+    }
+}
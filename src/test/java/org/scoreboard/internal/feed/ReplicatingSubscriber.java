@@ -0,0 +1,69 @@
+package org.scoreboard.internal.feed;
+
+import org.scoreboard.MatchSummary;
+import org.scoreboard.SummaryUpdate;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+
+/**
+ * Subscriber rebuilding the summary from received updates, as described by {@link SummaryUpdate}.
+ */
+public class ReplicatingSubscriber implements Flow.Subscriber<SummaryUpdate> {
+
+    private final long initialRequest;
+    private final List<SummaryUpdate> updates = new CopyOnWriteArrayList<>();
+    private volatile Flow.Subscription subscription;
+    private volatile List<MatchSummary> summary = List.of();
+    private volatile Throwable error;
+
+    public ReplicatingSubscriber(long initialRequest) {
+        this.initialRequest = initialRequest;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        if (initialRequest > 0) subscription.request(initialRequest);
+    }
+
+    @Override
+    public void onNext(SummaryUpdate update) {
+        summary = apply(summary, update);
+        updates.add(update);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        error = throwable;
+    }
+
+    @Override
+    public void onComplete() {
+    }
+
+    public void request(long n) {
+        subscription.request(n);
+    }
+
+    public void cancel() {
+        subscription.cancel();
+    }
+
+    public List<MatchSummary> summary() {
+        return summary;
+    }
+
+    public List<SummaryUpdate> updates() {
+        return updates;
+    }
+
+    public Throwable error() {
+        return error;
+    }
+
+    static List<MatchSummary> apply(List<MatchSummary> previous, SummaryUpdate update) {
+        return update.applyTo(previous);
+    }
+}
@@ -0,0 +1,143 @@
+package org.scoreboard.internal.feed;
+
+import org.junit.jupiter.api.Test;
+import org.scoreboard.MatchSummary;
+import org.scoreboard.SummaryChange;
+import org.scoreboard.SummaryUpdate;
+
+import java.util.List;
+import java.util.concurrent.Flow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SummaryChangeFeedTest {
+
+    private static final MatchSummary MATCH1 = new MatchSummary("homeTeam1", "awayTeam1", 0, 0);
+    private static final MatchSummary MATCH2 = new MatchSummary("homeTeam2", "awayTeam2", 0, 0);
+
+    private volatile List<MatchSummary> summary = List.of();
+    // delivers the updates on the calling thread, so the tests are deterministic
+    private final SummaryChangeFeed feed = new SummaryChangeFeed(() -> summary, Runnable::run);
+
+    @Test
+    public void firstUpdateShouldContainAllCurrentMatches() {
+        //given
+        summary = List.of(MATCH1, MATCH2);
+
+        //when
+        var subscriber = subscribe(1);
+
+        //then
+        assertThat(subscriber.updates()).containsExactly(new SummaryUpdate(List.of(
+                new SummaryChange.MatchStarted(MATCH1, 0),
+                new SummaryChange.MatchStarted(MATCH2, 1))));
+    }
+
+    @Test
+    public void updatesShouldNotBeDeliveredUntilRequested() {
+        //given
+        var subscriber = subscribe(0);
+
+        //when
+        changeSummary(List.of(MATCH1));
+
+        //then
+        assertThat(subscriber.updates()).isEmpty();
+        subscriber.request(1);
+        assertThat(subscriber.updates()).hasSize(1);
+        assertThat(subscriber.summary()).containsExactly(MATCH1);
+    }
+
+    @Test
+    public void changesMadeBeforeTheUpdateIsRequestedShouldBeCoalesced() {
+        //given
+        var subscriber = subscribe(0);
+
+        //when
+        changeSummary(List.of(MATCH1));
+        changeSummary(List.of(MATCH1, MATCH2));
+        for (int goals = 1; goals <= 10; goals++) {
+            changeSummary(List.of(new MatchSummary("homeTeam2", "awayTeam2", goals, 0), MATCH1));
+        }
+        subscriber.request(5);
+
+        //then
+        assertThat(subscriber.updates()).hasSize(1);
+        assertThat(subscriber.summary()).isEqualTo(summary);
+    }
+
+    @Test
+    public void everyRequestedChangeShouldBeDeliveredAsSeparateUpdate() {
+        //given
+        var subscriber = subscribe(Long.MAX_VALUE);
+
+        //when
+        changeSummary(List.of(MATCH1));
+        changeSummary(List.of(MATCH1, MATCH2));
+        changeSummary(List.of(MATCH2));
+
+        //then
+        assertThat(subscriber.updates()).hasSize(3);
+        assertThat(subscriber.updates().get(2).changes())
+                .containsExactly(new SummaryChange.MatchFinished("homeTeam1", "awayTeam1", 0));
+        assertThat(subscriber.summary()).containsExactly(MATCH2);
+    }
+
+    @Test
+    public void cancelledSubscriptionShouldNotReceiveUpdates() {
+        //given
+        var subscriber = subscribe(Long.MAX_VALUE);
+
+        //when
+        subscriber.cancel();
+        changeSummary(List.of(MATCH1));
+
+        //then
+        assertThat(subscriber.updates()).isEmpty();
+        assertThat(feed.hasSubscribers()).isFalse();
+    }
+
+    @Test
+    public void nonPositiveRequestShouldCancelTheSubscriptionWithError() {
+        //given
+        var subscriber = subscribe(0);
+
+        //when
+        subscriber.request(0);
+
+        //then
+        assertThat(subscriber.error()).isInstanceOf(IllegalArgumentException.class);
+        assertThat(feed.hasSubscribers()).isFalse();
+    }
+
+    @Test
+    public void subscriberFailingToHandleUpdateShouldBeCancelledWithError() {
+        //given
+        var failure = new IllegalStateException("failure");
+        var subscriber = new ReplicatingSubscriber(Long.MAX_VALUE) {
+            @Override
+            public void onNext(SummaryUpdate update) {
+                throw failure;
+            }
+        };
+        feed.subscribe(subscriber);
+
+        //when
+        changeSummary(List.of(MATCH1));
+
+        //then
+        assertThat(subscriber.error()).isSameAs(failure);
+        assertThat(feed.hasSubscribers()).isFalse();
+    }
+
+    private ReplicatingSubscriber subscribe(long initialRequest) {
+        var subscriber = new ReplicatingSubscriber(initialRequest);
+        feed.subscribe((Flow.Subscriber<SummaryUpdate>) subscriber);
+        return subscriber;
+    }
+
+    private void changeSummary(List<MatchSummary> newSummary) {
+        summary = newSummary;
+        feed.summaryChanged();
+    }
+}
@@ -0,0 +1,92 @@
+package org.scoreboard.internal.feed;
+
+import org.junit.jupiter.api.Test;
+import org.scoreboard.MatchSummary;
+import org.scoreboard.SummaryChange;
+import org.scoreboard.SummaryUpdate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SummaryDiffTest {
+
+    private static final MatchSummary MATCH_A = new MatchSummary("homeA", "awayA", 2, 0);
+    private static final MatchSummary MATCH_B = new MatchSummary("homeB", "awayB", 1, 0);
+    private static final MatchSummary MATCH_C = new MatchSummary("homeC", "awayC", 0, 0);
+    private static final MatchSummary MATCH_D = new MatchSummary("homeD", "awayD", 0, 0);
+
+    @Test
+    public void diffOfEqualSummariesShouldBeEmpty() {
+        assertThat(SummaryDiff.between(List.of(MATCH_A, MATCH_B), List.of(MATCH_A, MATCH_B))).isEmpty();
+    }
+
+    @Test
+    public void diffFromEmptySummaryShouldContainAllMatchesAsStarted() {
+        //when
+        var changes = SummaryDiff.between(List.of(), List.of(MATCH_A, MATCH_B));
+
+        //then
+        assertThat(changes).containsExactly(
+                new SummaryChange.MatchStarted(MATCH_A, 0),
+                new SummaryChange.MatchStarted(MATCH_B, 1));
+    }
+
+    @Test
+    public void matchesShiftedByStartedOrFinishedMatchesShouldNotBeReportedAsMoved() {
+        //when
+        var changes = SummaryDiff.between(List.of(MATCH_A, MATCH_B, MATCH_C), List.of(MATCH_D, MATCH_B, MATCH_C));
+
+        //then
+        assertThat(changes).containsExactly(
+                new SummaryChange.MatchFinished("homeA", "awayA", 0),
+                new SummaryChange.MatchStarted(MATCH_D, 0));
+    }
+
+    @Test
+    public void matchOvertakingOthersShouldBeReportedAsSingleMove() {
+        //given
+        var updatedMatchD = new MatchSummary("homeD", "awayD", 3, 0);
+
+        //when
+        var changes = SummaryDiff.between(List.of(MATCH_A, MATCH_B, MATCH_C, MATCH_D),
+                List.of(updatedMatchD, MATCH_A, MATCH_B, MATCH_C));
+
+        //then
+        assertThat(changes).containsExactly(
+                new SummaryChange.ScoreChanged(updatedMatchD, 0),
+                new SummaryChange.RankMoved("homeD", "awayD", 3, 0));
+    }
+
+    @Test
+    public void previousSummaryWithAppliedChangesShouldBeEqualToTheCurrentOne() {
+        //given
+        var random = new Random(42);
+        List<MatchSummary> previous = List.of();
+
+        for (int round = 0; round < 200; round++) {
+            //when
+            List<MatchSummary> current = new ArrayList<>(previous.stream()
+                    .filter(match -> random.nextInt(10) > 0)
+                    .map(match -> random.nextInt(4) == 0
+                            ? new MatchSummary(match.homeTeam(), match.awayTeam(), match.homeScore() + 1, match.awayScore())
+                            : match)
+                    .toList());
+            int round0 = round;
+            IntStream.range(0, random.nextInt(5)).forEach(i ->
+                    current.add(new MatchSummary("home" + round0 + "-" + i, "away" + round0 + "-" + i, 0, 0)));
+            if (random.nextBoolean()) Collections.shuffle(current, random);
+            else if (current.size() > 1) Collections.swap(current, 0, random.nextInt(current.size()));
+
+            var changes = SummaryDiff.between(previous, current);
+
+            //then
+            assertThat(ReplicatingSubscriber.apply(previous, new SummaryUpdate(changes))).isEqualTo(current);
+            previous = List.copyOf(current);
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package org.scoreboard.internal.http;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.scoreboard.MatchSummary;
+import org.scoreboard.Scoreboard;
+import org.scoreboard.internal.wire.SummaryWireFormat;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScoreboardHttpServerTest {
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private Scoreboard scoreboard;
+    private ScoreboardHttpServer server;
+
+    @BeforeEach
+    public void setUp() {
+        scoreboard = Scoreboard.getThreadSafeInstance();
+        server = new ScoreboardHttpServer(scoreboard, new InetSocketAddress("localhost", 0));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.close();
+    }
+
+    @Test
+    public void summaryShouldBeServedAsJson() throws Exception {
+        //given
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.updateScore("Spain", "Brazil", 1, 0);
+        awaitServedSummary();
+
+        //when
+        var response = client.send(request("/summary").build(), HttpResponse.BodyHandlers.ofString());
+
+        //then
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Type")).contains(ScoreboardHttpServer.JSON_MEDIA_TYPE);
+        assertThat(response.body()).isEqualTo("["
+                + "{\"homeTeam\":\"Spain\",\"awayTeam\":\"Brazil\",\"homeScore\":1,\"awayScore\":0},"
+                + "{\"homeTeam\":\"Mexico\",\"awayTeam\":\"Canada\",\"homeScore\":0,\"awayScore\":0}]");
+    }
+
+    @Test
+    public void summaryShouldBeServedInBinaryFormatWhenAccepted() throws Exception {
+        //given
+        scoreboard.startMatch("Mexico", "Canada");
+        awaitServedSummary();
+
+        //when
+        var response = client.send(request("/summary").header("Accept", ScoreboardHttpServer.BINARY_MEDIA_TYPE).build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+
+        //then
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(SummaryWireFormat.decodeSummary(ByteBuffer.wrap(response.body())))
+                .containsExactly(new MatchSummary("Mexico", "Canada", 0, 0));
+    }
+
+    @Test
+    public void unchangedSummaryShouldNotBeSentAgain() throws Exception {
+        //given
+        scoreboard.startMatch("Mexico", "Canada");
+        awaitServedSummary();
+        var first = client.send(request("/summary").build(), HttpResponse.BodyHandlers.ofString());
+        String etag = first.headers().firstValue("ETag").orElseThrow();
+
+        //when
+        var unchanged = client.send(request("/summary").header("If-None-Match", etag).build(),
+                HttpResponse.BodyHandlers.ofString());
+        scoreboard.updateScore("Mexico", "Canada", 0, 1);
+        awaitServedSummary();
+        var changed = client.send(request("/summary").header("If-None-Match", etag).build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        //then
+        assertThat(unchanged.statusCode()).isEqualTo(304);
+        assertThat(unchanged.body()).isEmpty();
+        assertThat(changed.statusCode()).isEqualTo(200);
+        assertThat(changed.headers().firstValue("ETag")).isPresent().get().isNotEqualTo(etag);
+        assertThat(changed.body()).contains("\"awayScore\":1");
+    }
+
+    @Test
+    public void etagsShouldDifferBetweenServersServingTheSameVersion() throws Exception {
+        //given
+        scoreboard.startMatch("Mexico", "Canada");
+        awaitServedSummary();
+        var etag = client.send(request("/summary").build(), HttpResponse.BodyHandlers.discarding())
+                .headers().firstValue("ETag").orElseThrow();
+        server.close();
+        server = new ScoreboardHttpServer(scoreboard, new InetSocketAddress("localhost", 0));
+        awaitServedSummary();
+
+        //when
+        var response = client.send(request("/summary").header("If-None-Match", etag).build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        //then a restarted server doesn't answer with 304 for the ETag of the previous one
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("ETag")).isPresent().get().isNotEqualTo(etag);
+    }
+
+    @Test
+    public void streamShouldSendAllMatchesAndThenTheirChanges() throws Exception {
+        //given
+        scoreboard.startMatch("Mexico", "Canada");
+        var response = client.send(request("/summary/stream").build(), HttpResponse.BodyHandlers.ofInputStream());
+
+        //when
+        try (InputStream body = response.body()) {
+            var reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+            String firstEvent = readEventData(reader);
+            scoreboard.updateScore("Mexico", "Canada", 1, 0);
+            String secondEvent = readEventData(reader);
+
+            //then
+            assertThat(response.statusCode()).isEqualTo(200);
+            assertThat(response.headers().firstValue("Content-Type")).contains(ScoreboardHttpServer.EVENT_STREAM_MEDIA_TYPE);
+            assertThat(firstEvent).isEqualTo("[{\"change\":\"matchStarted\",\"rank\":0,"
+                    + "\"homeTeam\":\"Mexico\",\"awayTeam\":\"Canada\",\"homeScore\":0,\"awayScore\":0}]");
+            assertThat(secondEvent).isEqualTo("[{\"change\":\"scoreChanged\",\"rank\":0,"
+                    + "\"homeTeam\":\"Mexico\",\"awayTeam\":\"Canada\",\"homeScore\":1,\"awayScore\":0}]");
+        }
+    }
+
+    @Test
+    public void otherMethodsShouldNotBeAllowed() throws Exception {
+        //when
+        var response = client.send(request("/summary").POST(HttpRequest.BodyPublishers.noBody()).build(),
+                HttpResponse.BodyHandlers.discarding());
+
+        //then
+        assertThat(response.statusCode()).isEqualTo(405);
+        assertThat(response.headers().firstValue("Allow")).contains("GET, HEAD");
+    }
+
+    @Test
+    public void unknownPathsShouldNotBeFound() throws Exception {
+        //when
+        var response = client.send(request("/summary/unknown").build(), HttpResponse.BodyHandlers.discarding());
+
+        //then
+        assertThat(response.statusCode()).isEqualTo(404);
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + server.port() + path));
+    }
+
+    private void awaitServedSummary() throws Exception {
+        var summary = scoreboard.getMatchesSummary();
+        awaitUntil(() -> {
+            try {
+                var response = client.send(request("/summary").header("Accept", ScoreboardHttpServer.BINARY_MEDIA_TYPE).build(),
+                        HttpResponse.BodyHandlers.ofByteArray());
+                return SummaryWireFormat.decodeSummary(ByteBuffer.wrap(response.body())).equals(summary);
+            } catch (IOException | InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    private static String readEventData(BufferedReader reader) throws IOException {
+        String data = null;
+        for (String line = reader.readLine(); line != null && !(line.isEmpty() && data != null); line = reader.readLine()) {
+            if (line.startsWith("data: ")) data = line.substring("data: ".length());
+        }
+        return data;
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package org.scoreboard.internal.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MergingIteratorTest {
+
+    @Test
+    public void mergedIteratorShouldReturnAllElementsInOrder() {
+        //given
+        var merged = new MergingIterator<>(List.of(
+                List.of(1, 4, 7, 10).iterator(),
+                List.<Integer>of().iterator(),
+                List.of(2, 3, 8).iterator(),
+                List.of(5, 6, 9).iterator()), Comparator.<Integer>naturalOrder());
+
+        //when
+        List<Integer> elements = new ArrayList<>();
+        merged.forEachRemaining(elements::add);
+
+        //then
+        assertThat(elements).containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+    }
+
+    @Test
+    public void mergedIteratorShouldFollowSpecifiedComparator() {
+        //given
+        var merged = new MergingIterator<>(List.of(
+                List.of("ccc", "a").iterator(),
+                List.of("bb").iterator()), Comparator.comparingInt(String::length).reversed());
+
+        //then
+        assertThat(merged).toIterable().containsExactly("ccc", "bb", "a");
+    }
+
+    @Test
+    public void mergeOfNoIteratorsShouldBeEmpty() {
+        //given
+        Iterator<Integer> merged = new MergingIterator<>(List.<Iterator<Integer>>of(), Comparator.naturalOrder());
+
+        //then
+        assertThat(merged.hasNext()).isFalse();
+        assertThrows(NoSuchElementException.class, merged::next);
+    }
+}
@@ -0,0 +1,135 @@
+package org.scoreboard.internal.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.scoreboard.internal.compare.DefaultComparatorSupplier;
+import org.scoreboard.internal.model.Match;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RankedMatchIndexTest {
+
+    private static final Instant NOW = Instant.now();
+    private static final Match FIRST_MATCH = new Match("homeTeam1", "awayTeam1", 0, 0, 1, NOW);
+    private static final Match SECOND_MATCH = new Match("homeTeam2", "awayTeam2", 3, 4, 2, NOW.plusSeconds(1));
+    private static final Match THIRD_MATCH = new Match("homeTeam3", "awayTeam3", 2, 2, 3, NOW.plusSeconds(2));
+    private static final Match FOURTH_MATCH = new Match("homeTeam4", "awayTeam4", 4, 3, 4, NOW.plusSeconds(3));
+
+    private RankedMatchIndex index;
+
+    @BeforeEach
+    public void init() {
+        index = new RankedMatchIndex(DefaultComparatorSupplier.get());
+    }
+
+    @Test
+    public void modifyingMethodsShouldThrowExceptionsForNullValues() {
+        assertThrows(NullPointerException.class, () -> index.add(null));
+        assertThrows(NullPointerException.class, () -> index.remove(null));
+        assertThrows(NullPointerException.class, () -> index.replace(null, FIRST_MATCH));
+        assertThrows(NullPointerException.class, () -> index.replace(FIRST_MATCH, null));
+    }
+
+    @Test
+    public void newlyCreatedIndexShouldBeEmpty() {
+        assertThat(index.size()).isZero();
+        assertThat(index.stream()).isEmpty();
+    }
+
+    @Test
+    public void streamShouldReturnMatchesInTheOrderOfTheComparator() {
+        //given
+        index.addAll(List.of(FIRST_MATCH, SECOND_MATCH, THIRD_MATCH, FOURTH_MATCH));
+
+        //when
+        var matches = index.stream().toList();
+
+        //then
+        assertThat(matches).containsExactly(FOURTH_MATCH, SECOND_MATCH, THIRD_MATCH, FIRST_MATCH);
+    }
+
+    @Test
+    public void parallelStreamShouldKeepTheOrderOfTheComparator() {
+        //given
+        index.addAll(List.of(FIRST_MATCH, SECOND_MATCH, THIRD_MATCH, FOURTH_MATCH));
+
+        //when
+        var matches = index.parallelStream().toList();
+
+        //then
+        assertThat(matches).containsExactly(FOURTH_MATCH, SECOND_MATCH, THIRD_MATCH, FIRST_MATCH);
+    }
+
+    @Test
+    public void sizeShouldCountOnlyMatchesActuallyAddedAndRemoved() {
+        //given
+        var concurrentIndex = RankedMatchIndex.concurrent(DefaultComparatorSupplier.get());
+        concurrentIndex.addAll(List.of(FIRST_MATCH, SECOND_MATCH, THIRD_MATCH));
+
+        //when
+        concurrentIndex.add(SECOND_MATCH);
+        concurrentIndex.remove(FOURTH_MATCH);
+        concurrentIndex.replace(THIRD_MATCH, THIRD_MATCH.withModifiedScore(3, 2));
+        concurrentIndex.remove(FIRST_MATCH);
+
+        //then
+        assertThat(concurrentIndex.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void matchesEqualForTheComparatorShouldAllBeKept() {
+        //given
+        var sameRankMatch1 = new Match("homeTeam5", "awayTeam5", 1, 1, 5, NOW);
+        var sameRankMatch2 = new Match("homeTeam6", "awayTeam6", 1, 1, 6, NOW);
+
+        //when
+        index.add(sameRankMatch1);
+        index.add(sameRankMatch2);
+
+        //then
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.stream()).containsExactlyInAnyOrder(sameRankMatch1, sameRankMatch2);
+    }
+
+    @Test
+    public void replaceShouldMoveTheMatchToItsNewPosition() {
+        //given
+        index.addAll(List.of(FIRST_MATCH, SECOND_MATCH, THIRD_MATCH));
+        var modifiedFirstMatch = FIRST_MATCH.withModifiedScore(5, 5);
+
+        //when
+        index.replace(FIRST_MATCH, modifiedFirstMatch);
+
+        //then
+        assertThat(index.stream()).containsExactly(modifiedFirstMatch, SECOND_MATCH, THIRD_MATCH);
+    }
+
+    @Test
+    public void removeShouldRemoveOnlyTheSpecifiedMatch() {
+        //given
+        index.addAll(List.of(FIRST_MATCH, SECOND_MATCH, THIRD_MATCH));
+
+        //when
+        index.remove(SECOND_MATCH);
+
+        //then
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.stream()).containsExactly(THIRD_MATCH, FIRST_MATCH);
+    }
+
+    @Test
+    public void removeOfNotIndexedMatchShouldNotChangeTheIndex() {
+        //given
+        index.addAll(List.of(FIRST_MATCH, SECOND_MATCH));
+
+        //when
+        index.remove(THIRD_MATCH);
+
+        //then
+        assertThat(index.stream()).containsExactly(SECOND_MATCH, FIRST_MATCH);
+    }
+}
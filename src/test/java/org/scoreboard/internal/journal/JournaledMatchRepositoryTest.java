@@ -0,0 +1,396 @@
+package org.scoreboard.internal.journal;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.scoreboard.MatchSummary;
+import org.scoreboard.internal.ScoreboardImpl;
+import org.scoreboard.internal.compare.DefaultComparatorSupplier;
+import org.scoreboard.internal.convert.MatchToMatchSummaryConverter;
+import org.scoreboard.internal.model.Match;
+import org.scoreboard.internal.repository.ConcurrentMatchRepository;
+import org.scoreboard.internal.repository.InMemoryMatchRepository;
+import org.scoreboard.internal.repository.MatchRepository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JournaledMatchRepositoryTest {
+
+    private static final Match MATCH1 = new Match("homeTeam1", "awayTeam1", 0, 0, 1, Instant.ofEpochSecond(100, 1));
+    private static final Match MATCH2 = new Match("homeTeam2", "awayTeam2", 0, 0, 2, Instant.ofEpochSecond(200, 2));
+    private static final Match MODIFIED_MATCH1 = MATCH1.withModifiedScore(2, 1);
+
+    @TempDir
+    Path directory;
+
+    private final List<JournaledMatchRepository> openedRepositories = new ArrayList<>();
+
+    @AfterEach
+    public void closeRepositories() throws IOException {
+        for (JournaledMatchRepository repository : openedRepositories) {
+            repository.close();
+        }
+    }
+
+    @Test
+    public void reopenedRepositoryShouldContainTheSameMatches() throws IOException {
+        //given
+        var repository = open(JournalDurability.EVERY_OPERATION);
+        repository.save(MATCH1);
+        repository.save(MATCH2);
+        repository.save(MODIFIED_MATCH1);
+        repository.remove(MATCH2.homeTeam(), MATCH2.awayTeam());
+        repository.close();
+
+        //when
+        var reopened = open(JournalDurability.EVERY_OPERATION);
+
+        //then
+        assertThat(reopened.listAllMatches()).containsExactly(MODIFIED_MATCH1);
+        assertThat(reopened.containsMatchForTeam(MATCH2.homeTeam())).isFalse();
+    }
+
+    @Test
+    public void reopenedRepositoryShouldContainMatchesSavedInBatch() throws IOException {
+        //given
+        var repository = open(JournalDurability.EVERY_OPERATION);
+        repository.save(MATCH1);
+        repository.applyAll(List.of(MATCH1), List.of(MATCH2));
+        repository.close();
+
+        //when
+        var reopened = open(JournalDurability.EVERY_OPERATION);
+
+        //then
+        assertThat(reopened.listAllMatches()).containsExactly(MATCH2);
+    }
+
+    @Test
+    public void modificationsThatCannotBeJournaledShouldNotBeApplied() throws IOException {
+        //given
+        var delegate = new InMemoryMatchRepository();
+        var repository = open(delegate, JournalDurability.EVERY_OPERATION);
+        repository.save(MATCH1);
+        repository.close();
+
+        //when
+        assertThrows(UncheckedIOException.class, () -> repository.save(MATCH2));
+        assertThrows(UncheckedIOException.class, () -> repository.remove(MATCH1.homeTeam(), MATCH1.awayTeam()));
+
+        //then
+        assertThat(delegate.listAllMatches()).containsExactly(MATCH1);
+    }
+
+    @Test
+    public void invalidModificationsShouldNotBeJournaled() throws IOException {
+        //given
+        var repository = open(JournalDurability.EVERY_OPERATION);
+        repository.save(MATCH1);
+        long size = repository.size();
+        long fileSize = Files.size(journalFile());
+
+        //when
+        assertThrows(IllegalStateException.class, () -> repository.save(new Match(MATCH1.homeTeam(), "otherTeam")));
+
+        //then
+        assertThat(repository.size()).isEqualTo(size);
+        assertThat(Files.size(journalFile())).isEqualTo(fileSize);
+        repository.close();
+        assertThat(open(JournalDurability.EVERY_OPERATION).listAllMatches()).containsExactly(MATCH1);
+    }
+
+    @Test
+    public void incompleteRecordAtTheEndOfTheJournalShouldBeDiscarded() throws IOException {
+        //given
+        var repository = open(JournalDurability.EVERY_OPERATION);
+        repository.save(MATCH1);
+        long validSize = repository.size();
+        repository.save(MATCH2);
+        repository.close();
+        truncateJournal(Files.size(journalFile()) - 3);
+
+        //when
+        var reopened = open(JournalDurability.EVERY_OPERATION);
+
+        //then
+        assertThat(reopened.listAllMatches()).containsExactly(MATCH1);
+        assertThat(Files.size(journalFile())).isEqualTo(validSize);
+    }
+
+    @Test
+    public void rejectedRecordAtTheEndOfTheJournalShouldBeDiscarded() throws IOException {
+        //given the process died after journaling a modification rejected by the repository, before discarding it
+        var repository = open(JournalDurability.EVERY_OPERATION);
+        repository.save(MATCH1);
+        repository.close();
+        long validSize = Files.size(journalFile());
+        try (var channel = Files.newByteChannel(journalFile(), StandardOpenOption.APPEND)) {
+            channel.write(JournalCodec.encodeSave(new Match(MATCH1.homeTeam(), "otherTeam", 0, 0, 3, null)));
+        }
+
+        //when
+        var reopened = open(JournalDurability.EVERY_OPERATION);
+
+        //then
+        assertThat(reopened.listAllMatches()).containsExactly(MATCH1);
+        assertThat(Files.size(journalFile())).isEqualTo(validSize);
+    }
+
+    @Test
+    public void corruptedRecordAtTheEndOfTheJournalShouldBeDiscardedAndOverwritten() throws IOException {
+        //given
+        var repository = open(JournalDurability.EVERY_OPERATION);
+        repository.save(MATCH1);
+        long validSize = repository.size();
+        repository.save(MATCH2);
+        repository.close();
+        corruptLastByteOfJournal();
+
+        //when
+        var reopened = open(JournalDurability.EVERY_OPERATION);
+        reopened.save(MODIFIED_MATCH1);
+        reopened.close();
+
+        //then
+        assertThat(Files.size(journalFile())).isGreaterThan(validSize);
+        assertThat(open(JournalDurability.EVERY_OPERATION).listAllMatches()).containsExactly(MODIFIED_MATCH1);
+    }
+
+    @ParameterizedTest
+    @EnumSource(JournalDurability.class)
+    public void everyDurabilityShouldJournalAllModificationsBeforeClosing(JournalDurability durability) throws IOException {
+        //given
+        var repository = open(durability);
+
+        //when
+        IntStream.range(0, 100).forEach(i -> repository.save(new Match("home" + i, "away" + i)));
+        IntStream.range(0, 50).forEach(i -> repository.remove("home" + i, "away" + i));
+        repository.close();
+
+        //then
+        assertThat(open(durability).listAllMatches()).hasSize(50);
+    }
+
+    @Test
+    public void concurrentModificationsShouldAllBeJournaled() throws Exception {
+        //given
+        var repository = open(new ConcurrentMatchRepository(), JournalDurability.EVERY_OPERATION);
+        int threads = 8;
+        int matchesPerThread = 200;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        //when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> IntStream.range(0, matchesPerThread).forEach(i -> {
+                repository.save(new Match("home" + thread + "-" + i, "away" + thread + "-" + i));
+                if (i % 2 == 0) repository.remove("home" + thread + "-" + i, "away" + thread + "-" + i);
+            })));
+        }
+        for (Future<?> future : futures) future.get();
+        executor.shutdown();
+        repository.close();
+
+        //then
+        var reopened = open(JournalDurability.EVERY_OPERATION);
+        assertThat(reopened.listAllMatches()).hasSize(threads * matchesPerThread / 2)
+                .containsExactlyInAnyOrderElementsOf(repository.listAllMatches());
+    }
+
+    @Test
+    public void scoreboardShouldBeRebuiltFromTheJournal() throws IOException {
+        //given
+        var repository = open(JournalDurability.EVERY_OPERATION);
+        var scoreboard = new ScoreboardImpl(repository, DefaultComparatorSupplier.get(), new MatchToMatchSummaryConverter());
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.updateScore("Spain", "Brazil", 10, 2);
+        scoreboard.finishMatch("Mexico", "Canada");
+        List<MatchSummary> summary = scoreboard.getMatchesSummary();
+        repository.close();
+
+        //when
+        var reopened = open(JournalDurability.EVERY_OPERATION);
+        var rebuiltScoreboard = new ScoreboardImpl(reopened, DefaultComparatorSupplier.get(), new MatchToMatchSummaryConverter());
+
+        //then
+        assertThat(rebuiltScoreboard.getMatchesSummary()).isEqualTo(summary);
+    }
+
+    @Test
+    public void reopenedRepositoryShouldLoadTheSnapshotAndReplayOnlyTheJournalWrittenAfterIt() throws IOException {
+        //given
+        var repository = open(JournalDurability.EVERY_OPERATION);
+        repository.save(MATCH1);
+        repository.save(MATCH2);
+        repository.snapshot();
+        repository.save(MODIFIED_MATCH1);
+        repository.remove(MATCH2.homeTeam(), MATCH2.awayTeam());
+        repository.close();
+
+        //when
+        var reopened = open(JournalDurability.EVERY_OPERATION);
+
+        //then
+        assertThat(reopened.listAllMatches()).containsExactly(MODIFIED_MATCH1);
+        assertThat(filesStartingWith("snapshot-")).hasSize(1);
+        assertThat(filesStartingWith("journal-")).hasSize(1);
+    }
+
+    @Test
+    public void snapshotShouldDeleteTheJournalCoveredByIt() throws IOException {
+        //given
+        var repository = open(JournalDurability.EVERY_OPERATION);
+        repository.save(MATCH1);
+        repository.snapshot();
+        repository.save(MATCH2);
+
+        //when
+        repository.snapshot();
+
+        //then
+        assertThat(repository.size()).isZero();
+        assertThat(Files.size(journalFile())).isZero();
+        assertThat(filesStartingWith("snapshot-")).hasSize(1);
+        repository.close();
+        assertThat(open(JournalDurability.EVERY_OPERATION).listAllMatches()).containsExactlyInAnyOrder(MATCH1, MATCH2);
+    }
+
+    @Test
+    public void snapshotOfEmptyRepositoryShouldBeLoaded() throws IOException {
+        //given
+        var repository = open(JournalDurability.EVERY_OPERATION);
+        repository.save(MATCH1);
+        repository.remove(MATCH1.homeTeam(), MATCH1.awayTeam());
+        repository.snapshot();
+        repository.close();
+
+        //then
+        assertThat(open(JournalDurability.EVERY_OPERATION).listAllMatches()).isEmpty();
+    }
+
+    @Test
+    public void snapshotShouldBeTakenAutomaticallyOnceTheJournalExceedsTheThreshold() throws IOException {
+        //given
+        long snapshotThreshold = 4 * 1024;
+        var repository = open(new InMemoryMatchRepository(), JournalDurability.OS_BUFFERED, snapshotThreshold);
+        repository.save(MATCH1);
+
+        //when
+        for (int goals = 1; goals <= 10_000; goals++) {
+            repository.save(MATCH1.withModifiedScore(goals, 0));
+        }
+        repository.close();
+
+        //then
+        assertThat(filesStartingWith("snapshot-")).hasSize(1);
+        assertThat(Files.size(journalFile())).isLessThan(100 * snapshotThreshold);
+        var reopened = open(JournalDurability.OS_BUFFERED);
+        assertThat(reopened.listAllMatches())
+                .containsExactly(MATCH1.withModifiedScore(10_000, 0));
+    }
+
+    @Test
+    public void modificationsDuringSnapshotsShouldNotBeLost() throws Exception {
+        //given
+        var repository = open(new ConcurrentMatchRepository(), JournalDurability.OS_BUFFERED);
+        int threads = 4;
+        int updatesPerThread = 2_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        //when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                for (int goals = 0; goals < updatesPerThread; goals++) {
+                    repository.save(new Match("home" + thread, "away" + thread, goals, 0, thread, MATCH1.startedAt()));
+                }
+            }));
+        }
+        while (!futures.stream().allMatch(Future::isDone)) {
+            repository.snapshot();
+        }
+        for (Future<?> future : futures) future.get();
+        executor.shutdown();
+        repository.close();
+
+        //then
+        assertThat(open(JournalDurability.OS_BUFFERED).listAllMatches())
+                .containsExactlyInAnyOrderElementsOf(repository.listAllMatches())
+                .allMatch(match -> match.homeScore() == updatesPerThread - 1);
+    }
+
+    @Test
+    public void corruptedSnapshotShouldNotBeLoaded() throws IOException {
+        //given
+        var repository = open(JournalDurability.EVERY_OPERATION);
+        repository.save(MATCH1);
+        repository.snapshot();
+        repository.close();
+        Path snapshot = directory.resolve(filesStartingWith("snapshot-").get(0));
+        byte[] bytes = Files.readAllBytes(snapshot);
+        bytes[bytes.length / 2] ^= 0x7f;
+        Files.write(snapshot, bytes);
+
+        //then
+        assertThrows(IllegalStateException.class, () -> open(JournalDurability.EVERY_OPERATION));
+    }
+
+    private JournaledMatchRepository open(JournalDurability durability) {
+        return open(new InMemoryMatchRepository(), durability);
+    }
+
+    private JournaledMatchRepository open(MatchRepository delegate, JournalDurability durability) {
+        return open(delegate, durability, JournaledMatchRepository.DEFAULT_SNAPSHOT_THRESHOLD);
+    }
+
+    private JournaledMatchRepository open(MatchRepository delegate, JournalDurability durability, long snapshotThreshold) {
+        var repository = new JournaledMatchRepository(directory, delegate, durability,
+                JournaledMatchRepository.DEFAULT_SYNC_INTERVAL, snapshotThreshold);
+        openedRepositories.add(repository);
+        return repository;
+    }
+
+    private Path journalFile() throws IOException {
+        List<String> segments = filesStartingWith("journal-");
+        assertThat(segments).hasSize(1);
+        return directory.resolve(segments.get(0));
+    }
+
+    private List<String> filesStartingWith(String prefix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString()).filter(name -> name.startsWith(prefix)).toList();
+        }
+    }
+
+    private void truncateJournal(long size) throws IOException {
+        try (var channel = Files.newByteChannel(journalFile(), StandardOpenOption.WRITE)) {
+            channel.truncate(size);
+        }
+    }
+
+    private void corruptLastByteOfJournal() throws IOException {
+        byte[] journal = Files.readAllBytes(journalFile());
+        journal[journal.length - 1] ^= 0x7f;
+        Files.write(journalFile(), journal);
+    }
+}
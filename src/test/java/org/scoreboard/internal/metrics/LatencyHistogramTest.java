@@ -0,0 +1,109 @@
+package org.scoreboard.internal.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LatencyHistogramTest {
+
+    @Test
+    public void emptyHistogramShouldHaveNoValues() {
+        //when
+        var snapshot = new LatencyHistogram().snapshot();
+
+        //then
+        assertThat(snapshot).isEqualTo(new LatencySnapshot(0, 0, 0, 0, 0, 0, 0));
+    }
+
+    @Test
+    public void bucketsShouldCoverAllValuesWithinTheRelativeError() {
+        //given
+        long[] values = {0, 1, 31, 32, 63, 64, 1_000, 123_456_789, Long.MAX_VALUE / 3, Long.MAX_VALUE};
+
+        for (long value : values) {
+            //when
+            int bucket = LatencyHistogram.bucketOf(value);
+            long highestValue = LatencyHistogram.highestValueOf(bucket);
+
+            //then
+            assertThat(highestValue).isGreaterThanOrEqualTo(value);
+            assertThat((double) (highestValue - value)).isLessThanOrEqualTo(value / 32.0);
+            assertThat(LatencyHistogram.bucketOf(highestValue)).isEqualTo(bucket);
+        }
+    }
+
+    @Test
+    public void smallValuesShouldBeRecordedExactly() {
+        //given
+        var histogram = new LatencyHistogram();
+
+        //when
+        LongStream.rangeClosed(1, 10).forEach(histogram::record);
+
+        //then
+        assertThat(histogram.snapshot()).isEqualTo(new LatencySnapshot(10, 5, 5, 9, 10, 10, 10));
+    }
+
+    @Test
+    public void percentilesShouldBeWithinTheRelativeErrorAndNotExceedTheMaximum() {
+        //given
+        var histogram = new LatencyHistogram();
+
+        //when
+        LongStream.rangeClosed(1, 100_000).forEach(value -> histogram.record(value * 100));
+
+        //then
+        var snapshot = histogram.snapshot();
+        assertThat(snapshot.count()).isEqualTo(100_000);
+        assertThat(snapshot.meanNanos()).isEqualTo(5_000_050);
+        assertThat(snapshot.p50Nanos()).isBetween(5_000_000L, 5_000_000L * 33 / 32);
+        assertThat(snapshot.p99Nanos()).isBetween(9_900_000L, 9_900_000L * 33 / 32);
+        assertThat(snapshot.p999Nanos()).isBetween(9_990_000L, 10_000_000L);
+        assertThat(snapshot.maxNanos()).isEqualTo(10_000_000);
+    }
+
+    @Test
+    public void negativeLatenciesShouldBeRecordedAsZero() {
+        //given
+        var histogram = new LatencyHistogram();
+
+        //when
+        histogram.record(-5);
+
+        //then
+        assertThat(histogram.snapshot()).isEqualTo(new LatencySnapshot(1, 0, 0, 0, 0, 0, 0));
+    }
+
+    @Test
+    public void valuesRecordedByMultipleThreadsShouldBeMergedFromAllStripes() throws Exception {
+        //given
+        var histogram = new LatencyHistogram(4);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        //when
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                long value = t + 1;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) histogram.record(value);
+                }));
+            }
+            for (Future<?> future : futures) future.get();
+        } finally {
+            executor.shutdown();
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        }
+
+        //then values below 32 ns are recorded exactly, so the percentiles are exact too
+        assertThat(histogram.snapshot()).isEqualTo(new LatencySnapshot(80_000, 4, 4, 8, 8, 8, 8));
+    }
+}
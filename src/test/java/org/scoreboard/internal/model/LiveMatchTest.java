@@ -0,0 +1,56 @@
+package org.scoreboard.internal.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LiveMatchTest {
+
+    @Test
+    public void nullTeamNamesShouldThrowException() {
+        assertThrows(NullPointerException.class, () -> new LiveMatch(null, "awayTeam"));
+        assertThrows(NullPointerException.class, () -> new LiveMatch("homeTeam", null));
+    }
+
+    @Test
+    public void newlyCreatedMatchShouldHaveZeroZeroScore() {
+        //when
+        var match = new LiveMatch("homeTeam", "awayTeam").toMatch();
+
+        //then
+        assertThat(match.homeScore()).isZero();
+        assertThat(match.awayScore()).isZero();
+    }
+
+    @Test
+    public void updateScoreShouldModifyTheMatchInPlace() {
+        //given
+        var liveMatch = new LiveMatch("homeTeam", "awayTeam");
+
+        //when
+        liveMatch.updateScore(3, 2);
+        var match = liveMatch.toMatch();
+
+        //then
+        assertThat(match).isEqualTo(new Match("homeTeam", "awayTeam", 3, 2, liveMatch.startSequence(), null));
+    }
+
+    @Test
+    public void packedScoreShouldKeepBothScores() {
+        assertThat(LiveMatch.homeScore(LiveMatch.pack(7, 0))).isEqualTo(7);
+        assertThat(LiveMatch.awayScore(LiveMatch.pack(7, 0))).isZero();
+        assertThat(LiveMatch.homeScore(LiveMatch.pack(0, Integer.MAX_VALUE))).isZero();
+        assertThat(LiveMatch.awayScore(LiveMatch.pack(0, Integer.MAX_VALUE))).isEqualTo(Integer.MAX_VALUE);
+        assertThat(LiveMatch.homeScore(LiveMatch.pack(Integer.MAX_VALUE, 1))).isEqualTo(Integer.MAX_VALUE);
+    }
+
+    @Test
+    public void isBetweenShouldCheckBothTeamNamesInTheirRoles() {
+        var match = new LiveMatch("homeTeam", "awayTeam");
+
+        assertThat(match.isBetween("homeTeam", "awayTeam")).isTrue();
+        assertThat(match.isBetween("awayTeam", "homeTeam")).isFalse();
+        assertThat(match.isBetween("homeTeam", "otherTeam")).isFalse();
+    }
+}
@@ -0,0 +1,55 @@
+package org.scoreboard.internal.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StartSequenceTest {
+
+    @Test
+    public void nextNumberShouldBeGreaterThanThePreviousOne() {
+        //when
+        long first = StartSequence.next();
+        long second = StartSequence.next();
+
+        //then
+        assertThat(second).isGreaterThan(first);
+    }
+
+    @Test
+    public void nextNumberShouldBeGreaterThanTheNumberAdvancedPast() {
+        //given
+        long restored = StartSequence.next() + 1_000;
+
+        //when
+        StartSequence.advancePast(restored);
+
+        //then
+        assertThat(StartSequence.next()).isGreaterThan(restored);
+    }
+
+    @Test
+    public void advancingPastAPreviousNumberShouldNotMoveTheSequenceBack() {
+        //given
+        long previous = StartSequence.next();
+        long current = StartSequence.next();
+
+        //when
+        StartSequence.advancePast(previous);
+
+        //then
+        assertThat(StartSequence.next()).isGreaterThan(current);
+    }
+
+    @Test
+    public void matchesShouldBeStartedWithIncreasingNumbersAndWithoutTheStartTime() {
+        //when
+        var first = new Match("homeTeam1", "awayTeam1");
+        var second = new LiveMatch("homeTeam2", "awayTeam2");
+
+        //then
+        assertThat(second.startSequence()).isGreaterThan(first.startSequence());
+        assertThat(first.startedAt()).isNull();
+        assertThat(first.withModifiedScore(1, 0).startSequence()).isEqualTo(first.startSequence());
+    }
+}
@@ -0,0 +1,80 @@
+package org.scoreboard.internal.repository;
+
+import org.junit.jupiter.api.Test;
+import org.scoreboard.internal.model.Match;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrentMatchRepositoryTest extends InMemoryMatchRepositoryTest {
+
+    private static final int THREADS = 8;
+
+    @Override
+    MatchRepository createRepository() {
+        return new ConcurrentMatchRepository();
+    }
+
+    @Test
+    public void concurrentSavesOfConflictingMatchesShouldStoreOnlyOneOfThem() throws Exception {
+        //given
+        var savedMatches = new AtomicInteger();
+        var executor = Executors.newFixedThreadPool(THREADS);
+
+        //when
+        try {
+            var futures = IntStream.range(0, 1_000)
+                    .mapToObj(i -> executor.submit(() -> {
+                        try {
+                            repository.save(new Match("sharedTeam", "team" + i));
+                            savedMatches.incrementAndGet();
+                        } catch (IllegalStateException e) {
+                            // conflicting match has been saved by another thread
+                        }
+                    }))
+                    .toList();
+            for (Future<?> future : futures) future.get();
+        } finally {
+            shutdown(executor);
+        }
+
+        //then
+        assertThat(savedMatches).hasValue(1);
+        assertThat(repository.listAllMatches()).hasSize(1);
+    }
+
+    @Test
+    public void concurrentSavesAndRemovesOfUnrelatedMatchesShouldAllBeApplied() throws Exception {
+        //given
+        var executor = Executors.newFixedThreadPool(THREADS);
+
+        //when
+        try {
+            var futures = IntStream.range(0, 2_000)
+                    .mapToObj(i -> executor.submit(() -> {
+                        repository.save(new Match("home" + i, "away" + i));
+                        if (i % 2 == 0) repository.remove("home" + i, "away" + i);
+                    }))
+                    .toList();
+            for (Future<?> future : futures) future.get();
+        } finally {
+            shutdown(executor);
+        }
+
+        //then
+        assertThat(repository.listAllMatches())
+                .hasSize(1_000)
+                .allMatch(m -> Integer.parseInt(m.homeTeam().substring("home".length())) % 2 == 1);
+    }
+
+    private static void shutdown(ExecutorService executor) throws InterruptedException {
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+    }
+}
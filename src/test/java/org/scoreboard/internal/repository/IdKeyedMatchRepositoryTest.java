@@ -0,0 +1,83 @@
+package org.scoreboard.internal.repository;
+
+import org.junit.jupiter.api.Test;
+import org.scoreboard.internal.model.Match;
+import org.scoreboard.internal.team.TeamRegistry;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class IdKeyedMatchRepositoryTest extends InMemoryMatchRepositoryTest {
+
+    private final TeamRegistry teamRegistry = new TeamRegistry();
+
+    @Override
+    MatchRepository createRepository() {
+        return new IdKeyedMatchRepository(teamRegistry);
+    }
+
+    @Test
+    public void lookupsByTeamIdsShouldReturnTheSameResultsAsLookupsByNames() {
+        //given
+        var match = new Match("homeTeam", "awayTeam");
+        repository.save(match);
+        var idKeyedRepository = (IdKeyedMatchRepository) repository;
+        int homeId = teamRegistry.findId("homeTeam");
+        int awayId = teamRegistry.findId("awayTeam");
+
+        //then
+        assertThat(idKeyedRepository.get(homeId, awayId)).contains(match);
+        assertThat(idKeyedRepository.get(awayId, homeId)).isEmpty();
+        assertThat(idKeyedRepository.containsMatchForTeam(homeId)).isTrue();
+        assertThat(idKeyedRepository.containsMatchForTeam(awayId)).isTrue();
+        assertThat(idKeyedRepository.containsMatchForTeam(TeamRegistry.UNKNOWN_TEAM)).isFalse();
+    }
+
+    @Test
+    public void modificationsByTeamIdsShouldBeVisibleByNames() {
+        //given
+        var match = new Match("homeTeam", "awayTeam");
+        repository.save(match);
+        var idKeyedRepository = (IdKeyedMatchRepository) repository;
+        int homeId = idKeyedRepository.findTeamId("homeTeam");
+        int awayId = idKeyedRepository.findTeamId("awayTeam");
+        var modifiedMatch = match.withModifiedScore(1, 0);
+
+        //when
+        idKeyedRepository.save(homeId, awayId, modifiedMatch);
+        var saved = repository.get("homeTeam", "awayTeam");
+        idKeyedRepository.remove(homeId, awayId);
+
+        //then
+        assertThat(saved).contains(modifiedMatch);
+        assertThat(repository.listAllMatches()).isEmpty();
+        assertThrows(IllegalStateException.class, () -> idKeyedRepository.remove(homeId, awayId));
+        assertThrows(IllegalArgumentException.class,
+                () -> idKeyedRepository.save(TeamRegistry.UNKNOWN_TEAM, awayId, modifiedMatch));
+    }
+
+    @Test
+    public void lookupsOfUnknownTeamsShouldNotRegisterThem() {
+        //when
+        repository.containsMatchForTeam("unknownTeam");
+        repository.get("unknownTeam", "otherUnknownTeam");
+
+        //then
+        assertThat(teamRegistry.size()).isZero();
+    }
+
+    @Test
+    public void repositoryShouldHandleMoreTeamsThanItsInitialCapacity() {
+        //when
+        IntStream.range(0, 1_000).forEach(i -> repository.save(new Match("home" + i, "away" + i)));
+        IntStream.range(0, 500).forEach(i -> repository.remove("home" + i, "away" + i));
+
+        //then
+        assertThat(repository.listAllMatches()).hasSize(500);
+        assertThat(repository.get("home999", "away999")).isPresent();
+        assertThat(repository.get("home0", "away0")).isEmpty();
+        assertThat(repository.containsMatchForTeam("away0")).isFalse();
+    }
+}
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import org.scoreboard.internal.model.Match;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -13,19 +14,23 @@ import static org.scoreboard.TestUtils.assertThrowsOnFirstAndSecondAndBothArgume
 
 class InMemoryMatchRepositoryTest {
 
-    private MatchRepository repository;
+    MatchRepository repository;
 
     private static final String HOME_TEAM1 = "homeTeam1";
     private static final String HOME_TEAM2 = "homeTeam2";
     private static final String AWAY_TEAM1 = "awayTeam1";
     private static final String AWAY_TEAM2 = "awayTeam2";
-    private static final Match MATCH1 = new Match(HOME_TEAM1, AWAY_TEAM1, 0, 0, Instant.now());
-    private static final Match MATCH2 = new Match(HOME_TEAM2, AWAY_TEAM2, 0, 0, Instant.now());
-    private static final Match MODIFIED_MATCH1 = new Match(HOME_TEAM1, AWAY_TEAM1, 1, 0, MATCH1.startedAt());
+    private static final Match MATCH1 = new Match(HOME_TEAM1, AWAY_TEAM1, 0, 0, 1, Instant.now());
+    private static final Match MATCH2 = new Match(HOME_TEAM2, AWAY_TEAM2, 0, 0, 2, Instant.now());
+    private static final Match MODIFIED_MATCH1 = MATCH1.withModifiedScore(1, 0);
 
     @BeforeEach
     public void init() {
-        repository = new InMemoryMatchRepository();
+        repository = createRepository();
+    }
+
+    MatchRepository createRepository() {
+        return new InMemoryMatchRepository();
     }
 
     @Test
@@ -285,6 +290,41 @@ class InMemoryMatchRepositoryTest {
                 .containsExactlyInAnyOrder(MATCH2);
     }
 
+    @Test
+    public void applyAllShouldRemoveAndThenSaveSpecifiedMatches() {
+        //given
+        saveFirstMatch();
+        var matchOfRemovedMatchTeam = new Match(AWAY_TEAM1, "otherTeam", 0, 0, 3, Instant.now());
+
+        //when
+        repository.applyAll(List.of(MATCH1), List.of(MATCH2, matchOfRemovedMatchTeam));
+        var allMatches = repository.listAllMatches();
+
+        //then
+        assertThat(allMatches)
+                .hasSize(2)
+                .containsExactlyInAnyOrder(MATCH2, matchOfRemovedMatchTeam);
+    }
+
+    @Test
+    public void applyAllShouldOverwriteSavedMatches() {
+        //given
+        saveFirstMatch();
+        saveSecondMatch();
+
+        //when
+        repository.applyAll(List.of(), List.of(MODIFIED_MATCH1));
+
+        //then
+        assertThat(getFirstMatch()).contains(MODIFIED_MATCH1);
+        assertThat(getSecondMatch()).contains(MATCH2);
+    }
+
+    @Test
+    public void applyAllWithNonExistingMatchToRemoveShouldThrowException() {
+        assertThrows(IllegalStateException.class, () -> repository.applyAll(List.of(MATCH1), List.of()));
+    }
+
     void saveFirstMatch() {
         repository.save(MATCH1);
     }
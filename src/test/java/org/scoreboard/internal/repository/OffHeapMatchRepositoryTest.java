@@ -0,0 +1,89 @@
+package org.scoreboard.internal.repository;
+
+import org.junit.jupiter.api.Test;
+import org.scoreboard.internal.model.Match;
+import org.scoreboard.internal.team.TeamRegistry;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OffHeapMatchRepositoryTest extends InMemoryMatchRepositoryTest {
+
+    @Override
+    MatchRepository createRepository() {
+        return new OffHeapMatchRepository(new TeamRegistry(), 1);
+    }
+
+    @Test
+    public void repositoryShouldHandleMoreMatchesThanItsInitialCapacity() {
+        //when
+        IntStream.range(0, 10_000).forEach(i -> repository.save(new Match("home" + i, "away" + i)));
+        IntStream.range(0, 5_000).forEach(i -> repository.remove("home" + i, "away" + i));
+
+        //then
+        assertThat(repository.listAllMatches()).hasSize(5_000);
+        assertThat(repository.get("home9999", "away9999")).isPresent();
+        assertThat(repository.get("home0", "away0")).isEmpty();
+        assertThat(repository.containsMatchForTeam("away0")).isFalse();
+    }
+
+    @Test
+    public void rowsOfFinishedMatchesShouldBeReused() {
+        //given
+        var offHeapRepository = new OffHeapMatchRepository(new TeamRegistry(), 2);
+        offHeapRepository.save(new Match("home1", "away1"));
+        offHeapRepository.save(new Match("home2", "away2"));
+
+        //when
+        offHeapRepository.remove("home1", "away1");
+        var reusingMatch = new Match("home3", "away3", 1, 2, 1, Instant.ofEpochSecond(42, 7));
+        offHeapRepository.save(reusingMatch);
+
+        //then
+        assertThat(offHeapRepository.size()).isEqualTo(2);
+        assertThat(offHeapRepository.get("home3", "away3")).contains(reusingMatch);
+        assertThat(offHeapRepository.listAllMatches()).extracting(Match::homeTeam).containsExactlyInAnyOrder("home2", "home3");
+    }
+
+    @Test
+    public void repositoryShouldStayConsistentWithHashMapsUnderRandomChurn() {
+        //given
+        var random = new SplittableRandom(42);
+        Map<Integer, Match> expected = new HashMap<>();
+
+        //when
+        for (int i = 0; i < 50_000; i++) {
+            int pair = random.nextInt(2_000);
+            Match stored = expected.get(pair);
+            if (stored == null) {
+                Match match = new Match("home" + pair, "away" + pair);
+                repository.save(match);
+                expected.put(pair, match);
+            } else if (random.nextBoolean()) {
+                repository.remove(stored.homeTeam(), stored.awayTeam());
+                expected.remove(pair);
+            } else {
+                Match updated = stored.withModifiedScore(stored.homeScore() + 1, stored.awayScore());
+                repository.save(updated);
+                expected.put(pair, updated);
+            }
+        }
+
+        //then
+        assertThat(repository.listAllMatches()).containsExactlyInAnyOrderElementsOf(expected.values());
+        IntStream.range(0, 2_000).forEach(pair -> assertThat(repository.get("home" + pair, "away" + pair))
+                .isEqualTo(Optional.ofNullable(expected.get(pair))));
+    }
+
+    @Test
+    public void nonPositiveInitialCapacityShouldBeRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapMatchRepository(new TeamRegistry(), 0));
+    }
+}
@@ -0,0 +1,205 @@
+package org.scoreboard.internal.shared;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.scoreboard.MatchSummary;
+import org.scoreboard.Scoreboard;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SharedSummaryTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void readerShouldReadThePublishedSummary() {
+        //given
+        Path file = directory.resolve("summary");
+        var writer = new SharedSummaryWriter(file, 4096);
+        var reader = new SharedSummaryReader(file);
+        var summary = List.of(new MatchSummary("Spain", "Brazil", 10, 2), new MatchSummary("Mexico", "Canada", 0, 5));
+
+        //when
+        writer.publish(summary);
+
+        //then
+        assertThat(reader.readSummary()).isEqualTo(summary);
+        assertThat(reader.version()).isEqualTo(writer.version()).isEqualTo(2);
+    }
+
+    @Test
+    public void viewShouldReadMatchesInPlace() {
+        //given
+        Path file = directory.resolve("summary");
+        var writer = new SharedSummaryWriter(file, 4096);
+        var reader = new SharedSummaryReader(file);
+        writer.publish(List.of(new MatchSummary("Spain", "Brazil", 10, 2), new MatchSummary("Żyrardów", "Łódź", 1, 1)));
+
+        //when
+        int totalScore = reader.read(view -> IntStream.range(0, view.size())
+                .map(rank -> view.homeScore(rank) + view.awayScore(rank)).sum());
+        String awayTeam = reader.read(view -> view.awayTeam(1));
+
+        //then
+        assertThat(totalScore).isEqualTo(14);
+        assertThat(awayTeam).isEqualTo("Łódź");
+    }
+
+    @Test
+    public void writerSubscribedToScoreboardShouldPublishItsSummary() throws InterruptedException {
+        //given
+        Path file = directory.resolve("summary");
+        var scoreboard = Scoreboard.getThreadSafeInstance();
+        var writer = new SharedSummaryWriter(file, 4096);
+        var reader = new SharedSummaryReader(file);
+        scoreboard.subscribe(writer);
+
+        //when
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.updateScore("Spain", "Brazil", 3, 2);
+        scoreboard.finishMatch("Mexico", "Canada");
+
+        //then
+        var summary = scoreboard.getMatchesSummary();
+        awaitUntil(() -> reader.readSummary().equals(summary));
+        assertThat(reader.readSummary()).containsExactly(new MatchSummary("Spain", "Brazil", 3, 2));
+        writer.close();
+    }
+
+    @Test
+    public void readersShouldNeverSeeTornSummaries() throws Exception {
+        //given
+        Path file = directory.resolve("summary");
+        var writer = new SharedSummaryWriter(file, 64 * 1024);
+        var reader = new SharedSummaryReader(file);
+        var stop = new AtomicBoolean();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        //when
+        List<Future<Integer>> readers = new ArrayList<>();
+        for (int r = 0; r < 2; r++) {
+            readers.add(executor.submit(() -> {
+                int reads = 0;
+                while (!stop.get()) {
+                    // every published summary has as many matches as their scores and matching team names
+                    List<MatchSummary> summary = reader.readSummary();
+                    assertThat(summary).allMatch(match -> match.homeScore() == summary.size()
+                            && match.awayScore() == summary.size()
+                            && match.homeTeam().equals("home" + match.awayTeam().substring(4)));
+                    reads++;
+                }
+                return reads;
+            }));
+        }
+        for (int publication = 0; publication < 20_000; publication++) {
+            int score = publication % 100;
+            int salt = publication;
+            writer.publish(IntStream.range(0, score)
+                    .mapToObj(i -> new MatchSummary("home" + i * salt, "away" + i * salt, score, score))
+                    .toList());
+        }
+        stop.set(true);
+
+        //then
+        for (Future<Integer> result : readers) {
+            assertThat(result.get()).isPositive();
+        }
+        executor.shutdown();
+    }
+
+    @Test
+    public void reopenedWriterShouldKeepIncreasingTheVersion() {
+        //given
+        Path file = directory.resolve("summary");
+        var writer = new SharedSummaryWriter(file, 4096);
+        writer.publish(List.of(new MatchSummary("Spain", "Brazil", 1, 0)));
+        var reader = new SharedSummaryReader(file);
+        long version = reader.version();
+
+        //when
+        var reopenedWriter = new SharedSummaryWriter(file, 4096);
+
+        //then
+        assertThat(reader.version()).isGreaterThan(version);
+        assertThat(reader.readSummary()).isEmpty();
+        assertThat(reopenedWriter.version()).isEqualTo(reader.version());
+    }
+
+    @Test
+    public void summaryNotFittingIntoTheFileShouldBeRejected() {
+        //given
+        Path file = directory.resolve("summary");
+        var writer = new SharedSummaryWriter(file, 128);
+        var reader = new SharedSummaryReader(file);
+        var summary = IntStream.range(0, 10).mapToObj(i -> new MatchSummary("home" + i, "away" + i, 0, 0)).toList();
+
+        //then
+        assertThrows(IllegalStateException.class, () -> writer.publish(summary));
+        assertThat(reader.readSummary()).isEmpty();
+    }
+
+    @Test
+    public void readerShouldRejectOtherFiles() throws IOException {
+        //given
+        Path file = Files.write(directory.resolve("other"), new byte[128]);
+
+        //then
+        assertThrows(IllegalStateException.class, () -> new SharedSummaryReader(file));
+    }
+
+    @Test
+    public void readerShouldGiveUpOnWriterStalledInTheMiddleOfPublishing() throws IOException {
+        //given
+        Path file = directory.resolve("summary");
+        var writer = new SharedSummaryWriter(file, 4096);
+        writer.publish(List.of(new MatchSummary("Spain", "Brazil", 10, 2)));
+        var reader = new SharedSummaryReader(file, Duration.ofMillis(50));
+
+        //when the writer dies after marking the summary as being modified
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            var region = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size()).order(ByteOrder.nativeOrder());
+            SharedSummaryLayout.SEQUENCE.setRelease(region, SharedSummaryLayout.SEQUENCE_OFFSET, 3L);
+        }
+
+        //then
+        assertThrows(IllegalStateException.class, reader::readSummary);
+        assertThrows(IllegalStateException.class, reader::version);
+    }
+
+    @Test
+    public void negativeStallTimeoutShouldThrowException() {
+        //given
+        Path file = directory.resolve("summary");
+        new SharedSummaryWriter(file, 4096);
+
+        //then
+        assertThrows(IllegalArgumentException.class, () -> new SharedSummaryReader(file, Duration.ofMillis(-1)));
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+}
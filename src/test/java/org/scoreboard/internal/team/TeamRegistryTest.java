@@ -0,0 +1,90 @@
+package org.scoreboard.internal.team;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TeamRegistryTest {
+
+    private TeamRegistry registry;
+
+    @BeforeEach
+    public void init() {
+        registry = new TeamRegistry();
+    }
+
+    @Test
+    public void nullTeamNamesShouldThrowException() {
+        assertThrows(NullPointerException.class, () -> registry.register(null));
+        assertThrows(NullPointerException.class, () -> registry.findId(null));
+    }
+
+    @Test
+    public void registerShouldAssignDenseIdsInTheOrderOfRegistration() {
+        assertThat(registry.register("team1")).isZero();
+        assertThat(registry.register("team2")).isEqualTo(1);
+        assertThat(registry.register("team3")).isEqualTo(2);
+        assertThat(registry.size()).isEqualTo(3);
+    }
+
+    @Test
+    public void registerOfAlreadyRegisteredTeamShouldReturnItsId() {
+        //given
+        registry.register("team1");
+        registry.register("team2");
+
+        //then
+        assertThat(registry.register("team2")).isEqualTo(1);
+        assertThat(registry.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void findIdShouldNotRegisterUnknownTeams() {
+        assertThat(registry.findId("team1")).isEqualTo(TeamRegistry.UNKNOWN_TEAM);
+        assertThat(registry.size()).isZero();
+    }
+
+    @Test
+    public void nameOfShouldReturnNamesOfRegisteredTeams() {
+        //given
+        IntStream.range(0, 100).forEach(i -> registry.register("team" + i));
+
+        //then
+        IntStream.range(0, 100).forEach(i -> assertThat(registry.nameOf(i)).isEqualTo("team" + i));
+        assertThrows(IllegalArgumentException.class, () -> registry.nameOf(100));
+        assertThrows(IllegalArgumentException.class, () -> registry.nameOf(-1));
+    }
+
+    @Test
+    public void concurrentRegistrationsShouldAssignEveryTeamExactlyOneId() throws Exception {
+        //given
+        var ids = ConcurrentHashMap.<Integer>newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        //when
+        try {
+            var futures = IntStream.range(0, 8)
+                    .mapToObj(t -> executor.submit(() -> IntStream.range(0, 1_000)
+                            .forEach(i -> ids.add(registry.register("team" + i)))))
+                    .toList();
+            for (Future<?> future : futures) future.get();
+        } finally {
+            executor.shutdown();
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        }
+
+        //then
+        assertThat(registry.size()).isEqualTo(1_000);
+        assertThat(ids).hasSize(1_000).allMatch(id -> id >= 0 && id < 1_000);
+        IntStream.range(0, 1_000).forEach(i -> assertThat(registry.nameOf(registry.findId("team" + i))).isEqualTo("team" + i));
+    }
+}
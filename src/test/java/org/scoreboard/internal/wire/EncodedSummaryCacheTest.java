@@ -0,0 +1,57 @@
+package org.scoreboard.internal.wire;
+
+import org.junit.jupiter.api.Test;
+import org.scoreboard.MatchSummary;
+import org.scoreboard.Scoreboard;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EncodedSummaryCacheTest {
+
+    @Test
+    public void cacheShouldHoldEncodedSummaryOfTheScoreboard() throws InterruptedException {
+        //given
+        var scoreboard = Scoreboard.getThreadSafeInstance();
+        var cache = new EncodedSummaryCache();
+        scoreboard.subscribe(cache);
+
+        //when
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.updateScore("Spain", "Brazil", 1, 0);
+
+        //then
+        var summary = scoreboard.getMatchesSummary();
+        awaitUntil(() -> cache.summary().equals(summary));
+        assertThat(SummaryWireFormat.decodeSummary(cache.encodedSummary())).isEqualTo(summary)
+                .containsExactly(new MatchSummary("Spain", "Brazil", 1, 0), new MatchSummary("Mexico", "Canada", 0, 0));
+        assertThat(cache.version()).isPositive();
+    }
+
+    @Test
+    public void readersShouldGetIndependentBuffersOfTheSameEncoding() {
+        //given
+        var cache = new EncodedSummaryCache();
+
+        //when
+        var firstReaderBuffer = cache.encodedSummary();
+        SummaryWireFormat.decodeSummary(firstReaderBuffer);
+        var secondReaderBuffer = cache.encodedSummary();
+
+        //then
+        assertThat(firstReaderBuffer.hasRemaining()).isFalse();
+        assertThat(secondReaderBuffer.isReadOnly()).isTrue();
+        assertThat(SummaryWireFormat.decodeSummary(secondReaderBuffer)).isEmpty();
+        assertThat(cache.version()).isZero();
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package org.scoreboard.internal.wire;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.scoreboard.MatchSummary;
+import org.scoreboard.SummaryChange;
+import org.scoreboard.SummaryUpdate;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SummaryWireFormatTest {
+
+    private static final List<MatchSummary> SUMMARY = List.of(
+            new MatchSummary("Uruguay", "Italy", 6, 6),
+            new MatchSummary("Spain", "Brazil", 10, 2),
+            new MatchSummary("Mexico", "Canada", 0, 5000));
+
+    @Test
+    public void decodedSummaryShouldEqualTheEncodedOne() {
+        //given
+        ByteBuffer buffer = ByteBuffer.allocateDirect(SummaryWireFormat.encodedSize(SUMMARY));
+
+        //when
+        SummaryWireFormat.encodeSummary(SUMMARY, buffer);
+        var decoded = SummaryWireFormat.decodeSummary(buffer.flip());
+
+        //then
+        assertThat(buffer.hasRemaining()).isFalse();
+        assertThat(decoded).isEqualTo(SUMMARY);
+    }
+
+    @Test
+    public void decodedUpdateShouldEqualTheEncodedOne() {
+        //given
+        var update = new SummaryUpdate(List.of(
+                new SummaryChange.MatchFinished("Germany", "France", 3),
+                new SummaryChange.MatchStarted(new MatchSummary("Argentina", "Australia", 0, 0), 0),
+                new SummaryChange.RankMoved("Spain", "Brazil", 2, 1),
+                new SummaryChange.ScoreChanged(new MatchSummary("Mexico", "Canada", 200, 5), 300)));
+        ByteBuffer buffer = ByteBuffer.allocate(SummaryWireFormat.encodedSize(update));
+
+        //when
+        SummaryWireFormat.encodeUpdate(update, buffer);
+        var decoded = SummaryWireFormat.decodeUpdate(buffer.flip());
+
+        //then
+        assertThat(buffer.hasRemaining()).isFalse();
+        assertThat(decoded).isEqualTo(update);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "Côte d'Ivoire", "Türkiye", "日本", "🇵🇱", "unpaired \uD83C", "\uDDF5 unpaired"})
+    public void teamNamesShouldBeEncodedAsUtf8(String teamName) {
+        //given
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+
+        //when
+        SummaryWireFormat.putString(buffer, teamName);
+        buffer.flip();
+
+        //then
+        byte[] expected = teamName.getBytes(StandardCharsets.UTF_8);
+        assertThat(SummaryWireFormat.stringSize(teamName)).isEqualTo(buffer.remaining());
+        assertThat(SummaryWireFormat.getVarInt(buffer)).isEqualTo(expected.length);
+        byte[] actual = new byte[buffer.remaining()];
+        buffer.get(actual);
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 127, 128, 16_383, 16_384, Integer.MAX_VALUE})
+    public void varIntsShouldTakeAsManyBytesAsTheirSignificantSevenBitGroups(int value) {
+        //given
+        ByteBuffer buffer = ByteBuffer.allocate(5);
+
+        //when
+        SummaryWireFormat.putVarInt(buffer, value);
+
+        //then
+        assertThat(buffer.position()).isEqualTo(SummaryWireFormat.varIntSize(value));
+        assertThat(SummaryWireFormat.getVarInt(buffer.flip())).isEqualTo(value);
+    }
+
+    @Test
+    public void encodingToTooSmallBufferShouldThrowException() {
+        ByteBuffer buffer = ByteBuffer.allocate(SummaryWireFormat.encodedSize(SUMMARY) - 1);
+        assertThrows(BufferOverflowException.class, () -> SummaryWireFormat.encodeSummary(SUMMARY, buffer));
+    }
+
+    @Test
+    public void decodingTruncatedSummaryShouldThrowException() {
+        //given
+        ByteBuffer buffer = ByteBuffer.allocate(SummaryWireFormat.encodedSize(SUMMARY));
+        SummaryWireFormat.encodeSummary(SUMMARY, buffer);
+
+        //then
+        assertThrows(BufferUnderflowException.class, () -> SummaryWireFormat.decodeSummary(buffer.flip().limit(20)));
+    }
+
+    @Test
+    public void decodingOtherMessageShouldThrowException() {
+        //given
+        ByteBuffer buffer = ByteBuffer.allocate(SummaryWireFormat.encodedSize(SUMMARY));
+        SummaryWireFormat.encodeSummary(SUMMARY, buffer);
+
+        //then
+        assertThrows(IllegalArgumentException.class, () -> SummaryWireFormat.decodeUpdate(buffer.flip()));
+    }
+}